@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Benchmark_Config.java
+Created on: Oct 17, 2026 11:36:40 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common JMH settings of all suites, each suite extends this type.
+ *
+ * @author https://github.com/911992
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public abstract class Benchmark_Config {
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Benchmark_Runner.java
+Created on: Oct 17, 2026 11:56:44 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Runs the selected(all by default) suites, reporting both throughput, and
+ * allocation rate(by {@link GCProfiler}). Results are also written to
+ * {@code jmh-result.json} file.
+ * </p>
+ * <p>
+ * Any standard JMH command-line option is accepted, e.g.
+ * {@code java -jar target/benchmarks.jar Cookie_Benchmark -p fixture=BROWSER}
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public final class Benchmark_Runner {
+
+    private Benchmark_Runner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions _cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder _opts = new OptionsBuilder()
+                .parent(_cmd)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json");
+        if (_cmd.getIncludes().isEmpty()) {
+            _opts.include(Benchmark_Runner.class.getPackage().getName() + ".*");
+        }
+        new Runner(_opts.build()).run();
+    }
+}
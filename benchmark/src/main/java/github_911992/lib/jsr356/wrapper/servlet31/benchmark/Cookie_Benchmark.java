@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Cookie_Benchmark.java
+Created on: Oct 17, 2026 11:43:57 AM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Added by-name lookups(getCookieValue())
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import javax.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Cost of {@code getCookies()}, and a by-name {@code getCookieValue()}
+ * lookup, for a new wrapper(first call, so parsing/indexing), and an already
+ * used one(cached).
+ *
+ * @author https://github.com/911992
+ */
+public class Cookie_Benchmark extends Benchmark_Config {
+
+    @Benchmark
+    public Cookie[] getCookies_first(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request).getCookies();
+    }
+
+    @Benchmark
+    public Cookie[] getCookies_cached(Handshake_State arg_state) {
+        return arg_state.wrapper.getCookies();
+    }
+
+    @Benchmark
+    public String getCookieValue_first(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request).getCookieValue("XSRF-TOKEN");
+    }
+
+    @Benchmark
+    public String getCookieValue_cached(Handshake_State arg_state) {
+        return arg_state.wrapper.getCookieValue("XSRF-TOKEN");
+    }
+}
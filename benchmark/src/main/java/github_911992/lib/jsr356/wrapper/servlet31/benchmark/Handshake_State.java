@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_State.java
+Created on: Oct 17, 2026 11:34:08 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state, a handshake request of the selected
+ * {@link Handshake_Fixture}(with a browser-sized cookie jar, and many query
+ * params, see {@link Handshake_Fixture#newLargeRequest()}), and an already
+ * created(and warmed) wrapper of it.
+ *
+ * @author https://github.com/911992
+ */
+@State(Scope.Thread)
+public class Handshake_State {
+
+    @Param({"BROWSER", "HTTP2", "MINIMAL"})
+    public Handshake_Fixture fixture;
+
+    /**
+     * The in-memory handshake of {@link #fixture}.
+     */
+    public Fixture_Request request;
+
+    /**
+     * A wrapper of {@link #request}, which all lazy state has been computed
+     * already.
+     */
+    public HandshakeRequest_HttpServletRequest wrapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        request = fixture.newLargeRequest();
+        wrapper = new HandshakeRequest_HttpServletRequest(request);
+        wrapper.getCookies();
+        wrapper.getParameterMap();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Header_Benchmark.java
+Created on: Oct 17, 2026 11:47:15 AM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Added getLocale() cases
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.util.Enumeration;
+import java.util.Locale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of header accessors, on an already created wrapper.
+ * <p>
+ * Names are asked as a servlet framework does(canonical case), so for the
+ * {@link Handshake_Fixture#HTTP2} fixture, this also shows how the wrapper
+ * deals with lower-case header names.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public class Header_Benchmark extends Benchmark_Config {
+
+    @Benchmark
+    public String getHeader_origin(Handshake_State arg_state) {
+        return arg_state.wrapper.getHeader("Origin");
+    }
+
+    @Benchmark
+    public String getHeader_protocol(Handshake_State arg_state) {
+        return arg_state.wrapper.getHeader("Sec-WebSocket-Protocol");
+    }
+
+    @Benchmark
+    public String getHeader_missing(Handshake_State arg_state) {
+        return arg_state.wrapper.getHeader("X-Not-Present");
+    }
+
+    @Benchmark
+    public void getHeaders_cookie(Handshake_State arg_state, Blackhole arg_bh) {
+        Enumeration<String> _vals = arg_state.wrapper.getHeaders("Cookie");
+        if (_vals == null) {
+            return;
+        }
+        while (_vals.hasMoreElements()) {
+            arg_bh.consume(_vals.nextElement());
+        }
+    }
+
+    @Benchmark
+    public long getDateHeader(Handshake_State arg_state) {
+        return arg_state.wrapper.getDateHeader("Date");
+    }
+
+    @Benchmark
+    public int getIntHeader(Handshake_State arg_state) {
+        return arg_state.wrapper.getIntHeader("Sec-WebSocket-Version");
+    }
+
+    @Benchmark
+    public Locale getLocale(Handshake_State arg_state) {
+        return arg_state.wrapper.getLocale();
+    }
+
+    @Benchmark
+    public Locale getLocale_fresh(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request).getLocale();
+    }
+}
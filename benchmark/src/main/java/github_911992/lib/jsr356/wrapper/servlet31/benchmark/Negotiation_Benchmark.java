@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Negotiation_Benchmark.java
+Created on: Oct 17, 2026 09:21:37 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Subprotocol_Matcher;
+import github_911992.lib.jsr356.wrapper.servlet31.Websocket_Extension;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Cost of subprotocol, and extension negotiation helpers, against what a
+ * configurator usually does(splitting, and trimming the header values
+ * grabbed from {@code getHeaders()}).
+ *
+ * @author https://github.com/911992
+ */
+public class Negotiation_Benchmark extends Benchmark_Config {
+
+    /**
+     * Subprotocols supported by the(imaginary) endpoint, the browser asks for
+     * the 3rd one first.
+     */
+    private static final List<String> SUPPORTED = Arrays.asList("v1.chat.example.com", "mqtt", "v3.chat.example.com");
+
+    private static final Subprotocol_Matcher MATCHER = new Subprotocol_Matcher(SUPPORTED);
+
+    @Benchmark
+    public String subprotocol_split(Handshake_State arg_state) {
+        List<String> _vals = arg_state.request.getHeaders().get("Sec-WebSocket-Protocol");
+        if (_vals == null) {
+            return "";
+        }
+        for (String _v : _vals) {
+            for (String _p : _v.split(",")) {
+                String _t = _p.trim();
+                if (SUPPORTED.contains(_t)) {
+                    return _t;
+                }
+            }
+        }
+        return "";
+    }
+
+    @Benchmark
+    public String subprotocol_matcher(Handshake_State arg_state) {
+        return MATCHER.match(arg_state.wrapper);
+    }
+
+    @Benchmark
+    public List<Websocket_Extension> getWebsocketExtensions(Handshake_State arg_state) {
+        return arg_state.wrapper.getWebsocketExtensions();
+    }
+
+    @Benchmark
+    public List<Websocket_Extension> getWebsocketExtensions_fresh(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request).getWebsocketExtensions();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parameter_Benchmark.java
+Created on: Oct 17, 2026 11:51:30 AM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Comparing container-provided params, and query string parser
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Cost of request param accessors.
+ * <p>
+ * {@code *_fresh} cases ask a single param from a new wrapper(e.g. one token
+ * out of thirty params), which shows the cost of the param source: the
+ * container-provided map(whose own decoding cost is not counted here, as the
+ * in-memory request has it prebuilt), or the wrapper query string parser.
+ * Other cases use an already used wrapper.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public class Parameter_Benchmark extends Benchmark_Config {
+
+    @Benchmark
+    public String getParameter_first(Parameter_State arg_state) {
+        return arg_state.wrapper.getParameter("access_token");
+    }
+
+    @Benchmark
+    public String getParameter_last(Parameter_State arg_state) {
+        return arg_state.wrapper.getParameter("debug");
+    }
+
+    @Benchmark
+    public Map<String, String[]> getParameterMap(Parameter_State arg_state) {
+        return arg_state.wrapper.getParameterMap();
+    }
+
+    @Benchmark
+    public String getParameter_first_fresh(Parameter_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request, arg_state.config).getParameter("access_token");
+    }
+
+    @Benchmark
+    public String getParameter_last_fresh(Parameter_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request, arg_state.config).getParameter("debug");
+    }
+
+    @Benchmark
+    public String getParameter_escaped_fresh(Parameter_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request, arg_state.config).getParameter("status_text");
+    }
+
+    @Benchmark
+    public Map<String, String[]> getParameterMap_fresh(Parameter_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request, arg_state.config).getParameterMap();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parameter_State.java
+Created on: Oct 17, 2026 06:21:50 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Param benchmarks state, same as {@link Handshake_State}, plus the param
+ * source: container-provided map, or the wrapper query string parser.
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Config#isParseQueryString()
+ */
+@State(Scope.Thread)
+public class Parameter_State extends Handshake_State {
+
+    @Param({"false", "true"})
+    public boolean parseQueryString;
+
+    /**
+     * Config of wrappers, based on {@link #parseQueryString}.
+     */
+    public Wrapper_Config config;
+
+    @Setup(Level.Trial)
+    @Override
+    public void setup() {
+        config = new Wrapper_Config();
+        config.setParseQueryString(parseQueryString);
+        request = fixture.newLargeRequest();
+        wrapper = new HandshakeRequest_HttpServletRequest(request, config);
+        wrapper.getCookies();
+        wrapper.getParameterMap();
+    }
+}
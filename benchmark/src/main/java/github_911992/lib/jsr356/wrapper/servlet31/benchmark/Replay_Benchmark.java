@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Replay_Benchmark.java
+Created on: Oct 17, 2026 11:59:21 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Replays a recorded handshake corpus(see {@link Replay_State}) through the
+ * wrapper at max rate, reporting the cost of each {@link Replay_Method}(one
+ * result per method), e.g.
+ * {@code java -jar target/benchmarks.jar Replay_Benchmark -p corpus=handshakes.wshr}
+ * <p>
+ * Each op wraps the next handshake of the corpus, and calls the method once.
+ * Running it against different versions of the lib(with the same corpus)
+ * compares them by the real traffic shape.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public class Replay_Benchmark extends Benchmark_Config {
+
+    @Benchmark
+    public Object replay(Replay_State arg_state) {
+        Replay_State.Replay_Record _rec = arg_state.next();
+        return arg_state.method.run(new HandshakeRequest_HttpServletRequest(_rec.request), _rec);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Replay_Method.java
+Created on: Oct 17, 2026 11:58:02 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+
+/**
+ * Wrapper methods measured by {@link Replay_Benchmark}, each called once on
+ * a new wrapper of a replayed handshake(as a configurator does).
+ * <p>
+ * {@link #wrap} only creates the wrapper, so the cost of a method is its
+ * result minus the {@link #wrap} one. Names asked by lookups are taken from
+ * the replayed handshake itself(see {@link Replay_State.Replay_Record}).
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public enum Replay_Method {
+    wrap {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper;
+        }
+    },
+    getCookies {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getCookies();
+        }
+    },
+    getCookieValue {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getCookieValue(arg_rec.cookie_name);
+        }
+    },
+    getHeader {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getHeader("Origin");
+        }
+    },
+    getHeaderNames {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getHeaderNames();
+        }
+    },
+    getParameter {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getParameter(arg_rec.parameter_name);
+        }
+    },
+    getParameterMap {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getParameterMap();
+        }
+    },
+    getRequestURI {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getRequestURI();
+        }
+    },
+    getLocale {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getLocale();
+        }
+    },
+    getRequestedSessionId {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getRequestedSessionId();
+        }
+    },
+    getWebsocketProtocols {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getWebsocketProtocols();
+        }
+    },
+    getWebsocketExtensions {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.getWebsocketExtensions();
+        }
+    },
+    snapshot {
+        @Override
+        Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec) {
+            return arg_wrapper.snapshot();
+        }
+    };
+
+    /**
+     * Calls the method.
+     *
+     * @param arg_wrapper a new wrapper of the replayed handshake
+     * @param arg_rec the replayed handshake
+     * @return result of the method(to be consumed by JMH)
+     */
+    abstract Object run(HandshakeRequest_HttpServletRequest arg_wrapper, Replay_State.Replay_Record arg_rec);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Replay_State.java
+Created on: Oct 17, 2026 11:58:40 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.Encoded_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Handshake_Codec;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Replayed corpus of {@link Replay_Benchmark}, the handshakes recorded by
+ * {@code Handshake_Recorder}, as in-memory handshake requests.
+ * <p>
+ * The corpus file is given by {@code -p corpus=<path>}. With no any corpus,
+ * the {@link Handshake_Fixture} requests are replayed instead. Records are
+ * decoded, and turned into {@link Fixture_Request}s once, so only
+ * the wrapper is measured. Each thread walks the corpus round-robin.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@State(Scope.Thread)
+public class Replay_State {
+
+    /**
+     * Path of the corpus file, or empty for the fixtures.
+     */
+    @Param({""})
+    public String corpus;
+
+    @Param
+    public Replay_Method method;
+
+    private Replay_Record[] records;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ArrayList<Replay_Record> _res = new ArrayList<>();
+        if (corpus == null || corpus.isEmpty()) {
+            for (Handshake_Fixture _f : Handshake_Fixture.values()) {
+                _res.add(new Replay_Record(_f.newLargeRequest()));
+            }
+        } else {
+            ByteBuffer _buf = ByteBuffer.wrap(Files.readAllBytes(Paths.get(corpus)));
+            for (Encoded_HttpServletRequest _e : Handshake_Codec.decodeAll(_buf)) {
+                _res.add(new Replay_Record(to_request(_e)));
+            }
+            if (_res.isEmpty()) {
+                throw new IllegalStateException("Empty corpus: " + corpus);
+            }
+        }
+        records = _res.toArray(new Replay_Record[_res.size()]);
+    }
+
+    /**
+     * @return the next handshake of the corpus
+     */
+    public Replay_Record next() {
+        Replay_Record _res = records[cursor];
+        cursor = (cursor + 1) % records.length;
+        return _res;
+    }
+
+    /**
+     * @return number of replayed handshakes
+     */
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * Materializes a decoded record, as a container would provide it.
+     */
+    static Fixture_Request to_request(Encoded_HttpServletRequest arg_rec) {
+        TreeMap<String, List<String>> _heads = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String _n : Collections.list(arg_rec.getHeaderNames())) {
+            _heads.put(_n, Collections.unmodifiableList(Collections.list(arg_rec.getHeaders(_n))));
+        }
+        LinkedHashMap<String, List<String>> _params = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> _e : arg_rec.getParameterMap().entrySet()) {
+            _params.put(_e.getKey(), Collections.unmodifiableList(Arrays.asList(_e.getValue())));
+        }
+        String _uri = arg_rec.getRequestURI();
+        String _query = arg_rec.getQueryString();
+        URI _req_uri = URI.create(_uri == null ? "/" : _uri);
+        if (_req_uri.getRawQuery() == null && _query != null) {
+            _req_uri = URI.create(_req_uri.toString() + "?" + _query);
+        }
+        String _principal = arg_rec.getUserPrincipal() == null ? null : arg_rec.getUserPrincipal().getName();
+        return new Fixture_Request(Collections.unmodifiableMap(_heads), Collections.unmodifiableMap(_params), _req_uri, _principal == null ? null : Fixture_Request.principal(_principal), null);
+    }
+
+    /**
+     * A replayed handshake, and names its lookups ask for.
+     */
+    public static final class Replay_Record {
+
+        /**
+         * The handshake request.
+         */
+        public final Fixture_Request request;
+
+        /**
+         * Name of the first cookie, or the session cookie name if none.
+         */
+        final String cookie_name;
+
+        /**
+         * Name of the first param, or {@code "access_token"} if none.
+         */
+        final String parameter_name;
+
+        Replay_Record(Fixture_Request arg_req) {
+            this.request = arg_req;
+            Cookie[] _cks = new HandshakeRequest_HttpServletRequest(arg_req).getCookies();
+            this.cookie_name = _cks == null || _cks.length == 0 ? "JSESSIONID" : _cks[0].getName();
+            Map<String, List<String>> _params = arg_req.getParameterMap();
+            this.parameter_name = _params == null || _params.isEmpty() ? "access_token" : _params.keySet().iterator().next();
+        }
+    }
+}
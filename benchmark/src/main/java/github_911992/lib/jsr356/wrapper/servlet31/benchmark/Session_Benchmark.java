@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Session_Benchmark.java
+Created on: Oct 17, 2026 11:53:02 AM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Added getRequestedSessionId() cases
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Cost of {@code getSession(false)}, on an already created wrapper, and
+ * {@code getRequestedSessionId()}(session cookie) on a new one.
+ *
+ * @author https://github.com/911992
+ */
+public class Session_Benchmark extends Benchmark_Config {
+
+    @Benchmark
+    public HttpSession getSession(Handshake_State arg_state) {
+        return arg_state.wrapper.getSession(false);
+    }
+
+    @Benchmark
+    public String getRequestedSessionId_fresh(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request).getRequestedSessionId();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Unsupported_Benchmark.java
+Created on: Oct 17, 2026 08:52:06 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of a library defensively probing an unsupported method(as
+ * {@code getRemoteAddr()}), in strict(caught exception), and lenient modes.
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Config#isLenient()
+ */
+public class Unsupported_Benchmark extends Benchmark_Config {
+
+    @State(Scope.Thread)
+    public static class Lenient_State extends Handshake_State {
+
+        @Setup(Level.Trial)
+        @Override
+        public void setup() {
+            Wrapper_Config _config = new Wrapper_Config();
+            _config.setLenient(true);
+            request = fixture.newLargeRequest();
+            wrapper = new HandshakeRequest_HttpServletRequest(request, _config);
+        }
+    }
+
+    @Benchmark
+    public String getRemoteAddr_strict(Handshake_State arg_state) {
+        try {
+            return arg_state.wrapper.getRemoteAddr();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getRemoteAddr_lenient(Lenient_State arg_state) {
+        return arg_state.wrapper.getRemoteAddr();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrap_Benchmark.java
+Created on: Oct 17, 2026 11:40:22 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.benchmark;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Pool;
+import javax.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Cost of wrapping a handshake request, by instancing, or borrowing from a
+ * {@link Wrapper_Pool}.
+ *
+ * @author https://github.com/911992
+ */
+public class Wrap_Benchmark extends Benchmark_Config {
+
+    private static final Wrapper_Pool POOL = new Wrapper_Pool(64);
+
+    @Benchmark
+    public HttpServletRequest wrapperForHandshakeRequest(Handshake_State arg_state) {
+        return HandshakeRequest_HttpServletRequest.wrapperForHandshakeRequest(arg_state.request);
+    }
+
+    @Benchmark
+    public HandshakeRequest_HttpServletRequest construction(Handshake_State arg_state) {
+        return new HandshakeRequest_HttpServletRequest(arg_state.request);
+    }
+
+    @Benchmark
+    public String pooled(Handshake_State arg_state) {
+        HandshakeRequest_HttpServletRequest _w = POOL.borrow(arg_state.request);
+        try {
+            return _w.getMethod();
+        } finally {
+            POOL.release(_w);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Frozen_Cookies_Test.java
+Created on: Oct 17, 2026 08:03:17 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Strings;
+import javax.servlet.http.Cookie;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two threads parse(racing) the cookies of a frozen wrapper. Each one must
+ * see the complete cookie array, and the requested session ID resolved from
+ * it, whoever publishes first.
+ * <p>
+ * Result of each actor: {@code 1} if all the cookies, and the session ID
+ * are seen as expected, otherwise {@code 0}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Both readers see the fully parsed cookies.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A reader sees partially parsed/published cookies.")
+@State
+public class Frozen_Cookies_Test {
+
+    private final HandshakeRequest_HttpServletRequest wrapper = Stress_Fixture.newWrapper(false).freeze();
+
+    @Actor
+    public void reader1(II_Result arg_res) {
+        arg_res.r1 = check(wrapper);
+    }
+
+    @Actor
+    public void reader2(II_Result arg_res) {
+        arg_res.r2 = check(wrapper);
+    }
+
+    static int check(HandshakeRequest_HttpServletRequest arg_wrapper) {
+        Cookie[] _cks = arg_wrapper.getCookies();
+        if (_cks == null || _cks.length != Fixture_Strings.COOKIE_JAR_SIZE || _cks[2] == null || Fixture_Strings.SESSION_ID.equals(_cks[2].getValue()) == false) {
+            return 0;
+        }
+        if (Fixture_Strings.SESSION_ID.equals(arg_wrapper.getRequestedSessionId()) == false || arg_wrapper.isRequestedSessionIdFromCookie() == false) {
+            return 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Frozen_Headers_Test.java
+Created on: Oct 17, 2026 08:09:54 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import java.util.Locale;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * One thread reads headers, while the other one reads the locale(built over
+ * the same lazily created header index) of a frozen wrapper.
+ * <p>
+ * Result of each actor: {@code 1} if the expected value is seen, otherwise
+ * {@code 0}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Both readers see the complete header index.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A reader sees a partially built header index, or locales.")
+@State
+public class Frozen_Headers_Test {
+
+    private static final Locale EN_US = new Locale("en", "US");
+
+    private final HandshakeRequest_HttpServletRequest wrapper = Stress_Fixture.newWrapper(false).freeze();
+
+    @Actor
+    public void headers(II_Result arg_res) {
+        boolean _ok = Stress_Fixture.ORIGIN.equals(wrapper.getHeader("origin")) && "chat.example.com".equals(wrapper.getHeader("HOST"));
+        arg_res.r1 = _ok ? 1 : 0;
+    }
+
+    @Actor
+    public void locale(II_Result arg_res) {
+        arg_res.r2 = EN_US.equals(wrapper.getLocale()) ? 1 : 0;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Frozen_Parameters_Test.java
+Created on: Oct 17, 2026 08:14:26 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two threads read params of a frozen wrapper, which parses the query string
+ * itself({@code parseQueryString}), so the non-thread-safe streaming parser
+ * must not be shared between them.
+ * <p>
+ * Result of each actor: {@code 1} if the expected values are seen,
+ * otherwise {@code 0}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Both readers see the correctly decoded params.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A reader sees corrupted, or partially built params.")
+@State
+public class Frozen_Parameters_Test {
+
+    private final HandshakeRequest_HttpServletRequest wrapper = Stress_Fixture.newWrapper(true).freeze();
+
+    @Actor
+    public void reader1(II_Result arg_res) {
+        boolean _ok = "Asia/Tehran".equals(wrapper.getParameter("tz")) && "general".equals(wrapper.getParameter("room"));
+        arg_res.r1 = _ok ? 1 : 0;
+    }
+
+    @Actor
+    public void reader2(II_Result arg_res) {
+        String[] _rooms = wrapper.getParameterValues("room");
+        boolean _ok = _rooms != null && _rooms.length == 2 && "random".equals(_rooms[1]) && "web".equals(wrapper.getParameter("client"));
+        arg_res.r2 = _ok ? 1 : 0;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Frozen_Paths_Test.java
+Created on: Oct 17, 2026 08:19:03 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two threads read URI-derived state(context path, servlet path, and path
+ * params) of a frozen wrapper. All of them are resolved together, and must
+ * be seen consistently.
+ * <p>
+ * Result of each actor: {@code 1} if the expected values are seen,
+ * otherwise {@code 0}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Both readers see consistent paths.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A reader sees a torn path state(e.g. servlet path, but no context path).")
+@State
+public class Frozen_Paths_Test {
+
+    private final HandshakeRequest_HttpServletRequest wrapper = Stress_Fixture.newWrapper(false).freeze();
+
+    @Actor
+    public void reader1(II_Result arg_res) {
+        boolean _ok = Stress_Fixture.SERVLET_PATH.equals(wrapper.getServletPath()) && Stress_Fixture.CONTEXT_PATH.equals(wrapper.getContextPath());
+        arg_res.r1 = _ok ? 1 : 0;
+    }
+
+    @Actor
+    public void reader2(II_Result arg_res) {
+        boolean _ok = Stress_Fixture.ROOM.equals(wrapper.getPathParameter("room")) && Stress_Fixture.CONTEXT_PATH.equals(wrapper.getContextPath());
+        arg_res.r2 = _ok ? 1 : 0;
+    }
+}
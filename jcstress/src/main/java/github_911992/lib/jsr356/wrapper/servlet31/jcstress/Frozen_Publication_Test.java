@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Frozen_Publication_Test.java
+Created on: Oct 17, 2026 08:24:38 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * The publication contract: a wrapper is created, partially read(so some of
+ * its lazy state is already computed), frozen, and then safely
+ * published(by a volatile field, as an executor hand-off does). A reader
+ * that sees the wrapper must see all of it.
+ * <p>
+ * Result: {@code -1} if the wrapper is not published yet, {@code 1} if it's
+ * seen completely, otherwise {@code 0}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@JCStressTest
+@Outcome(id = "-1", expect = Expect.ACCEPTABLE, desc = "Wrapper is not published yet.")
+@Outcome(id = "1", expect = Expect.ACCEPTABLE, desc = "Published wrapper is seen completely.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Published wrapper is seen partially.")
+@State
+public class Frozen_Publication_Test {
+
+    private volatile HandshakeRequest_HttpServletRequest published;
+
+    @Actor
+    public void writer() {
+        HandshakeRequest_HttpServletRequest _w = Stress_Fixture.newWrapper(false);
+        _w.getHeader("Origin");
+        _w.getServletPath();
+        published = _w.freeze();
+    }
+
+    @Actor
+    public void reader(I_Result arg_res) {
+        HandshakeRequest_HttpServletRequest _w = published;
+        if (_w == null) {
+            arg_res.r1 = -1;
+            return;
+        }
+        boolean _ok = _w.isFrozen() && Stress_Fixture.ORIGIN.equals(_w.getHeader("Origin")) && Stress_Fixture.SERVLET_PATH.equals(_w.getServletPath()) && Frozen_Cookies_Test.check(_w) == 1;
+        arg_res.r1 = _ok ? 1 : 0;
+    }
+}
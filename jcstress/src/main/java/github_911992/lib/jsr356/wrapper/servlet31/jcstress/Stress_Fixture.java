@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Stress_Fixture.java
+Created on: Oct 17, 2026 07:52:41 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.jcstress;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Endpoint_Config;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * The handshake request({@link Handshake_Fixture#BROWSER}), and endpoint
+ * config all stress tests work on, and the values each reader is expected
+ * to see.
+ *
+ * @author https://github.com/911992
+ */
+final class Stress_Fixture {
+
+    static final String ORIGIN = "https://chat.example.com";
+    static final String ROOM = "general";
+    static final String CONTEXT_PATH = "/app";
+    static final String SERVLET_PATH = "/ws/chat/general";
+
+    private static final HandshakeRequest REQUEST = Handshake_Fixture.BROWSER.newRequest();
+
+    private static final ServerEndpointConfig ENDPOINT_CONFIG = new Fixture_Endpoint_Config("/ws/chat/{room}");
+
+    private Stress_Fixture() {
+    }
+
+    /**
+     * Creates a new(not frozen) wrapper of the fixture request.
+     *
+     * @param arg_parse_query_string if the query string should be parsed by
+     * the wrapper
+     * @return a new wrapper
+     */
+    static HandshakeRequest_HttpServletRequest newWrapper(boolean arg_parse_query_string) {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setParseQueryString(arg_parse_query_string);
+        HandshakeRequest_HttpServletRequest _res = new HandshakeRequest_HttpServletRequest(REQUEST, _cfg);
+        _res.setServerEndpointConfig(ENDPOINT_CONFIG);
+        return _res;
+    }
+}
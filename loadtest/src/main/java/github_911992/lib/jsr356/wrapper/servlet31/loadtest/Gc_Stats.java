@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Gc_Stats.java
+Created on: Oct 17, 2026 11:04:51 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Collection count, and time of all garbage collectors(of the whole
+ * process, as client, and server run in-process).
+ *
+ * @author https://github.com/911992
+ */
+final class Gc_Stats {
+
+    final long count;
+    final long millis;
+
+    private Gc_Stats(long arg_count, long arg_millis) {
+        this.count = arg_count;
+        this.millis = arg_millis;
+    }
+
+    static Gc_Stats now() {
+        long _count = 0;
+        long _millis = 0;
+        for (GarbageCollectorMXBean _gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            _count += Math.max(0, _gc.getCollectionCount());
+            _millis += Math.max(0, _gc.getCollectionTime());
+        }
+        return new Gc_Stats(_count, _millis);
+    }
+
+    Gc_Stats minus(Gc_Stats arg_other) {
+        return new Gc_Stats(count - arg_other.count, millis - arg_other.millis);
+    }
+}
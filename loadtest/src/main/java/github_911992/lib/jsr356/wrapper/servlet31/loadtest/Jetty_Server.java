@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Jetty_Server.java
+Created on: Oct 17, 2026 10:51:37 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.websocket.jsr356.server.deploy.WebSocketServerContainerInitializer;
+
+/**
+ * Embedded Jetty(9.4).
+ *
+ * @author https://github.com/911992
+ */
+final class Jetty_Server implements Load_Server {
+
+    private Server server;
+
+    @Override
+    public String name() {
+        return "jetty";
+    }
+
+    @Override
+    public int start(final boolean arg_wrap) throws Exception {
+        server = new Server();
+        ServerConnector _conn = new ServerConnector(server);
+        _conn.setHost("127.0.0.1");
+        _conn.setPort(0);
+        _conn.setAcceptQueueSize(4096);
+        server.addConnector(_conn);
+        ServletContextHandler _ctx = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+        _ctx.setContextPath("/app");
+        server.setHandler(_ctx);
+        WebSocketServerContainerInitializer.configure(_ctx, (arg_servlet_ctx, arg_container) -> arg_container.addEndpoint(Load_Endpoint.config(arg_wrap)));
+        server.start();
+        return _conn.getLocalPort();
+    }
+
+    @Override
+    public void stop() throws Exception {
+        server.stop();
+        server = null;
+    }
+}
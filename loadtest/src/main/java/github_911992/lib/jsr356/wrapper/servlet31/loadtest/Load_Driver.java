@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Load_Driver.java
+Created on: Oct 17, 2026 10:58:26 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Strings;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives handshakes against a running container, by the JDK 11 WebSocket
+ * client, at a fixed concurrency.
+ * <p>
+ * Each worker thread connects(a browser handshake, headers of
+ * {@link Handshake_Fixture#BROWSER}: cookie jar, origin, language, and query
+ * params), waits for the handshake to complete, closes
+ * the connection(not waiting for the close handshake), and connects again,
+ * as clients do in a reconnect storm. Handshake latencies are recorded only
+ * in the measured phase(after the warm-up).
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+final class Load_Driver {
+
+    private static final WebSocket.Listener LISTENER = new WebSocket.Listener() {
+    };
+
+    /**
+     * Headers the client sends, as a browser does.
+     */
+    private static final Map<String, List<String>> HEADERS = Handshake_Fixture.BROWSER.newRequest().getHeaders();
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final URI uri;
+    private final int concurrency;
+
+    private volatile boolean running;
+    private volatile boolean recording;
+    private final AtomicLong errors = new AtomicLong();
+
+    /**
+     * Latencies(nanos) recorded by each worker.
+     */
+    private final long[][] latencies;
+    private final int[] counts;
+
+    /**
+     * @param arg_port port of the container
+     * @param arg_concurrency number of concurrent clients
+     */
+    Load_Driver(int arg_port, int arg_concurrency) {
+        this.uri = URI.create("ws://127.0.0.1:" + arg_port + "/app/ws/chat/general?" + Fixture_Strings.QUERY);
+        this.concurrency = arg_concurrency;
+        this.latencies = new long[arg_concurrency][];
+        this.counts = new int[arg_concurrency];
+    }
+
+    /**
+     * Runs the warm-up, and the measured phase.
+     *
+     * @param arg_warmup_secs warm-up duration
+     * @param arg_secs measured duration
+     * @return result of the measured phase
+     * @throws InterruptedException if interrupted
+     */
+    Load_Result run(int arg_warmup_secs, int arg_secs) throws InterruptedException {
+        running = true;
+        Thread[] _workers = new Thread[concurrency];
+        for (int a = 0; a < concurrency; a++) {
+            final int _id = a;
+            latencies[a] = new long[4096];
+            _workers[a] = new Thread(() -> work(_id), "load-client-" + a);
+            _workers[a].setDaemon(true);
+            _workers[a].start();
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(arg_warmup_secs));
+        Gc_Stats _gc = Gc_Stats.now();
+        errors.set(0);
+        long _start = System.nanoTime();
+        recording = true;
+        Thread.sleep(TimeUnit.SECONDS.toMillis(arg_secs));
+        recording = false;
+        long _elapsed = System.nanoTime() - _start;
+        Gc_Stats _gc_delta = Gc_Stats.now().minus(_gc);
+        running = false;
+        for (Thread _w : _workers) {
+            _w.join(TimeUnit.SECONDS.toMillis(15));
+        }
+        int _total = 0;
+        for (int a = 0; a < concurrency; a++) {
+            _total += counts[a];
+        }
+        long[] _all = new long[_total];
+        int _at = 0;
+        for (int a = 0; a < concurrency; a++) {
+            System.arraycopy(latencies[a], 0, _all, _at, counts[a]);
+            _at += counts[a];
+        }
+        Arrays.sort(_all);
+        return new Load_Result(_all, _elapsed, errors.get(), _gc_delta);
+    }
+
+    private void work(int arg_id) {
+        WebSocket.Builder _builder = client.newWebSocketBuilder().connectTimeout(Duration.ofSeconds(10));
+        for (Map.Entry<String, List<String>> _e : HEADERS.entrySet()) {
+            if (client_header(_e.getKey()) == false) {
+                for (String _v : _e.getValue()) {
+                    _builder.header(_e.getKey(), _v);
+                }
+            }
+        }
+        while (running) {
+            boolean _rec = recording;
+            long _t0 = System.nanoTime();
+            WebSocket _ws;
+            try {
+                _ws = _builder.buildAsync(uri, LISTENER).get(15, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                if (_rec && running) {
+                    errors.incrementAndGet();
+                }
+                continue;
+            }
+            long _lat = System.nanoTime() - _t0;
+            if (_rec && recording) {
+                record(arg_id, _lat);
+            }
+            _ws.sendClose(WebSocket.NORMAL_CLOSURE, "").whenComplete((arg_w, arg_ex) -> _ws.abort());
+        }
+    }
+
+    private void record(int arg_id, long arg_nanos) {
+        long[] _l = latencies[arg_id];
+        if (counts[arg_id] == _l.length) {
+            _l = Arrays.copyOf(_l, _l.length * 2);
+            latencies[arg_id] = _l;
+        }
+        _l[counts[arg_id]++] = arg_nanos;
+    }
+
+    /**
+     * @return if the header is set by the client itself(handshake, and
+     * connection headers), so it could not be given by the builder
+     */
+    private static boolean client_header(String arg_name) {
+        String _name = arg_name.toLowerCase(Locale.ROOT);
+        return _name.startsWith("sec-websocket-") || _name.equals("host") || _name.equals("connection") || _name.equals("upgrade") || _name.equals("date");
+    }
+}
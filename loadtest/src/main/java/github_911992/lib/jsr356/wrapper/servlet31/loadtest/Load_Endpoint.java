@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Load_Endpoint.java
+Created on: Oct 17, 2026 10:36:44 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.Extension;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * The endpoint under load, it does nothing, as only the handshake is
+ * measured.
+ *
+ * @author https://github.com/911992
+ */
+public final class Load_Endpoint extends Endpoint {
+
+    /**
+     * Path template of the endpoint.
+     */
+    public static final String PATH = "/ws/chat/{room}";
+
+    @Override
+    public void onOpen(Session arg_session, EndpointConfig arg_config) {
+    }
+
+    /**
+     * Creates the endpoint config, wrapping(or not) each handshake.
+     *
+     * @param arg_wrap if handshakes should be wrapped
+     * @return the endpoint config
+     */
+    static ServerEndpointConfig config(boolean arg_wrap) {
+        return ServerEndpointConfig.Builder.create(Load_Endpoint.class, PATH).configurator(new Load_Configurator(arg_wrap)).build();
+    }
+
+    /**
+     * Configurator of the endpoint.
+     * <p>
+     * All the methods are overridden(with no any call to the super), so the
+     * container's default configurator(looked up by service loader, where
+     * both containers are on the class path) is never used.
+     * </p>
+     * <p>
+     * When wrapping, each handshake is wrapped by
+     * {@link HandshakeRequest_HttpServletRequest#wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest, javax.websocket.server.ServerEndpointConfig)},
+     * and what a typical app asks(session cookie, origin, a param, and the
+     * servlet path) is read from the wrapper.
+     * </p>
+     */
+    static final class Load_Configurator extends ServerEndpointConfig.Configurator {
+
+        private final boolean wrap;
+
+        /**
+         * Keeps the results of wrapper calls reachable.
+         */
+        volatile Object sink;
+
+        Load_Configurator(boolean arg_wrap) {
+            this.wrap = arg_wrap;
+        }
+
+        @Override
+        public void modifyHandshake(ServerEndpointConfig arg_sec, HandshakeRequest arg_request, HandshakeResponse arg_response) {
+            if (wrap == false) {
+                return;
+            }
+            HttpServletRequest _req = HandshakeRequest_HttpServletRequest.wrapperForHandshakeRequest(arg_request, arg_sec);
+            Cookie[] _cks = _req.getCookies();
+            String _sid = _req.getRequestedSessionId();
+            String _origin = _req.getHeader("Origin");
+            String _room = _req.getParameter("room");
+            String _path = _req.getServletPath();
+            sink = _cks != null && _sid != null && _origin != null && _room != null ? _path : _req;
+        }
+
+        @Override
+        public boolean checkOrigin(String arg_origin) {
+            return true;
+        }
+
+        @Override
+        public String getNegotiatedSubprotocol(List<String> arg_supported, List<String> arg_requested) {
+            return "";
+        }
+
+        @Override
+        public List<Extension> getNegotiatedExtensions(List<Extension> arg_installed, List<Extension> arg_requested) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <T> T getEndpointInstance(Class<T> arg_class) throws InstantiationException {
+            try {
+                return arg_class.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                InstantiationException _ex = new InstantiationException(e.toString());
+                _ex.initCause(e);
+                throw _ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Load_Result.java
+Created on: Oct 17, 2026 11:08:14 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+/**
+ * Result of a measured phase.
+ *
+ * @author https://github.com/911992
+ */
+final class Load_Result {
+
+    /**
+     * Sorted handshake latencies, in nanos.
+     */
+    private final long[] latencies;
+    private final long elapsed_nanos;
+    final long errors;
+    final Gc_Stats gc;
+
+    Load_Result(long[] arg_latencies, long arg_elapsed_nanos, long arg_errors, Gc_Stats arg_gc) {
+        this.latencies = arg_latencies;
+        this.elapsed_nanos = arg_elapsed_nanos;
+        this.errors = arg_errors;
+        this.gc = arg_gc;
+    }
+
+    /**
+     * @return completed handshakes per second
+     */
+    double throughput() {
+        return latencies.length * 1e9 / elapsed_nanos;
+    }
+
+    /**
+     * @param arg_p the percentile, e.g. {@code 0.99}
+     * @return latency of the given percentile in millis, or {@code NaN} if
+     * there is no any sample
+     */
+    double percentile(double arg_p) {
+        if (latencies.length == 0) {
+            return Double.NaN;
+        }
+        int _i = (int) Math.ceil(arg_p * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(_i, latencies.length - 1))] / 1e6;
+    }
+
+    /**
+     * @return GC time per second of the measured phase, in millis
+     */
+    double gcMillisPerSecond() {
+        return gc.millis * 1e9 / elapsed_nanos;
+    }
+
+    int samples() {
+        return latencies.length;
+    }
+}
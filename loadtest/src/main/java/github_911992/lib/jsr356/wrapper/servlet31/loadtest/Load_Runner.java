@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Load_Runner.java
+Created on: Oct 17, 2026 11:13:40 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Entry point of the load-test jar.
+ * <p>
+ * For each selected container, and mode({@code plain}: the container's
+ * handshake only, {@code wrap}: each handshake is wrapped, and typical
+ * values are read from the wrapper), a container is started on loopback,
+ * driven by {@link Load_Driver}, and stopped. Reported per run:
+ * handshakes/sec, p50/p99/p999/max handshake latency, errors, and GC
+ * activity of the measured phase.
+ * </p>
+ * Options(all optional):
+ * <pre>
+ * -container tomcat|jetty|all    (default all)
+ * -mode plain|wrap|both          (default both)
+ * -concurrency N                 concurrent clients (default 64)
+ * -warmup S                      warm-up seconds (default 10)
+ * -duration S                    measured seconds (default 20)
+ * </pre>
+ * <p>
+ * Client, and server share the process(and the CPUs), so numbers are for
+ * comparing modes, and containers, and sizing relative capacity, not
+ * absolute capacity of a production box.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public final class Load_Runner {
+
+    /**
+     * Strong reference of the configured logger(loggers are weakly kept by
+     * the log manager, and would lose the level).
+     */
+    private static final Logger TOMCAT_LOGGER = Logger.getLogger("org.apache");
+
+    private Load_Runner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String _container = "all";
+        String _mode = "both";
+        int _concurrency = 64;
+        int _warmup = 10;
+        int _duration = 20;
+        for (int a = 0; a + 1 < args.length; a += 2) {
+            String _v = args[a + 1];
+            switch (args[a]) {
+                case "-container":
+                    _container = _v;
+                    break;
+                case "-mode":
+                    _mode = _v;
+                    break;
+                case "-concurrency":
+                    _concurrency = Integer.parseInt(_v);
+                    break;
+                case "-warmup":
+                    _warmup = Integer.parseInt(_v);
+                    break;
+                case "-duration":
+                    _duration = Integer.parseInt(_v);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[a]);
+            }
+        }
+        quiet_logs();
+        List<Load_Server> _servers = new ArrayList<>(2);
+        if (_container.equals("all") || _container.equals("tomcat")) {
+            _servers.add(new Tomcat_Server());
+        }
+        if (_container.equals("all") || _container.equals("jetty")) {
+            _servers.add(new Jetty_Server());
+        }
+        List<Boolean> _modes = new ArrayList<>(2);
+        if (_mode.equals("both") || _mode.equals("plain")) {
+            _modes.add(false);
+        }
+        if (_mode.equals("both") || _mode.equals("wrap")) {
+            _modes.add(true);
+        }
+        System.out.printf("concurrency: %d, warm-up: %ds, duration: %ds%n", _concurrency, _warmup, _duration);
+        System.out.printf("%-8s %-6s %12s %10s %10s %10s %10s %8s %8s %8s %10s%n", "server", "mode", "handshake/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors", "gc", "gc(ms)", "gc(ms/s)");
+        for (Load_Server _s : _servers) {
+            for (boolean _wrap : _modes) {
+                int _port = _s.start(_wrap);
+                Load_Result _res;
+                try {
+                    _res = new Load_Driver(_port, _concurrency).run(_warmup, _duration);
+                } finally {
+                    _s.stop();
+                }
+                System.out.printf("%-8s %-6s %12.1f %10.3f %10.3f %10.3f %10.3f %8d %8d %8d %10.2f%n", _s.name(), _wrap ? "wrap" : "plain", _res.throughput(), _res.percentile(0.50), _res.percentile(0.99), _res.percentile(0.999), _res.percentile(1.0), _res.errors, _res.gc.count, _res.gc.millis, _res.gcMillisPerSecond());
+                /*not to carry garbage of this run to the next one*/
+                System.gc();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Keeps only warnings of containers, and the client.
+     */
+    private static void quiet_logs() {
+        System.setProperty("org.eclipse.jetty.util.log.class", "org.eclipse.jetty.util.log.StdErrLog");
+        System.setProperty("org.eclipse.jetty.LEVEL", "WARN");
+        Logger.getLogger("").setLevel(Level.WARNING);
+        TOMCAT_LOGGER.setLevel(Level.WARNING);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Load_Server.java
+Created on: Oct 17, 2026 10:42:19 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+/**
+ * An embedded container, serving {@link Load_Endpoint} on loopback.
+ *
+ * @author https://github.com/911992
+ */
+interface Load_Server {
+
+    /**
+     * @return name of the container
+     */
+    String name();
+
+    /**
+     * Starts the container on a free loopback port.
+     *
+     * @param arg_wrap if handshakes should be wrapped
+     * @return the port
+     * @throws Exception if the container could not be started
+     */
+    int start(boolean arg_wrap) throws Exception;
+
+    /**
+     * Stops the container.
+     *
+     * @throws Exception if the container could not be stopped
+     */
+    void stop() throws Exception;
+}
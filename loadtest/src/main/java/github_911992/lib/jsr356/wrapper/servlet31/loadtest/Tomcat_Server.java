@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Tomcat_Server.java
+Created on: Oct 17, 2026 10:46:03 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.websocket.DeploymentException;
+import javax.websocket.server.ServerContainer;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.websocket.server.WsSci;
+
+/**
+ * Embedded Tomcat(9, NIO connector).
+ *
+ * @author https://github.com/911992
+ */
+final class Tomcat_Server implements Load_Server {
+
+    private Tomcat tomcat;
+
+    @Override
+    public String name() {
+        return "tomcat";
+    }
+
+    @Override
+    public int start(final boolean arg_wrap) throws Exception {
+        Path _base = Files.createTempDirectory("loadtest-tomcat");
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(_base.toString());
+        Connector _conn = new Connector("HTTP/1.1");
+        _conn.setPort(0);
+        _conn.setProperty("address", "127.0.0.1");
+        _conn.setProperty("maxConnections", "-1");
+        _conn.setProperty("acceptCount", "4096");
+        tomcat.setConnector(_conn);
+        Context _ctx = tomcat.addContext("/app", _base.toString());
+        /*WsFilter only runs for mapped requests*/
+        Tomcat.addServlet(_ctx, "default", new HttpServlet() {
+            private static final long serialVersionUID = 20261017L;
+        });
+        _ctx.addServletMappingDecoded("/", "default");
+        if (_ctx instanceof StandardContext) {
+            /*no leak detection on stop(it needs --add-opens, and only warns)*/
+            ((StandardContext) _ctx).setClearReferencesObjectStreamClassCaches(false);
+            ((StandardContext) _ctx).setClearReferencesRmiTargets(false);
+            ((StandardContext) _ctx).setClearReferencesThreadLocals(false);
+        }
+        /*registered after WsSci, which creates the server container*/
+        _ctx.addServletContainerInitializer(new WsSci(), null);
+        _ctx.addServletContainerInitializer(new ServletContainerInitializer() {
+            @Override
+            public void onStartup(Set<Class<?>> arg_classes, ServletContext arg_ctx) throws ServletException {
+                ServerContainer _sc = (ServerContainer) arg_ctx.getAttribute(ServerContainer.class.getName());
+                try {
+                    _sc.addEndpoint(Load_Endpoint.config(arg_wrap));
+                } catch (DeploymentException e) {
+                    throw new ServletException(e);
+                }
+            }
+        }, null);
+        tomcat.start();
+        return _conn.getLocalPort();
+    }
+
+    @Override
+    public void stop() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+        tomcat = null;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Fixture_Endpoint_Config.java
+Created on: Oct 17, 2026 10:08:12 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.fixture;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.websocket.Decoder;
+import javax.websocket.Encoder;
+import javax.websocket.Extension;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * A {@link ServerEndpointConfig} of a path template only, with no any
+ * encoder, decoder, subprotocol, extension, or configurator.
+ *
+ * @author https://github.com/911992
+ */
+public final class Fixture_Endpoint_Config implements ServerEndpointConfig {
+
+    private final String path;
+
+    /**
+     * @param arg_path the endpoint path template(e.g. {@code /ws/chat/{room}})
+     */
+    public Fixture_Endpoint_Config(String arg_path) {
+        this.path = arg_path;
+    }
+
+    @Override
+    public Class<?> getEndpointClass() {
+        return Object.class;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public List<String> getSubprotocols() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Extension> getExtensions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Configurator getConfigurator() {
+        return null;
+    }
+
+    @Override
+    public List<Class<? extends Encoder>> getEncoders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Class<? extends Decoder>> getDecoders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, Object> getUserProperties() {
+        return Collections.emptyMap();
+    }
+}
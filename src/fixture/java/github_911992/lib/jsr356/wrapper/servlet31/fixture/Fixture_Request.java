@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Fixture_Request.java
+Created on: Oct 17, 2026 11:12:37 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.fixture;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * An immutable, in-memory {@link HandshakeRequest}, as a container would
+ * hand it to a configurator.
+ * <p>
+ * Could be created as-is by its constructor, or by a {@link Builder}:
+ * </p>
+ * <pre>
+ * Fixture_Request _req = new Fixture_Request.Builder("wss://chat.example.com/app/ws/chat/general?room=a")
+ *                  .header("Cookie", "lang=en-US")
+ *                  .principal("u_0012931")
+ *                  .build();
+ * </pre>
+ *
+ * @author https://github.com/911992
+ */
+public final class Fixture_Request implements HandshakeRequest {
+
+    private final Map<String, List<String>> headers;
+    private final Map<String, List<String>> parameterMap;
+    private final URI requestURI;
+    private final Principal userPrincipal;
+    private final Object httpSession;
+
+    /**
+     * Default constructor.
+     *
+     * @param arg_headers request headers, as container provides
+     * @param arg_parameterMap request params, as container provides
+     * @param arg_requestURI the request URI(including query string, if any)
+     * @param arg_principal authenticated user, could be {@code null}
+     * @param arg_http_session the session, could be {@code null}
+     */
+    public Fixture_Request(Map<String, List<String>> arg_headers, Map<String, List<String>> arg_parameterMap, URI arg_requestURI, Principal arg_principal, Object arg_http_session) {
+        this.headers = arg_headers;
+        this.parameterMap = arg_parameterMap;
+        this.requestURI = arg_requestURI;
+        this.userPrincipal = arg_principal;
+        this.httpSession = arg_http_session;
+    }
+
+    /**
+     * @param arg_name name of the principal
+     * @return a principal of the given name
+     */
+    public static Principal principal(final String arg_name) {
+        return new Principal() {
+            @Override
+            public String getName() {
+                return arg_name;
+            }
+        };
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public URI getRequestURI() {
+        return requestURI;
+    }
+
+    /**
+     * Returns {@code true} only for the {@code "user"} role, when there is
+     * an authenticated principal.
+     */
+    @Override
+    public boolean isUserInRole(String arg_role) {
+        return userPrincipal != null && "user".equals(arg_role);
+    }
+
+    @Override
+    public Object getHttpSession() {
+        return httpSession;
+    }
+
+    @Override
+    public Map<String, List<String>> getParameterMap() {
+        return parameterMap;
+    }
+
+    @Override
+    public String getQueryString() {
+        return requestURI.getRawQuery();
+    }
+
+    /**
+     * Builds a {@link Fixture_Request}, headers are kept in a
+     * case-insensitive map(as Tomcat does) by default, and params are
+     * decoded from the query string of the URI, unless they are given.
+     */
+    public static final class Builder {
+
+        private final URI uri;
+        private final ArrayList<String[]> headers = new ArrayList<>(16);
+        private boolean case_sensitive;
+        private boolean lower_case_names;
+        private Map<String, List<String>> params;
+        private Principal principal;
+        private Object session;
+
+        /**
+         * @param arg_uri the request URI(including query string, if any)
+         */
+        public Builder(String arg_uri) {
+            this.uri = URI.create(arg_uri);
+        }
+
+        /**
+         * Adds a header, each call adds one more value to the header of the
+         * same name.
+         *
+         * @param arg_name header name
+         * @param arg_values header values
+         * @return this instance
+         */
+        public Builder header(String arg_name, String... arg_values) {
+            for (String _v : arg_values) {
+                headers.add(new String[]{arg_name, _v});
+            }
+            return this;
+        }
+
+        /**
+         * Keeps headers in an insert-ordered, case-sensitive map(as some
+         * containers do).
+         *
+         * @return this instance
+         */
+        public Builder caseSensitive() {
+            this.case_sensitive = true;
+            return this;
+        }
+
+        /**
+         * Lower-cases header names, as they are received over RFC
+         * 8441(HTTP/2).
+         *
+         * @return this instance
+         */
+        public Builder lowerCaseNames() {
+            this.lower_case_names = true;
+            return this;
+        }
+
+        /**
+         * @param arg_params params, instead of the decoded query string
+         * @return this instance
+         */
+        public Builder params(Map<String, List<String>> arg_params) {
+            this.params = arg_params;
+            return this;
+        }
+
+        /**
+         * @param arg_name name of the authenticated user
+         * @return this instance
+         */
+        public Builder principal(String arg_name) {
+            this.principal = Fixture_Request.principal(arg_name);
+            return this;
+        }
+
+        /**
+         * @param arg_id id of the session({@link Fixture_Session})
+         * @return this instance
+         */
+        public Builder session(String arg_id) {
+            this.session = new Fixture_Session(arg_id);
+            return this;
+        }
+
+        /**
+         * @return a new request
+         */
+        public Fixture_Request build() {
+            Map<String, List<String>> _heads = case_sensitive ? new LinkedHashMap<String, List<String>>(32) : new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+            for (String[] _h : headers) {
+                String _name = lower_case_names ? _h[0].toLowerCase() : _h[0];
+                List<String> _vals = _heads.get(_name);
+                if (_vals == null) {
+                    _vals = new ArrayList<>(1);
+                    _heads.put(_name, _vals);
+                }
+                _vals.add(_h[1]);
+            }
+            for (Map.Entry<String, List<String>> _e : _heads.entrySet()) {
+                _e.setValue(Collections.unmodifiableList(_e.getValue()));
+            }
+            Map<String, List<String>> _params = params;
+            if (_params == null) {
+                _params = uri.getRawQuery() == null ? Collections.<String, List<String>>emptyMap() : Fixture_Strings.queryParams(uri.getRawQuery());
+            }
+            return new Fixture_Request(Collections.unmodifiableMap(_heads), _params, uri, principal, session);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Fixture_Session.java
+Created on: Oct 17, 2026 11:14:51 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31.fixture;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Minimal {@link HttpSession}, only id and attributes are meaningful.
+ *
+ * @author https://github.com/911992
+ */
+@SuppressWarnings("deprecation")
+public final class Fixture_Session implements HttpSession {
+
+    private final String id;
+    private final long creationTime = System.currentTimeMillis();
+    private final ConcurrentHashMap<String, Object> attributes = new ConcurrentHashMap<>(4);
+
+    public Fixture_Session(String arg_id) {
+        this.id = arg_id;
+    }
+
+    @Override
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        return creationTime;
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return null;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int arg_interval) {
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return 1800;
+    }
+
+    @Override
+    public javax.servlet.http.HttpSessionContext getSessionContext() {
+        return null;
+    }
+
+    @Override
+    public Object getAttribute(String arg_name) {
+        return attributes.get(arg_name);
+    }
+
+    @Override
+    public Object getValue(String arg_name) {
+        return getAttribute(arg_name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public String[] getValueNames() {
+        return attributes.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void setAttribute(String arg_name, Object arg_value) {
+        attributes.put(arg_name, arg_value);
+    }
+
+    @Override
+    public void putValue(String arg_name, Object arg_value) {
+        setAttribute(arg_name, arg_value);
+    }
+
+    @Override
+    public void removeAttribute(String arg_name) {
+        attributes.remove(arg_name);
+    }
+
+    @Override
+    public void removeValue(String arg_name) {
+        removeAttribute(arg_name);
+    }
+
+    @Override
+    public void invalidate() {
+        attributes.clear();
+    }
+
+    @Override
+    public boolean isNew() {
+        return false;
+    }
+
+}
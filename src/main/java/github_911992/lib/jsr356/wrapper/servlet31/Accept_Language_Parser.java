@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Accept_Language_Parser.java
+Created on: Oct 17, 2026 07:10:31 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parser of {@code Accept-Language} header(RFC 7231 Section 5.3.5), into
+ * locales ordered by preference(q-value).
+ * <p>
+ * Parsed results are kept in a bounded, lock-free cache shared by all
+ * wrappers, keyed by the raw header value. Real traffic carries a few
+ * distinct values, so most of the lookups are a cache hit, with no any
+ * parsing, or allocation.<br>
+ * The cache is a direct-mapped table(see {@link #CACHE_SIZE}), each value
+ * has exactly one slot(by its hash), and a miss replaces the slot. So the
+ * cache never grows, hostile unique values could only evict entries(which
+ * are parsed, and cached again on their next use), and a changing set of
+ * hot values keeps being cached.
+ * </p>
+ * <p>
+ * Language ranges with {@code q=0}, malformed q-values, the wildcard
+ * ({@code *}), and ill-formed tags are ignored. Ranges with equal q-values
+ * keep their order.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getLocales()
+ */
+final class Accept_Language_Parser {
+
+    /**
+     * Number of slots of the cache(a power of two).
+     */
+    static final int CACHE_SIZE = 1024;
+
+    /**
+     * Header values longer than this are not cached.
+     */
+    static final int CACHEABLE_LENGTH_MAX = 256;
+
+    /**
+     * Cached entries, by the hash of the raw header value.
+     */
+    private static final AtomicReferenceArray<Cache_Entry> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private Accept_Language_Parser() {
+    }
+
+    /**
+     * Same as {@link #parse_cached(java.lang.String)}, for the given
+     * header values, as one comma-separated value.
+     *
+     * @param arg_headers values of {@code Accept-Language} header(s), could
+     * be {@code null}
+     * @return unmodifiable list of locales(could be empty), as preference
+     * order
+     */
+    static List<Locale> parse_cached(List<String> arg_headers) {
+        if (arg_headers == null || arg_headers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (arg_headers.size() == 1) {
+            return parse_cached(arg_headers.get(0));
+        }
+        StringBuilder _sb = new StringBuilder();
+        for (int a = 0; a < arg_headers.size(); a++) {
+            if (a != 0) {
+                _sb.append(',');
+            }
+            _sb.append(arg_headers.get(a));
+        }
+        return parse_cached(_sb.toString());
+    }
+
+    /**
+     * Same as {@link #parse(java.lang.String)}, but looks up(and fills) the
+     * shared cache first.
+     *
+     * @param arg_header the raw header value, could be {@code null}
+     * @return unmodifiable list of locales(could be empty), as preference
+     * order
+     */
+    static List<Locale> parse_cached(String arg_header) {
+        if (arg_header == null) {
+            return Collections.emptyList();
+        }
+        int _h = arg_header.hashCode();
+        int _slot = (_h ^ (_h >>> 16)) & (CACHE_SIZE - 1);
+        Cache_Entry _ent = CACHE.get(_slot);
+        if (_ent != null && (_ent.header == arg_header || _ent.header.equals(arg_header))) {
+            if (Wrapper_Metrics.ENABLED) {
+                Wrapper_Metrics.INSTANCE.locale_cache_hits.increment();
+            }
+            return _ent.locales;
+        }
+        if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.locale_cache_misses.increment();
+        }
+        List<Locale> _res = parse(arg_header);
+        if (arg_header.length() <= CACHEABLE_LENGTH_MAX) {
+            CACHE.lazySet(_slot, new Cache_Entry(arg_header, _res));
+        }
+        return _res;
+    }
+
+    /**
+     * Parses the given {@code Accept-Language} value.
+     *
+     * @param arg_header the raw header value, could be {@code null}
+     * @return unmodifiable list of locales(could be empty), as preference
+     * order
+     */
+    static List<Locale> parse(String arg_header) {
+        if (arg_header == null) {
+            return Collections.emptyList();
+        }
+        ArrayList<Locale> _locales = new ArrayList<>(4);
+        /*q-values as thousandths(0 to 1000), same index as _locales*/
+        int[] _qs = new int[4];
+        int _len = arg_header.length();
+        int _start = 0;
+        while (_start < _len) {
+            int _end = arg_header.indexOf(',', _start);
+            if (_end == -1) {
+                _end = _len;
+            }
+            int _semi = arg_header.indexOf(';', _start);
+            int _tag_end = (_semi == -1 || _semi > _end) ? _end : _semi;
+            int _q = _tag_end == _end ? 1000 : q_value(arg_header, _tag_end + 1, _end);
+            if (_q > 0) {
+                String _tag = arg_header.substring(_start, _tag_end).trim();
+                if (_tag.length() != 0 && _tag.equals("*") == false) {
+                    Locale _loc = Locale.forLanguageTag(_tag);
+                    if (_loc.getLanguage().length() != 0) {
+                        if (_locales.size() == _qs.length) {
+                            int[] _t = new int[_qs.length << 1];
+                            System.arraycopy(_qs, 0, _t, 0, _qs.length);
+                            _qs = _t;
+                        }
+                        /*stable insertion, by q desc*/
+                        int _at = _locales.size();
+                        while (_at > 0 && _qs[_at - 1] < _q) {
+                            _qs[_at] = _qs[_at - 1];
+                            _at--;
+                        }
+                        _qs[_at] = _q;
+                        _locales.add(_at, _loc);
+                    }
+                }
+            }
+            _start = _end + 1;
+        }
+        if (_locales.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(_locales);
+    }
+
+    /**
+     * Parses the {@code q} param(as thousandths) of a language range, from
+     * the given params section.
+     *
+     * @return the q-value as thousandths(0 to 1000), {@code 1000} if there
+     * is no any q param, or {@code -1} if malformed
+     */
+    private static int q_value(String arg_str, int arg_start, int arg_end) {
+        int _i = arg_start;
+        while (_i < arg_end && arg_str.charAt(_i) == ' ') {
+            _i++;
+        }
+        if (_i + 1 >= arg_end || (arg_str.charAt(_i) != 'q' && arg_str.charAt(_i) != 'Q') || arg_str.charAt(_i + 1) != '=') {
+            /*no any(known) param*/
+            return _i == arg_end ? 1000 : -1;
+        }
+        _i += 2;
+        int _e = arg_end;
+        while (_e > _i && arg_str.charAt(_e - 1) == ' ') {
+            _e--;
+        }
+        if (_i == _e) {
+            return -1;
+        }
+        char _c = arg_str.charAt(_i);
+        if (_c != '0' && _c != '1') {
+            return -1;
+        }
+        int _res = (_c - '0') * 1000;
+        _i++;
+        if (_i == _e) {
+            return _res;
+        }
+        if (arg_str.charAt(_i) != '.' || _e - _i > 4) {
+            return -1;
+        }
+        int _scale = 100;
+        for (int a = _i + 1; a < _e; a++) {
+            char _d = arg_str.charAt(a);
+            if (_d < '0' || _d > '9') {
+                return -1;
+            }
+            _res += (_d - '0') * _scale;
+            _scale /= 10;
+        }
+        return _res > 1000 ? -1 : _res;
+    }
+
+    /**
+     * A cached(immutable) header value, and its locales.
+     */
+    private static final class Cache_Entry {
+
+        private final String header;
+        private final List<Locale> locales;
+
+        private Cache_Entry(String arg_header, List<Locale> arg_locales) {
+            this.header = arg_header;
+            this.locales = arg_locales;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Attribute_Map.java
+Created on: Oct 17, 2026 06:48:12 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+
+/**
+ * Insert-ordered, small-size tuned map of request attributes.
+ * <p>
+ * A request usually carries a few(0 to 8) attributes, so they are kept in a
+ * flat array of (name, value) pairs, and looked up linearly(identity check
+ * first, as names are usually constants). The map is promoted to a
+ * {@link LinkedHashMap} only when it grows beyond {@link #ARRAY_MAX}
+ * entries.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, just like a servlet request.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#setAttribute(java.lang.String, java.lang.Object)
+ */
+final class Attribute_Map {
+
+    /**
+     * Max number of entries kept in the flat array, before promoting to a
+     * hash map.
+     */
+    static final int ARRAY_MAX = 8;
+
+    /**
+     * (name, value) pairs, {@code null} when promoted.
+     */
+    private Object[] table;
+
+    /**
+     * Number of pairs in {@link #table}.
+     */
+    private int size;
+
+    /**
+     * The promoted map, {@code null} when the array is in use.
+     */
+    private LinkedHashMap<String, Object> map;
+
+    Attribute_Map() {
+        this.table = new Object[4];
+    }
+
+    private int index_of(String arg_name) {
+        Object[] _t = table;
+        int _end = size << 1;
+        for (int a = 0; a < _end; a += 2) {
+            if (_t[a] == arg_name) {
+                return a;
+            }
+        }
+        int _h = arg_name.hashCode();
+        for (int a = 0; a < _end; a += 2) {
+            String _n = (String) _t[a];
+            if (_n.hashCode() == _h && _n.equals(arg_name)) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param arg_name non-{@code null} name
+     * @return value of the attribute, or {@code null}
+     */
+    Object get(String arg_name) {
+        if (map != null) {
+            return map.get(arg_name);
+        }
+        int _i = index_of(arg_name);
+        return _i == -1 ? null : table[_i + 1];
+    }
+
+    /**
+     * @param arg_name non-{@code null} name
+     * @param arg_value non-{@code null} value
+     * @return the previous value, or {@code null}
+     */
+    Object put(String arg_name, Object arg_value) {
+        if (map != null) {
+            return map.put(arg_name, arg_value);
+        }
+        int _i = index_of(arg_name);
+        if (_i != -1) {
+            Object _old = table[_i + 1];
+            table[_i + 1] = arg_value;
+            return _old;
+        }
+        if (size == ARRAY_MAX) {
+            promote();
+            map.put(arg_name, arg_value);
+            return null;
+        }
+        int _at = size << 1;
+        if (_at == table.length) {
+            Object[] _t = new Object[table.length << 1];
+            System.arraycopy(table, 0, _t, 0, _at);
+            table = _t;
+        }
+        table[_at] = arg_name;
+        table[_at + 1] = arg_value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @param arg_name non-{@code null} name
+     * @return the removed value, or {@code null}
+     */
+    Object remove(String arg_name) {
+        if (map != null) {
+            return map.remove(arg_name);
+        }
+        int _i = index_of(arg_name);
+        if (_i == -1) {
+            return null;
+        }
+        Object _old = table[_i + 1];
+        int _end = size << 1;
+        /*shifting, to keep the insert order*/
+        System.arraycopy(table, _i + 2, table, _i, _end - _i - 2);
+        table[_end - 2] = null;
+        table[_end - 1] = null;
+        size--;
+        return _old;
+    }
+
+    /**
+     * @return a copy of the attribute names, as insert order
+     */
+    Enumeration<String> names() {
+        if (map != null) {
+            return Collections.enumeration(new ArrayList<>(map.keySet()));
+        }
+        if (size == 0) {
+            return Collections.emptyEnumeration();
+        }
+        ArrayList<String> _res = new ArrayList<>(size);
+        for (int a = 0; a < size; a++) {
+            _res.add((String) table[a << 1]);
+        }
+        return Collections.enumeration(_res);
+    }
+
+    /**
+     * Removes all the attributes, the(array) storage is kept for reuse.
+     */
+    void clear() {
+        if (map != null) {
+            map = null;
+            table = new Object[4];
+        } else {
+            for (int a = 0; a < (size << 1); a++) {
+                table[a] = null;
+            }
+        }
+        size = 0;
+    }
+
+    private void promote() {
+        LinkedHashMap<String, Object> _map = new LinkedHashMap<>(ARRAY_MAX * 4);
+        for (int a = 0; a < size; a++) {
+            _map.put((String) table[a << 1], table[(a << 1) + 1]);
+        }
+        map = _map;
+        table = null;
+        size = 0;
+    }
+}
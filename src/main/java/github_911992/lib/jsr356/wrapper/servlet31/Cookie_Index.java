@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Cookie_Index.java
+Created on: Oct 17, 2026 11:32:05 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Optional parse budgets(pairs, and total length)
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.List;
+import javax.servlet.http.Cookie;
+
+/**
+ * Name-indexed cookies of {@code Cookie} request header(s), as offsets into
+ * the raw header values.
+ * <p>
+ * Header values are scanned once, char by char(regex-free, as RFC 6265
+ * Section 5.4, and 4.2.1), and only the (name, value) offsets of each pair
+ * are kept, plus a hash table over names. No any {@code String}, or
+ * {@link Cookie} is created while indexing: a value is cut(unquoted), and
+ * decoded only when asked, and {@link Cookie} objects are created only by {@link #cookie(java.lang.String, boolean)},
+ * and {@link #cookies(github_911992.lib.jsr356.wrapper.servlet31.String_Pool, boolean)}.
+ * </p>
+ * <p>
+ * Pairs are separated by {@code ;} with optional white-spaces(so both
+ * {@code a=1; b=2}, and {@code a=1;b=2} are fine), and values may be wrapped
+ * in double quotes, where quotes are removed from the resulting value. A pair
+ * without any {@code =} results a cookie with {@code null} value. Pairs with
+ * an empty, or non-token name(that {@link Cookie} refuses) are skipped.
+ * </p>
+ * <p>
+ * Names are case-sensitive, and when a name is repeated, lookups give the
+ * first one(as browsers send the most specific cookie first). Instances are
+ * immutable.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getCookie(java.lang.String)
+ */
+final class Cookie_Index {
+
+    /**
+     * Width of each pair entry of {@link #entries}: header value index, name
+     * start, name end, value start, value end. Value start of {@code -1}
+     * means no any value(no {@code =}).
+     */
+    private static final int WIDTH = 5;
+
+    /**
+     * An index of no any cookie.
+     */
+    static final Cookie_Index EMPTY = new Cookie_Index(new String[0], new int[0], 0);
+
+    private final String[] headers;
+
+    /**
+     * Pair entries, see {@link #WIDTH}.
+     */
+    private final int[] entries;
+
+    /**
+     * Number of pairs.
+     */
+    private final int count;
+
+    /**
+     * {@code String} hash of each pair name.
+     */
+    private final int[] hashes;
+
+    /**
+     * Open-addressing table of {@code pair index + 1}, {@code 0} means an
+     * empty slot.
+     */
+    private final int[] table;
+
+    private Cookie_Index(String[] arg_headers, int[] arg_entries, int arg_count) {
+        this.headers = arg_headers;
+        this.entries = arg_entries;
+        this.count = arg_count;
+        this.hashes = new int[arg_count];
+        int _cap = 4;
+        while (_cap < arg_count * 2) {
+            _cap <<= 1;
+        }
+        this.table = new int[_cap];
+        for (int a = 0; a < arg_count; a++) {
+            int _e = a * WIDTH;
+            int _h = Header_Token.hash(arg_headers[arg_entries[_e]], arg_entries[_e + 1], arg_entries[_e + 2]);
+            hashes[a] = _h;
+            int _i = spread(_h) & (_cap - 1);
+            while (table[_i] != 0) {
+                _i = (_i + 1) & (_cap - 1);
+            }
+            table[_i] = a + 1;
+        }
+    }
+
+    /**
+     * Indexes the given {@code Cookie} header values.
+     *
+     * @param arg_headers values of {@code Cookie} header(s), could be
+     * {@code null}
+     * @return the index, {@link #EMPTY} if there is no any cookie
+     */
+    static Cookie_Index of(List<String> arg_headers) {
+        return of(arg_headers, Wrapper_Config.UNLIMITED, Wrapper_Config.UNLIMITED);
+    }
+
+    /**
+     * Indexes the given {@code Cookie} header values, within the given
+     * budgets. The total length is checked before any scan, and the number
+     * of pairs while scanning.
+     *
+     * @param arg_headers values of {@code Cookie} header(s), could be
+     * {@code null}
+     * @param arg_max_cookies max number of pairs, or
+     * {@link Wrapper_Config#UNLIMITED}
+     * @param arg_max_bytes max total length of the values, or
+     * {@link Wrapper_Config#UNLIMITED}
+     * @return the index, {@link #EMPTY} if there is no any cookie
+     * @throws Parse_Limit_Exception if a budget is exceeded
+     */
+    static Cookie_Index of(List<String> arg_headers, int arg_max_cookies, int arg_max_bytes) {
+        if (arg_headers == null || arg_headers.isEmpty()) {
+            return EMPTY;
+        }
+        String[] _heads = arg_headers.toArray(new String[arg_headers.size()]);
+        if (arg_max_bytes != Wrapper_Config.UNLIMITED) {
+            long _bytes = 0;
+            for (int a = 0; a < _heads.length; a++) {
+                _bytes += _heads[a] == null ? 0 : _heads[a].length();
+            }
+            if (_bytes > arg_max_bytes) {
+                throw new Parse_Limit_Exception(Parse_Limit.COOKIE_BYTES, arg_max_bytes);
+            }
+        }
+        int[] _ents = new int[16 * WIDTH];
+        int _count = 0;
+        for (int a = 0; a < _heads.length; a++) {
+            String _h = _heads[a];
+            if (_h == null) {
+                continue;
+            }
+            int _len = _h.length();
+            int _i = 0;
+            while (_i < _len) {
+                /*skipping separators, and leading white-spaces*/
+                char _c = _h.charAt(_i);
+                if (_c == ';' || is_ows(_c)) {
+                    _i++;
+                    continue;
+                }
+                int _name_start = _i;
+                while (_i < _len && (_c = _h.charAt(_i)) != '=' && _c != ';') {
+                    _i++;
+                }
+                int _name_end = trim_end(_h, _name_start, _i);
+                int _val_start = -1;
+                int _val_end = -1;
+                if (_i < _len && _h.charAt(_i) == '=') {
+                    _i++;
+                    while (_i < _len && is_ows(_h.charAt(_i))) {
+                        _i++;
+                    }
+                    _val_start = _i;
+                    if (_i < _len && _h.charAt(_i) == '"') {
+                        int _close = _h.indexOf('"', _i + 1);
+                        if (_close != -1) {
+                            _val_start = _i + 1;
+                            _val_end = _close;
+                            _i = _close + 1;
+                        }
+                    }
+                    /*skipping the rest of the pair(or whole value if not quoted)*/
+                    while (_i < _len && _h.charAt(_i) != ';') {
+                        _i++;
+                    }
+                    if (_val_end == -1) {
+                        _val_end = trim_end(_h, _val_start, _i);
+                    }
+                }
+                if (_name_end == _name_start) {
+                    continue;
+                }
+                if (_count == arg_max_cookies) {
+                    throw new Parse_Limit_Exception(Parse_Limit.COOKIES, arg_max_cookies);
+                }
+                if ((_count + 1) * WIDTH > _ents.length) {
+                    int[] _tmp = new int[_ents.length << 1];
+                    System.arraycopy(_ents, 0, _tmp, 0, _count * WIDTH);
+                    _ents = _tmp;
+                }
+                int _e = _count * WIDTH;
+                _ents[_e] = a;
+                _ents[_e + 1] = _name_start;
+                _ents[_e + 2] = _name_end;
+                _ents[_e + 3] = _val_start;
+                _ents[_e + 4] = _val_end;
+                _count++;
+            }
+        }
+        if (_count == 0) {
+            return EMPTY;
+        }
+        return new Cookie_Index(_heads, _ents, _count);
+    }
+
+    /**
+     * @return number of indexed pairs(including the ones with names
+     * {@link Cookie} refuses)
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @return the first pair of the given name, or {@code -1}
+     */
+    private int find(String arg_name) {
+        if (arg_name == null || count == 0) {
+            return -1;
+        }
+        int _h = arg_name.hashCode();
+        int _mask = table.length - 1;
+        int _i = spread(_h) & _mask;
+        int _p;
+        while ((_p = table[_i]) != 0) {
+            _p--;
+            int _e = _p * WIDTH;
+            int _len = entries[_e + 2] - entries[_e + 1];
+            if (hashes[_p] == _h && _len == arg_name.length() && headers[entries[_e]].regionMatches(entries[_e + 1], arg_name, 0, _len)) {
+                return _p;
+            }
+            _i = (_i + 1) & _mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value of the first cookie of the given name.
+     *
+     * @param arg_name cookie name(case-sensitive)
+     * @param arg_decode if the value should be percent-decoded(UTF-8,
+     * {@code +} is kept as-is)
+     * @return the(unquoted) value, {@code null} if there is no such cookie,
+     * or it has no any value
+     */
+    String value(String arg_name, boolean arg_decode) {
+        int _p = find(arg_name);
+        return _p == -1 ? null : value_of(_p, arg_decode);
+    }
+
+    /**
+     * Creates the first cookie of the given name.
+     *
+     * @param arg_name cookie name(case-sensitive)
+     * @param arg_decode if the value should be percent-decoded
+     * @return a new cookie, or {@code null} if there is no such cookie, or
+     * the name is refused by {@link Cookie}
+     */
+    Cookie cookie(String arg_name, boolean arg_decode) {
+        int _p = find(arg_name);
+        if (_p == -1) {
+            return null;
+        }
+        try {
+            return new Cookie(arg_name, value_of(_p, arg_decode));
+        } catch (IllegalArgumentException e) {
+            /*reserved, or non-token name*/
+            return null;
+        }
+    }
+
+    /**
+     * Creates all the cookies, in the header order.
+     *
+     * @param arg_pool pool to dedup cookie names by, could be {@code null}
+     * @param arg_decode if values should be percent-decoded
+     * @return new cookies, pairs with a name {@link Cookie} refuses are
+     * skipped
+     */
+    Cookie[] cookies(String_Pool arg_pool, boolean arg_decode) {
+        Cookie[] _res = new Cookie[count];
+        int _n = 0;
+        for (int a = 0; a < count; a++) {
+            int _e = a * WIDTH;
+            String _name = headers[entries[_e]].substring(entries[_e + 1], entries[_e + 2]);
+            try {
+                _res[_n] = new Cookie(arg_pool == null ? _name : arg_pool.dedup(_name), value_of(a, arg_decode));
+                _n++;
+            } catch (IllegalArgumentException e) {
+                /*reserved, or non-token name*/
+            }
+        }
+        if (_n == count) {
+            return _res;
+        }
+        Cookie[] _tmp = new Cookie[_n];
+        System.arraycopy(_res, 0, _tmp, 0, _n);
+        return _tmp;
+    }
+
+    private String value_of(int arg_pair, boolean arg_decode) {
+        int _e = arg_pair * WIDTH;
+        if (entries[_e + 3] == -1) {
+            return null;
+        }
+        String _val = headers[entries[_e]].substring(entries[_e + 3], entries[_e + 4]);
+        return arg_decode ? Path_Template.decode(_val) : _val;
+    }
+
+    private static int spread(int arg_hash) {
+        return arg_hash ^ (arg_hash >>> 16);
+    }
+
+    private static boolean is_ows(char arg_c) {
+        return arg_c == ' ' || arg_c == '\t';
+    }
+
+    private static int trim_end(String arg_str, int arg_start, int arg_end) {
+        while (arg_end > arg_start && is_ows(arg_str.charAt(arg_end - 1))) {
+            arg_end--;
+        }
+        return arg_end;
+    }
+}
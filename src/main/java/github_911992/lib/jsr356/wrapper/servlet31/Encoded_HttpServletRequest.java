@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Encoded_HttpServletRequest.java
+Created on: Oct 17, 2026 04:58:44 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * A {@link HttpServletRequest} view over a record encoded by
+ * {@link Handshake_Codec}.
+ * <p>
+ * Nothing is decoded up front, tables and strings are read directly from the
+ * backing buffer(heap, direct, or memory-mapped) on each access. Header
+ * names are compared against the asked name in-place(no decoding), when
+ * they are ASCII.
+ * </p>
+ * <p>
+ * Instance is immutable(as long as the buffer content is not changed), and
+ * uses absolute reads only, so it could be shared between threads.
+ * </p>
+ * <p>
+ * <b>NOTE:</b> session, and role related methods(such as
+ * {@link #getSession(boolean)}, and {@link #isUserInRole(java.lang.String)})
+ * throw {@link UnsupportedOperationException} exception, just like other
+ * unimplemented methods. The encoded session ID is accessible by
+ * {@link #getSessionId()}, and {@link #getRequestedSessionId()}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Handshake_Codec#decode(java.nio.ByteBuffer)
+ */
+public final class Encoded_HttpServletRequest extends Indexed_HttpServletRequest {
+
+    /**
+     * The record(a slice, starting at index {@code 0}).
+     */
+    private final ByteBuffer record;
+
+    private final int header_names_at;
+    private final int header_values_at;
+    private final int param_names_at;
+    private final int param_values_at;
+
+    Encoded_HttpServletRequest(ByteBuffer arg_record) {
+        this.record = arg_record;
+        this.header_names_at = Handshake_Codec.HEADER_SIZE;
+        this.header_values_at = header_names_at + record.getInt(Handshake_Codec.OFF_HN) * Handshake_Codec.HN_WIDTH;
+        this.param_names_at = header_values_at + record.getInt(Handshake_Codec.OFF_HV) * Handshake_Codec.HV_WIDTH;
+        this.param_values_at = param_names_at + record.getInt(Handshake_Codec.OFF_PN) * Handshake_Codec.PN_WIDTH;
+    }
+
+    /**
+     * @return the encoded session ID, or {@code null} if there was no any
+     * session
+     */
+    public String getSessionId() {
+        return scalar(SC_SESSION_ID);
+    }
+
+    /**
+     * Returns the encoded session ID(same as {@link #getSessionId()}).
+     *
+     * @return the encoded session ID, or {@code null} if there was no any
+     * session
+     */
+    @Override
+    public String getRequestedSessionId() {
+        return getSessionId();
+    }
+
+    /**
+     * @return size of the record in bytes
+     */
+    public int getEncodedLength() {
+        return record.limit();
+    }
+
+    /**
+     * Decodes the UTF-8 string at the given (offset, length) entry.
+     */
+    private String string(int arg_entry_at) {
+        int _off = record.getInt(arg_entry_at);
+        int _len = record.getInt(arg_entry_at + 4);
+        if (_len == -1) {
+            return null;
+        }
+        if (record.hasArray()) {
+            return new String(record.array(), record.arrayOffset() + _off, _len, StandardCharsets.UTF_8);
+        }
+        byte[] _b = new byte[_len];
+        for (int a = 0; a < _len; a++) {
+            _b[a] = record.get(_off + a);
+        }
+        return new String(_b, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the string at the given entry with the given one, in-place
+     * when it's ASCII.
+     */
+    private boolean string_is(int arg_entry_at, String arg_str, boolean arg_ignore_case) {
+        int _off = record.getInt(arg_entry_at);
+        int _len = record.getInt(arg_entry_at + 4);
+        if (_len == -1) {
+            return false;
+        }
+        if (_len != arg_str.length()) {
+            /*could be still equal, only if non-ASCII*/
+            if (_len < arg_str.length()) {
+                return false;
+            }
+            return slow_string_is(arg_entry_at, arg_str, arg_ignore_case);
+        }
+        for (int a = 0; a < _len; a++) {
+            byte _b = record.get(_off + a);
+            if (_b < 0) {
+                return slow_string_is(arg_entry_at, arg_str, arg_ignore_case);
+            }
+            char _c = (char) _b;
+            char _s = arg_str.charAt(a);
+            if (_c != _s && (arg_ignore_case == false || Header_Index.to_lower(_c) != Header_Index.to_lower(_s))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean slow_string_is(int arg_entry_at, String arg_str, boolean arg_ignore_case) {
+        String _s = string(arg_entry_at);
+        return arg_ignore_case ? Header_Index.equals_ignore_case(_s, arg_str) : _s.equals(arg_str);
+    }
+
+    private int hn(int arg_n) {
+        return header_names_at + arg_n * Handshake_Codec.HN_WIDTH;
+    }
+
+    private int pn(int arg_n) {
+        return param_names_at + arg_n * Handshake_Codec.PN_WIDTH;
+    }
+
+    @Override
+    int header_count() {
+        return record.getInt(Handshake_Codec.OFF_HN);
+    }
+
+    @Override
+    int header_hash(int arg_n) {
+        return record.getInt(hn(arg_n) + 8);
+    }
+
+    @Override
+    boolean header_name_is(int arg_n, String arg_name) {
+        return string_is(hn(arg_n), arg_name, true);
+    }
+
+    @Override
+    String header_name(int arg_n) {
+        return string(hn(arg_n));
+    }
+
+    @Override
+    int header_first_value(int arg_n) {
+        return record.getInt(hn(arg_n) + 12);
+    }
+
+    @Override
+    int header_value_count(int arg_n) {
+        return record.getInt(hn(arg_n) + 16);
+    }
+
+    @Override
+    String header_value(int arg_v) {
+        return string(header_values_at + arg_v * Handshake_Codec.HV_WIDTH);
+    }
+
+    @Override
+    int param_count() {
+        return record.getInt(Handshake_Codec.OFF_PN);
+    }
+
+    @Override
+    boolean param_name_is(int arg_n, String arg_name) {
+        return string_is(pn(arg_n), arg_name, false);
+    }
+
+    @Override
+    String param_name(int arg_n) {
+        return string(pn(arg_n));
+    }
+
+    @Override
+    int param_first_value(int arg_n) {
+        return record.getInt(pn(arg_n) + 8);
+    }
+
+    @Override
+    int param_value_count(int arg_n) {
+        return record.getInt(pn(arg_n) + 12);
+    }
+
+    @Override
+    String param_value(int arg_v) {
+        return string(param_values_at + arg_v * Handshake_Codec.PV_WIDTH);
+    }
+
+    @Override
+    String scalar(int arg_which) {
+        return string(Handshake_Codec.OFF_SCALARS + arg_which * 8);
+    }
+
+}
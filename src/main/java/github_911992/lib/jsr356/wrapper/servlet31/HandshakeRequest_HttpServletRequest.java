@@ -10,24 +10,47 @@ Created on: Oct 4, 2020 5:57:37 AM
     @author https://github.com/911992
  
 History:
+    0.2.0(20261017)
+        • Cookies are parsed lazily(on first getCookies() call), by a regex-free, single-pass parser(Cookie_Index)
+        • Headers are accessed through a case-insensitive Header_Index
+        • getDateHeader() uses the stateless Http_Date_Parser(no more per-instance SimpleDateFormat)
+        • Params are accessed through a lazily built, cached Parameter_View
+        • Added Wrapper_Config
+        • Params could be parsed from the query string by Query_String_Parser(Wrapper_Config#isParseQueryString())
+        • Added recycle(), for pooling(reusing) instances by Wrapper_Pool
+        • Added the pooled flag, guarding Wrapper_Pool against double release
+        • Added snapshot(), creating a compact immutable HandshakeRequest_Snapshot
+        • Request attributes are supported, kept in a lazily created Attribute_Map
+        • Added getLocale(), and getLocales(), parsed from Accept-Language by(shared-cached) Accept_Language_Parser
+        • Header, and cookie strings could be deduplicated by a String_Pool(Wrapper_Config#getStringPool())
+        • Wrapping, parsing, and caching are counted by Wrapper_Metrics(when enabled)
+        • Unsupported methods could be lenient(Wrapper_Config#isLenient())
+        • Added getRequestedSessionId(), and related methods, from session cookie, or URI path param(no HttpSession access)
+        • Added getContextPath(), getServletPath(), getPathInfo(), getRequestURL(), and path params, by the endpoint path template(Path_Template)
+        • URI-derived strings(including getRequestURI()) are computed once
+        • Added wrapperForHandshakeRequest(HandshakeRequest, Wrapper_Config, ServerEndpointConfig), other factory overloads delegate to it
+        • Added freeze(), a read-only mode safe for concurrent readers, lazy state is published by volatile fields of immutable holders
+        • Added getWebsocketProtocols(), and getWebsocketExtensions(), tokenized(once) as views over the raw header values
+        • Added getCookie(), and getCookieValue(), looked up by a name-indexed Cookie_Index, cookie values are cut(and decoded) on demand
+        • Parse budgets(Wrapper_Config) are enforced while indexing headers, cookies, and params, added checkParseLimits()
+        • isUserInRole() decisions could be cached by a shared Role_Cache(Wrapper_Config#getRoleCache())
     initial version: 0.1.0(20201003)
  */
 package github_911992.lib.jsr356.wrapper.servlet31;
 
+import java.net.URI;
 import java.security.Principal;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
 
 /**
  * Wrapper for WebSocket {@link HandshakeRequest} to relative
@@ -37,7 +60,8 @@ import javax.websocket.server.HandshakeRequest;
  * Since there is no way to access the related(possible) servlet context and
  * real underlying LL request.<br>
  * Unimplemented methods will throw {@link UnsupportedOperationException}
- * exception.
+ * exception, or return neutral values when
+ * {@link Wrapper_Config#isLenient()} is enabled.
  * </p>
  * <p>
  * This is <b>highly</b> recommended to use
@@ -51,9 +75,15 @@ import javax.websocket.server.HandshakeRequest;
  * user's session, and accessing cookies of the client.
  * </p>
  * <p>
+ * A wrapper is not thread-safe, unless it's frozen(see {@link #freeze()}).
+ * A frozen wrapper is read-only, and could be read by many threads(e.g.
+ * {@code onOpen}, and executor threads) with no lock.
+ * </p>
+ * <p>
  * <b>NOTE:</b> Only session, and request header, params are accessible by this
- * wrapper. <b>No</b> any server-side request attributes/context is
- * accessible(such as {@link #getAttribute(java.lang.String)}.
+ * wrapper. <b>No</b> any server-side context is accessible. Request
+ * attributes(such as {@link #getAttribute(java.lang.String)}) are supported,
+ * but they are local to this wrapper(not shared with the container).
  * </p>
  * <p>Usage:</p>
  * <pre>
@@ -81,6 +111,28 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      */
     private HandshakeRequest websocketHandshakeRequest;
 
+    /**
+     * The config of this wrapper.
+     */
+    private final Wrapper_Config config;
+
+    /**
+     * @return the config of this wrapper
+     */
+    public Wrapper_Config getConfig() {
+        return config;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return {@link Wrapper_Config#isLenient()} of this wrapper's config
+     */
+    @Override
+    protected boolean isLenient() {
+        return config.isLenient();
+    }
+
     /**
      * @return the associated {@link HandshakeRequest} to this instance.
      */
@@ -89,23 +141,76 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
     }
 
     /**
-     * Sets the working {@link HandshakeRequest}, also processes it for caching
-     * the cookies related to this handshake request.
+     * Sets the working {@link HandshakeRequest}, also resets any cached(lazily
+     * processed) state, such as cookies of the previous handshake request.
      * <p>
      * <b>Note:</b> in case this method should be overiden, either call the this
-     * actual impl, or call {@link #processHandshakeRequest()} for processing
-     * cookies.
+     * actual impl, or call {@link #processHandshakeRequest()} for resetting
+     * the cached state.
      * </p>
      *
      * @param arg_websocketHandshakeRequest the handshake request should be wrapped
      * (must not be {@code null})
+     * @throws IllegalStateException if this wrapper is frozen
      * @see #processHandshakeRequest()
      */
     public void setWebsocketHandshakeRequest(HandshakeRequest arg_websocketHandshakeRequest) {
+        check_not_frozen();
         this.websocketHandshakeRequest = arg_websocketHandshakeRequest;
         processHandshakeRequest();
     }
 
+    /**
+     * Detaches the working {@link HandshakeRequest}(and the endpoint config),
+     * and clears all cached state(cookies, headers, params,...) of this
+     * wrapper.
+     * <p>
+     * A recycled instance could be reused for another handshake request by
+     * calling {@link #setWebsocketHandshakeRequest(javax.websocket.server.HandshakeRequest)
+     * }. Also consider {@link Wrapper_Pool} for pooling the instances.
+     * </p>
+     *
+     * @throws IllegalStateException if this wrapper is frozen
+     * @see Wrapper_Pool
+     */
+    public void recycle() {
+        check_not_frozen();
+        serverEndpointConfig = null;
+        setWebsocketHandshakeRequest(null);
+    }
+
+    /**
+     * The config of the endpoint, the handshake is made for.
+     */
+    private ServerEndpointConfig serverEndpointConfig;
+
+    /**
+     * @return the endpoint config, the handshake is made for, or
+     * {@code null} if not set
+     */
+    public ServerEndpointConfig getServerEndpointConfig() {
+        return serverEndpointConfig;
+    }
+
+    /**
+     * Sets the config of the endpoint, the handshake is made for.
+     * <p>
+     * The endpoint path template({@link ServerEndpointConfig#getPath()}) is
+     * used for splitting the request path into the context path, and the
+     * servlet path, and extracting path params.
+     * </p>
+     *
+     * @param arg_serverEndpointConfig the endpoint config, or {@code null}
+     * @throws IllegalStateException if this wrapper is frozen
+     * @see #getContextPath()
+     * @see #getPathParameters()
+     */
+    public void setServerEndpointConfig(ServerEndpointConfig arg_serverEndpointConfig) {
+        check_not_frozen();
+        this.serverEndpointConfig = arg_serverEndpointConfig;
+        this.uri_parts = null;
+    }
+
     /**
      * Checks if the given {@link HandshakeRequest} is actually a concreted
      * {@link HttpServletRequest} to cast and return, or an instance of
@@ -124,44 +229,258 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      * {@link HandshakeRequest_HttpServletRequest}
      */
     public static HttpServletRequest wrapperForHandshakeRequest(HandshakeRequest arg_handshake_req) {
+        return wrapperForHandshakeRequest(arg_handshake_req, Wrapper_Config.getDefault(), null);
+    }
+
+    /**
+     * Same as {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest)
+     * }, but using the given config, when a wrapper is created.
+     * <p>
+     * <b>Note:</b> a {@code null} second argument is ambiguous between this,
+     * and {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest, javax.websocket.server.ServerEndpointConfig)
+     * }, so either cast it, or use
+     * {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest, github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config, javax.websocket.server.ServerEndpointConfig)
+     * }.
+     * </p>
+     *
+     * @param arg_handshake_req the non-{@code null} {@link HandshakeRequest}
+     * should be wrapped.
+     * @param arg_config non-{@code null} config of the wrapper(if created)
+     * @return the same given {@code arg_handshake_req} if it's also a
+     * {@link HttpServletRequest}, or a new instance of
+     * {@link HandshakeRequest_HttpServletRequest}
+     */
+    public static HttpServletRequest wrapperForHandshakeRequest(HandshakeRequest arg_handshake_req, Wrapper_Config arg_config) {
+        return wrapperForHandshakeRequest(arg_handshake_req, arg_config, null);
+    }
+
+    /**
+     * Same as {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest)
+     * }, but also sets the endpoint config, when a wrapper is created.
+     * <p>
+     * <b>Note:</b> a {@code null} second argument is ambiguous between this,
+     * and {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest, github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config)
+     * }, so either cast it, or use
+     * {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest, github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config, javax.websocket.server.ServerEndpointConfig)
+     * }.
+     * </p>
+     *
+     * @param arg_handshake_req the non-{@code null} {@link HandshakeRequest}
+     * should be wrapped.
+     * @param arg_endpoint_config config of the endpoint, the handshake is
+     * made for(as given to {@code modifyHandshake()})
+     * @return the same given {@code arg_handshake_req} if it's also a
+     * {@link HttpServletRequest}, or a new instance of
+     * {@link HandshakeRequest_HttpServletRequest}
+     * @see #setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)
+     */
+    public static HttpServletRequest wrapperForHandshakeRequest(HandshakeRequest arg_handshake_req, ServerEndpointConfig arg_endpoint_config) {
+        return wrapperForHandshakeRequest(arg_handshake_req, Wrapper_Config.getDefault(), arg_endpoint_config);
+    }
+
+    /**
+     * Same as {@link #wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest)
+     * }, but using the given config, and also setting the endpoint config,
+     * when a wrapper is created.
+     * <p>
+     * Other overloads delegate to this one, and this is the unambiguous form
+     * when the endpoint config could be {@code null}.
+     * </p>
+     *
+     * @param arg_handshake_req the non-{@code null} {@link HandshakeRequest}
+     * should be wrapped.
+     * @param arg_config non-{@code null} config of the wrapper(if created)
+     * @param arg_endpoint_config config of the endpoint, the handshake is
+     * made for(as given to {@code modifyHandshake()}), or {@code null}
+     * @return the same given {@code arg_handshake_req} if it's also a
+     * {@link HttpServletRequest}, or a new instance of
+     * {@link HandshakeRequest_HttpServletRequest}
+     * @see #setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)
+     */
+    public static HttpServletRequest wrapperForHandshakeRequest(HandshakeRequest arg_handshake_req, Wrapper_Config arg_config, ServerEndpointConfig arg_endpoint_config) {
         if ((arg_handshake_req instanceof HttpServletRequest)) {
+            if (Wrapper_Metrics.ENABLED) {
+                Wrapper_Metrics.INSTANCE.passthroughs.increment();
+            }
             return (HttpServletRequest) arg_handshake_req;
         }
-        return new HandshakeRequest_HttpServletRequest(arg_handshake_req);
+        HandshakeRequest_HttpServletRequest _res = new HandshakeRequest_HttpServletRequest(arg_handshake_req, arg_config);
+        if (arg_endpoint_config != null) {
+            _res.setServerEndpointConfig(arg_endpoint_config);
+        }
+        return _res;
     }
 
     /**
      * Default constructor.
      * <p>
      * During instancing, method {@link #setWebsocketHandshakeRequest(javax.websocket.server.HandshakeRequest)
-     * } is called, same cookie processing and cache should be done during
-     * instancing.
+     * } is called. No any cookie processing is done during instancing, rather
+     * on the first {@link #getCookies()} call.
      * </p>
      * <p>
      * <b>Note:</b> in case method {@link #setWebsocketHandshakeRequest(javax.websocket.server.HandshakeRequest)
      * } is overiden, make sure method {@link #processHandshakeRequest() } is
-     * called before any cookie access is appreciated.
+     * called, so the cached state is reset.
      * </p>
      *
      * @param arg_websocketHandshakeRequest non-{@code null}
      * {@link HandshakeRequest} should be wrapped.
      */
     public HandshakeRequest_HttpServletRequest(HandshakeRequest arg_websocketHandshakeRequest) {
+        this(arg_websocketHandshakeRequest, Wrapper_Config.getDefault());
+    }
+
+    /**
+     * Same as {@link #HandshakeRequest_HttpServletRequest(javax.websocket.server.HandshakeRequest)
+     * }, but using the given config.
+     *
+     * @param arg_websocketHandshakeRequest non-{@code null}
+     * {@link HandshakeRequest} should be wrapped.
+     * @param arg_config non-{@code null} config of this wrapper
+     */
+    public HandshakeRequest_HttpServletRequest(HandshakeRequest arg_websocketHandshakeRequest, Wrapper_Config arg_config) {
+        if (arg_config == null) {
+            throw new NullPointerException("Config must not be null");
+        }
+        this.config = arg_config;
+        if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.wraps.increment();
+        }
         setWebsocketHandshakeRequest(arg_websocketHandshakeRequest);
     }
 
+    /**
+     * Marker of not-parsed(yet) {@link #cookies}.
+     */
+    private static final Cookie[] COOKIES_UNPARSED = new Cookie[0];
+
+    /**
+     * Updater of {@link #pooled}.
+     */
+    static final AtomicIntegerFieldUpdater<HandshakeRequest_HttpServletRequest> POOLED = AtomicIntegerFieldUpdater.newUpdater(HandshakeRequest_HttpServletRequest.class, "pooled");
+
+    /**
+     * {@code 1} if this wrapper has been released to a {@link Wrapper_Pool},
+     * and not borrowed again. It's set(by a CAS) on release, and cleared on
+     * borrow, so a double release is caught in any mode.
+     */
+    volatile int pooled;
+
+    /**
+     * Specifies if this wrapper is frozen(read-only).
+     *
+     * @see #freeze()
+     */
+    private volatile boolean frozen;
+
     /**
      * Holds the cookeis related to request handshake in cache way.
+     * <p>
+     * Cookies are parsed lazily, on the first {@link #getCookies()} call.
+     * {@link #COOKIES_UNPARSED} means not parsed yet, and {@code null}
+     * means no any cookie.
+     * </p>
+     */
+    private volatile Cookie[] cookies = COOKIES_UNPARSED;
+
+    /**
+     * Name index(raw offsets) of the {@code Cookie} header(s), built lazily
+     * on the first cookie access.
      *
-     * @see #processHandshakeRequest()
+     * @see #cookie_index()
+     */
+    private volatile Cookie_Index cookie_index;
+
+    /**
+     * Case-insensitive index of request headers, built lazily on the first
+     * header access.
+     *
+     * @see #header_index()
+     */
+    private volatile Header_Index header_index;
+
+    /**
+     * Servlet-shaped view of request params, built lazily on the first param
+     * access.
+     *
+     * @see #parameter_view()
+     */
+    private volatile Parameter_View parameter_view;
+
+    /**
+     * Streaming parser of the query string, when
+     * {@link Wrapper_Config#isParseQueryString()} is enabled(and not
+     * frozen).
+     *
+     * @see #query_parser()
+     */
+    private Query_String_Parser query_parser;
+
+    /**
+     * Request attributes, created on the first
+     * {@link #setAttribute(java.lang.String, java.lang.Object)} call.
+     */
+    private Attribute_Map attributes;
+
+    /**
+     * Preferred locales of the client, resolved lazily on the first
+     * {@link #getLocale()}/{@link #getLocales()} call.
+     *
+     * @see #locales()
      */
-    private Cookie[] cookies;
+    private volatile List<Locale> locales;
 
     /**
-     * search for all {@code Cookie} in headers, and process the content as
-     * cookies.
+     * No any requested session ID.
+     */
+    private static final byte SID_NONE = 1;
+
+    /**
+     * Requested session ID is from the session cookie.
+     */
+    private static final byte SID_COOKIE = 2;
+
+    /**
+     * Requested session ID is from the URI path param.
+     */
+    private static final byte SID_URL = 3;
+
+    /**
+     * The(lazily resolved) requested session ID, and its source.
+     *
+     * @see #requested_session_id()
+     */
+    private volatile Requested_Session_Id requested_session_id;
+
+    /**
+     * The(lazily resolved) URI-derived state.
+     *
+     * @see #uri_parts()
+     */
+    private volatile Uri_Parts uri_parts;
+
+    /**
+     * The(lazily tokenized) {@code Sec-WebSocket-Protocol} header.
+     *
+     * @see #getWebsocketProtocols()
+     */
+    private volatile List<Header_Token> websocket_protocols;
+
+    /**
+     * The(lazily tokenized) {@code Sec-WebSocket-Extensions} header.
+     *
+     * @see #getWebsocketExtensions()
+     */
+    private volatile List<Websocket_Extension> websocket_extensions;
+
+    /**
+     * Resets all cached/processed state related to the working
+     * {@link HandshakeRequest}.
      * <p>
-     * Results are supposed to be saved(cached) in {@link #cookies} variable
+     * Cookies are not parsed here, rather lazily when
+     * {@link #getCookies()} is called for the first time. So wrapping a
+     * handshake(which never asks for cookies) costs nothing.
      * </p>
      * <p>
      * If the handshake request has no any cookie(including session tracker
@@ -169,48 +488,490 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      * </p>
      */
     protected void processHandshakeRequest() {
-        cookies = null;
+        cookies = COOKIES_UNPARSED;
+        cookie_index = null;
+        header_index = null;
+        parameter_view = null;
+        query_parser = null;
+        locales = null;
+        requested_session_id = null;
+        uri_parts = null;
+        websocket_protocols = null;
+        websocket_extensions = null;
+        if (attributes != null) {
+            attributes.clear();
+        }
+    }
+
+    /**
+     * Returns the(lazily built) case-insensitive header index of the working
+     * handshake request.
+     *
+     * @return the header index, an empty one if there is no any handshake
+     * request
+     */
+    Header_Index header_index() {
+        Header_Index _idx = header_index;
+        if (_idx == null) {
+            Map<String, List<String>> _heads = websocketHandshakeRequest == null ? null : websocketHandshakeRequest.getHeaders();
+            _idx = _heads == null ? Header_Index.EMPTY : new Header_Index(_heads, config.getStringPool(), config.getMaxHeaderValues(), config.getMaxRetainedBytes(), query_chars());
+            if (Wrapper_Metrics.ENABLED) {
+                Wrapper_Metrics.INSTANCE.header_index_builds.increment();
+            }
+            header_index = _idx;
+        }
+        return _idx;
+    }
+
+    /**
+     * @return length of the query string, taken from the retained bytes
+     * budget before headers, or {@code 0} if the budget is unlimited
+     * @throws Parse_Limit_Exception if the query string alone is over the
+     * budget
+     */
+    private long query_chars() {
+        long _max = config.getMaxRetainedBytes();
+        if (_max == Wrapper_Config.UNLIMITED) {
+            return 0;
+        }
+        String _query = websocketHandshakeRequest.getQueryString();
+        long _res = _query == null ? 0 : _query.length();
+        if (_res > _max) {
+            throw new Parse_Limit_Exception(Parse_Limit.RETAINED_BYTES, _max);
+        }
+        return _res;
+    }
+
+    /**
+     * Returns the(lazily built) param view of the working handshake request.
+     *
+     * @return the param view, an empty one if there is no any handshake
+     * request
+     */
+    Parameter_View parameter_view() {
+        Parameter_View _view = parameter_view;
+        if (_view == null) {
+            long _start = Wrapper_Metrics.ENABLED ? System.nanoTime() : 0;
+            if (websocketHandshakeRequest == null) {
+                _view = Parameter_View.EMPTY;
+            } else if (config.isParseQueryString()) {
+                /*the shared parser is not thread-safe, a frozen one may be read concurrently*/
+                Query_String_Parser _parser = frozen ? new Query_String_Parser(websocketHandshakeRequest.getQueryString(), config.getMaxParameters()) : query_parser();
+                _view = Parameter_View.of(_parser.parse_all());
+            } else {
+                _view = Parameter_View.of(websocketHandshakeRequest.getParameterMap(), config.getMaxParameters());
+            }
+            parameter_view = _view;
+            if (Wrapper_Metrics.ENABLED) {
+                Wrapper_Metrics.INSTANCE.param_parse_nanos.add(System.nanoTime() - _start);
+                Wrapper_Metrics.INSTANCE.param_parses.increment();
+            }
+        } else if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.param_cache_hits.increment();
+        }
+        return _view;
+    }
+
+    /**
+     * Returns the(lazily created) query string parser of the working
+     * handshake request.
+     *
+     * @return the query string parser
+     * @see Wrapper_Config#isParseQueryString()
+     */
+    Query_String_Parser query_parser() {
+        Query_String_Parser _parser = query_parser;
+        if (_parser == null) {
+            _parser = new Query_String_Parser(websocketHandshakeRequest == null ? null : websocketHandshakeRequest.getQueryString(), config.getMaxParameters());
+            query_parser = _parser;
+        }
+        return _parser;
+    }
+
+    /**
+     * @return {@code true} if a single param should be looked up by scanning
+     * the query string, rather than the param view. A frozen wrapper never
+     * scans, as the parser is not thread-safe
+     */
+    private boolean scan_query_string() {
+        boolean _res = parameter_view == null && websocketHandshakeRequest != null && config.isParseQueryString() && frozen == false;
+        if (_res && Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.param_scans.increment();
+        }
+        return _res;
+    }
+
+    /**
+     * Returns the(lazily resolved) preferred locales of the client, from
+     * {@code Accept-Language} header(s).
+     *
+     * @return unmodifiable list of locales, could be empty
+     */
+    List<Locale> locales() {
+        List<Locale> _res = locales;
+        if (_res == null) {
+            _res = Accept_Language_Parser.parse_cached(header_index().get(Header_Index.ACCEPT_LANGUAGE));
+            locales = _res;
+        }
+        return _res;
+    }
+
+    /**
+     * Resolves(once) URI-derived state: request URI, request URL, context
+     * path, servlet path, and path params.
+     * <p>
+     * When the endpoint config is set, and its path template matches the
+     * request path, whatever comes before the matched part is the context
+     * path. Otherwise the context path is {@code ""}, and the servlet path
+     * is the whole request path.
+     * </p>
+     *
+     * @return the URI-derived state
+     */
+    private Uri_Parts uri_parts() {
+        Uri_Parts _res = uri_parts;
+        if (_res != null) {
+            return _res;
+        }
+        URI _uri = websocketHandshakeRequest.getRequestURI();
+        String _raw = _uri.getRawPath();
+        if (_raw == null) {
+            _raw = "";
+        }
+        String _url;
+        if (_uri.getScheme() != null && _uri.getRawAuthority() != null) {
+            _url = _uri.getScheme() + "://" + _uri.getRawAuthority() + _raw;
+        } else {
+            _url = _raw;
+        }
+        String _path = Path_Template.strip_path_params(_raw);
+        int _at = -1;
+        Path_Template _tmpl = null;
+        ServerEndpointConfig _sec = serverEndpointConfig;
+        if (_sec != null && _sec.getPath() != null) {
+            _tmpl = Path_Template.of(_sec.getPath());
+            _at = _tmpl.match(_path);
+        }
+        if (_at == -1) {
+            _res = new Uri_Parts(_uri.toString(), _url, "", Path_Template.decode(_path), Collections.<String, String>emptyMap());
+        } else {
+            _res = new Uri_Parts(_uri.toString(), _url, _path.substring(0, _at), Path_Template.decode(_path.substring(_at)), _tmpl.params(_path, _at));
+        }
+        uri_parts = _res;
+        return _res;
+    }
+
+    /**
+     * Returns the path params of the request, by the endpoint path
+     * template(e.g. {@code room} of {@code /chat/{room}}).
+     *
+     * @return unmodifiable, ordered map of decoded path params, empty if
+     * the endpoint config is not set, or its template does not match
+     * @see #setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)
+     */
+    public Map<String, String> getPathParameters() {
+        return uri_parts().path_params;
+    }
+
+    /**
+     * @param arg_name the path param name
+     * @return the decoded value of the path param, or {@code null}
+     * @see #getPathParameters()
+     */
+    public String getPathParameter(String arg_name) {
+        return getPathParameters().get(arg_name);
+    }
+
+    /**
+     * Returns subprotocols requested by the client({@code Sec-WebSocket-Protocol}
+     * header), in the client's order.
+     * <p>
+     * The header is tokenized once(on the first call), and each element is a
+     * view over the raw header value. For picking the subprotocol, consider
+     * {@link Subprotocol_Matcher}.
+     * </p>
+     *
+     * @return unmodifiable list of requested subprotocols, an empty one if
+     * there is no any
+     * @see Subprotocol_Matcher#match(github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest)
+     */
+    public List<Header_Token> getWebsocketProtocols() {
+        List<Header_Token> _res = websocket_protocols;
+        if (_res == null) {
+            _res = Websocket_Header_Parser.protocols(header_index().get(Header_Index.SEC_WEBSOCKET_PROTOCOL));
+            websocket_protocols = _res;
+        }
+        return _res;
+    }
+
+    /**
+     * Returns extensions(and their params) requested by the
+     * client({@code Sec-WebSocket-Extensions} header), in the client's
+     * order.
+     * <p>
+     * The header is tokenized once(on the first call), names, and params are
+     * views over the raw header value. Elements are {@code Extension}s too,
+     * so the list could be passed to
+     * {@code ServerEndpointConfig.Configurator#getNegotiatedExtensions()}.
+     * </p>
+     *
+     * @return unmodifiable list of requested extensions, an empty one if
+     * there is no any
+     */
+    public List<Websocket_Extension> getWebsocketExtensions() {
+        List<Websocket_Extension> _res = websocket_extensions;
+        if (_res == null) {
+            _res = Websocket_Header_Parser.extensions(header_index().get(Header_Index.SEC_WEBSOCKET_EXTENSIONS));
+            websocket_extensions = _res;
+        }
+        return _res;
+    }
+
+    /**
+     * Resolves(once) the requested session ID, from the session cookie, or
+     * the URI path param.
+     *
+     * @return the requested session ID, and its source
+     */
+    private Requested_Session_Id requested_session_id() {
+        Requested_Session_Id _res = requested_session_id;
+        if (_res != null) {
+            return _res;
+        }
+        _res = Requested_Session_Id.NONE;
+        if (websocketHandshakeRequest != null) {
+            String _name = config.getSessionCookieName();
+            String _val = cookie_index().value(_name, false);
+            if (_val != null && _val.isEmpty() == false) {
+                _res = new Requested_Session_Id(_val, SID_COOKIE);
+            } else {
+                URI _uri = websocketHandshakeRequest.getRequestURI();
+                String _id = _uri == null ? null : path_param(_uri.getRawPath(), _name.toLowerCase(Locale.ROOT));
+                if (_id != null) {
+                    _res = new Requested_Session_Id(_id, SID_URL);
+                }
+            }
+        }
+        requested_session_id = _res;
+        return _res;
+    }
+
+    /**
+     * Finds the(last) non-empty value of the given path
+     * param({@code ;name=value}) in the given path.
+     *
+     * @param arg_path the raw path, could be {@code null}
+     * @param arg_name the param name
+     * @return value of the param, or {@code null}
+     */
+    static String path_param(String arg_path, String arg_name) {
+        if (arg_path == null) {
+            return null;
+        }
+        String _res = null;
+        int _from = 0;
+        int _at;
+        while ((_at = arg_path.indexOf(';', _from)) != -1) {
+            int _name_end = _at + 1 + arg_name.length();
+            _from = _at + 1;
+            if (_name_end < arg_path.length() && arg_path.charAt(_name_end) == '=' && arg_path.regionMatches(true, _at + 1, arg_name, 0, arg_name.length())) {
+                int _end = _name_end + 1;
+                while (_end < arg_path.length() && arg_path.charAt(_end) != ';' && arg_path.charAt(_end) != '/') {
+                    _end++;
+                }
+                if (_end > _name_end + 1) {
+                    _res = arg_path.substring(_name_end + 1, _end);
+                }
+            }
+        }
+        return _res;
+    }
+
+    /**
+     * Checks the working handshake request against parse budgets of the
+     * config(such as {@link Wrapper_Config#getMaxCookies()}), by indexing
+     * its headers, cookies, and params now, rather than on their first
+     * access.
+     * <p>
+     * Budgets are enforced while parsing regardless, so an accessor(such as
+     * {@link #getCookies()}) could also throw {@link Parse_Limit_Exception}.
+     * Calling this early(e.g. in
+     * {@link javax.websocket.server.ServerEndpointConfig.Configurator#modifyHandshake(javax.websocket.server.ServerEndpointConfig, javax.websocket.server.HandshakeRequest, javax.websocket.HandshakeResponse)})
+     * lets the configurator reject a hostile handshake at one place. Indexes
+     * built here are cached, as they would be by accessors. Query string
+     * params(when {@link Wrapper_Config#isParseQueryString()}) are only
+     * counted, not materialized.
+     * </p>
+     *
+     * @return this instance
+     * @throws Parse_Limit_Exception if a budget is exceeded
+     */
+    public HandshakeRequest_HttpServletRequest checkParseLimits() {
         if (websocketHandshakeRequest == null) {
-            return;
+            return this;
+        }
+        header_index();
+        cookie_index();
+        if (parameter_view == null) {
+            if (config.isParseQueryString()) {
+                new Query_String_Parser(websocketHandshakeRequest.getQueryString(), config.getMaxParameters()).count();
+            } else {
+                parameter_view();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Freezes this wrapper, making it read-only, and safe to be read by many
+     * threads concurrently, with no lock.
+     * <p>
+     * After freezing, mutators({@link #setWebsocketHandshakeRequest(javax.websocket.server.HandshakeRequest)},
+     * {@link #setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)},
+     * {@link #recycle()}, and attribute setters) throw
+     * {@link IllegalStateException} exception. Lazily computed state(cookies,
+     * headers, params, locales, paths,...) is still computed on first
+     * access, by whichever thread asks first: each one is an immutable
+     * holder(or a fully built value) published by a single volatile write,
+     * so a reader sees either nothing(and computes an equal value itself), or
+     * a fully initialized value, never a torn/partial one. Params are never
+     * scanned(by the non-thread-safe query string parser) when frozen.
+     * </p>
+     * <p>
+     * <b>Note:</b> the wrapper itself should be handed to other threads
+     * after this call, by any safe publication(e.g. an executor, a
+     * concurrent collection, a volatile field, or the container passing it
+     * as a user property), and the config must not be changed. Returned
+     * cookies, and param arrays are shared between readers, so they must
+     * not be modified.
+     * </p>
+     *
+     * @return this instance
+     * @see #isFrozen()
+     */
+    public HandshakeRequest_HttpServletRequest freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * @return {@code true} if this wrapper is frozen
+     * @see #freeze()
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void check_not_frozen() {
+        if (frozen) {
+            throw new IllegalStateException("The wrapper is frozen(read-only)");
+        }
+    }
+
+    /**
+     * Creates a compact, immutable copy of the working handshake request.
+     * <p>
+     * The snapshot keeps no any reference to the handshake request(nor this
+     * wrapper), so it could be retained for the whole life of the WebSocket
+     * connection, and read by any thread.
+     * </p>
+     *
+     * @return a snapshot of headers, cookies, params, URI(and paths), query
+     * string, principal name, and requested session ID of the working
+     * handshake request
+     * @throws IllegalStateException if there is no any working handshake
+     * request
+     * @see HandshakeRequest_Snapshot
+     */
+    public HandshakeRequest_Snapshot snapshot() {
+        HandshakeRequest _req = websocketHandshakeRequest;
+        if (_req == null) {
+            throw new IllegalStateException("No any handshake request to snapshot");
         }
-        List<String> _cooks_list = websocketHandshakeRequest.getHeaders().get("Cookie");
-        if (_cooks_list != null) {
-            ArrayList<Cookie> _cs = new ArrayList<>(5);
-            for (String _chstr : _cooks_list) {
-                String[] _cstr = _chstr.split("\\;\\s{1}");
-                _cs.ensureCapacity(_cs.size() + _cstr.length);
-                for (String _1c : _cstr) {
-                    String[] _cv = _1c.split("\\=",2);
-                    String _cname = _cv[0];
-                    String _cval;
-                    if (_cv.length == 2) {
-                        _cval = _cv[1];
-                    } else {
-                        _cval = null;
-                    }
-                    Cookie _c = new Cookie(_cname, _cval);
-                    _cs.add(_c);
+        URI _uri = _req.getRequestURI();
+        Principal _principal = _req.getUserPrincipal();
+        Uri_Parts _parts = _uri == null ? null : uri_parts();
+        Requested_Session_Id _rsid = requested_session_id();
+        return HandshakeRequest_Snapshot.of(header_index(), parameter_view(),
+                _uri == null ? null : _uri.toString(),
+                _req.getQueryString(),
+                _principal == null ? null : _principal.getName(),
+                _uri == null ? null : _uri.getScheme(),
+                _parts == null ? null : new String[]{_parts.context_path, _parts.servlet_path, _parts.request_url},
+                _rsid.id, _rsid.source == SID_COOKIE);
+    }
+
+    /**
+     * Returns the(lazily built) name index of {@code Cookie} header(s).
+     *
+     * @return the index, {@link Cookie_Index#EMPTY} if there is no any
+     * cookie(or handshake request)
+     */
+    private Cookie_Index cookie_index() {
+        Cookie_Index _res = cookie_index;
+        if (_res == null) {
+            _res = Cookie_Index.EMPTY;
+            if (websocketHandshakeRequest != null) {
+                long _start = Wrapper_Metrics.ENABLED ? System.nanoTime() : 0;
+                _res = Cookie_Index.of(header_index().get(Header_Index.COOKIE), config.getMaxCookies(), config.getMaxCookieBytes());
+                if (Wrapper_Metrics.ENABLED) {
+                    Wrapper_Metrics.INSTANCE.cookie_parse_nanos.add(System.nanoTime() - _start);
+                    Wrapper_Metrics.INSTANCE.cookie_parses.increment();
                 }
             }
-            cookies = new Cookie[_cs.size()];
-            _cs.toArray(cookies);
+            cookie_index = _res;
+        } else if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.cookie_cache_hits.increment();
         }
+        return _res;
     }
 
-    /*-----------------
-    HttpServletRequest - begin
-    -----------------*/
     /**
-     * Sample and expected datetime format, based on RFC5322.
+     * Returns the first cookie of the given name.
+     * <p>
+     * {@code Cookie} header(s) are indexed by name(as raw offsets) on the
+     * first cookie access, so only the asked cookie is created, and its value
+     * is cut(unquoted), and decoded(when
+     * {@link Wrapper_Config#isDecodeCookieValues()} is enabled) on each call.
+     * Prefer this(or {@link #getCookieValue(java.lang.String)}) over
+     * {@link #getCookies()}, when only a few known cookies are needed.
+     * </p>
+     *
+     * @param arg_name the cookie name(case-sensitive)
+     * @return a new cookie object, or {@code null} if there is no such
+     * cookie(or the name is not a valid cookie name)
      */
-    private final SimpleDateFormat default_date_parser = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+    public Cookie getCookie(String arg_name) {
+        return cookie_index().cookie(arg_name, config.isDecodeCookieValues());
+    }
 
+    /**
+     * Returns value of the first cookie of the given name, without creating
+     * any {@link Cookie} object.
+     *
+     * @param arg_name the cookie name(case-sensitive)
+     * @return the(unquoted, and decoded if
+     * {@link Wrapper_Config#isDecodeCookieValues()} is enabled) value, or
+     * {@code null} if there is no such cookie, or it has no any value
+     * @see #getCookie(java.lang.String)
+     */
+    public String getCookieValue(String arg_name) {
+        return cookie_index().value(arg_name, config.isDecodeCookieValues());
+    }
+
+    /*-----------------
+    HttpServletRequest - begin
+    -----------------*/
     /**
      * Returns the cached processed cookies.
      * <p>
+     * All cookies are materialized(from the cookie index, see
+     * {@link #getCookie(java.lang.String)}) on the first call, and the result
+     * is cached for the next calls.
+     * </p>
+     * <p>
      * If the result is {@code null}, then either handshake request has no any
-     * cookies, or this wrapper object has not been asked to processing/caching
-     * cookies of related handshake request
+     * cookies, or this wrapper object has no any associated handshake request.
      * </p>
      *
      * @return cookies related to this handshake request, if {@code null} then
@@ -220,19 +981,30 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      */
     @Override
     public Cookie[] getCookies() {
-        return cookies;
+        Cookie[] _res = cookies;
+        if (_res == COOKIES_UNPARSED) {
+            _res = null;
+            if (websocketHandshakeRequest != null && header_index().get(Header_Index.COOKIE) != null) {
+                _res = cookie_index().cookies(config.getStringPool(), config.isDecodeCookieValues());
+            }
+            cookies = _res;
+        } else if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.cookie_cache_hits.increment();
+        }
+        return _res;
     }
 
     /**
      * {@inheritDoc }
      * <p>
-     * <b>Note: </b>please mind, only the datetime format has specified in
-     * RFC5322 is used for parsing the header value.
+     * <b>Note: </b>please mind, the header value is parsed as an HTTP
+     * date(RFC 7231 Section 7.1.1.1), so IMF-fixdate(RFC 5322/1123), RFC 850,
+     * and asctime formats are supported.
      * </p>
      *
      * @throws IllegalArgumentException if the value related to the header is
      * not a valid/expected format
-     * @see #default_date_parser
+     * @see Http_Date_Parser
      */
     @Override
     public long getDateHeader(String arg_header_name) {
@@ -240,31 +1012,37 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
         if (_head_val == null) {
             return -1;
         }
-        try {
-            return default_date_parser.parse(_head_val).getTime();
-        } catch (Exception e) {
+        long _res = Http_Date_Parser.parse_cached(_head_val);
+        if (_res == Http_Date_Parser.INVALID) {
+            throw new IllegalArgumentException(String.format("Unsupported date format for header value (%s). Expecting an HTTP date(RFC 7231), such as RFC5322 format", _head_val));
         }
-        throw new IllegalArgumentException(String.format("Unsupported date format for header value (%s). Expecting format follow RFC5322", _head_val));
+        return _res;
     }
 
     /**
      * {@inheritDoc }
+     * <p>
+     * Header name is case-insensitive, regardless of the container.
+     * </p>
      */
     @Override
     public String getHeader(String arg_header_name) {
-        List<String> _vals = websocketHandshakeRequest.getHeaders().get(arg_header_name);
-        if (_vals == null || _vals.size() == 0) {
-            return null;
-        }
-        return _vals.get(0);
+        return header_index().getFirst(arg_header_name);
     }
 
     /**
      * {@inheritDoc }
+     * <p>
+     * Header name is case-insensitive, regardless of the container. Values
+     * of names only different in case are merged.
+     * </p>
+     *
+     * @return values of the header, or {@code null} if there is no such
+     * header
      */
     @Override
     public Enumeration<String> getHeaders(String arg_header_name) {
-        List<String> _vals = websocketHandshakeRequest.getHeaders().get(arg_header_name);
+        List<String> _vals = header_index().get(arg_header_name);
         if (_vals == null) {
             return null;
         }
@@ -273,11 +1051,13 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
 
     /**
      * {@inheritDoc }
+     * <p>
+     * Names only different in case are listed once, as the first seen case.
+     * </p>
      */
     @Override
     public Enumeration<String> getHeaderNames() {
-        Set<String> _head_names = websocketHandshakeRequest.getHeaders().keySet();
-        return Collections.enumeration(_head_names);
+        return Collections.enumeration(header_index().names());
     }
 
     /**
@@ -322,7 +1102,9 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
     /**
      * {@inheritDoc }
      * Forward the call to
-     * {@link HandshakeRequest#isUserInRole(java.lang.String)}.
+     * {@link HandshakeRequest#isUserInRole(java.lang.String)}, or the
+     * {@link Wrapper_Config#getRoleCache() role cache}(if any), which asks
+     * the request only on a miss.
      *
      * @param arg_rule_name the rule name should be checked
      * @return the {@code isUserInRole()} value returned by associated
@@ -330,7 +1112,11 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      */
     @Override
     public boolean isUserInRole(String arg_rule_name) {
-        return websocketHandshakeRequest.isUserInRole(arg_rule_name);
+        Role_Cache _cache = config.getRoleCache();
+        if (_cache == null) {
+            return websocketHandshakeRequest.isUserInRole(arg_rule_name);
+        }
+        return _cache.isUserInRole(websocketHandshakeRequest, arg_rule_name);
     }
 
     /**
@@ -348,13 +1134,68 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
     /**
      * {@inheritDoc }
      * Forward the call to {@link HandshakeRequest#getRequestURI() }.
+     * <p>
+     * The string is computed once.
+     * </p>
      *
      * @return the {@code getRequestURI()} value returned by associated
      * {@link HandshakeRequest} of this instance
      */
     @Override
     public String getRequestURI() {
-        return websocketHandshakeRequest.getRequestURI().toString();
+        return uri_parts().request_uri;
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * The URL is made of the scheme, authority, and raw path of
+     * {@link HandshakeRequest#getRequestURI()}(the scheme is as the
+     * handshake request URI, e.g. {@code ws}).
+     * </p>
+     */
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer(uri_parts().request_url);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Context path is resolved by the endpoint path template(see
+     * {@link #setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)}),
+     * as the part of the request path before the matched template. It's
+     * {@code ""} when the endpoint config is not set(or not matched).
+     * </p>
+     */
+    @Override
+    public String getContextPath() {
+        return uri_parts().context_path;
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Just like containers dispatch WebSocket upgrades, the servlet path is
+     * the(decoded) request path within the application(matching the
+     * endpoint path template), and there is no any path info.
+     * </p>
+     *
+     * @see #getContextPath()
+     */
+    @Override
+    public String getServletPath() {
+        return uri_parts().servlet_path;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return always {@code null}, see {@link #getServletPath()}
+     */
+    @Override
+    public String getPathInfo() {
+        return null;
     }
 
     /**
@@ -392,6 +1233,78 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
         return null;
     }
 
+    /**
+     * {@inheritDoc }
+     * <p>
+     * The ID is taken from the session cookie(see
+     * {@link Wrapper_Config#getSessionCookieName()}), or(if no any) from the
+     * request URI path param(e.g. {@code ;jsessionid=...}). The session
+     * itself is not accessed.
+     * </p>
+     */
+    @Override
+    public String getRequestedSessionId() {
+        return requested_session_id().id;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see #getRequestedSessionId()
+     */
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return requested_session_id().source == SID_COOKIE;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see #getRequestedSessionId()
+     */
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return requested_session_id().source == SID_URL;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @deprecated as servlet API, use {@link #isRequestedSessionIdFromURL()}
+     * instead
+     */
+    @Override
+    @java.lang.Deprecated()
+    public boolean isRequestedSessionIdFromUrl() {
+        return isRequestedSessionIdFromURL();
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * <b>Note:</b> unlike other requested session ID methods, this one
+     * accesses the handshake session(by {@link HandshakeRequest#getHttpSession()}),
+     * and compares the IDs.
+     * </p>
+     */
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        Requested_Session_Id _rsid = requested_session_id();
+        if (_rsid.source == SID_NONE) {
+            return false;
+        }
+        Object _sess = websocketHandshakeRequest.getHttpSession();
+        if ((_sess instanceof HttpSession) == false) {
+            return false;
+        }
+        try {
+            return _rsid.id.equals(((HttpSession) _sess).getId());
+        } catch (IllegalStateException e) {
+            /*invalidated session*/
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc }
      * <p>
@@ -412,20 +1325,19 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
 
     /**
      * {@inheritDoc }
+     * <p>
+     * When {@link Wrapper_Config#isParseQueryString()} is enabled, and no any
+     * full param parse has been done yet, the query string is scanned for
+     * the asked param only.
+     * </p>
      * @see HandshakeRequest#getParameterMap() 
      */
     @Override
     public String getParameter(String arg_param_name) {
-        List<String> _pvals = websocketHandshakeRequest.getParameterMap().get(arg_param_name);
-        if (_pvals == null) {
-            return null;
-        }
-        if (_pvals.size() == 0) {
-            return "";
+        if (scan_query_string()) {
+            return query_parser().first(arg_param_name);
         }
-        String _res = _pvals.get(0);
-//        return _res == null ? "" : _res;
-        return _res;
+        return parameter_view().getFirst(arg_param_name);
     }
 
     /**
@@ -434,38 +1346,36 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
      */
     @Override
     public Enumeration<String> getParameterNames() {
-        Set<String> _pnames = websocketHandshakeRequest.getParameterMap().keySet();
-        return Collections.enumeration(_pnames);
+        return Collections.enumeration(parameter_view().names());
     }
 
     /**
      * {@inheritDoc }
+     * <p>
+     * <b>Note:</b> the returned array is either the cached instance, or a copy
+     * of it, depending on {@link Wrapper_Config#isShareParameterArrays()}.
+     * </p>
      */
     @Override
     public String[] getParameterValues(String arg_param_name) {
-        List<String> _pvals = websocketHandshakeRequest.getParameterMap().get(arg_param_name);
-        if (_pvals == null) {
-            return null;
+        if (scan_query_string()) {
+            return query_parser().values(arg_param_name);
         }
-        String[] _res = new String[_pvals.size()];
-        _pvals.toArray(_res);
-        return _res;
+        return parameter_view().getValues(arg_param_name, config.isShareParameterArrays());
     }
 
     /**
      * {@inheritDoc }
+     * <p>
+     * The returned map is unmodifiable, and built once(lazily). Value arrays
+     * are either the cached instances, or copies of them, depending on
+     * {@link Wrapper_Config#isShareParameterArrays()}.
+     * </p>
      * @see HandshakeRequest#getParameterMap() 
      */
     @Override
     public Map<String, String[]> getParameterMap() {
-        HashMap<String, String[]> _res = new HashMap<>(websocketHandshakeRequest.getParameterMap().size());
-        for (String _name : websocketHandshakeRequest.getParameterMap().keySet()) {
-            List<String> _vals = websocketHandshakeRequest.getParameterMap().get(_name);
-            String[] _val_arr = new String[_vals.size()];
-            _vals.toArray(_val_arr);
-            _res.put(_name, _val_arr);
-        }
-        return _res;
+        return parameter_view().asMap(config.isShareParameterArrays());
     }
 
     /**
@@ -477,7 +1387,160 @@ public class HandshakeRequest_HttpServletRequest extends Null_HttpServletRequest
         return websocketHandshakeRequest.getRequestURI().getScheme();
     }
 
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Locales are parsed from the {@code Accept-Language} header(s), and
+     * cached(shared) by the raw value.
+     * </p>
+     *
+     * @return the most preferred locale of the client, or
+     * {@link Locale#getDefault()} if there is no any(valid)
+     * {@code Accept-Language} header
+     */
+    @Override
+    public Locale getLocale() {
+        List<Locale> _res = locales();
+        return _res.isEmpty() ? Locale.getDefault() : _res.get(0);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return preferred locales of the client, as decreasing preference, or
+     * only {@link Locale#getDefault()} if there is no any(valid)
+     * {@code Accept-Language} header
+     * @see #getLocale()
+     */
+    @Override
+    public Enumeration<Locale> getLocales() {
+        List<Locale> _res = locales();
+        if (_res.isEmpty()) {
+            return Collections.enumeration(Collections.singletonList(Locale.getDefault()));
+        }
+        return Collections.enumeration(_res);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Attributes are local to this wrapper, and are cleared when the
+     * working handshake request is changed(or the wrapper is recycled).
+     * </p>
+     */
+    @Override
+    public Object getAttribute(String arg_name) {
+        if (attributes == null || arg_name == null) {
+            return null;
+        }
+        return attributes.get(arg_name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        if (attributes == null) {
+            return Collections.emptyEnumeration();
+        }
+        return attributes.names();
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Setting a {@code null} value is the same as calling
+     * {@link #removeAttribute(java.lang.String)}.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the given name is {@code null}
+     * @throws IllegalStateException if this wrapper is frozen
+     */
+    @Override
+    public void setAttribute(String arg_name, Object arg_value) {
+        if (arg_name == null) {
+            throw new IllegalArgumentException("Attribute name must not be null");
+        }
+        check_not_frozen();
+        if (arg_value == null) {
+            removeAttribute(arg_name);
+            return;
+        }
+        if (attributes == null) {
+            attributes = new Attribute_Map();
+        }
+        attributes.put(arg_name, arg_value);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IllegalStateException if this wrapper is frozen
+     */
+    @Override
+    public void removeAttribute(String arg_name) {
+        check_not_frozen();
+        if (attributes == null || arg_name == null) {
+            return;
+        }
+        attributes.remove(arg_name);
+    }
+
     /*-----------------
     HttpServletRequest - end
     -----------------*/
+
+    /**
+     * Requested session ID, and its source.
+     */
+    private static final class Requested_Session_Id {
+
+        static final Requested_Session_Id NONE = new Requested_Session_Id(null, SID_NONE);
+
+        final String id;
+
+        /**
+         * One of {@code SID_*} constants.
+         */
+        final byte source;
+
+        Requested_Session_Id(String arg_id, byte arg_source) {
+            this.id = arg_id;
+            this.source = arg_source;
+        }
+    }
+
+    /**
+     * URI-derived state.
+     */
+    private static final class Uri_Parts {
+
+        /**
+         * {@link HandshakeRequest#getRequestURI()} as string.
+         */
+        final String request_uri;
+
+        /**
+         * Request URL, without the query string.
+         */
+        final String request_url;
+
+        final String context_path;
+
+        final String servlet_path;
+
+        /**
+         * Decoded path params, by the endpoint path template.
+         */
+        final Map<String, String> path_params;
+
+        Uri_Parts(String arg_request_uri, String arg_request_url, String arg_context_path, String arg_servlet_path, Map<String, String> arg_path_params) {
+            this.request_uri = arg_request_uri;
+            this.request_url = arg_request_url;
+            this.context_path = arg_context_path;
+            this.servlet_path = arg_servlet_path;
+            this.path_params = arg_path_params;
+        }
+    }
 }
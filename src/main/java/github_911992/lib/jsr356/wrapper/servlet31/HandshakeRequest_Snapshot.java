@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: HandshakeRequest_Snapshot.java
+Created on: Oct 17, 2026 03:12:09 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Keeps the context path, servlet path, request URL, and the requested session ID
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * A compact, immutable copy(snapshot) of a handshake request, as a
+ * {@link HttpServletRequest}.
+ * <p>
+ * Unlike {@link HandshakeRequest_HttpServletRequest}, a snapshot keeps no
+ * any reference to the container's {@link HandshakeRequest}, so it could be
+ * kept for the whole life of the WebSocket connection(e.g. as a user
+ * property of the session), while the container recycles/invalidates the
+ * handshake request.
+ * </p>
+ * <p>
+ * All the data(headers, params, URI, query string, and principal name) is
+ * kept in one {@code char[]}, and strings are addressed by offset tables
+ * ({@code int[]}). So a snapshot retains a few objects, regardless of the
+ * number of headers/params.<br>
+ * As the trade-off, every accessor materializes its result(strings,
+ * cookies, maps,...) on each call. A snapshot is supposed to be retained,
+ * not to be accessed in hot paths.
+ * </p>
+ * <p>
+ * A snapshot is immutable(all fields are final), so it could be safely
+ * published to, and read by any thread(e.g. {@code onOpen}/{@code onMessage})
+ * without any lock.
+ * </p>
+ * <p>
+ * Paths(context path, servlet path, and request URL), and the requested
+ * session ID are kept as the wrapper resolved them, when the snapshot was
+ * taken.
+ * </p>
+ * <p>
+ * <b>NOTE:</b> session, and role related methods(such as
+ * {@link #getSession(boolean)}, {@link #isRequestedSessionIdValid()}, and
+ * {@link #isUserInRole(java.lang.String)}) are not snapshot-able, and throw
+ * {@link UnsupportedOperationException} exception, just like other
+ * unimplemented methods.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#snapshot()
+ */
+public final class HandshakeRequest_Snapshot extends Indexed_HttpServletRequest {
+
+    /**
+     * Width of each header name entry of {@link #header_names}: offset,
+     * length, case-insensitive hash, first value index, value count.
+     */
+    private static final int HN_WIDTH = 5;
+
+    /**
+     * Width of each param name entry of {@link #param_names}: offset, length,
+     * first value index, value count.
+     */
+    private static final int PN_WIDTH = 4;
+
+    /*snapshot-only scalars, after the common ones*/
+    private static final int SC_CONTEXT_PATH = SC_COUNT;
+    private static final int SC_SERVLET_PATH = SC_COUNT + 1;
+    private static final int SC_REQUEST_URL = SC_COUNT + 2;
+
+    /**
+     * Number of scalar values of a snapshot.
+     */
+    private static final int SNAPSHOT_SC_COUNT = SC_COUNT + 3;
+
+    /**
+     * All chars of all strings.
+     */
+    private final char[] data;
+
+    /**
+     * Header name entries, see {@link #HN_WIDTH}.
+     */
+    private final int[] header_names;
+
+    /**
+     * Header values, as (offset, length) pairs.
+     */
+    private final int[] header_values;
+
+    /**
+     * Param name entries, see {@link #PN_WIDTH}.
+     */
+    private final int[] param_names;
+
+    /**
+     * Param values, as (offset, length) pairs, length of {@code -1} means a
+     * {@code null} value.
+     */
+    private final int[] param_values;
+
+    /**
+     * (offset, length) pairs of scalar values(request URI, query string,
+     * principal name,...). Length of {@code -1} means {@code null}.
+     */
+    private final int[] scalars;
+
+    /**
+     * Specifies if the requested session ID is from the session cookie
+     * (otherwise from the URI path param, if any).
+     */
+    private final boolean session_id_from_cookie;
+
+    private HandshakeRequest_Snapshot(char[] arg_data, int[] arg_header_names, int[] arg_header_values, int[] arg_param_names, int[] arg_param_values, int[] arg_scalars, boolean arg_session_id_from_cookie) {
+        this.data = arg_data;
+        this.header_names = arg_header_names;
+        this.header_values = arg_header_values;
+        this.param_names = arg_param_names;
+        this.param_values = arg_param_values;
+        this.scalars = arg_scalars;
+        this.session_id_from_cookie = arg_session_id_from_cookie;
+    }
+
+    /**
+     * Creates a snapshot of the given handshake request.
+     *
+     * @param arg_handshake_req non-{@code null} handshake request
+     * @return snapshot of the given request
+     */
+    public static HandshakeRequest_Snapshot of(HandshakeRequest arg_handshake_req) {
+        return new HandshakeRequest_HttpServletRequest(arg_handshake_req).snapshot();
+    }
+
+    /**
+     * Creates a snapshot of the(already normalized) state of a wrapper.
+     *
+     * @param arg_paths context path, servlet path, and request URL, or
+     * {@code null} if there is no any request URI
+     * @param arg_session_id the requested session ID, could be {@code null}
+     * @param arg_session_id_from_cookie if the requested session ID is from
+     * the session cookie
+     */
+    static HandshakeRequest_Snapshot of(Header_Index arg_headers, Parameter_View arg_params, String arg_uri, String arg_query, String arg_principal, String arg_scheme, String[] arg_paths, String arg_session_id, boolean arg_session_id_from_cookie) {
+        String _ctx = arg_paths == null ? null : arg_paths[0];
+        String _servlet = arg_paths == null ? null : arg_paths[1];
+        String _url = arg_paths == null ? null : arg_paths[2];
+        /*1st pass, sizing*/
+        List<String> _hnames = arg_headers.names();
+        int _chars = 0;
+        int _hvals_count = 0;
+        for (int a = 0; a < _hnames.size(); a++) {
+            String _n = _hnames.get(a);
+            _chars += _n.length();
+            List<String> _vals = arg_headers.get(_n);
+            for (int b = 0; b < _vals.size(); b++) {
+                String _v = _vals.get(b);
+                if (_v != null) {
+                    _chars += _v.length();
+                    _hvals_count++;
+                }
+            }
+        }
+        Map<String, String[]> _pmap = arg_params.asMap(true);
+        int _pvals_count = 0;
+        for (Map.Entry<String, String[]> _e : _pmap.entrySet()) {
+            _chars += _e.getKey().length();
+            for (String _v : _e.getValue()) {
+                _chars += len(_v);
+                _pvals_count++;
+            }
+        }
+        _chars += len(arg_uri) + len(arg_query) + len(arg_principal) + len(arg_scheme) + len(arg_session_id) + len(_ctx) + len(_servlet) + len(_url);
+        /*2nd pass, filling*/
+        char[] _data = new char[_chars];
+        int[] _hn = new int[_hnames.size() * HN_WIDTH];
+        int[] _hv = new int[_hvals_count * 2];
+        int[] _pn = new int[_pmap.size() * PN_WIDTH];
+        int[] _pv = new int[_pvals_count * 2];
+        int[] _sc = new int[SNAPSHOT_SC_COUNT * 2];
+        int _at = 0;
+        int _vi = 0;
+        for (int a = 0; a < _hnames.size(); a++) {
+            String _n = _hnames.get(a);
+            int _e = a * HN_WIDTH;
+            _hn[_e] = _at;
+            _hn[_e + 1] = _n.length();
+            _hn[_e + 2] = Header_Index.hash(_n);
+            _hn[_e + 3] = _vi;
+            _at = put(_data, _at, _n);
+            List<String> _vals = arg_headers.get(_n);
+            for (int b = 0; b < _vals.size(); b++) {
+                String _v = _vals.get(b);
+                if (_v != null) {
+                    _hv[_vi * 2] = _at;
+                    _hv[_vi * 2 + 1] = _v.length();
+                    _at = put(_data, _at, _v);
+                    _vi++;
+                }
+            }
+            _hn[_e + 4] = _vi - _hn[_e + 3];
+        }
+        int _pi = 0;
+        _vi = 0;
+        for (Map.Entry<String, String[]> _en : _pmap.entrySet()) {
+            int _e = _pi * PN_WIDTH;
+            _pn[_e] = _at;
+            _pn[_e + 1] = _en.getKey().length();
+            _pn[_e + 2] = _vi;
+            _pn[_e + 3] = _en.getValue().length;
+            _at = put(_data, _at, _en.getKey());
+            for (String _v : _en.getValue()) {
+                _pv[_vi * 2] = _at;
+                _pv[_vi * 2 + 1] = _v == null ? -1 : _v.length();
+                _at = put(_data, _at, _v);
+                _vi++;
+            }
+            _pi++;
+        }
+        _at = scalar(_data, _at, _sc, SC_URI, arg_uri);
+        _at = scalar(_data, _at, _sc, SC_QUERY, arg_query);
+        _at = scalar(_data, _at, _sc, SC_PRINCIPAL, arg_principal);
+        _at = scalar(_data, _at, _sc, SC_SCHEME, arg_scheme);
+        _at = scalar(_data, _at, _sc, SC_SESSION_ID, arg_session_id);
+        _at = scalar(_data, _at, _sc, SC_CONTEXT_PATH, _ctx);
+        _at = scalar(_data, _at, _sc, SC_SERVLET_PATH, _servlet);
+        scalar(_data, _at, _sc, SC_REQUEST_URL, _url);
+        return new HandshakeRequest_Snapshot(_data, _hn, _hv, _pn, _pv, _sc, arg_session_id != null && arg_session_id_from_cookie);
+    }
+
+    private static int len(String arg_str) {
+        return arg_str == null ? 0 : arg_str.length();
+    }
+
+    private static int put(char[] arg_data, int arg_at, String arg_str) {
+        if (arg_str == null) {
+            return arg_at;
+        }
+        arg_str.getChars(0, arg_str.length(), arg_data, arg_at);
+        return arg_at + arg_str.length();
+    }
+
+    private static int scalar(char[] arg_data, int arg_at, int[] arg_scalars, int arg_which, String arg_str) {
+        arg_scalars[arg_which * 2] = arg_at;
+        arg_scalars[arg_which * 2 + 1] = arg_str == null ? -1 : arg_str.length();
+        return put(arg_data, arg_at, arg_str);
+    }
+
+    private String string(int arg_offset, int arg_len) {
+        if (arg_len == -1) {
+            return null;
+        }
+        return new String(data, arg_offset, arg_len);
+    }
+
+    private boolean region_matches(int arg_offset, int arg_len, String arg_str, boolean arg_ignore_case) {
+        if (arg_len != arg_str.length()) {
+            return false;
+        }
+        for (int a = 0; a < arg_len; a++) {
+            char _c = data[arg_offset + a];
+            char _s = arg_str.charAt(a);
+            if (_c != _s && (arg_ignore_case == false || Header_Index.to_lower(_c) != Header_Index.to_lower(_s))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of chars retained by this snapshot
+     */
+    public int getRetainedChars() {
+        return data.length;
+    }
+
+    @Override
+    int header_count() {
+        return header_names.length / HN_WIDTH;
+    }
+
+    @Override
+    int header_hash(int arg_n) {
+        return header_names[arg_n * HN_WIDTH + 2];
+    }
+
+    @Override
+    boolean header_name_is(int arg_n, String arg_name) {
+        int _e = arg_n * HN_WIDTH;
+        return region_matches(header_names[_e], header_names[_e + 1], arg_name, true);
+    }
+
+    @Override
+    String header_name(int arg_n) {
+        int _e = arg_n * HN_WIDTH;
+        return string(header_names[_e], header_names[_e + 1]);
+    }
+
+    @Override
+    int header_first_value(int arg_n) {
+        return header_names[arg_n * HN_WIDTH + 3];
+    }
+
+    @Override
+    int header_value_count(int arg_n) {
+        return header_names[arg_n * HN_WIDTH + 4];
+    }
+
+    @Override
+    String header_value(int arg_v) {
+        return string(header_values[arg_v * 2], header_values[arg_v * 2 + 1]);
+    }
+
+    @Override
+    int param_count() {
+        return param_names.length / PN_WIDTH;
+    }
+
+    @Override
+    boolean param_name_is(int arg_n, String arg_name) {
+        int _e = arg_n * PN_WIDTH;
+        return region_matches(param_names[_e], param_names[_e + 1], arg_name, false);
+    }
+
+    @Override
+    String param_name(int arg_n) {
+        int _e = arg_n * PN_WIDTH;
+        return string(param_names[_e], param_names[_e + 1]);
+    }
+
+    @Override
+    int param_first_value(int arg_n) {
+        return param_names[arg_n * PN_WIDTH + 2];
+    }
+
+    @Override
+    int param_value_count(int arg_n) {
+        return param_names[arg_n * PN_WIDTH + 3];
+    }
+
+    @Override
+    String param_value(int arg_v) {
+        return string(param_values[arg_v * 2], param_values[arg_v * 2 + 1]);
+    }
+
+    @Override
+    String scalar(int arg_which) {
+        return string(scalars[arg_which * 2], scalars[arg_which * 2 + 1]);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getRequestURL()
+     */
+    @Override
+    public StringBuffer getRequestURL() {
+        String _url = scalar(SC_REQUEST_URL);
+        return _url == null ? null : new StringBuffer(_url);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getContextPath()
+     */
+    @Override
+    public String getContextPath() {
+        return scalar(SC_CONTEXT_PATH);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getServletPath()
+     */
+    @Override
+    public String getServletPath() {
+        return scalar(SC_SERVLET_PATH);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return always {@code null}, see {@link #getServletPath()}
+     */
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getRequestedSessionId()
+     */
+    @Override
+    public String getRequestedSessionId() {
+        return scalar(SC_SESSION_ID);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return session_id_from_cookie;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return session_id_from_cookie == false && scalar(SC_SESSION_ID) != null;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @deprecated as servlet API, use {@link #isRequestedSessionIdFromURL()}
+     * instead
+     */
+    @Override
+    @java.lang.Deprecated()
+    public boolean isRequestedSessionIdFromUrl() {
+        return isRequestedSessionIdFromURL();
+    }
+
+}
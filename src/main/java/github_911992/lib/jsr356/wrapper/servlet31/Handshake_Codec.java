@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Codec.java
+Created on: Oct 17, 2026 04:31:18 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Compact, versioned binary encoding of a wrapped handshake request state.
+ * <p>
+ * Encoded state includes headers(so cookies), params, request URI, query
+ * string, scheme, principal name, and session ID. Encoded records could be
+ * moved between nodes, or persisted, and then read back by
+ * {@link #decode(java.nio.ByteBuffer)} as a {@link HttpServletRequest},
+ * lazily and directly from the buffer.
+ * </p>
+ * <p>
+ * Format(version 1), all ints are big-endian, and all offsets are relative
+ * to the record start:
+ * </p>
+ * <pre>
+ * 0    int     magic ("WSHR")
+ * 4    byte    version
+ * 5    byte    flags (reserved, 0)
+ * 6    short   reserved (0)
+ * 8    int     record length (bytes, including this header)
+ * 12   int     header name count (HN)
+ * 16   int     header value count (HV)
+ * 20   int     param name count (PN)
+ * 24   int     param value count (PV)
+ * 28   5 x (int offset, int length)   uri, query, principal, scheme, session id
+ * 68   HN x (int offset, int length, int name hash, int first value, int value count)
+ *      HV x (int offset, int length)
+ *      PN x (int offset, int length, int first value, int value count)
+ *      PV x (int offset, int length)
+ *      UTF-8 bytes of all strings
+ * </pre>
+ * <p>
+ * A length of {@code -1} stands for a {@code null} string. Name hash is the
+ * ASCII case-insensitive hash of the header name, so lookups could reject
+ * entries without decoding them.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Encoded_HttpServletRequest
+ */
+public final class Handshake_Codec {
+
+    /**
+     * Magic number of each record, {@code "WSHR"}.
+     */
+    static final int MAGIC = 0x57534852;
+
+    /**
+     * Current(and only) format version.
+     */
+    public static final int VERSION = 1;
+
+    static final int OFF_LENGTH = 8;
+    static final int OFF_HN = 12;
+    static final int OFF_HV = 16;
+    static final int OFF_PN = 20;
+    static final int OFF_PV = 24;
+    static final int OFF_SCALARS = 28;
+    static final int HEADER_SIZE = OFF_SCALARS + Indexed_HttpServletRequest.SC_COUNT * 8;
+    static final int HN_WIDTH = 20;
+    static final int HV_WIDTH = 8;
+    static final int PN_WIDTH = 16;
+    static final int PV_WIDTH = 8;
+
+    private Handshake_Codec() {
+    }
+
+    /**
+     * Encodes the state of the given request.
+     * <p>
+     * Any {@link HttpServletRequest} could be encoded(e.g. a
+     * {@link HandshakeRequest_HttpServletRequest}, a
+     * {@link HandshakeRequest_Snapshot}, or a decoded one), only the
+     * implemented accessors of {@link HandshakeRequest_HttpServletRequest}
+     * are used. Session ID is grabbed from the session(if any), without
+     * creating one.
+     * </p>
+     *
+     * @param arg_req non-{@code null} request should be encoded
+     * @return the encoded record
+     */
+    public static byte[] encode(HttpServletRequest arg_req) {
+        /*collecting all the strings as UTF-8*/
+        ArrayList<byte[]> _hnames = new ArrayList<>();
+        ArrayList<List<byte[]>> _hvals = new ArrayList<>();
+        ArrayList<Integer> _hhashes = new ArrayList<>();
+        int _data_len = 0;
+        int _hv_count = 0;
+        Enumeration<String> _names = arg_req.getHeaderNames();
+        while (_names != null && _names.hasMoreElements()) {
+            String _n = _names.nextElement();
+            byte[] _nb = utf8(_n);
+            ArrayList<byte[]> _vb = new ArrayList<>(1);
+            Enumeration<String> _vals = arg_req.getHeaders(_n);
+            while (_vals != null && _vals.hasMoreElements()) {
+                String _v = _vals.nextElement();
+                if (_v != null) {
+                    byte[] _b = utf8(_v);
+                    _vb.add(_b);
+                    _data_len += _b.length;
+                }
+            }
+            _hnames.add(_nb);
+            _hvals.add(_vb);
+            _hhashes.add(Header_Index.hash(_n));
+            _data_len += _nb.length;
+            _hv_count += _vb.size();
+        }
+        ArrayList<byte[]> _pnames = new ArrayList<>();
+        ArrayList<byte[][]> _pvals = new ArrayList<>();
+        int _pv_count = 0;
+        Map<String, String[]> _params = arg_req.getParameterMap();
+        if (_params != null) {
+            for (Map.Entry<String, String[]> _e : _params.entrySet()) {
+                byte[] _nb = utf8(_e.getKey());
+                String[] _v = _e.getValue() == null ? new String[0] : _e.getValue();
+                byte[][] _vb = new byte[_v.length][];
+                for (int a = 0; a < _v.length; a++) {
+                    _vb[a] = utf8(_v[a]);
+                    _data_len += _vb[a] == null ? 0 : _vb[a].length;
+                }
+                _pnames.add(_nb);
+                _pvals.add(_vb);
+                _data_len += _nb.length;
+                _pv_count += _vb.length;
+            }
+        }
+        Principal _principal = arg_req.getUserPrincipal();
+        byte[][] _scalars = new byte[Indexed_HttpServletRequest.SC_COUNT][];
+        _scalars[Indexed_HttpServletRequest.SC_URI] = utf8(arg_req.getRequestURI());
+        _scalars[Indexed_HttpServletRequest.SC_QUERY] = utf8(arg_req.getQueryString());
+        _scalars[Indexed_HttpServletRequest.SC_PRINCIPAL] = utf8(_principal == null ? null : _principal.getName());
+        _scalars[Indexed_HttpServletRequest.SC_SCHEME] = utf8(arg_req.getScheme());
+        _scalars[Indexed_HttpServletRequest.SC_SESSION_ID] = utf8(session_id(arg_req));
+        for (byte[] _s : _scalars) {
+            _data_len += _s == null ? 0 : _s.length;
+        }
+        /*writing*/
+        int _tables = _hnames.size() * HN_WIDTH + _hv_count * HV_WIDTH + _pnames.size() * PN_WIDTH + _pv_count * PV_WIDTH;
+        int _total = HEADER_SIZE + _tables + _data_len;
+        ByteBuffer _buf = ByteBuffer.allocate(_total).order(ByteOrder.BIG_ENDIAN);
+        _buf.putInt(MAGIC).put((byte) VERSION).put((byte) 0).putShort((short) 0);
+        _buf.putInt(_total).putInt(_hnames.size()).putInt(_hv_count).putInt(_pnames.size()).putInt(_pv_count);
+        int _data_at = HEADER_SIZE + _tables;
+        for (byte[] _s : _scalars) {
+            _data_at = put(_buf, _data_at, _s);
+        }
+        int _vi = 0;
+        for (int a = 0; a < _hnames.size(); a++) {
+            _data_at = put(_buf, _data_at, _hnames.get(a));
+            _buf.putInt(_hhashes.get(a)).putInt(_vi).putInt(_hvals.get(a).size());
+            _vi += _hvals.get(a).size();
+        }
+        for (List<byte[]> _vb : _hvals) {
+            for (byte[] _b : _vb) {
+                _data_at = put(_buf, _data_at, _b);
+            }
+        }
+        _vi = 0;
+        for (int a = 0; a < _pnames.size(); a++) {
+            _data_at = put(_buf, _data_at, _pnames.get(a));
+            _buf.putInt(_vi).putInt(_pvals.get(a).length);
+            _vi += _pvals.get(a).length;
+        }
+        for (byte[][] _vb : _pvals) {
+            for (byte[] _b : _vb) {
+                _data_at = put(_buf, _data_at, _b);
+            }
+        }
+        return _buf.array();
+    }
+
+    /**
+     * Writes (offset, length) of the given string at current position, and
+     * its bytes at the given data offset.
+     *
+     * @return next data offset
+     */
+    private static int put(ByteBuffer arg_buf, int arg_data_at, byte[] arg_str) {
+        arg_buf.putInt(arg_data_at).putInt(arg_str == null ? -1 : arg_str.length);
+        if (arg_str == null) {
+            return arg_data_at;
+        }
+        for (int a = 0; a < arg_str.length; a++) {
+            arg_buf.put(arg_data_at + a, arg_str[a]);
+        }
+        return arg_data_at + arg_str.length;
+    }
+
+    private static byte[] utf8(String arg_str) {
+        return arg_str == null ? null : arg_str.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String session_id(HttpServletRequest arg_req) {
+        if (arg_req instanceof Encoded_HttpServletRequest) {
+            return ((Encoded_HttpServletRequest) arg_req).getSessionId();
+        }
+        if (arg_req instanceof HandshakeRequest_Snapshot) {
+            return null;
+        }
+        try {
+            HttpSession _sess = arg_req.getSession(false);
+            return _sess == null ? null : _sess.getId();
+        } catch (UnsupportedOperationException | ClassCastException e) {
+            /*no any(servlet) session accessible*/
+            return null;
+        }
+    }
+
+    /**
+     * Decodes the record at the current position of the given buffer.
+     * <p>
+     * Nothing is materialized here, the returned request reads(and decodes)
+     * strings directly from the buffer on each access. So the buffer
+     * content must not be changed while the returned request is in use.
+     * Position of the given buffer is moved to the end of the record, so
+     * consecutive records could be decoded one by one.
+     * </p>
+     * <p>
+     * Every table entry is validated here(string bounds against the record
+     * length, and value ranges against the value tables), so a corrupted
+     * record is rejected up front, rather than failing on a later access.
+     * </p>
+     *
+     * @param arg_buffer buffer(heap, direct, or memory-mapped) positioned at
+     * a record start
+     * @return a request view over the record
+     * @throws IllegalArgumentException if the buffer does not contain a
+     * valid record(including any out of bounds entry), or the record version
+     * is not supported
+     */
+    public static Encoded_HttpServletRequest decode(ByteBuffer arg_buffer) {
+        int _start = arg_buffer.position();
+        if (arg_buffer.remaining() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Truncated handshake record");
+        }
+        ByteBuffer _b = arg_buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (_b.getInt(_start) != MAGIC) {
+            throw new IllegalArgumentException("Not a handshake record");
+        }
+        int _ver = _b.get(_start + 4);
+        if (_ver != VERSION) {
+            throw new IllegalArgumentException(String.format("Unsupported handshake record version(%d), expecting %d", _ver, VERSION));
+        }
+        int _len = _b.getInt(_start + OFF_LENGTH);
+        if (_len < HEADER_SIZE || _len > arg_buffer.remaining()) {
+            throw new IllegalArgumentException("Truncated, or corrupted handshake record");
+        }
+        _b.limit(_start + _len);
+        _b.position(_start);
+        ByteBuffer _rec = _b.slice().order(ByteOrder.BIG_ENDIAN);
+        long _tables = (long) _rec.getInt(OFF_HN) * HN_WIDTH + (long) _rec.getInt(OFF_HV) * HV_WIDTH
+                + (long) _rec.getInt(OFF_PN) * PN_WIDTH + (long) _rec.getInt(OFF_PV) * PV_WIDTH;
+        if (_rec.getInt(OFF_HN) < 0 || _rec.getInt(OFF_HV) < 0 || _rec.getInt(OFF_PN) < 0 || _rec.getInt(OFF_PV) < 0
+                || HEADER_SIZE + _tables > _len) {
+            throw new IllegalArgumentException("Corrupted handshake record tables");
+        }
+        check_entries(_rec, _len);
+        arg_buffer.position(_start + _len);
+        return new Encoded_HttpServletRequest(_rec);
+    }
+
+    /**
+     * Validates all the (offset, length) entries, and value ranges of the
+     * given record, whose table sizes are checked already.
+     */
+    private static void check_entries(ByteBuffer arg_rec, int arg_len) {
+        int _hn = arg_rec.getInt(OFF_HN);
+        int _hv = arg_rec.getInt(OFF_HV);
+        int _pn = arg_rec.getInt(OFF_PN);
+        int _pv = arg_rec.getInt(OFF_PV);
+        for (int a = 0; a < Indexed_HttpServletRequest.SC_COUNT; a++) {
+            check_string(arg_rec, OFF_SCALARS + a * 8, arg_len);
+        }
+        int _at = HEADER_SIZE;
+        for (int a = 0; a < _hn; a++, _at += HN_WIDTH) {
+            check_string(arg_rec, _at, arg_len);
+            check_values(arg_rec, _at + 12, _hv);
+        }
+        for (int a = 0; a < _hv; a++, _at += HV_WIDTH) {
+            check_string(arg_rec, _at, arg_len);
+        }
+        for (int a = 0; a < _pn; a++, _at += PN_WIDTH) {
+            check_string(arg_rec, _at, arg_len);
+            check_values(arg_rec, _at + 8, _pv);
+        }
+        for (int a = 0; a < _pv; a++, _at += PV_WIDTH) {
+            check_string(arg_rec, _at, arg_len);
+        }
+    }
+
+    /**
+     * Checks the (offset, length) entry at the given index is either a
+     * {@code null} string, or in bounds of the record.
+     */
+    private static void check_string(ByteBuffer arg_rec, int arg_entry_at, int arg_len) {
+        int _off = arg_rec.getInt(arg_entry_at);
+        int _len = arg_rec.getInt(arg_entry_at + 4);
+        if (_len == -1) {
+            return;
+        }
+        if (_len < -1 || _off < 0 || (long) _off + _len > arg_len) {
+            throw new IllegalArgumentException(String.format("Corrupted handshake record, string entry at %d(offset: %d, length: %d) is out of record bounds(%d)", arg_entry_at, _off, _len, arg_len));
+        }
+    }
+
+    /**
+     * Checks the (first value, value count) pair at the given index is in
+     * range of a value table of the given size.
+     */
+    private static void check_values(ByteBuffer arg_rec, int arg_pair_at, int arg_values) {
+        int _first = arg_rec.getInt(arg_pair_at);
+        int _count = arg_rec.getInt(arg_pair_at + 4);
+        if (_first < 0 || _count < 0 || (long) _first + _count > arg_values) {
+            throw new IllegalArgumentException(String.format("Corrupted handshake record, value range at %d(first: %d, count: %d) is out of table bounds(%d)", arg_pair_at, _first, _count, arg_values));
+        }
+    }
+
+    /**
+     * Decodes all the records of the given buffer.
+     *
+     * @param arg_buffer buffer of zero or more consecutive records
+     * @return unmodifiable list of decoded requests
+     * @see #decode(java.nio.ByteBuffer)
+     */
+    public static List<Encoded_HttpServletRequest> decodeAll(ByteBuffer arg_buffer) {
+        ArrayList<Encoded_HttpServletRequest> _res = new ArrayList<>();
+        while (arg_buffer.hasRemaining()) {
+            _res.add(decode(arg_buffer));
+        }
+        return Collections.unmodifiableList(_res);
+    }
+}
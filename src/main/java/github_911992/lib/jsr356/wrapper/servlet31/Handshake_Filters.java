@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Filters.java
+Created on: Oct 17, 2026 10:06:53 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * A servlet {@link Filter} stack, to be run against wrapped handshake
+ * requests(e.g. auth, tenant resolution, audit filters), during
+ * {@code modifyHandshake()}.
+ * <p>
+ * Filters are mapped by servlet URL patterns({@code /*}, {@code /a/*},
+ * {@code *.ext}, or exact paths), in the order they are added. For each
+ * endpoint(path template of a {@link ServerEndpointConfig}) the stack is
+ * compiled once into an array of matching filters. Patterns which depend on
+ * a variable segment of the template(e.g. {@code /chat/general} over
+ * {@code /chat/{room}}) are the only ones checked per request, against the
+ * decoded path(as {@link HandshakeRequest_HttpServletRequest#getServletPath()}).
+ * So running the chain is a straight walk over a prebuilt array.
+ * </p>
+ * <p>
+ * Filters are not initialized, nor destroyed by this type, as they are
+ * owned by the caller. Instances are thread-safe.
+ * </p>
+ * <p>Usage:</p>
+ * <pre>
+ * static final Handshake_Filters FILTERS = new Handshake_Filters()
+ *                  .add(new Auth_Filter(), "/*")
+ *                  .add(new Tenant_Filter(), "/tenant/*");
+ * ...
+ *  &#64;Override
+ *  public void modifyHandshake(ServerEndpointConfig sec,
+ *                              HandshakeRequest request,
+ *                              HandshakeResponse response) {
+ *      HttpServletRequest _req = HandshakeRequest_HttpServletRequest.wrapperForHandshakeRequest(request);
+ *      Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+ *      if (FILTERS.doFilter(sec, _req, _res) == false || _res.isRejected()) {
+ *          //rejecting the handshake...
+ *      }
+ *      _res.copyTo(response);
+ *  }
+ * </pre>
+ *
+ * @author https://github.com/911992
+ * @see Handshake_HttpServletResponse
+ */
+public final class Handshake_Filters {
+
+    /**
+     * Added filters, and their patterns, copy-on-write.
+     */
+    private volatile Mapping[] mappings = new Mapping[0];
+
+    /**
+     * Compiled chains, by endpoint path template.
+     */
+    private final ConcurrentHashMap<String, Compiled_Chain> compiled = new ConcurrentHashMap<>(8);
+
+    public Handshake_Filters() {
+    }
+
+    /**
+     * Adds(appends) a filter, mapped to the given servlet URL patterns.
+     *
+     * @param arg_filter non-{@code null} filter
+     * @param arg_url_patterns one or more servlet URL patterns
+     * @return this instance
+     * @throws IllegalArgumentException if no any pattern is given, or a
+     * given pattern is not valid
+     * @throws NullPointerException if the given filter is {@code null}
+     */
+    public synchronized Handshake_Filters add(Filter arg_filter, String... arg_url_patterns) {
+        if (arg_filter == null) {
+            throw new NullPointerException("Filter must not be null");
+        }
+        if (arg_url_patterns == null || arg_url_patterns.length == 0) {
+            throw new IllegalArgumentException("At least one URL pattern is expected");
+        }
+        Url_Pattern[] _pats = new Url_Pattern[arg_url_patterns.length];
+        for (int a = 0; a < _pats.length; a++) {
+            _pats[a] = Url_Pattern.parse(arg_url_patterns[a]);
+        }
+        int _n = mappings.length;
+        Mapping[] _maps = new Mapping[_n + 1];
+        System.arraycopy(mappings, 0, _maps, 0, _n);
+        _maps[_n] = new Mapping(arg_filter, _pats);
+        mappings = _maps;
+        compiled.clear();
+        return this;
+    }
+
+    /**
+     * Runs the filters matching the given request(regarding the endpoint)
+     * over the given request, and response.
+     *
+     * @param arg_endpoint config of the endpoint, the handshake is made for
+     * @param arg_request the(wrapped) handshake request
+     * @param arg_response the response(stand-in)
+     * @return {@code true} if all matching filters passed the request
+     * on(called {@link FilterChain#doFilter(javax.servlet.ServletRequest, javax.servlet.ServletResponse)}),
+     * {@code false} if a filter stopped the chain
+     * @throws IOException as any filter may throw
+     * @throws ServletException as any filter may throw
+     */
+    public boolean doFilter(ServerEndpointConfig arg_endpoint, HttpServletRequest arg_request, HttpServletResponse arg_response) throws IOException, ServletException {
+        Compiled_Chain _chain = chain_for(arg_endpoint.getPath());
+        if (_chain.filters.length == 0) {
+            return true;
+        }
+        String _path = _chain.dynamic ? app_path(arg_endpoint, arg_request, _chain.template_segments) : null;
+        Chain_Run _run = new Chain_Run(_chain, _path);
+        _run.doFilter(arg_request, arg_response);
+        return _run.completed;
+    }
+
+    /**
+     * @return the(cached) compiled chain of the given path template
+     */
+    Compiled_Chain chain_for(String arg_template) {
+        Mapping[] _maps = mappings;
+        Compiled_Chain _res = compiled.get(arg_template);
+        if (_res == null || _res.source != _maps) {
+            /*not compiled yet, or compiled before a filter was added*/
+            _res = compile(arg_template, _maps);
+            compiled.put(arg_template, _res);
+        }
+        return _res;
+    }
+
+    private static Compiled_Chain compile(String arg_template, Mapping[] arg_maps) {
+        ArrayList<Filter> _res = new ArrayList<>(arg_maps.length);
+        ArrayList<Url_Pattern[]> _checks = new ArrayList<>(arg_maps.length);
+        boolean _dynamic = false;
+        for (int a = 0; a < arg_maps.length; a++) {
+            boolean _match = false;
+            ArrayList<Url_Pattern> _dyn = null;
+            for (Url_Pattern _p : arg_maps[a].patterns) {
+                byte _r = _p.against_template(arg_template);
+                if (_r == Url_Pattern.MATCH) {
+                    _match = true;
+                    break;
+                } else if (_r == Url_Pattern.DYNAMIC) {
+                    if (_dyn == null) {
+                        _dyn = new ArrayList<>(1);
+                    }
+                    _dyn.add(_p);
+                }
+            }
+            if (_match) {
+                _res.add(arg_maps[a].filter);
+                _checks.add(null);
+            } else if (_dyn != null) {
+                _res.add(arg_maps[a].filter);
+                _checks.add(_dyn.toArray(new Url_Pattern[_dyn.size()]));
+                _dynamic = true;
+            }
+        }
+        return new Compiled_Chain(arg_maps, _res.toArray(new Filter[_res.size()]), _checks.toArray(new Url_Pattern[_checks.size()][]), _dynamic, segments(arg_template));
+    }
+
+    private static int segments(String arg_path) {
+        int _res = 0;
+        for (int a = 0; a < arg_path.length(); a++) {
+            if (arg_path.charAt(a) == '/') {
+                _res++;
+            }
+        }
+        return _res;
+    }
+
+    /**
+     * Resolves the(decoded) path of the given request within the
+     * application(without the context path, and path params), the same as
+     * the servlet path the wrapper reports, so a filter could not be skipped
+     * by an escaped path(e.g. {@code /%61dmin/x} for {@code /admin/*}).
+     *
+     * @param arg_endpoint config of the endpoint, the handshake is made for
+     * @param arg_request the request
+     * @param arg_segments number of segments of the endpoint template
+     * @return the path
+     * @see HandshakeRequest_HttpServletRequest#getServletPath()
+     */
+    static String app_path(ServerEndpointConfig arg_endpoint, HttpServletRequest arg_request, int arg_segments) {
+        String _path;
+        if (arg_request instanceof HandshakeRequest_HttpServletRequest) {
+            HandshakeRequest_HttpServletRequest _w = (HandshakeRequest_HttpServletRequest) arg_request;
+            if (_w.getServerEndpointConfig() == arg_endpoint) {
+                return _w.getServletPath();
+            }
+            HandshakeRequest _hs = _w.getWebsocketHandshakeRequest();
+            URI _uri = _hs == null ? null : _hs.getRequestURI();
+            String _raw = _uri == null ? null : _uri.getRawPath();
+            if (_raw == null || _raw.isEmpty()) {
+                return "/";
+            }
+            _raw = Path_Template.strip_path_params(_raw);
+            /*endpoint template is relative to the context path, taking the same number of trailing segments*/
+            int _at = _raw.length();
+            for (int a = 0; a < arg_segments && _at > 0; a++) {
+                _at = _raw.lastIndexOf('/', _at - 1);
+            }
+            _path = _raw.substring(Math.max(_at, 0));
+        } else {
+            String _uri = arg_request.getRequestURI();
+            String _ctx = arg_request.getContextPath();
+            _path = Path_Template.strip_path_params((_ctx != null && _uri.startsWith(_ctx)) ? _uri.substring(_ctx.length()) : _uri);
+        }
+        return Path_Template.decode(_path);
+    }
+
+    /**
+     * A filter, and its URL patterns.
+     */
+    static final class Mapping {
+
+        private final Filter filter;
+        private final Url_Pattern[] patterns;
+
+        private Mapping(Filter arg_filter, Url_Pattern[] arg_patterns) {
+            this.filter = arg_filter;
+            this.patterns = arg_patterns;
+        }
+    }
+
+    /**
+     * Filters of one endpoint(path template).
+     */
+    static final class Compiled_Chain {
+
+        /**
+         * The mappings, this chain is compiled from.
+         */
+        final Mapping[] source;
+
+        final Filter[] filters;
+
+        /**
+         * Patterns to check per request for each filter, or {@code null} when
+         * the filter always matches.
+         */
+        final Url_Pattern[][] checks;
+
+        /**
+         * Specifies if any filter should be checked per request.
+         */
+        final boolean dynamic;
+
+        final int template_segments;
+
+        Compiled_Chain(Mapping[] arg_source, Filter[] arg_filters, Url_Pattern[][] arg_checks, boolean arg_dynamic, int arg_template_segments) {
+            this.source = arg_source;
+            this.filters = arg_filters;
+            this.checks = arg_checks;
+            this.dynamic = arg_dynamic;
+            this.template_segments = arg_template_segments;
+        }
+    }
+
+    /**
+     * One run of a compiled chain.
+     */
+    private static final class Chain_Run implements FilterChain {
+
+        private final Compiled_Chain chain;
+
+        /**
+         * Path of the request, only resolved for dynamic chains.
+         */
+        private final String path;
+
+        private int pos;
+
+        /**
+         * Specifies if the end of the chain is reached.
+         */
+        private boolean completed;
+
+        private Chain_Run(Compiled_Chain arg_chain, String arg_path) {
+            this.chain = arg_chain;
+            this.path = arg_path;
+        }
+
+        @Override
+        public void doFilter(ServletRequest arg_request, ServletResponse arg_response) throws IOException, ServletException {
+            Filter[] _filters = chain.filters;
+            while (pos < _filters.length) {
+                int _i = pos++;
+                Url_Pattern[] _checks = chain.checks[_i];
+                if (_checks == null || matches(_checks)) {
+                    _filters[_i].doFilter(arg_request, arg_response, this);
+                    return;
+                }
+            }
+            completed = true;
+        }
+
+        private boolean matches(Url_Pattern[] arg_checks) {
+            for (Url_Pattern _p : arg_checks) {
+                if (_p.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
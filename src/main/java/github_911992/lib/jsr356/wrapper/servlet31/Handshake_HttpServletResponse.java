@@ -0,0 +1,730 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_HttpServletResponse.java
+Created on: Oct 17, 2026 09:41:18 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.HandshakeResponse;
+
+/**
+ * A no-op {@link HttpServletResponse} stand-in, for running servlet filters
+ * against a wrapped handshake request.
+ * <p>
+ * Nothing is sent to the client. The status, error message, headers, and
+ * cookies set by filters are recorded, so the configurator could decide
+ * about the handshake(e.g. rejecting it, when {@link #isRejected()}), and
+ * copy the headers to the real {@link HandshakeResponse} by
+ * {@link #copyTo(javax.websocket.HandshakeResponse)}. Body(output stream,
+ * and writer) is discarded.
+ * </p>
+ * <p>
+ * Cookie values must be RFC 6265 {@code cookie-value}s(optionally
+ * double-quoted), and cookie domains, and paths must not have any control
+ * char(including CR, and LF), or {@code ;}. Otherwise
+ * {@link IllegalArgumentException} exception is thrown, as such chars could
+ * inject attributes, or headers into {@code Set-Cookie}.<br>
+ * Likewise, header names must be RFC 7230 {@code token}s, and header values
+ * must not have any control char(but HTAB), otherwise
+ * {@link IllegalArgumentException} is thrown.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, one instance per handshake.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Handshake_Filters
+ */
+public class Handshake_HttpServletResponse implements HttpServletResponse {
+
+    private int status = SC_OK;
+
+    private String error_message;
+
+    private boolean committed;
+
+    /**
+     * Case-insensitive headers, lazily created.
+     */
+    private TreeMap<String, List<String>> headers;
+
+    /**
+     * Case-insensitive names of headers set(rather than added) by
+     * {@link #setHeader(java.lang.String, java.lang.String)}, whose existing
+     * values are replaced on copy, lazily created.
+     */
+    private TreeSet<String> replaced;
+
+    private List<Cookie> cookies;
+
+    private String character_encoding = "ISO-8859-1";
+
+    private String content_type;
+
+    private Locale locale = Locale.getDefault();
+
+    public Handshake_HttpServletResponse() {
+    }
+
+    /**
+     * @return {@code true} if a filter sent an error, a redirect, or set a
+     * non-2xx status
+     */
+    public boolean isRejected() {
+        return status < 200 || status >= 300;
+    }
+
+    /**
+     * @return the message given to {@link #sendError(int, java.lang.String)},
+     * or {@code null}
+     */
+    public String getErrorMessage() {
+        return error_message;
+    }
+
+    /**
+     * @return cookies added by filters(unmodifiable), could be empty
+     */
+    public List<Cookie> getCookies() {
+        if (cookies == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(cookies);
+    }
+
+    /**
+     * Copies the recorded headers, and cookies(as {@code Set-Cookie}
+     * headers) to the given handshake response.
+     * <p>
+     * Headers are merged by name ignoring the case, even if the given
+     * response headers map is case-sensitive, so a header is never
+     * duplicated under names only different in case. Values of headers only
+     * added are appended to the existing ones, while headers set by
+     * {@link #setHeader(java.lang.String, java.lang.String)} replace the
+     * existing ones(or remove them, when set to {@code null}).
+     * </p>
+     *
+     * @param arg_response non-{@code null} handshake response
+     * @throws IllegalArgumentException if a cookie has been changed to an
+     * invalid value, domain, or path after it was added(nothing is copied)
+     */
+    public void copyTo(HandshakeResponse arg_response) {
+        /*cookies are serialized(and so validated) first, so nothing is copied on an invalid one*/
+        List<String> _set_cookies = null;
+        if (cookies != null) {
+            _set_cookies = new ArrayList<>(cookies.size());
+            for (Cookie _ck : cookies) {
+                _set_cookies.add(set_cookie_value(_ck));
+            }
+        }
+        Map<String, List<String>> _dst = arg_response.getHeaders();
+        /*actual names of the existing headers, by their case-insensitive name*/
+        TreeMap<String, String> _names = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String _n : _dst.keySet()) {
+            if (_n != null && _names.containsKey(_n) == false) {
+                _names.put(_n, _n);
+            }
+        }
+        if (replaced != null) {
+            for (String _n : replaced) {
+                replace(_dst, _names, _n, headers == null ? null : headers.get(_n));
+            }
+        }
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> _e : headers.entrySet()) {
+                if (replaced == null || replaced.contains(_e.getKey()) == false) {
+                    merge(_dst, _names, _e.getKey(), _e.getValue());
+                }
+            }
+        }
+        if (_set_cookies != null) {
+            merge(_dst, _names, "Set-Cookie", _set_cookies);
+        }
+    }
+
+    private static void merge(Map<String, List<String>> arg_dst, TreeMap<String, String> arg_names, String arg_name, List<String> arg_values) {
+        String _n = arg_names.get(arg_name);
+        List<String> _vals = _n == null ? null : arg_dst.get(_n);
+        if (_vals == null) {
+            arg_dst.put(arg_name, new ArrayList<>(arg_values));
+            arg_names.put(arg_name, arg_name);
+        } else {
+            _vals.addAll(arg_values);
+        }
+    }
+
+    private static void replace(Map<String, List<String>> arg_dst, TreeMap<String, String> arg_names, String arg_name, List<String> arg_values) {
+        if (arg_names.remove(arg_name) != null) {
+            /*all existing names only different in case*/
+            Iterator<String> _it = arg_dst.keySet().iterator();
+            while (_it.hasNext()) {
+                String _n = _it.next();
+                if (_n != null && _n.equalsIgnoreCase(arg_name)) {
+                    _it.remove();
+                }
+            }
+        }
+        if (arg_values != null && arg_values.isEmpty() == false) {
+            arg_dst.put(arg_name, new ArrayList<>(arg_values));
+            arg_names.put(arg_name, arg_name);
+        }
+    }
+
+    /**
+     * Checks the given header name is an RFC 7230 {@code token}, and the
+     * given value(if any) has no any control char but HTAB.
+     *
+     * @throws IllegalArgumentException if the name, or the value is invalid
+     */
+    private static void check_header(String arg_name, String arg_value) {
+        if (arg_name.isEmpty()) {
+            throw new IllegalArgumentException("Header name must not be empty");
+        }
+        for (int a = 0; a < arg_name.length(); a++) {
+            char _c = arg_name.charAt(a);
+            /*tchar: visible ASCII, but separators*/
+            if (_c < 0x21 || _c > 0x7e || "\"(),/:;<=>?@[\\]{}".indexOf(_c) != -1) {
+                throw new IllegalArgumentException(String.format("Invalid header name(%s), must be an RFC 7230 token", arg_name));
+            }
+        }
+        if (arg_value == null) {
+            return;
+        }
+        for (int a = 0; a < arg_value.length(); a++) {
+            char _c = arg_value.charAt(a);
+            if ((_c < 0x20 && _c != '\t') || _c == 0x7f) {
+                throw new IllegalArgumentException(String.format("Invalid value of header(%s), must not have any control char(but HTAB)", arg_name));
+            }
+        }
+    }
+
+    /**
+     * Checks the value, domain, and path of the given cookie could be
+     * written into a {@code Set-Cookie} header as-is.
+     *
+     * @throws IllegalArgumentException if the cookie has any invalid part
+     */
+    private static void check_cookie(Cookie arg_cookie) {
+        String _val = arg_cookie.getValue();
+        if (_val != null && is_cookie_value(_val) == false) {
+            throw new IllegalArgumentException(String.format("Invalid value of cookie(%s), must be an RFC 6265 cookie-value", arg_cookie.getName()));
+        }
+        check_attribute(arg_cookie, "Domain", arg_cookie.getDomain());
+        check_attribute(arg_cookie, "Path", arg_cookie.getPath());
+    }
+
+    /**
+     * @return {@code true} if the given value is an(optionally
+     * double-quoted) RFC 6265 {@code cookie-value}
+     */
+    private static boolean is_cookie_value(String arg_value) {
+        int _start = 0;
+        int _end = arg_value.length();
+        if (_end >= 2 && arg_value.charAt(0) == '"' && arg_value.charAt(_end - 1) == '"') {
+            _start = 1;
+            _end--;
+        }
+        for (int a = _start; a < _end; a++) {
+            char _c = arg_value.charAt(a);
+            /*cookie-octet: no CTLs, white-spaces, DQUOTE, comma, semicolon, backslash, or non-ASCII*/
+            if (_c < 0x21 || _c > 0x7e || _c == '"' || _c == ',' || _c == ';' || _c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the given attribute value is made of RFC 6265 {@code av-octet}s(no
+     * CTLs, including CR, and LF, no {@code ;}, and ASCII only).
+     */
+    private static void check_attribute(Cookie arg_cookie, String arg_attr, String arg_value) {
+        if (arg_value == null) {
+            return;
+        }
+        for (int a = 0; a < arg_value.length(); a++) {
+            char _c = arg_value.charAt(a);
+            if (_c < 0x20 || _c > 0x7e || _c == ';') {
+                throw new IllegalArgumentException(String.format("Invalid %s of cookie(%s), must not have any control char, or ';'", arg_attr, arg_cookie.getName()));
+            }
+        }
+    }
+
+    private static String set_cookie_value(Cookie arg_cookie) {
+        check_cookie(arg_cookie);
+        StringBuilder _sb = new StringBuilder(64);
+        _sb.append(arg_cookie.getName()).append('=');
+        if (arg_cookie.getValue() != null) {
+            _sb.append(arg_cookie.getValue());
+        }
+        if (arg_cookie.getMaxAge() >= 0) {
+            _sb.append("; Max-Age=").append(arg_cookie.getMaxAge());
+        }
+        if (arg_cookie.getDomain() != null) {
+            _sb.append("; Domain=").append(arg_cookie.getDomain());
+        }
+        if (arg_cookie.getPath() != null) {
+            _sb.append("; Path=").append(arg_cookie.getPath());
+        }
+        if (arg_cookie.getSecure()) {
+            _sb.append("; Secure");
+        }
+        if (arg_cookie.isHttpOnly()) {
+            _sb.append("; HttpOnly");
+        }
+        return _sb.toString();
+    }
+
+    private List<String> values(String arg_name, boolean arg_create) {
+        if (headers == null) {
+            if (arg_create == false) {
+                return null;
+            }
+            headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        List<String> _res = headers.get(arg_name);
+        if (_res == null && arg_create) {
+            _res = new ArrayList<>(1);
+            headers.put(arg_name, _res);
+        }
+        return _res;
+    }
+
+    private static String format_date(long arg_date) {
+        SimpleDateFormat _fmt = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+        _fmt.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return _fmt.format(new Date(arg_date));
+    }
+
+    /*-----------------
+    HttpServletResponse - begin
+    -----------------*/
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IllegalArgumentException if the cookie value is not an RFC 6265
+     * {@code cookie-value}, or its domain, or path has any control char, or
+     * {@code ;}
+     */
+    @Override
+    public void addCookie(Cookie arg_cookie) {
+        check_cookie(arg_cookie);
+        if (cookies == null) {
+            cookies = new ArrayList<>(2);
+        }
+        cookies.add(arg_cookie);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean containsHeader(String arg_name) {
+        return values(arg_name, false) != null;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return the given URL, as-is
+     */
+    @Override
+    public String encodeURL(String arg_url) {
+        return arg_url;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return the given URL, as-is
+     */
+    @Override
+    public String encodeRedirectURL(String arg_url) {
+        return arg_url;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return the given URL, as-is
+     */
+    @Override
+    @java.lang.Deprecated()
+    public String encodeUrl(String arg_url) {
+        return arg_url;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return the given URL, as-is
+     */
+    @Override
+    @java.lang.Deprecated()
+    public String encodeRedirectUrl(String arg_url) {
+        return arg_url;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void sendError(int arg_sc, String arg_msg) throws IOException {
+        if (committed) {
+            throw new IllegalStateException("Response is already committed");
+        }
+        status = arg_sc;
+        error_message = arg_msg;
+        committed = true;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void sendError(int arg_sc) throws IOException {
+        sendError(arg_sc, null);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void sendRedirect(String arg_location) throws IOException {
+        if (committed) {
+            throw new IllegalStateException("Response is already committed");
+        }
+        status = SC_FOUND;
+        setHeader("Location", arg_location);
+        committed = true;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setDateHeader(String arg_name, long arg_date) {
+        setHeader(arg_name, format_date(arg_date));
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void addDateHeader(String arg_name, long arg_date) {
+        addHeader(arg_name, format_date(arg_date));
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IllegalArgumentException if the name is not a token, or the
+     * value has any control char(but HTAB)
+     */
+    @Override
+    public void setHeader(String arg_name, String arg_value) {
+        if (arg_name == null || committed) {
+            return;
+        }
+        check_header(arg_name, arg_value);
+        if (replaced == null) {
+            replaced = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        replaced.add(arg_name);
+        if (arg_value == null) {
+            if (headers != null) {
+                headers.remove(arg_name);
+            }
+            return;
+        }
+        List<String> _vals = values(arg_name, true);
+        _vals.clear();
+        _vals.add(arg_value);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IllegalArgumentException if the name is not a token, or the
+     * value has any control char(but HTAB)
+     */
+    @Override
+    public void addHeader(String arg_name, String arg_value) {
+        if (arg_name == null || arg_value == null || committed) {
+            return;
+        }
+        check_header(arg_name, arg_value);
+        values(arg_name, true).add(arg_value);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setIntHeader(String arg_name, int arg_value) {
+        setHeader(arg_name, Integer.toString(arg_value));
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void addIntHeader(String arg_name, int arg_value) {
+        addHeader(arg_name, Integer.toString(arg_value));
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setStatus(int arg_sc) {
+        if (committed == false) {
+            status = arg_sc;
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    @java.lang.Deprecated()
+    public void setStatus(int arg_sc, String arg_sm) {
+        if (committed == false) {
+            status = arg_sc;
+            error_message = arg_sm;
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getHeader(String arg_name) {
+        List<String> _vals = values(arg_name, false);
+        return (_vals == null || _vals.isEmpty()) ? null : _vals.get(0);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Collection<String> getHeaders(String arg_name) {
+        List<String> _vals = values(arg_name, false);
+        return _vals == null ? Collections.<String>emptyList() : new ArrayList<>(_vals);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers == null ? Collections.<String>emptyList() : new ArrayList<>(headers.keySet());
+    }
+
+    /*-----------------
+    HttpServletResponse - end
+    -----------------*/
+
+    /*-----------------
+    ServletResponse - begin
+    -----------------*/
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getCharacterEncoding() {
+        return character_encoding;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getContentType() {
+        return content_type;
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Everything written to the returned stream is discarded.
+     * </p>
+     */
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        return new Discard_ServletOutputStream();
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Everything written to the returned writer is discarded.
+     * </p>
+     */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        return new PrintWriter(new Discard_ServletOutputStream());
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setCharacterEncoding(String arg_charset) {
+        character_encoding = arg_charset;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setContentLength(int arg_len) {
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setContentLengthLong(long arg_len) {
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setContentType(String arg_type) {
+        content_type = arg_type;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setBufferSize(int arg_size) {
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getBufferSize() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        committed = true;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void resetBuffer() {
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void reset() {
+        if (committed) {
+            throw new IllegalStateException("Response is already committed");
+        }
+        status = SC_OK;
+        error_message = null;
+        headers = null;
+        cookies = null;
+        content_type = null;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setLocale(Locale arg_locale) {
+        locale = arg_locale;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /*-----------------
+    ServletResponse - end
+    -----------------*/
+
+    /**
+     * An output stream, discarding everything.
+     */
+    private static final class Discard_ServletOutputStream extends ServletOutputStream {
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener arg_listener) {
+            throw new IllegalStateException("Async is not supported");
+        }
+
+        @Override
+        public void write(int arg_b) throws IOException {
+        }
+
+        @Override
+        public void write(byte[] arg_b, int arg_off, int arg_len) throws IOException {
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Recorder.java
+Created on: Oct 17, 2026 11:52:09 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * Records(samples of) handshake requests into a local file, as a corpus
+ * for benchmarking against the real traffic shape.
+ * <p>
+ * Each recorded handshake is appended as a {@link Handshake_Codec} record
+ * (headers, params, URI, query string, and principal name), so a corpus
+ * file is a sequence of records, readable by
+ * {@link Handshake_Codec#decodeAll(java.nio.ByteBuffer)}, and replayable by
+ * {@code Replay_Benchmark} of the {@code benchmark} module.
+ * </p>
+ * <p>
+ * Secrets are redacted before encoding: values of
+ * {@link #getRedactedHeaders() redacted headers}(cookie values only, for
+ * {@code Cookie}), values of {@link #getRedactedParameters() redacted params},
+ * path param values, user info of the URI, and(by default) the principal
+ * name are masked by same-length {@code x} chars, so lengths, and structure
+ * are kept. Sessions, and roles are never recorded.
+ * </p>
+ * <p>
+ * A recorder is supposed to be set up once(setters are not thread-safe),
+ * and then {@link #record(javax.websocket.server.HandshakeRequest)} could be
+ * called by many threads(e.g. by a configurator). Recording never throws, a
+ * failed write is counted(see {@link #getFailures()}), and its partially
+ * written bytes are truncated. If the truncation fails too, recording is
+ * stopped(further handshakes are counted as failures). Once the file
+ * reaches {@link #getMaxBytes()}, further handshakes are dropped(before
+ * being redacted, or encoded).
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Handshake_Codec
+ */
+public final class Handshake_Recorder implements Closeable {
+
+    /**
+     * Default value of {@link #getMaxBytes()}, 64MB.
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    /**
+     * Headers redacted by default.
+     */
+    private static final String[] DEFAULT_REDACTED_HEADERS = {Header_Index.AUTHORIZATION, "Proxy-Authorization", Header_Index.COOKIE, Header_Index.SEC_WEBSOCKET_KEY};
+
+    /**
+     * Params redacted by default.
+     */
+    private static final String[] DEFAULT_REDACTED_PARAMETERS = {"access_token", "token"};
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    /**
+     * Bytes of the file, written while holding {@link #channel}. Volatile,
+     * so a full file is detected before redacting, and encoding.
+     */
+    private volatile long bytes;
+
+    /**
+     * If a failed write could not be rolled back, so the file ends with a
+     * partial record, and recording is stopped. Guarded by {@link #channel}.
+     */
+    private boolean corrupted;
+
+    private double sampleRate = 1.0;
+
+    private long maxBytes = DEFAULT_MAX_BYTES;
+
+    private String[] redactedHeaders = DEFAULT_REDACTED_HEADERS;
+
+    private String[] redactedParameters = DEFAULT_REDACTED_PARAMETERS;
+
+    private boolean redactPrincipal = true;
+
+    private final Striped_Counter recorded = new Striped_Counter();
+    private final Striped_Counter sampled_out = new Striped_Counter();
+    private final Striped_Counter dropped = new Striped_Counter();
+    private final Striped_Counter failures = new Striped_Counter();
+
+    /**
+     * Opens(or creates) the given corpus file, for appending.
+     *
+     * @param arg_file the corpus file, existing records are kept
+     * @throws IOException if the file could not be opened
+     */
+    public Handshake_Recorder(Path arg_file) throws IOException {
+        this.file = arg_file;
+        this.channel = FileChannel.open(arg_file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.bytes = channel.size();
+    }
+
+    /**
+     * Records the given handshake, if it's sampled, and the file is not
+     * full.
+     *
+     * @param arg_req the handshake request, could be {@code null}
+     * @return {@code true} if the handshake was recorded
+     */
+    public boolean record(HandshakeRequest arg_req) {
+        if (arg_req == null) {
+            return false;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampled_out.increment();
+            return false;
+        }
+        if (bytes >= maxBytes) {
+            /*full, checked again(by the record length) before writing*/
+            dropped.increment();
+            return false;
+        }
+        byte[] _rec;
+        try {
+            Redacted_HandshakeRequest _redacted = new Redacted_HandshakeRequest(arg_req, redactedHeaders, redactedParameters, redactPrincipal);
+            _rec = Handshake_Codec.encode(new HandshakeRequest_HttpServletRequest(_redacted));
+        } catch (RuntimeException e) {
+            /*a broken(container) request, should not fail the handshake*/
+            failures.increment();
+            return false;
+        }
+        synchronized (channel) {
+            if (corrupted) {
+                failures.increment();
+                return false;
+            }
+            if (bytes + _rec.length > maxBytes) {
+                dropped.increment();
+                return false;
+            }
+            try {
+                ByteBuffer _buf = ByteBuffer.wrap(_rec);
+                while (_buf.hasRemaining()) {
+                    channel.write(_buf);
+                }
+                bytes += _rec.length;
+            } catch (IOException e) {
+                failures.increment();
+                rollback();
+                return false;
+            }
+        }
+        recorded.increment();
+        return true;
+    }
+
+    /**
+     * Truncates the file back to {@link #bytes}, dropping a partially
+     * written record, so the corpus stays a sequence of whole records. If
+     * the file could not be truncated, recording is stopped.<br>
+     * Must be called while holding {@link #channel}.
+     */
+    private void rollback() {
+        try {
+            if (channel.size() > bytes) {
+                channel.truncate(bytes);
+            }
+        } catch (IOException e) {
+            corrupted = true;
+        }
+    }
+
+    /**
+     * @return the corpus file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Specifies the ratio of handshakes that are recorded, from {@code 0}
+     * (none) to {@code 1}(all). Default is {@code 1}.
+     *
+     * @return the sample rate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @param arg_sampleRate the sample rate, from {@code 0} to {@code 1}
+     * @throws IllegalArgumentException if the rate is out of range
+     * @see #getSampleRate()
+     */
+    public void setSampleRate(double arg_sampleRate) {
+        if (!(arg_sampleRate >= 0 && arg_sampleRate <= 1)) {
+            throw new IllegalArgumentException(String.format("Invalid sample rate(%s)", arg_sampleRate));
+        }
+        this.sampleRate = arg_sampleRate;
+    }
+
+    /**
+     * Specifies the max size of the corpus file(including records it had
+     * when opened). Default is {@link #DEFAULT_MAX_BYTES}.
+     *
+     * @return max bytes of the file
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @param arg_maxBytes max bytes of the file(non-negative)
+     * @throws IllegalArgumentException if the given value is negative
+     * @see #getMaxBytes()
+     */
+    public void setMaxBytes(long arg_maxBytes) {
+        if (arg_maxBytes < 0) {
+            throw new IllegalArgumentException(String.format("Invalid max bytes(%d)", arg_maxBytes));
+        }
+        this.maxBytes = arg_maxBytes;
+    }
+
+    /**
+     * Specifies(case-insensitive) names of headers, values of which are
+     * masked. For {@code Cookie}, only cookie values are masked. Default is
+     * {@code Authorization}, {@code Proxy-Authorization}, {@code Cookie}, and
+     * {@code Sec-WebSocket-Key}.
+     *
+     * @return copy of redacted header names
+     */
+    public String[] getRedactedHeaders() {
+        return redactedHeaders.clone();
+    }
+
+    /**
+     * @param arg_names redacted header names, replacing the current ones
+     * @see #getRedactedHeaders()
+     */
+    public void setRedactedHeaders(Collection<String> arg_names) {
+        this.redactedHeaders = names(arg_names);
+    }
+
+    /**
+     * Specifies names of params, values of which are masked(in the param
+     * map, and the query string). Default is {@code access_token}, and
+     * {@code token}.
+     *
+     * @return copy of redacted param names
+     */
+    public String[] getRedactedParameters() {
+        return redactedParameters.clone();
+    }
+
+    /**
+     * @param arg_names redacted param names, replacing the current ones
+     * @see #getRedactedParameters()
+     */
+    public void setRedactedParameters(Collection<String> arg_names) {
+        this.redactedParameters = names(arg_names);
+    }
+
+    /**
+     * Specifies if the principal name is masked. Default is {@code true}.
+     *
+     * @return {@code true} if the principal name is masked
+     */
+    public boolean isRedactPrincipal() {
+        return redactPrincipal;
+    }
+
+    /**
+     * @param arg_redactPrincipal {@code true} if the principal name should
+     * be masked
+     * @see #isRedactPrincipal()
+     */
+    public void setRedactPrincipal(boolean arg_redactPrincipal) {
+        this.redactPrincipal = arg_redactPrincipal;
+    }
+
+    /**
+     * @return number of recorded handshakes
+     */
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    /**
+     * @return number of handshakes skipped by sampling
+     */
+    public long getSampledOut() {
+        return sampled_out.sum();
+    }
+
+    /**
+     * @return number of handshakes dropped, as the file was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return number of handshakes failed to be encoded, or written
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Closes the file, further handshakes are counted as failures.
+     *
+     * @throws IOException if closing the file failed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (channel) {
+            channel.close();
+        }
+    }
+
+    private static String[] names(Collection<String> arg_names) {
+        if (arg_names == null) {
+            return new String[0];
+        }
+        String[] _res = new String[arg_names.size()];
+        int _n = 0;
+        for (String _s : arg_names) {
+            if (_s != null) {
+                _res[_n++] = _s;
+            }
+        }
+        return _n == _res.length ? _res : Arrays.copyOf(_res, _n);
+    }
+}
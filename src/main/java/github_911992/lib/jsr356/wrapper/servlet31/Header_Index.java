@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Header_Index.java
+Created on: Oct 17, 2026 12:20:18 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Optional parse budgets(values per name, and total length)
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Case-insensitive, precomputed index over headers of a handshake request.
+ * <p>
+ * Header names are case-insensitive(RFC 7230 Section 3.2), but the
+ * {@code Map} returned by {@link javax.websocket.server.HandshakeRequest#getHeaders()}
+ * may or may not ignore the case, depending on the container. Also over
+ * RFC 8441(HTTP/2), all names are sent lower-case.<br>
+ * This index is built once, and guarantees a case-insensitive lookup, with
+ * no any allocation, and without lower-casing the given name.
+ * </p>
+ * <p>
+ * Values of names that are only different in case(e.g. {@code Cookie}, and
+ * {@code cookie}) are merged as one entry, keeping the first seen name.
+ * </p>
+ * <p>
+ * Well-known names(see {@link #KNOWN_NAMES}) have a fast path, when the
+ * given name is the very same(identical) constant string, the entry is
+ * resolved without hashing.
+ * </p>
+ * <p>
+ * Instances are immutable, and could be shared between threads.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+final class Header_Index {
+
+    static final String ORIGIN = "Origin";
+    static final String COOKIE = "Cookie";
+    static final String AUTHORIZATION = "Authorization";
+    static final String HOST = "Host";
+    static final String USER_AGENT = "User-Agent";
+    static final String ACCEPT_LANGUAGE = "Accept-Language";
+    static final String SEC_WEBSOCKET_PROTOCOL = "Sec-WebSocket-Protocol";
+    static final String SEC_WEBSOCKET_EXTENSIONS = "Sec-WebSocket-Extensions";
+    static final String SEC_WEBSOCKET_KEY = "Sec-WebSocket-Key";
+    static final String SEC_WEBSOCKET_VERSION = "Sec-WebSocket-Version";
+
+    /**
+     * Names resolved by identity(string constant/literal) fast path.
+     */
+    private static final String[] KNOWN_NAMES = {ORIGIN, COOKIE, AUTHORIZATION, HOST, USER_AGENT, ACCEPT_LANGUAGE, SEC_WEBSOCKET_PROTOCOL, SEC_WEBSOCKET_EXTENSIONS, SEC_WEBSOCKET_KEY, SEC_WEBSOCKET_VERSION};
+
+    /**
+     * An index with no any header.
+     */
+    static final Header_Index EMPTY = new Header_Index(Collections.<String, List<String>>emptyMap());
+
+    /**
+     * Distinct header names, as the first seen case.
+     */
+    private final String[] names;
+
+    /**
+     * Values of each header, same index as {@link #names}.
+     */
+    private final List<String>[] values;
+
+    /**
+     * Case-insensitive hash of each header, same index as {@link #names}.
+     */
+    private final int[] hashes;
+
+    /**
+     * Open-addressing(linear probing) table, each slot is the
+     * {@code entry index + 1}, or {@code 0} for an empty slot.
+     */
+    private final int[] table;
+
+    /**
+     * Resolved entry index of each {@link #KNOWN_NAMES}, or {@code -1}.
+     */
+    private final int[] known_entries;
+
+    /**
+     * Unmodifiable view of {@link #names}.
+     */
+    private final List<String> names_view;
+
+    Header_Index(Map<String, List<String>> arg_headers) {
+        this(arg_headers, null);
+    }
+
+    /**
+     * @param arg_headers the container-provided headers
+     * @param arg_pool pool to dedup names, and values by, could be
+     * {@code null}
+     */
+    Header_Index(Map<String, List<String>> arg_headers, String_Pool arg_pool) {
+        this(arg_headers, arg_pool, Wrapper_Config.UNLIMITED, Wrapper_Config.UNLIMITED, 0);
+    }
+
+    /**
+     * Same as {@link #Header_Index(java.util.Map, github_911992.lib.jsr356.wrapper.servlet31.String_Pool)},
+     * but indexing within the given budgets, checked per entry(before it's
+     * pooled, or merged).
+     *
+     * @param arg_headers the container-provided headers
+     * @param arg_pool pool to dedup names, and values by, could be
+     * {@code null}
+     * @param arg_max_values max values per(case-insensitive) name, or
+     * {@link Wrapper_Config#UNLIMITED}
+     * @param arg_max_chars max total length of names, and values(plus
+     * {@code arg_used_chars}), or {@link Wrapper_Config#UNLIMITED}
+     * @param arg_used_chars length already taken from {@code arg_max_chars}
+     * by other retained data(e.g. the query string)
+     * @throws Parse_Limit_Exception if a budget is exceeded
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Header_Index(Map<String, List<String>> arg_headers, String_Pool arg_pool, int arg_max_values, long arg_max_chars, long arg_used_chars) {
+        int _cap = Math.max(arg_headers.size(), 1);
+        String[] _names = new String[_cap];
+        List<String>[] _vals = new List[_cap];
+        int[] _hashes = new int[_cap];
+        int _tsize = Integer.highestOneBit(_cap * 2 - 1) << 1;
+        int[] _table = new int[_tsize];
+        int _count = 0;
+        long _chars = arg_used_chars;
+        for (Map.Entry<String, List<String>> _e : arg_headers.entrySet()) {
+            String _name = _e.getKey();
+            List<String> _v = _e.getValue();
+            if (_name == null || _v == null) {
+                continue;
+            }
+            if (arg_max_chars != Wrapper_Config.UNLIMITED) {
+                _chars += _name.length();
+                for (int a = 0; a < _v.size(); a++) {
+                    String _s = _v.get(a);
+                    _chars += _s == null ? 0 : _s.length();
+                }
+                if (_chars > arg_max_chars) {
+                    throw new Parse_Limit_Exception(Parse_Limit.RETAINED_BYTES, arg_max_chars);
+                }
+            }
+            if (arg_max_values != Wrapper_Config.UNLIMITED && _v.size() > arg_max_values) {
+                throw new Parse_Limit_Exception(Parse_Limit.HEADER_VALUES, arg_max_values);
+            }
+            if (arg_pool != null) {
+                _name = arg_pool.dedup(_name);
+                _v = dedup_values(_name, _v, arg_pool);
+            }
+            int _h = hash(_name);
+            int _idx = find(_table, _names, _hashes, _name, _h);
+            if (_idx != -1) {
+                if (arg_max_values != Wrapper_Config.UNLIMITED && _vals[_idx].size() + _v.size() > arg_max_values) {
+                    throw new Parse_Limit_Exception(Parse_Limit.HEADER_VALUES, arg_max_values);
+                }
+                ArrayList<String> _merged = new ArrayList<>(_vals[_idx].size() + _v.size());
+                _merged.addAll(_vals[_idx]);
+                _merged.addAll(_v);
+                _vals[_idx] = Collections.unmodifiableList(_merged);
+                continue;
+            }
+            _names[_count] = _name;
+            _vals[_count] = _v;
+            _hashes[_count] = _h;
+            int _slot = _h & (_tsize - 1);
+            while (_table[_slot] != 0) {
+                _slot = (_slot + 1) & (_tsize - 1);
+            }
+            _table[_slot] = ++_count;
+        }
+        this.names = _count == _cap ? _names : Arrays.copyOf(_names, _count);
+        this.values = _vals;
+        this.hashes = _hashes;
+        this.table = _table;
+        int[] _known = new int[KNOWN_NAMES.length];
+        for (int a = 0; a < KNOWN_NAMES.length; a++) {
+            _known[a] = find(_table, _names, _hashes, KNOWN_NAMES[a], hash(KNOWN_NAMES[a]));
+        }
+        this.known_entries = _known;
+        this.names_view = Collections.unmodifiableList(Arrays.asList(this.names));
+    }
+
+    /**
+     * @return an unmodifiable copy of the given values, pooled by the given
+     * pool, or the same list for headers whose values are(almost) unique per
+     * handshake
+     */
+    private static List<String> dedup_values(String arg_name, List<String> arg_vals, String_Pool arg_pool) {
+        if (equals_ignore_case(arg_name, COOKIE) || equals_ignore_case(arg_name, SEC_WEBSOCKET_KEY) || equals_ignore_case(arg_name, AUTHORIZATION)) {
+            return arg_vals;
+        }
+        String[] _res = new String[arg_vals.size()];
+        for (int a = 0; a < _res.length; a++) {
+            _res[a] = arg_pool.dedup(arg_vals.get(a));
+        }
+        return Collections.unmodifiableList(Arrays.asList(_res));
+    }
+
+    /**
+     * Returns all the values of the given header name(case-insensitive).
+     *
+     * @param arg_name the header name
+     * @return values of the header, or {@code null} if there is no such
+     * header(or {@code arg_name} is {@code null})
+     */
+    List<String> get(String arg_name) {
+        if (arg_name == null) {
+            return null;
+        }
+        for (int a = 0; a < KNOWN_NAMES.length; a++) {
+            if (arg_name == KNOWN_NAMES[a]) {
+                int _idx = known_entries[a];
+                return _idx == -1 ? null : values[_idx];
+            }
+        }
+        int _idx = find(table, names, hashes, arg_name, hash(arg_name));
+        return _idx == -1 ? null : values[_idx];
+    }
+
+    /**
+     * Returns the first value of the given header name(case-insensitive).
+     *
+     * @param arg_name the header name
+     * @return first value of the header, or {@code null} if there is no such
+     * header, or it has no any value
+     */
+    String getFirst(String arg_name) {
+        List<String> _vals = get(arg_name);
+        if (_vals == null || _vals.isEmpty()) {
+            return null;
+        }
+        return _vals.get(0);
+    }
+
+    /**
+     * @return unmodifiable list of distinct header names
+     */
+    List<String> names() {
+        return names_view;
+    }
+
+    private static int find(int[] arg_table, String[] arg_names, int[] arg_hashes, String arg_name, int arg_hash) {
+        int _mask = arg_table.length - 1;
+        int _slot = arg_hash & _mask;
+        int _e;
+        while ((_e = arg_table[_slot]) != 0) {
+            int _idx = _e - 1;
+            if (arg_hashes[_idx] == arg_hash && equals_ignore_case(arg_names[_idx], arg_name)) {
+                return _idx;
+            }
+            _slot = (_slot + 1) & _mask;
+        }
+        return -1;
+    }
+
+    /**
+     * ASCII case-insensitive hash, same as {@link String#hashCode()} over the
+     * lower-case form of the given string, but computed in-place.
+     */
+    static int hash(String arg_str) {
+        int _h = 0;
+        for (int a = 0; a < arg_str.length(); a++) {
+            _h = 31 * _h + to_lower(arg_str.charAt(a));
+        }
+        /*spreading higher bits, as table size is small*/
+        return _h ^ (_h >>> 16);
+    }
+
+    static boolean equals_ignore_case(String arg_a, String arg_b) {
+        if (arg_a == arg_b) {
+            return true;
+        }
+        int _len = arg_a.length();
+        if (_len != arg_b.length()) {
+            return false;
+        }
+        for (int a = 0; a < _len; a++) {
+            char _ca = arg_a.charAt(a);
+            char _cb = arg_b.charAt(a);
+            if (_ca != _cb && to_lower(_ca) != to_lower(_cb)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static char to_lower(char arg_c) {
+        return (arg_c >= 'A' && arg_c <= 'Z') ? (char) (arg_c | 0x20) : arg_c;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Header_Token.java
+Created on: Oct 17, 2026 08:41:15 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * An immutable {@link CharSequence} view over a part(token, or param value)
+ * of a header value, with no any copy.
+ * <p>
+ * The chars are read from the original header value, and {@link #toString()}
+ * is the only method creating a {@code String}. Two tokens are
+ * {@link #equals(java.lang.Object)} when they have the same
+ * chars(case-sensitive), and {@link #hashCode()} is the same as the
+ * {@code String} one.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getWebsocketProtocols()
+ * @see Websocket_Extension
+ */
+public final class Header_Token implements CharSequence {
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    Header_Token(String arg_source, int arg_start, int arg_end) {
+        this.source = arg_source;
+        this.start = arg_start;
+        this.end = arg_end;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public char charAt(int arg_index) {
+        if (arg_index < 0 || arg_index >= end - start) {
+            throw new IndexOutOfBoundsException(String.valueOf(arg_index));
+        }
+        return source.charAt(start + arg_index);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Returned sequence is a view(of the same header value) too.
+     * </p>
+     */
+    @Override
+    public Header_Token subSequence(int arg_start, int arg_end) {
+        if (arg_start < 0 || arg_end > end - start || arg_start > arg_end) {
+            throw new IndexOutOfBoundsException(String.format("[%d, %d)", arg_start, arg_end));
+        }
+        return new Header_Token(source, start + arg_start, start + arg_end);
+    }
+
+    /**
+     * Checks if this token has exactly the same chars as the given sequence.
+     *
+     * @param arg_seq sequence to compare, could be {@code null}
+     * @return {@code true} if the same(case-sensitive)
+     */
+    public boolean contentEquals(CharSequence arg_seq) {
+        if (arg_seq == null || arg_seq.length() != end - start) {
+            return false;
+        }
+        if (arg_seq instanceof String) {
+            return source.regionMatches(start, (String) arg_seq, 0, end - start);
+        }
+        for (int a = 0; a < end - start; a++) {
+            if (source.charAt(start + a) != arg_seq.charAt(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if this token has the same chars as the given sequence, ignoring
+     * the(ASCII) case.
+     *
+     * @param arg_seq sequence to compare, could be {@code null}
+     * @return {@code true} if the same(case-insensitive)
+     */
+    public boolean equalsIgnoreCase(CharSequence arg_seq) {
+        if (arg_seq == null || arg_seq.length() != end - start) {
+            return false;
+        }
+        for (int a = 0; a < end - start; a++) {
+            char _c = source.charAt(start + a);
+            char _s = arg_seq.charAt(a);
+            if (_c != _s && Header_Index.to_lower(_c) != Header_Index.to_lower(_s)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object arg_obj) {
+        return (arg_obj instanceof Header_Token) && contentEquals((Header_Token) arg_obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(source, start, end);
+    }
+
+    /**
+     * @return the token as a(new, unless it's the whole header value)
+     * string
+     */
+    @Override
+    public String toString() {
+        return source.substring(start, end);
+    }
+
+    /**
+     * @return {@code String}-compatible hash of the given range
+     */
+    static int hash(String arg_str, int arg_start, int arg_end) {
+        int _h = 0;
+        for (int a = arg_start; a < arg_end; a++) {
+            _h = 31 * _h + arg_str.charAt(a);
+        }
+        return _h;
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Http_Date_Parser.java
+Created on: Oct 17, 2026 01:05:52 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * Stateless, thread-safe parser of HTTP dates, as RFC 7231 Section 7.1.1.1.
+ * <p>
+ * All three formats a recipient must accept are supported:
+ * </p>
+ * <ul>
+ * <li>IMF-fixdate(RFC 1123/5322): {@code Sun, 06 Nov 1994 08:49:37 GMT}</li>
+ * <li>obsolete RFC 850: {@code Sunday, 06-Nov-94 08:49:37 GMT}</li>
+ * <li>ANSI C's asctime(): {@code Sun Nov  6 08:49:37 1994}</li>
+ * </ul>
+ * <p>
+ * Parsing is done in-place over the given string, so no any allocation is
+ * made. Day-name is not validated, and beside {@code GMT}, zones
+ * {@code UTC}, {@code UT}, {@code Z}, and numeric({@code +hhmm}/{@code -hhmm})
+ * ones are accepted too.<br>
+ * Two-digit years(RFC 850) less than 70 are considered as 20xx, otherwise
+ * 19xx.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getDateHeader(java.lang.String)
+ */
+final class Http_Date_Parser {
+
+    /**
+     * The result of parsing an invalid date string.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+
+    /**
+     * Last parsed(valid) date string, and its value.
+     *
+     * @see #parse_cached(java.lang.String)
+     */
+    private static volatile Parsed_Date last_parsed;
+
+    private Http_Date_Parser() {
+    }
+
+    /**
+     * Same as {@link #parse(java.lang.String)}, but checks the last
+     * successfully parsed value first.
+     * <p>
+     * The only allocation(a small holder) is made when the given value is
+     * different from the last one(cache miss).
+     * </p>
+     *
+     * @param arg_date the date string
+     * @return the epoch milliseconds, or {@link #INVALID}
+     */
+    static long parse_cached(String arg_date) {
+        Parsed_Date _last = last_parsed;
+        if (_last != null && _last.value.equals(arg_date)) {
+            if (Wrapper_Metrics.ENABLED) {
+                Wrapper_Metrics.INSTANCE.date_cache_hits.increment();
+            }
+            return _last.millis;
+        }
+        if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.date_cache_misses.increment();
+        }
+        long _res = parse(arg_date);
+        if (_res != INVALID) {
+            last_parsed = new Parsed_Date(arg_date, _res);
+        }
+        return _res;
+    }
+
+    /**
+     * Parses the given HTTP date.
+     *
+     * @param arg_date the date string, could be {@code null}
+     * @return the epoch milliseconds, or {@link #INVALID} if the given string
+     * is {@code null}, or not a valid HTTP date
+     */
+    static long parse(String arg_date) {
+        if (arg_date == null) {
+            return INVALID;
+        }
+        String _s = arg_date;
+        int _len = _s.length();
+        int _i = skip_spaces(_s, 0);
+        int _comma = _s.indexOf(',', _i);
+        int _day;
+        int _month;
+        int _year;
+        int _time_at;
+        long _zone_offset;
+        if (_comma != -1) {
+            /*IMF-fixdate, or RFC 850*/
+            _i = skip_spaces(_s, _comma + 1);
+            int _ds = _i;
+            _i = skip_digits(_s, _i);
+            if (_i - _ds < 1 || _i - _ds > 2 || _i >= _len) {
+                return INVALID;
+            }
+            _day = number(_s, _ds, _i);
+            char _sep = _s.charAt(_i);
+            if (_sep != ' ' && _sep != '-') {
+                return INVALID;
+            }
+            _month = month(_s, _i + 1);
+            _i += 4;
+            if (_month == -1 || _i >= _len || _s.charAt(_i) != _sep) {
+                return INVALID;
+            }
+            int _ys = ++_i;
+            _i = skip_digits(_s, _i);
+            if (_i - _ys == 4) {
+                _year = number(_s, _ys, _i);
+            } else if (_i - _ys == 2) {
+                _year = number(_s, _ys, _i);
+                _year += _year < 70 ? 2000 : 1900;
+            } else {
+                return INVALID;
+            }
+            if (_i >= _len || _s.charAt(_i) != ' ') {
+                return INVALID;
+            }
+            _time_at = _i + 1;
+            _zone_offset = zone_offset(_s, _time_at + 8);
+        } else {
+            /*asctime*/
+            _i = skip_spaces(_s, _i + 3);
+            _month = month(_s, _i);
+            if (_month == -1) {
+                return INVALID;
+            }
+            _i = skip_spaces(_s, _i + 3);
+            int _ds = _i;
+            _i = skip_digits(_s, _i);
+            if (_i - _ds < 1 || _i - _ds > 2 || _i >= _len || _s.charAt(_i) != ' ') {
+                return INVALID;
+            }
+            _day = number(_s, _ds, _i);
+            _time_at = _i + 1;
+            _i = _time_at + 8;
+            if (_i >= _len || _s.charAt(_i) != ' ') {
+                return INVALID;
+            }
+            int _ys = ++_i;
+            _i = skip_digits(_s, _i);
+            if (_i - _ys != 4 || skip_spaces(_s, _i) != _len) {
+                return INVALID;
+            }
+            _year = number(_s, _ys, _i);
+            _zone_offset = 0;
+        }
+        if (_zone_offset == INVALID || _time_at + 8 > _len
+                || _s.charAt(_time_at + 2) != ':' || _s.charAt(_time_at + 5) != ':') {
+            return INVALID;
+        }
+        int _hh = number(_s, _time_at, _time_at + 2);
+        int _mm = number(_s, _time_at + 3, _time_at + 5);
+        int _ss = number(_s, _time_at + 6, _time_at + 8);
+        if (_hh < 0 || _hh > 23 || _mm < 0 || _mm > 59 || _ss < 0 || _ss > 60
+                || _day < 1 || _day > days_in_month(_year, _month)) {
+            return INVALID;
+        }
+        long _days = days_from_civil(_year, _month, _day);
+        return ((((_days * 24) + _hh) * 60 + _mm) * 60 + _ss) * 1000L - _zone_offset;
+    }
+
+    /**
+     * Parses the zone(and checks nothing is left after it).
+     *
+     * @return zone offset in milliseconds, or {@link #INVALID}
+     */
+    private static long zone_offset(String arg_s, int arg_from) {
+        int _len = arg_s.length();
+        if (arg_from >= _len || arg_s.charAt(arg_from) != ' ') {
+            return INVALID;
+        }
+        int _zs = skip_spaces(arg_s, arg_from);
+        int _ze = _zs;
+        while (_ze < _len && arg_s.charAt(_ze) != ' ') {
+            _ze++;
+        }
+        if (skip_spaces(arg_s, _ze) != _len) {
+            return INVALID;
+        }
+        int _zlen = _ze - _zs;
+        if ((_zlen == 3 && (arg_s.regionMatches(true, _zs, "GMT", 0, 3) || arg_s.regionMatches(true, _zs, "UTC", 0, 3)))
+                || (_zlen == 2 && arg_s.regionMatches(true, _zs, "UT", 0, 2))
+                || (_zlen == 1 && (arg_s.charAt(_zs) == 'Z' || arg_s.charAt(_zs) == 'z'))) {
+            return 0;
+        }
+        if (_zlen == 5) {
+            char _sign = arg_s.charAt(_zs);
+            int _h = number(arg_s, _zs + 1, _zs + 3);
+            int _m = number(arg_s, _zs + 3, _zs + 5);
+            if ((_sign == '+' || _sign == '-') && _h >= 0 && _h < 24 && _m >= 0 && _m < 60) {
+                long _off = (_h * 60L + _m) * 60000L;
+                return _sign == '+' ? _off : -_off;
+            }
+        }
+        return INVALID;
+    }
+
+    /**
+     * @return month(1-12) of the three-letter(case-insensitive) name at the
+     * given index, or {@code -1}
+     */
+    private static int month(String arg_s, int arg_at) {
+        if (arg_at + 3 > arg_s.length()) {
+            return -1;
+        }
+        for (int a = 0; a < 12; a++) {
+            if (arg_s.regionMatches(true, arg_at, MONTHS, a * 3, 3)) {
+                return a + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the non-negative number between the given indexes, or
+     * {@code -1} if there is a non-digit char(or out of range)
+     */
+    private static int number(String arg_s, int arg_from, int arg_to) {
+        if (arg_to > arg_s.length()) {
+            return -1;
+        }
+        int _res = 0;
+        for (int a = arg_from; a < arg_to; a++) {
+            char _c = arg_s.charAt(a);
+            if (_c < '0' || _c > '9') {
+                return -1;
+            }
+            _res = _res * 10 + (_c - '0');
+        }
+        return _res;
+    }
+
+    private static int skip_digits(String arg_s, int arg_from) {
+        int _len = arg_s.length();
+        char _c;
+        while (arg_from < _len && (_c = arg_s.charAt(arg_from)) >= '0' && _c <= '9') {
+            arg_from++;
+        }
+        return arg_from;
+    }
+
+    private static int skip_spaces(String arg_s, int arg_from) {
+        int _len = arg_s.length();
+        while (arg_from < _len && arg_s.charAt(arg_from) == ' ') {
+            arg_from++;
+        }
+        return arg_from;
+    }
+
+    private static int days_in_month(int arg_year, int arg_month) {
+        switch (arg_month) {
+            case 2:
+                boolean _leap = (arg_year % 4 == 0) && (arg_year % 100 != 0 || arg_year % 400 == 0);
+                return _leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of the given(proleptic Gregorian) date.
+     */
+    private static long days_from_civil(int arg_year, int arg_month, int arg_day) {
+        long _y = arg_month <= 2 ? arg_year - 1 : arg_year;
+        long _era = (_y >= 0 ? _y : _y - 399) / 400;
+        long _yoe = _y - _era * 400;
+        long _doy = (153 * (arg_month + (arg_month > 2 ? -3 : 9)) + 2) / 5 + arg_day - 1;
+        long _doe = _yoe * 365 + _yoe / 4 - _yoe / 100 + _doy;
+        return _era * 146097 + _doe - 719468;
+    }
+
+    /**
+     * Immutable pair of a date string, and its parsed value.
+     */
+    private static final class Parsed_Date {
+
+        private final String value;
+        private final long millis;
+
+        private Parsed_Date(String arg_value, long arg_millis) {
+            this.value = arg_value;
+            this.millis = arg_millis;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Indexed_HttpServletRequest.java
+Created on: Oct 17, 2026 04:02:37 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Base of compact(offset-table indexed) {@link HttpServletRequest} types,
+ * where strings are kept in one backing store, and materialized on access.
+ * <p>
+ * Headers, and params are addressed by index: each name entry {@code n} has
+ * a list of values, from {@code first_value(n)}, to
+ * {@code first_value(n) + value_count(n)}. Sub-types only provide these
+ * primitives, and this type implements the servlet surface over them.
+ * </p>
+ * <p>
+ * Every accessor materializes its result(strings, cookies, maps,...) on each
+ * call, so nothing is cached, and instances are immutable as long as the
+ * backing store is.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_Snapshot
+ * @see Encoded_HttpServletRequest
+ */
+abstract class Indexed_HttpServletRequest extends Null_HttpServletRequest {
+
+    static final int SC_URI = 0;
+    static final int SC_QUERY = 1;
+    static final int SC_PRINCIPAL = 2;
+    static final int SC_SCHEME = 3;
+    static final int SC_SESSION_ID = 4;
+
+    /**
+     * Number of scalar(single string) values.
+     */
+    static final int SC_COUNT = 5;
+
+    Indexed_HttpServletRequest() {
+    }
+
+    /**
+     * @return number of distinct header names
+     */
+    abstract int header_count();
+
+    /**
+     * @return the case-insensitive hash(as {@link Header_Index#hash(java.lang.String)})
+     * of header name {@code arg_n}
+     */
+    abstract int header_hash(int arg_n);
+
+    /**
+     * @return if header name {@code arg_n} is(case-insensitive) the given
+     * name
+     */
+    abstract boolean header_name_is(int arg_n, String arg_name);
+
+    abstract String header_name(int arg_n);
+
+    abstract int header_first_value(int arg_n);
+
+    abstract int header_value_count(int arg_n);
+
+    abstract String header_value(int arg_v);
+
+    /**
+     * @return number of distinct param names
+     */
+    abstract int param_count();
+
+    /**
+     * @return if param name {@code arg_n} is(case-sensitive) the given name
+     */
+    abstract boolean param_name_is(int arg_n, String arg_name);
+
+    abstract String param_name(int arg_n);
+
+    abstract int param_first_value(int arg_n);
+
+    abstract int param_value_count(int arg_n);
+
+    abstract String param_value(int arg_v);
+
+    /**
+     * @param arg_which one of {@code SC_*} constants
+     * @return the scalar value, could be {@code null}
+     */
+    abstract String scalar(int arg_which);
+
+    /**
+     * @return entry of the given header name(case-insensitive), or
+     * {@code -1}
+     */
+    final int header_entry(String arg_name) {
+        if (arg_name == null) {
+            return -1;
+        }
+        int _h = Header_Index.hash(arg_name);
+        int _count = header_count();
+        for (int a = 0; a < _count; a++) {
+            if (header_hash(a) == _h && header_name_is(a, arg_name)) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return entry of the given param name, or {@code -1}
+     */
+    final int param_entry(String arg_name) {
+        if (arg_name == null) {
+            return -1;
+        }
+        int _count = param_count();
+        for (int a = 0; a < _count; a++) {
+            if (param_name_is(a, arg_name)) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    final List<String> header_list(int arg_n) {
+        int _first = header_first_value(arg_n);
+        int _count = header_value_count(arg_n);
+        ArrayList<String> _res = new ArrayList<>(_count);
+        for (int a = _first; a < _first + _count; a++) {
+            _res.add(header_value(a));
+        }
+        return _res;
+    }
+
+    final String[] param_array(int arg_n) {
+        int _first = param_first_value(arg_n);
+        String[] _res = new String[param_value_count(arg_n)];
+        for (int a = 0; a < _res.length; a++) {
+            _res[a] = param_value(_first + a);
+        }
+        return _res;
+    }
+
+    /*-----------------
+    HttpServletRequest - begin
+    -----------------*/
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Cookies are parsed from the {@code Cookie} header(s) on each call, so
+     * the returned array is not shared.
+     * </p>
+     */
+    @Override
+    public Cookie[] getCookies() {
+        int _e = header_entry(Header_Index.COOKIE);
+        if (_e == -1) {
+            return null;
+        }
+        return Cookie_Index.of(header_list(_e)).cookies(null, false);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IllegalArgumentException if the value related to the header is
+     * not a valid HTTP date
+     * @see HandshakeRequest_HttpServletRequest#getDateHeader(java.lang.String)
+     */
+    @Override
+    public long getDateHeader(String arg_header_name) {
+        String _head_val = getHeader(arg_header_name);
+        if (_head_val == null) {
+            return -1;
+        }
+        long _res = Http_Date_Parser.parse_cached(_head_val);
+        if (_res == Http_Date_Parser.INVALID) {
+            throw new IllegalArgumentException(String.format("Unsupported date format for header value (%s). Expecting an HTTP date(RFC 7231), such as RFC5322 format", _head_val));
+        }
+        return _res;
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Header name is case-insensitive.
+     * </p>
+     */
+    @Override
+    public String getHeader(String arg_header_name) {
+        int _e = header_entry(arg_header_name);
+        if (_e == -1 || header_value_count(_e) == 0) {
+            return null;
+        }
+        return header_value(header_first_value(_e));
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Header name is case-insensitive.
+     * </p>
+     *
+     * @return values of the header, or {@code null} if there is no such
+     * header
+     */
+    @Override
+    public Enumeration<String> getHeaders(String arg_header_name) {
+        int _e = header_entry(arg_header_name);
+        if (_e == -1) {
+            return null;
+        }
+        return Collections.enumeration(header_list(_e));
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        int _count = header_count();
+        ArrayList<String> _res = new ArrayList<>(_count);
+        for (int a = 0; a < _count; a++) {
+            _res.add(header_name(a));
+        }
+        return Collections.enumeration(_res);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getIntHeader(String arg_header_name) {
+        String _head_val = getHeader(arg_header_name);
+        if (_head_val == null) {
+            return -1;
+        }
+        return Integer.parseInt(_head_val);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getLocale()
+     */
+    @Override
+    public Locale getLocale() {
+        List<Locale> _res = locales();
+        return _res.isEmpty() ? Locale.getDefault() : _res.get(0);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @see HandshakeRequest_HttpServletRequest#getLocales()
+     */
+    @Override
+    public Enumeration<Locale> getLocales() {
+        List<Locale> _res = locales();
+        if (_res.isEmpty()) {
+            return Collections.enumeration(Collections.singletonList(Locale.getDefault()));
+        }
+        return Collections.enumeration(_res);
+    }
+
+    private List<Locale> locales() {
+        int _e = header_entry(Header_Index.ACCEPT_LANGUAGE);
+        if (_e == -1) {
+            return Collections.emptyList();
+        }
+        return Accept_Language_Parser.parse_cached(header_list(_e));
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * <b>NOTE: </b> this method returns constant {@code "GET"} value, as RFC
+     * 6455 Section 4.1
+     * </p>
+     */
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getQueryString() {
+        return scalar(SC_QUERY);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * The returned principal only carries the name of the original one.
+     * </p>
+     */
+    @Override
+    public Principal getUserPrincipal() {
+        String _name = scalar(SC_PRINCIPAL);
+        if (_name == null) {
+            return null;
+        }
+        return new Named_Principal(_name);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getRequestURI() {
+        return scalar(SC_URI);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getScheme() {
+        return scalar(SC_SCHEME);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getParameter(String arg_param_name) {
+        int _e = param_entry(arg_param_name);
+        if (_e == -1) {
+            return null;
+        }
+        if (param_value_count(_e) == 0) {
+            return "";
+        }
+        return param_value(param_first_value(_e));
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Enumeration<String> getParameterNames() {
+        int _count = param_count();
+        ArrayList<String> _res = new ArrayList<>(_count);
+        for (int a = 0; a < _count; a++) {
+            _res.add(param_name(a));
+        }
+        return Collections.enumeration(_res);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String[] getParameterValues(String arg_param_name) {
+        int _e = param_entry(arg_param_name);
+        if (_e == -1) {
+            return null;
+        }
+        return param_array(_e);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * A new unmodifiable map is created on each call.
+     * </p>
+     */
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        int _count = param_count();
+        LinkedHashMap<String, String[]> _res = new LinkedHashMap<>((_count * 4) / 3 + 1);
+        for (int a = 0; a < _count; a++) {
+            _res.put(param_name(a), param_array(a));
+        }
+        return Collections.unmodifiableMap(_res);
+    }
+
+    /*-----------------
+    HttpServletRequest - end
+    -----------------*/
+
+    /**
+     * Name-only {@link Principal}.
+     */
+    static final class Named_Principal implements Principal, Serializable {
+
+        private static final long serialVersionUID = 20261017L;
+
+        private final String name;
+
+        Named_Principal(String arg_name) {
+            this.name = arg_name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object arg_obj) {
+            return (arg_obj instanceof Named_Principal) && ((Named_Principal) arg_obj).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
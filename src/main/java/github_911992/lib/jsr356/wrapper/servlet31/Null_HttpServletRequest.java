@@ -10,20 +10,27 @@ Created on: Oct 4, 2020 1:06:47 PM
     @author https://github.com/911992
  
 History:
+    0.2.0(20261017)
+        • Unsupported methods are counted by Wrapper_Metrics(when enabled)
+        • Added lenient mode(isLenient()), returning neutral values instead of throwing
+        • Thrown UnsupportedOperationException exceptions are stackless
     initial version: 0.1.0(20201003)
  */
 package github_911992.lib.jsr356.wrapper.servlet31;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.security.Principal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Locale;
 import java.util.Map;
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
+import javax.servlet.ReadListener;
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
@@ -45,7 +52,19 @@ import javax.servlet.http.Part;
  * </p>
  * <p>
  * None of the methods have been implemnted, and all causes
- * {@link UnsupportedOperationException} exception
+ * {@link UnsupportedOperationException} exception, unless
+ * {@link #isLenient()} is {@code true}, then servlet-spec neutral values are
+ * returned instead(such as {@code null}, {@code -1}, {@code false}, empty
+ * enumerations/collections, an empty input stream, and
+ * {@link Locale#getDefault()}). A few methods whose spec defines a failure
+ * for such case(e.g. {@link #startAsync()}, {@link #changeSessionId()}, and
+ * {@link #login(java.lang.String, java.lang.String)}) throw that failure in
+ * lenient mode.
+ * </p>
+ * <p>
+ * Thrown {@link UnsupportedOperationException} exceptions carry no any
+ * stack trace(the message names the method), so libraries that probe, and
+ * catch them do not pay for a stack trace capture.
  * </p>
  *
  * @author https://github.com/911992
@@ -56,12 +75,43 @@ public class Null_HttpServletRequest implements HttpServletRequest {
     protected Null_HttpServletRequest() {
     }
 
+    /**
+     * Specifies if unsupported methods should return neutral values, rather
+     * than throwing {@link UnsupportedOperationException} exception.
+     * <p>
+     * This impl returns {@code false}(strict).
+     * </p>
+     *
+     * @return {@code true} for lenient mode
+     */
+    protected boolean isLenient() {
+        return false;
+    }
+
+    /**
+     * Counts a call to an unsupported method by {@link Wrapper_Metrics}(when
+     * enabled), and throws(stackless) {@link UnsupportedOperationException}
+     * exception, unless {@link #isLenient()}.
+     *
+     * @param arg_method signature of the unsupported method
+     * @throws UnsupportedOperationException when not lenient
+     */
+    final void unsupported_call(String arg_method) {
+        if (Wrapper_Metrics.ENABLED) {
+            Wrapper_Metrics.INSTANCE.unsupported(arg_method);
+        }
+        if (isLenient() == false) {
+            throw new Unsupported_Exception(arg_method);
+        }
+    }
+
     /**
      * {@inheritDoc }
      */
     @Override
     public String getAuthType() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getAuthType()");
+        return null;
     }
 
     /**
@@ -69,7 +119,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Cookie[] getCookies() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getCookies()");
+        return null;
     }
 
     /**
@@ -77,7 +128,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public long getDateHeader(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getDateHeader(String)");
+        return -1;
     }
 
     /**
@@ -85,7 +137,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getHeader(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getHeader(String)");
+        return null;
     }
 
     /**
@@ -93,7 +146,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Enumeration<String> getHeaders(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getHeaders(String)");
+        return Collections.emptyEnumeration();
     }
 
     /**
@@ -101,7 +155,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Enumeration<String> getHeaderNames() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getHeaderNames()");
+        return Collections.emptyEnumeration();
     }
 
     /**
@@ -109,7 +164,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public int getIntHeader(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getIntHeader(String)");
+        return -1;
     }
 
     /**
@@ -117,7 +173,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getMethod() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getMethod()");
+        return null;
     }
 
     /**
@@ -125,7 +182,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getPathInfo() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getPathInfo()");
+        return null;
     }
 
     /**
@@ -133,7 +191,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getPathTranslated() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getPathTranslated()");
+        return null;
     }
 
     /**
@@ -141,7 +200,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getContextPath() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getContextPath()");
+        return "";
     }
 
     /**
@@ -149,7 +209,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getQueryString() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getQueryString()");
+        return null;
     }
 
     /**
@@ -157,7 +218,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getRemoteUser() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRemoteUser()");
+        return null;
     }
 
     /**
@@ -165,7 +227,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isUserInRole(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isUserInRole(String)");
+        return false;
     }
 
     /**
@@ -173,7 +236,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Principal getUserPrincipal() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getUserPrincipal()");
+        return null;
     }
 
     /**
@@ -181,7 +245,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getRequestedSessionId() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRequestedSessionId()");
+        return null;
     }
 
     /**
@@ -189,7 +254,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getRequestURI() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRequestURI()");
+        return null;
     }
 
     /**
@@ -197,7 +263,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public StringBuffer getRequestURL() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRequestURL()");
+        return null;
     }
 
     /**
@@ -205,7 +272,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getServletPath() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getServletPath()");
+        return "";
     }
 
     /**
@@ -213,7 +281,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public HttpSession getSession(boolean bln) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getSession(boolean)");
+        return null;
     }
 
     /**
@@ -221,7 +290,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public HttpSession getSession() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getSession()");
+        return null;
     }
 
     /**
@@ -229,7 +299,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String changeSessionId() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("changeSessionId()");
+        throw new IllegalStateException("No any session is associated to the request");
     }
 
     /**
@@ -237,7 +308,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isRequestedSessionIdValid() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isRequestedSessionIdValid()");
+        return false;
     }
 
     /**
@@ -245,7 +317,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isRequestedSessionIdFromCookie() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isRequestedSessionIdFromCookie()");
+        return false;
     }
 
     /**
@@ -253,15 +326,18 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isRequestedSessionIdFromURL() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isRequestedSessionIdFromURL()");
+        return false;
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
+    @SuppressWarnings("deprecation")
     public boolean isRequestedSessionIdFromUrl() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isRequestedSessionIdFromUrl()");
+        return false;
     }
 
     /**
@@ -269,7 +345,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean authenticate(HttpServletResponse hsr) throws IOException, ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("authenticate(HttpServletResponse)");
+        return false;
     }
 
     /**
@@ -277,7 +354,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public void login(String string, String string1) throws ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("login(String, String)");
+        throw new ServletException("Login is not supported");
     }
 
     /**
@@ -285,7 +363,7 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public void logout() throws ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("logout()");
     }
 
     /**
@@ -293,7 +371,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Collection<Part> getParts() throws IOException, ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getParts()");
+        return Collections.emptyList();
     }
 
     /**
@@ -301,7 +380,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Part getPart(String string) throws IOException, ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getPart(String)");
+        return null;
     }
 
     /**
@@ -309,7 +389,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public <T extends HttpUpgradeHandler> T upgrade(Class<T> type) throws IOException, ServletException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("upgrade(Class)");
+        throw new ServletException("Upgrade is not supported");
     }
 
     /**
@@ -317,7 +398,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Object getAttribute(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getAttribute(String)");
+        return null;
     }
 
     /**
@@ -325,7 +407,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Enumeration<String> getAttributeNames() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getAttributeNames()");
+        return Collections.emptyEnumeration();
     }
 
     /**
@@ -333,7 +416,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getCharacterEncoding() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getCharacterEncoding()");
+        return null;
     }
 
     /**
@@ -341,7 +425,7 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public void setCharacterEncoding(String string) throws UnsupportedEncodingException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("setCharacterEncoding(String)");
     }
 
     /**
@@ -349,7 +433,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public int getContentLength() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getContentLength()");
+        return -1;
     }
 
     /**
@@ -357,7 +442,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public long getContentLengthLong() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getContentLengthLong()");
+        return -1;
     }
 
     /**
@@ -365,7 +451,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getContentType() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getContentType()");
+        return null;
     }
 
     /**
@@ -373,7 +460,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getInputStream()");
+        return new Empty_ServletInputStream();
     }
 
     /**
@@ -381,7 +469,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getParameter(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getParameter(String)");
+        return null;
     }
 
     /**
@@ -389,7 +478,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Enumeration<String> getParameterNames() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getParameterNames()");
+        return Collections.emptyEnumeration();
     }
 
     /**
@@ -397,7 +487,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String[] getParameterValues(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getParameterValues(String)");
+        return null;
     }
 
     /**
@@ -405,7 +496,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Map<String, String[]> getParameterMap() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getParameterMap()");
+        return Collections.emptyMap();
     }
 
     /**
@@ -413,7 +505,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getProtocol() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getProtocol()");
+        return null;
     }
 
     /**
@@ -421,7 +514,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getScheme() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getScheme()");
+        return null;
     }
 
     /**
@@ -429,7 +523,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getServerName() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getServerName()");
+        return null;
     }
 
     /**
@@ -437,7 +532,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public int getServerPort() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getServerPort()");
+        return -1;
     }
 
     /**
@@ -445,7 +541,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public BufferedReader getReader() throws IOException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getReader()");
+        return new BufferedReader(new StringReader(""));
     }
 
     /**
@@ -453,7 +550,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getRemoteAddr() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRemoteAddr()");
+        return null;
     }
 
     /**
@@ -461,7 +559,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getRemoteHost() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRemoteHost()");
+        return null;
     }
 
     /**
@@ -469,7 +568,7 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public void setAttribute(String string, Object o) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("setAttribute(String, Object)");
     }
 
     /**
@@ -477,7 +576,7 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public void removeAttribute(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("removeAttribute(String)");
     }
 
     /**
@@ -485,7 +584,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Locale getLocale() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getLocale()");
+        return Locale.getDefault();
     }
 
     /**
@@ -493,7 +593,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public Enumeration<Locale> getLocales() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getLocales()");
+        return Collections.enumeration(Collections.singletonList(Locale.getDefault()));
     }
 
     /**
@@ -501,7 +602,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isSecure() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isSecure()");
+        return false;
     }
 
     /**
@@ -509,15 +611,18 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public RequestDispatcher getRequestDispatcher(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRequestDispatcher(String)");
+        return null;
     }
 
     /**
      * {@inheritDoc }
      */
     @Override
+    @SuppressWarnings("deprecation")
     public String getRealPath(String string) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRealPath(String)");
+        return null;
     }
 
     /**
@@ -525,7 +630,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public int getRemotePort() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getRemotePort()");
+        return -1;
     }
 
     /**
@@ -533,7 +639,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getLocalName() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getLocalName()");
+        return null;
     }
 
     /**
@@ -541,7 +648,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public String getLocalAddr() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getLocalAddr()");
+        return null;
     }
 
     /**
@@ -549,7 +657,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public int getLocalPort() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getLocalPort()");
+        return -1;
     }
 
     /**
@@ -557,7 +666,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public ServletContext getServletContext() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getServletContext()");
+        return null;
     }
 
     /**
@@ -565,7 +675,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public AsyncContext startAsync() throws IllegalStateException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("startAsync()");
+        throw new IllegalStateException("Async is not supported");
     }
 
     /**
@@ -573,7 +684,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public AsyncContext startAsync(ServletRequest sr, ServletResponse sr1) throws IllegalStateException {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("startAsync(ServletRequest, ServletResponse)");
+        throw new IllegalStateException("Async is not supported");
     }
 
     /**
@@ -581,7 +693,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isAsyncStarted() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isAsyncStarted()");
+        return false;
     }
 
     /**
@@ -589,7 +702,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public boolean isAsyncSupported() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("isAsyncSupported()");
+        return false;
     }
 
     /**
@@ -597,7 +711,8 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public AsyncContext getAsyncContext() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getAsyncContext()");
+        throw new IllegalStateException("Async is not started");
     }
 
     /**
@@ -605,7 +720,50 @@ public class Null_HttpServletRequest implements HttpServletRequest {
      */
     @Override
     public DispatcherType getDispatcherType() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        unsupported_call("getDispatcherType()");
+        return DispatcherType.REQUEST;
+    }
+
+    /**
+     * Stackless {@link UnsupportedOperationException}.
+     */
+    private static final class Unsupported_Exception extends UnsupportedOperationException {
+
+        private static final long serialVersionUID = 20261017L;
+
+        private Unsupported_Exception(String arg_method) {
+            super("Not supported yet: ".concat(arg_method));
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
     }
 
+    /**
+     * An always-finished(empty) input stream.
+     */
+    private static final class Empty_ServletInputStream extends ServletInputStream {
+
+        @Override
+        public boolean isFinished() {
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener arg_listener) {
+            throw new IllegalStateException("Async is not supported");
+        }
+
+        @Override
+        public int read() throws IOException {
+            return -1;
+        }
+    }
 }
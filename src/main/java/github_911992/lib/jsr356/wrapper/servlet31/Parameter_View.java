@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parameter_View.java
+Created on: Oct 17, 2026 01:56:03 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Optional max params budget
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Servlet-shaped(unmodifiable {@code Map<String, String[]>}) view of
+ * request params, built once from the container-provided
+ * {@code Map<String, List<String>>}.
+ * <p>
+ * Instances are immutable(as long as callers do not modify shared arrays),
+ * and could be shared between threads.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Config#isShareParameterArrays()
+ */
+final class Parameter_View {
+
+    /**
+     * A view with no any param.
+     */
+    static final Parameter_View EMPTY = new Parameter_View(Collections.<String, String[]>emptyMap());
+
+    /**
+     * Unmodifiable, insert-ordered map of params.
+     */
+    private final Map<String, String[]> map;
+
+    private Parameter_View(Map<String, String[]> arg_map) {
+        this.map = arg_map;
+    }
+
+    /**
+     * Creates a view from the given container-provided params.
+     *
+     * @param arg_params params, could be {@code null}
+     * @return the view
+     */
+    static Parameter_View of(Map<String, List<String>> arg_params) {
+        return of(arg_params, Wrapper_Config.UNLIMITED);
+    }
+
+    /**
+     * Creates a view from the given params, within the given budget.
+     *
+     * @param arg_params params, could be {@code null}
+     * @param arg_max_params max number of param values(pairs), or
+     * {@link Wrapper_Config#UNLIMITED}
+     * @return the view
+     * @throws Parse_Limit_Exception if there are more param values than
+     * {@code arg_max_params}
+     */
+    static Parameter_View of(Map<String, List<String>> arg_params, int arg_max_params) {
+        if (arg_params == null || arg_params.isEmpty()) {
+            return EMPTY;
+        }
+        LinkedHashMap<String, String[]> _res = new LinkedHashMap<>(((arg_params.size() * 4) / 3) + 1);
+        long _count = 0;
+        for (Map.Entry<String, List<String>> _e : arg_params.entrySet()) {
+            List<String> _vals = _e.getValue();
+            _count += _vals == null ? 0 : _vals.size();
+            if (arg_max_params != Wrapper_Config.UNLIMITED && _count > arg_max_params) {
+                throw new Parse_Limit_Exception(Parse_Limit.PARAMETERS, arg_max_params);
+            }
+            String[] _arr = _vals == null ? new String[0] : _vals.toArray(new String[_vals.size()]);
+            _res.put(_e.getKey(), _arr);
+        }
+        return new Parameter_View(Collections.unmodifiableMap(_res));
+    }
+
+    /**
+     * @param arg_name param name
+     * @return first value of the param, {@code ""} if the param has no any
+     * value, or {@code null} if there is no such param
+     */
+    String getFirst(String arg_name) {
+        String[] _vals = map.get(arg_name);
+        if (_vals == null) {
+            return null;
+        }
+        if (_vals.length == 0) {
+            return "";
+        }
+        return _vals[0];
+    }
+
+    /**
+     * @param arg_name param name
+     * @param arg_shared if the cached array should be returned as-is
+     * @return values of the param, or {@code null} if there is no such param
+     */
+    String[] getValues(String arg_name, boolean arg_shared) {
+        String[] _vals = map.get(arg_name);
+        if (_vals == null || arg_shared) {
+            return _vals;
+        }
+        return _vals.clone();
+    }
+
+    /**
+     * @return unmodifiable set of param names
+     */
+    Set<String> names() {
+        return map.keySet();
+    }
+
+    /**
+     * @param arg_shared if the cached arrays should be used as-is
+     * @return an unmodifiable map of params, the cached one if
+     * {@code arg_shared} is {@code true}, otherwise a new one with copied
+     * arrays
+     */
+    Map<String, String[]> asMap(boolean arg_shared) {
+        if (arg_shared || map.isEmpty()) {
+            return map;
+        }
+        LinkedHashMap<String, String[]> _res = new LinkedHashMap<>(((map.size() * 4) / 3) + 1);
+        for (Map.Entry<String, String[]> _e : map.entrySet()) {
+            _res.put(_e.getKey(), _e.getValue().clone());
+        }
+        return Collections.unmodifiableMap(_res);
+    }
+}
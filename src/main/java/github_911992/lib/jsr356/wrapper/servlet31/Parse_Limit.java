@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parse_Limit.java
+Created on: Oct 17, 2026 11:58:21 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * Parse budgets of a wrapper(see {@link Wrapper_Config}), a breach of each
+ * is signalled by {@link Parse_Limit_Exception}.
+ *
+ * @author https://github.com/911992
+ * @see Parse_Limit_Exception#getLimit()
+ */
+public enum Parse_Limit {
+    /**
+     * Max number of cookie pairs.
+     *
+     * @see Wrapper_Config#getMaxCookies()
+     */
+    COOKIES,
+    /**
+     * Max total length of {@code Cookie} header value(s).
+     *
+     * @see Wrapper_Config#getMaxCookieBytes()
+     */
+    COOKIE_BYTES,
+    /**
+     * Max number of request params(pairs).
+     *
+     * @see Wrapper_Config#getMaxParameters()
+     */
+    PARAMETERS,
+    /**
+     * Max number of values of one header name.
+     *
+     * @see Wrapper_Config#getMaxHeaderValues()
+     */
+    HEADER_VALUES,
+    /**
+     * Max total length of header names, header values, and the query
+     * string.
+     *
+     * @see Wrapper_Config#getMaxRetainedBytes()
+     */
+    RETAINED_BYTES
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parse_Limit_Exception.java
+Created on: Oct 17, 2026 11:59:47 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * Thrown when a handshake request breaches a parse budget(see
+ * {@link Wrapper_Config}) of a wrapper, while it's being parsed.
+ * <p>
+ * It's cheap to throw: no any stack trace is filled, and the message is
+ * only built when asked. A configurator could catch it(e.g. after
+ * {@link HandshakeRequest_HttpServletRequest#checkParseLimits()}), and
+ * reject the handshake by {@link #getLimit()}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Parse_Limit
+ */
+public class Parse_Limit_Exception extends RuntimeException {
+
+    private static final long serialVersionUID = 20261017L;
+
+    private final Parse_Limit limit;
+
+    private final long max;
+
+    /**
+     * @param arg_limit the breached limit
+     * @param arg_max the configured max of the limit
+     */
+    public Parse_Limit_Exception(Parse_Limit arg_limit, long arg_max) {
+        this.limit = arg_limit;
+        this.max = arg_max;
+    }
+
+    /**
+     * @return the breached limit
+     */
+    public Parse_Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the configured max of the breached limit
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String getMessage() {
+        return "Parse limit " + limit + " exceeded(max: " + max + ")";
+    }
+
+    /**
+     * No any stack trace.
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
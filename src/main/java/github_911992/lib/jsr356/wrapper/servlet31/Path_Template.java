@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Path_Template.java
+Created on: Oct 17, 2026 10:48:33 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled WebSocket endpoint path template(JSR 356 level-1 URI
+ * template, such as {@code /chat/{room}}), matching request paths, and
+ * extracting path params.
+ * <p>
+ * The template is relative to the context path, so a request path is
+ * matched by its trailing segments, and whatever comes before them is the
+ * context path.
+ * </p>
+ * <p>
+ * Templates are compiled once, and kept in a shared cache(see
+ * {@link #of(java.lang.String)}). Instances are immutable.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#setServerEndpointConfig(javax.websocket.server.ServerEndpointConfig)
+ */
+final class Path_Template {
+
+    /**
+     * Max number of cached templates(an app has a few endpoints).
+     */
+    static final int CACHE_MAX = 256;
+
+    private static final ConcurrentHashMap<String, Path_Template> CACHE = new ConcurrentHashMap<>(16);
+
+    /**
+     * The template.
+     */
+    final String template;
+
+    /**
+     * Literal of each segment, or {@code null} for a variable one.
+     */
+    private final String[] literals;
+
+    /**
+     * Variable name of each segment, or {@code null} for a literal one.
+     */
+    private final String[] variables;
+
+    /**
+     * Number of variable segments.
+     */
+    private final int variable_count;
+
+    private Path_Template(String arg_template) {
+        this.template = arg_template;
+        String _t = arg_template.startsWith("/") ? arg_template.substring(1) : arg_template;
+        String[] _segs = _t.isEmpty() ? new String[0] : _t.split("/", -1);
+        this.literals = new String[_segs.length];
+        this.variables = new String[_segs.length];
+        int _vars = 0;
+        for (int a = 0; a < _segs.length; a++) {
+            String _s = _segs[a];
+            if (_s.length() > 2 && _s.charAt(0) == '{' && _s.charAt(_s.length() - 1) == '}') {
+                variables[a] = _s.substring(1, _s.length() - 1);
+                _vars++;
+            } else {
+                literals[a] = _s;
+            }
+        }
+        this.variable_count = _vars;
+    }
+
+    /**
+     * @param arg_template non-{@code null} endpoint path template
+     * @return the(cached) compiled template
+     */
+    static Path_Template of(String arg_template) {
+        Path_Template _res = CACHE.get(arg_template);
+        if (_res == null) {
+            _res = new Path_Template(arg_template);
+            if (CACHE.size() < CACHE_MAX) {
+                CACHE.putIfAbsent(arg_template, _res);
+            }
+        }
+        return _res;
+    }
+
+    /**
+     * Matches the given(raw) request path by the template.
+     *
+     * @param arg_raw_path the raw(not decoded) request path, including the
+     * context path
+     * @return index of the first char of the matched part(which is the
+     * length of the context path), or {@code -1} if not matched
+     */
+    int match(String arg_raw_path) {
+        int _end = arg_raw_path.length();
+        for (int a = literals.length - 1; a >= 0; a--) {
+            int _slash = arg_raw_path.lastIndexOf('/', _end - 1);
+            if (_slash == -1) {
+                return -1;
+            }
+            String _lit = literals[a];
+            if (_lit != null) {
+                if (_end - _slash - 1 != _lit.length() || arg_raw_path.regionMatches(_slash + 1, _lit, 0, _lit.length()) == false) {
+                    return -1;
+                }
+            } else if (_end - _slash - 1 == 0) {
+                /*empty variable segment*/
+                return -1;
+            }
+            _end = _slash;
+        }
+        if (literals.length == 0) {
+            /*root template("/"), matching a trailing slash*/
+            return (_end > 0 && arg_raw_path.charAt(_end - 1) == '/') ? _end - 1 : -1;
+        }
+        return _end;
+    }
+
+    /**
+     * Extracts path params of an already matched path.
+     *
+     * @param arg_raw_path the raw request path
+     * @param arg_at the matched index(see {@link #match(java.lang.String)})
+     * @return unmodifiable, ordered map of decoded path params
+     */
+    Map<String, String> params(String arg_raw_path, int arg_at) {
+        if (variable_count == 0) {
+            return Collections.emptyMap();
+        }
+        LinkedHashMap<String, String> _res = new LinkedHashMap<>((variable_count * 4) / 3 + 1);
+        int _start = arg_at + 1;
+        for (int a = 0; a < literals.length; a++) {
+            int _end = arg_raw_path.indexOf('/', _start);
+            if (_end == -1) {
+                _end = arg_raw_path.length();
+            }
+            if (variables[a] != null) {
+                _res.put(variables[a], decode(arg_raw_path.substring(_start, _end)));
+            }
+            _start = _end + 1;
+        }
+        return Collections.unmodifiableMap(_res);
+    }
+
+    /**
+     * Removes path params(e.g. {@code ;jsessionid=...}) of each segment of
+     * the given path.
+     *
+     * @param arg_path the path
+     * @return the path without any path param
+     */
+    static String strip_path_params(String arg_path) {
+        if (arg_path.indexOf(';') == -1) {
+            return arg_path;
+        }
+        StringBuilder _sb = new StringBuilder(arg_path.length());
+        boolean _in_param = false;
+        for (int a = 0; a < arg_path.length(); a++) {
+            char _c = arg_path.charAt(a);
+            if (_c == ';') {
+                _in_param = true;
+            } else if (_c == '/') {
+                _in_param = false;
+            }
+            if (_in_param == false) {
+                _sb.append(_c);
+            }
+        }
+        return _sb.toString();
+    }
+
+    /**
+     * Percent-decodes(UTF-8) the given path part, {@code +} is kept as-is.
+     *
+     * @param arg_raw the raw path part
+     * @return the decoded one
+     */
+    static String decode(String arg_raw) {
+        int _pct = arg_raw.indexOf('%');
+        if (_pct == -1) {
+            return arg_raw;
+        }
+        ByteArrayOutputStream _out = new ByteArrayOutputStream(arg_raw.length());
+        byte[] _bytes = arg_raw.getBytes(StandardCharsets.UTF_8);
+        for (int a = 0; a < _bytes.length; a++) {
+            byte _b = _bytes[a];
+            if (_b == '%' && a + 2 < _bytes.length) {
+                int _h = Character.digit(_bytes[a + 1], 16);
+                int _l = Character.digit(_bytes[a + 2], 16);
+                if (_h != -1 && _l != -1) {
+                    _out.write((_h << 4) | _l);
+                    a += 2;
+                    continue;
+                }
+            }
+            _out.write(_b);
+        }
+        return new String(_out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Query_String_Parser.java
+Created on: Oct 17, 2026 05:40:02 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Optional max params budget, checked while scanning
+        • Added key(), decoding a raw key for redaction
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming(lazy) parser of a raw query string
+ * ({@code application/x-www-form-urlencoded}, UTF-8).
+ * <p>
+ * Looking up a param scans the query string pair by pair, and only decodes
+ * what is needed: a key with no any escape({@code %}, or {@code +}) is
+ * compared in-place, an escaped key is percent-decoded into a reused
+ * buffer(no any {@code String}), and only values of matched keys are
+ * materialized.
+ * </p>
+ * <p>
+ * Decoding follows what servlet containers do: {@code +} is a space,
+ * {@code %XX} sequences are UTF-8 bytes(a malformed escape is kept as-is),
+ * pairs with an empty name are ignored, and a pair with no any {@code =}
+ * has an empty value.
+ * </p>
+ * <p>
+ * A scan fails with {@link Parse_Limit_Exception} as soon as it passes the
+ * max number of params(if any), so a hostile query string is never scanned
+ * over the limit.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, because of the reused buffers.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Config#isParseQueryString()
+ */
+final class Query_String_Parser {
+
+    private final String query;
+
+    /**
+     * Max number of params, or {@link Wrapper_Config#UNLIMITED}.
+     */
+    private final int max_params;
+
+    /**
+     * Reused buffer of decoded chars.
+     */
+    private char[] chars;
+
+    /**
+     * Reused buffer of percent-decoded bytes(of one escaped sequence).
+     */
+    private byte[] bytes;
+
+    /**
+     * @param arg_query the raw query string(without {@code ?}), could be
+     * {@code null}
+     */
+    Query_String_Parser(String arg_query) {
+        this(arg_query, Wrapper_Config.UNLIMITED);
+    }
+
+    /**
+     * @param arg_query the raw query string(without {@code ?}), could be
+     * {@code null}
+     * @param arg_max_params max number of params(non-empty name pairs), or
+     * {@link Wrapper_Config#UNLIMITED}
+     */
+    Query_String_Parser(String arg_query, int arg_max_params) {
+        this.query = arg_query == null ? "" : arg_query;
+        this.max_params = arg_max_params;
+    }
+
+    /**
+     * @param arg_name param name
+     * @return first value of the param, or {@code null} if there is no such
+     * param
+     */
+    String first(String arg_name) {
+        if (arg_name == null) {
+            return null;
+        }
+        int _len = query.length();
+        int _start = 0;
+        int _count = 0;
+        while (_start < _len) {
+            int _end = pair_end(_start);
+            int _eq = key_end(_start, _end);
+            if (_eq > _start) {
+                check_count(_count++);
+                if (key_is(_start, _eq, arg_name)) {
+                    return value(_eq, _end);
+                }
+            }
+            _start = _end + 1;
+        }
+        return null;
+    }
+
+    /**
+     * @param arg_name param name
+     * @return all values of the param, or {@code null} if there is no such
+     * param
+     */
+    String[] values(String arg_name) {
+        if (arg_name == null) {
+            return null;
+        }
+        ArrayList<String> _res = null;
+        int _len = query.length();
+        int _start = 0;
+        int _count = 0;
+        while (_start < _len) {
+            int _end = pair_end(_start);
+            int _eq = key_end(_start, _end);
+            if (_eq > _start) {
+                check_count(_count++);
+                if (key_is(_start, _eq, arg_name)) {
+                    if (_res == null) {
+                        _res = new ArrayList<>(2);
+                    }
+                    _res.add(value(_eq, _end));
+                }
+            }
+            _start = _end + 1;
+        }
+        return _res == null ? null : _res.toArray(new String[_res.size()]);
+    }
+
+    /**
+     * Counts the params, without decoding any.
+     *
+     * @return number of params(non-empty name pairs)
+     * @throws Parse_Limit_Exception if there are more params than the max
+     */
+    int count() {
+        int _len = query.length();
+        int _start = 0;
+        int _count = 0;
+        while (_start < _len) {
+            int _end = pair_end(_start);
+            if (key_end(_start, _end) > _start) {
+                check_count(_count++);
+            }
+            _start = _end + 1;
+        }
+        return _count;
+    }
+
+    /**
+     * Parses all the params.
+     *
+     * @return unmodifiable, insert-ordered map of all params
+     */
+    Map<String, List<String>> parse_all() {
+        LinkedHashMap<String, List<String>> _res = new LinkedHashMap<>();
+        int _len = query.length();
+        int _start = 0;
+        int _count = 0;
+        while (_start < _len) {
+            int _end = pair_end(_start);
+            int _eq = key_end(_start, _end);
+            if (_eq > _start) {
+                check_count(_count++);
+                String _key = decode(_start, _eq);
+                List<String> _vals = _res.get(_key);
+                if (_vals == null) {
+                    _vals = new ArrayList<>(1);
+                    _res.put(_key, _vals);
+                }
+                _vals.add(value(_eq, _end));
+            }
+            _start = _end + 1;
+        }
+        return Collections.unmodifiableMap(_res);
+    }
+
+    /**
+     * @param arg_count number of params seen before the current one
+     * @throws Parse_Limit_Exception if the current param is over the max
+     */
+    private void check_count(int arg_count) {
+        if (arg_count == max_params) {
+            throw new Parse_Limit_Exception(Parse_Limit.PARAMETERS, max_params);
+        }
+    }
+
+    private int pair_end(int arg_start) {
+        int _amp = query.indexOf('&', arg_start);
+        return _amp == -1 ? query.length() : _amp;
+    }
+
+    /**
+     * @return index of {@code =} of the pair, or the pair end
+     */
+    private int key_end(int arg_start, int arg_end) {
+        for (int a = arg_start; a < arg_end; a++) {
+            if (query.charAt(a) == '=') {
+                return a;
+            }
+        }
+        return arg_end;
+    }
+
+    private String value(int arg_eq, int arg_end) {
+        if (arg_eq >= arg_end - 1) {
+            return "";
+        }
+        return decode(arg_eq + 1, arg_end);
+    }
+
+    /**
+     * Checks if the(raw) key between the given indexes is the given name,
+     * when decoded.
+     */
+    private boolean key_is(int arg_start, int arg_end, String arg_name) {
+        boolean _escaped = false;
+        for (int a = arg_start; a < arg_end; a++) {
+            char _c = query.charAt(a);
+            if (_c == '%' || _c == '+') {
+                _escaped = true;
+                break;
+            }
+        }
+        if (_escaped == false) {
+            int _len = arg_end - arg_start;
+            return _len == arg_name.length() && query.regionMatches(arg_start, arg_name, 0, _len);
+        }
+        int _len = decode_to_buffer(arg_start, arg_end);
+        if (_len != arg_name.length()) {
+            return false;
+        }
+        for (int a = 0; a < _len; a++) {
+            if (chars[a] != arg_name.charAt(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the(raw) key between the given indexes, as it's compared by
+     * lookups({@code +} is a space, and {@code %XX} escapes are UTF-8).
+     *
+     * @return the decoded key
+     */
+    String key(int arg_start, int arg_end) {
+        return decode(arg_start, arg_end);
+    }
+
+    private String decode(int arg_start, int arg_end) {
+        for (int a = arg_start; a < arg_end; a++) {
+            char _c = query.charAt(a);
+            if (_c == '%' || _c == '+') {
+                int _len = decode_to_buffer(arg_start, arg_end);
+                return new String(chars, 0, _len);
+            }
+        }
+        return query.substring(arg_start, arg_end);
+    }
+
+    /**
+     * Percent-decodes the given range into {@link #chars}.
+     *
+     * @return number of decoded chars
+     */
+    private int decode_to_buffer(int arg_start, int arg_end) {
+        int _max = arg_end - arg_start;
+        if (chars == null || chars.length < _max) {
+            chars = new char[Math.max(_max, 64)];
+        }
+        int _out = 0;
+        int _i = arg_start;
+        while (_i < arg_end) {
+            char _c = query.charAt(_i);
+            if (_c == '+') {
+                chars[_out++] = ' ';
+                _i++;
+            } else if (_c == '%' && hex_byte(_i, arg_end) != -1) {
+                /*collecting consecutive escaped bytes*/
+                int _nb = 0;
+                if (bytes == null || bytes.length < _max / 3) {
+                    bytes = new byte[Math.max(_max / 3, 16)];
+                }
+                int _b;
+                while (_i < arg_end && query.charAt(_i) == '%' && (_b = hex_byte(_i, arg_end)) != -1) {
+                    bytes[_nb++] = (byte) _b;
+                    _i += 3;
+                }
+                _out = utf8_decode(bytes, _nb, chars, _out);
+            } else {
+                chars[_out++] = _c;
+                _i++;
+            }
+        }
+        return _out;
+    }
+
+    /**
+     * @return the byte of {@code %XX} escape at the given index, or
+     * {@code -1} if malformed
+     */
+    private int hex_byte(int arg_at, int arg_end) {
+        if (arg_at + 3 > arg_end) {
+            return -1;
+        }
+        int _h = Character.digit(query.charAt(arg_at + 1), 16);
+        int _l = Character.digit(query.charAt(arg_at + 2), 16);
+        if (_h == -1 || _l == -1) {
+            return -1;
+        }
+        return (_h << 4) | _l;
+    }
+
+    /**
+     * Decodes UTF-8 bytes into the given chars, malformed sequences are
+     * replaced by {@code U+FFFD}(one per maximal invalid subpart, same as
+     * {@code new String(bytes, UTF_8)}).
+     *
+     * @return the new chars length
+     */
+    private static int utf8_decode(byte[] arg_bytes, int arg_count, char[] arg_chars, int arg_out) {
+        int _i = 0;
+        while (_i < arg_count) {
+            int _b = arg_bytes[_i] & 0xff;
+            int _need;
+            int _cp;
+            if (_b < 0x80) {
+                arg_chars[arg_out++] = (char) _b;
+                _i++;
+                continue;
+            } else if (_b >= 0xc2 && _b <= 0xdf) {
+                _need = 1;
+                _cp = _b & 0x1f;
+            } else if (_b >= 0xe0 && _b <= 0xef) {
+                _need = 2;
+                _cp = _b & 0x0f;
+            } else if (_b >= 0xf0 && _b <= 0xf4) {
+                _need = 3;
+                _cp = _b & 0x07;
+            } else {
+                arg_chars[arg_out++] = '\uFFFD';
+                _i++;
+                continue;
+            }
+            /*range of the second byte, rejecting overlongs, and code points over U+10FFFF(as RFC 3629)*/
+            int _lo = _b == 0xe0 ? 0xa0 : (_b == 0xf0 ? 0x90 : 0x80);
+            int _hi = _b == 0xf4 ? 0x8f : 0xbf;
+            int _j = 1;
+            while (_j <= _need && _i + _j < arg_count) {
+                int _c = arg_bytes[_i + _j] & 0xff;
+                if (_c < _lo || _c > _hi) {
+                    break;
+                }
+                _cp = (_cp << 6) | (_c & 0x3f);
+                _lo = 0x80;
+                _hi = 0xbf;
+                _j++;
+            }
+            if (_j <= _need || (_cp >= 0xd800 && _cp <= 0xdfff)) {
+                /*the maximal(valid) prefix, or a whole surrogate is replaced by one U+FFFD, as the JDK decoder does*/
+                arg_chars[arg_out++] = '\uFFFD';
+                _i += _j;
+                continue;
+            }
+            if (_cp >= 0x10000) {
+                arg_chars[arg_out++] = Character.highSurrogate(_cp);
+                arg_chars[arg_out++] = Character.lowSurrogate(_cp);
+            } else {
+                arg_chars[arg_out++] = (char) _cp;
+            }
+            _i += _j;
+        }
+        return arg_out;
+    }
+}
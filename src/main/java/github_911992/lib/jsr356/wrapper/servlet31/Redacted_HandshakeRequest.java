@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Redacted_HandshakeRequest.java
+Created on: Oct 17, 2026 11:47:36 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * A redacted copy of a handshake request, as it's recorded by
+ * {@link Handshake_Recorder}.
+ * <p>
+ * Secrets are masked by {@link #MASK} chars of the same length(rather than
+ * being removed), so the recorded traffic keeps its shape(lengths, and
+ * structure) for benchmarking:
+ * </p>
+ * <ul>
+ * <li>values of redacted headers, where only cookie values of a
+ * {@code Cookie} header are masked(names are kept)</li>
+ * <li>values of redacted params(in the param map, and the query string)</li>
+ * <li>path param values(e.g. {@code ;jsessionid=...})</li>
+ * <li>user info of the URI(e.g. {@code user:password@}), if any</li>
+ * <li>the principal name, if asked</li>
+ * </ul>
+ * <p>
+ * No any session is carried. All state is copied on creation.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+final class Redacted_HandshakeRequest implements HandshakeRequest {
+
+    /**
+     * The char masked values are made of.
+     */
+    static final char MASK = 'x';
+
+    private final Map<String, List<String>> headers;
+    private final Map<String, List<String>> parameters;
+    private final URI uri;
+    private final String query;
+    private final Principal principal;
+
+    /**
+     * @param arg_req the handshake request to redact
+     * @param arg_headers names of redacted headers(case-insensitive)
+     * @param arg_params names of redacted params
+     * @param arg_principal if the principal name should be masked
+     */
+    Redacted_HandshakeRequest(HandshakeRequest arg_req, String[] arg_headers, String[] arg_params, boolean arg_principal) {
+        LinkedHashMap<String, List<String>> _heads = new LinkedHashMap<>();
+        Map<String, List<String>> _src = arg_req.getHeaders();
+        if (_src != null) {
+            for (Map.Entry<String, List<String>> _e : _src.entrySet()) {
+                String _name = _e.getKey();
+                List<String> _vals = _e.getValue();
+                if (_name == null || _vals == null) {
+                    continue;
+                }
+                if (contains(arg_headers, _name, true)) {
+                    boolean _cookie = Header_Index.equals_ignore_case(_name, Header_Index.COOKIE);
+                    ArrayList<String> _masked = new ArrayList<>(_vals.size());
+                    for (String _v : _vals) {
+                        _masked.add(_cookie ? mask_cookie_values(_v) : mask(_v));
+                    }
+                    _vals = _masked;
+                }
+                _heads.put(_name, Collections.unmodifiableList(_vals));
+            }
+        }
+        this.headers = Collections.unmodifiableMap(_heads);
+        LinkedHashMap<String, List<String>> _params = new LinkedHashMap<>();
+        Map<String, List<String>> _psrc = arg_req.getParameterMap();
+        if (_psrc != null) {
+            for (Map.Entry<String, List<String>> _e : _psrc.entrySet()) {
+                List<String> _vals = _e.getValue();
+                if (_vals != null && contains(arg_params, _e.getKey(), false)) {
+                    ArrayList<String> _masked = new ArrayList<>(_vals.size());
+                    for (String _v : _vals) {
+                        _masked.add(mask(_v));
+                    }
+                    _vals = _masked;
+                }
+                _params.put(_e.getKey(), _vals == null ? null : Collections.unmodifiableList(_vals));
+            }
+        }
+        this.parameters = Collections.unmodifiableMap(_params);
+        this.query = mask_query(arg_req.getQueryString(), arg_params);
+        this.uri = redact_uri(arg_req.getRequestURI(), query);
+        Principal _p = arg_req.getUserPrincipal();
+        if (_p != null && arg_principal) {
+            final String _name = mask(_p.getName());
+            _p = new Principal() {
+                @Override
+                public String getName() {
+                    return _name;
+                }
+            };
+        }
+        this.principal = _p;
+    }
+
+    private static boolean contains(String[] arg_names, String arg_name, boolean arg_ignore_case) {
+        if (arg_name == null) {
+            return false;
+        }
+        for (int a = 0; a < arg_names.length; a++) {
+            if (arg_ignore_case ? Header_Index.equals_ignore_case(arg_names[a], arg_name) : arg_names[a].equals(arg_name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a same-length string of {@link #MASK} chars, or {@code null}
+     */
+    static String mask(String arg_val) {
+        if (arg_val == null) {
+            return null;
+        }
+        char[] _res = new char[arg_val.length()];
+        Arrays.fill(_res, MASK);
+        return new String(_res);
+    }
+
+    /**
+     * Masks cookie values of the given {@code Cookie} header value, keeping
+     * names, separators, quotes, and white-spaces.
+     */
+    static String mask_cookie_values(String arg_val) {
+        if (arg_val == null) {
+            return null;
+        }
+        char[] _res = arg_val.toCharArray();
+        boolean _in_value = false;
+        for (int a = 0; a < _res.length; a++) {
+            char _c = _res[a];
+            if (_c == ';') {
+                _in_value = false;
+            } else if (_in_value) {
+                if (_c != '"' && _c != ' ' && _c != '\t') {
+                    _res[a] = MASK;
+                }
+            } else if (_c == '=') {
+                _in_value = true;
+            }
+        }
+        return new String(_res);
+    }
+
+    /**
+     * Masks(raw) values of the given params in the given query string.<br>
+     * Keys are decoded(as {@link Query_String_Parser} does) before being
+     * compared, so an escaped key(e.g. {@code access%5Ftoken}) is masked
+     * too.
+     */
+    static String mask_query(String arg_query, String[] arg_params) {
+        if (arg_query == null || arg_params.length == 0) {
+            return arg_query;
+        }
+        Query_String_Parser _keys = new Query_String_Parser(arg_query);
+        char[] _res = arg_query.toCharArray();
+        int _start = 0;
+        while (_start < _res.length) {
+            int _end = arg_query.indexOf('&', _start);
+            if (_end == -1) {
+                _end = _res.length;
+            }
+            int _eq = arg_query.indexOf('=', _start);
+            if (_eq != -1 && _eq < _end && contains(arg_params, _keys.key(_start, _eq), false)) {
+                for (int a = _eq + 1; a < _end; a++) {
+                    _res[a] = MASK;
+                }
+            }
+            _start = _end + 1;
+        }
+        return new String(_res);
+    }
+
+    /**
+     * Masks path param values of the given raw path.
+     */
+    static String mask_path_params(String arg_path) {
+        if (arg_path == null || arg_path.indexOf(';') == -1) {
+            return arg_path;
+        }
+        char[] _res = arg_path.toCharArray();
+        boolean _in_value = false;
+        boolean _in_param = false;
+        for (int a = 0; a < _res.length; a++) {
+            char _c = _res[a];
+            if (_c == '/') {
+                _in_param = false;
+                _in_value = false;
+            } else if (_c == ';') {
+                _in_param = true;
+                _in_value = false;
+            } else if (_in_value) {
+                _res[a] = MASK;
+            } else if (_in_param && _c == '=') {
+                _in_value = true;
+            }
+        }
+        return new String(_res);
+    }
+
+    private static URI redact_uri(URI arg_uri, String arg_query) {
+        if (arg_uri == null) {
+            return null;
+        }
+        StringBuilder _sb = new StringBuilder(64);
+        if (arg_uri.getScheme() != null) {
+            _sb.append(arg_uri.getScheme()).append(':');
+        }
+        String _auth = arg_uri.getRawAuthority();
+        if (_auth != null) {
+            /*user info is whatever before the(last) @, even if the authority is not server-based*/
+            int _at = _auth.lastIndexOf('@');
+            _sb.append("//");
+            if (_at != -1) {
+                _sb.append(mask(_auth.substring(0, _at)));
+            }
+            _sb.append(_auth, Math.max(_at, 0), _auth.length());
+        }
+        if (arg_uri.getRawPath() != null) {
+            _sb.append(mask_path_params(arg_uri.getRawPath()));
+        }
+        if (arg_query != null) {
+            _sb.append('?').append(arg_query);
+        }
+        try {
+            return new URI(_sb.toString());
+        } catch (URISyntaxException e) {
+            /*could not happen, as only valid chars are masked by valid ones*/
+            return null;
+        }
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public URI getRequestURI() {
+        return uri;
+    }
+
+    /**
+     * Roles are not recorded.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isUserInRole(String arg_role) {
+        return false;
+    }
+
+    /**
+     * Sessions are not recorded.
+     *
+     * @return {@code null}
+     */
+    @Override
+    public Object getHttpSession() {
+        return null;
+    }
+
+    @Override
+    public Map<String, List<String>> getParameterMap() {
+        return parameters;
+    }
+
+    @Override
+    public String getQueryString() {
+        return query;
+    }
+}
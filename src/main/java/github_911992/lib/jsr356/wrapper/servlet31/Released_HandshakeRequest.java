@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Released_HandshakeRequest.java
+Created on: Oct 17, 2026 02:31:45 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * A poison {@link HandshakeRequest}, set to wrappers released to a
+ * {@link Wrapper_Pool} in debug mode.
+ * <p>
+ * Since all cached state of a released wrapper is cleared, any(handshake
+ * related) access to a released wrapper ends up here, and results an
+ * {@link IllegalStateException}.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Pool#isDebug()
+ */
+final class Released_HandshakeRequest implements HandshakeRequest {
+
+    static final Released_HandshakeRequest INSTANCE = new Released_HandshakeRequest();
+
+    private Released_HandshakeRequest() {
+    }
+
+    private static IllegalStateException used_after_release() {
+        return new IllegalStateException("The wrapper has been released to its pool, and must not be used anymore");
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        throw used_after_release();
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        throw used_after_release();
+    }
+
+    @Override
+    public URI getRequestURI() {
+        throw used_after_release();
+    }
+
+    @Override
+    public boolean isUserInRole(String arg_role) {
+        throw used_after_release();
+    }
+
+    @Override
+    public Object getHttpSession() {
+        throw used_after_release();
+    }
+
+    @Override
+    public Map<String, List<String>> getParameterMap() {
+        throw used_after_release();
+    }
+
+    @Override
+    public String getQueryString() {
+        throw used_after_release();
+    }
+
+}
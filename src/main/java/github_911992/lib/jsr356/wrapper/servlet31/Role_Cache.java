@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Role_Cache.java
+Created on: Oct 17, 2026 11:34:10 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * A bounded, concurrent cache of {@code isUserInRole()} decisions, to be
+ * shared by wrappers.
+ * <p>
+ * With a JAAS/LDAP-backed realm, each
+ * {@link HandshakeRequest#isUserInRole(java.lang.String)} call may be a
+ * directory round-trip. When a cache is set(see
+ * {@link Wrapper_Config#setRoleCache(github_911992.lib.jsr356.wrapper.servlet31.Role_Cache)}),
+ * decisions are kept per principal name, for a TTL, so repeated checks(of
+ * the same user, by many handshakes) hit the cache instead.
+ * </p>
+ * <p>
+ * Roles are registered once(the vocabulary, up to {@link #MAX_ROLES}), and
+ * decisions of a principal are kept as two bitsets over the vocabulary(a
+ * checked set, and a granted set), so an entry is a few words regardless of
+ * the number of roles. Checks of unregistered roles, and requests with no
+ * any principal are not cached(bypassed).
+ * </p>
+ * <p>
+ * Entries are spread over stripes(by principal name), each stripe is a
+ * small LRU map guarded by its own lock, so the cache never grows beyond
+ * its capacity, and threads rarely contend. An entry expires a TTL after
+ * its first decision. A decision made(by the realm) while an invalidation is
+ * in progress is not cached, so an invalidation is never undone by a stale
+ * decision.
+ * </p>
+ * <p>
+ * <b>Note:</b> principals are identified by name only, so a cache must not
+ * be shared between endpoints of different realms.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#isUserInRole(java.lang.String)
+ */
+public final class Role_Cache {
+
+    /**
+     * Max number of registered roles.
+     */
+    public static final int MAX_ROLES = 64;
+
+    /**
+     * Max number of stripes.
+     */
+    private static final int STRIPES_MAX = 16;
+
+    /**
+     * Registered role, to its bit index.
+     */
+    private final Map<String, Integer> role_bits;
+
+    private final List<String> roles;
+
+    private final int capacity;
+
+    private final long ttl_nanos;
+
+    private final Stripe[] stripes;
+
+    /**
+     * Incremented(before) each invalidation, a decision is cached only if
+     * no any invalidation has started while it was being made.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Striped_Counter hits = new Striped_Counter();
+    private final Striped_Counter misses = new Striped_Counter();
+    private final Striped_Counter bypasses = new Striped_Counter();
+    private final Striped_Counter evictions = new Striped_Counter();
+
+    /**
+     * @param arg_roles the role vocabulary(duplicates are ignored)
+     * @param arg_capacity max number of cached principals
+     * @param arg_ttl how long decisions of a principal are kept
+     * @param arg_unit unit of {@code arg_ttl}
+     * @throws IllegalArgumentException if there is no any, or more than
+     * {@link #MAX_ROLES} roles, a role is {@code null}, or the capacity, or
+     * TTL is not positive
+     */
+    public Role_Cache(Collection<String> arg_roles, int arg_capacity, long arg_ttl, TimeUnit arg_unit) {
+        if (arg_capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid capacity(%d)", arg_capacity));
+        }
+        if (arg_ttl <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid TTL(%d)", arg_ttl));
+        }
+        HashMap<String, Integer> _bits = new HashMap<>();
+        ArrayList<String> _roles = new ArrayList<>(arg_roles.size());
+        for (String _r : arg_roles) {
+            if (_r == null) {
+                throw new IllegalArgumentException("Role must not be null");
+            }
+            if (_bits.containsKey(_r) == false) {
+                _bits.put(_r, _roles.size());
+                _roles.add(_r);
+            }
+        }
+        if (_roles.isEmpty() || _roles.size() > MAX_ROLES) {
+            throw new IllegalArgumentException(String.format("Invalid number of roles(%d), expecting 1 to %d", _roles.size(), MAX_ROLES));
+        }
+        this.role_bits = _bits;
+        this.roles = Collections.unmodifiableList(_roles);
+        this.capacity = arg_capacity;
+        this.ttl_nanos = arg_unit.toNanos(arg_ttl);
+        int _count = Math.min(STRIPES_MAX, Integer.highestOneBit(arg_capacity));
+        /*the remainder is spread over first stripes, so stripes sum up to the capacity*/
+        int _per_stripe = arg_capacity / _count;
+        int _rem = arg_capacity % _count;
+        this.stripes = new Stripe[_count];
+        for (int a = 0; a < _count; a++) {
+            stripes[a] = new Stripe(a < _rem ? _per_stripe + 1 : _per_stripe, evictions);
+        }
+    }
+
+    /**
+     * Returns the(cached) decision of the given role, for principal of the
+     * given request, asking the request(the realm) on a miss.
+     *
+     * @param arg_req the handshake request
+     * @param arg_role the role name
+     * @return the {@code isUserInRole()} decision
+     */
+    public boolean isUserInRole(HandshakeRequest arg_req, String arg_role) {
+        Integer _idx = arg_role == null ? null : role_bits.get(arg_role);
+        Principal _principal = _idx == null ? null : arg_req.getUserPrincipal();
+        String _name = _principal == null ? null : _principal.getName();
+        if (_name == null) {
+            bypasses.increment();
+            return arg_req.isUserInRole(arg_role);
+        }
+        long _bit = 1L << _idx;
+        Stripe _stripe = stripe(_name);
+        long _now = System.nanoTime();
+        Decisions _e;
+        synchronized (_stripe) {
+            _e = _stripe.get(_name);
+        }
+        if (_e != null && _now - _e.expires_at < 0 && (_e.checked & _bit) != 0) {
+            hits.increment();
+            return (_e.granted & _bit) != 0;
+        }
+        misses.increment();
+        long _gen = generation.get();
+        boolean _res = arg_req.isUserInRole(arg_role);
+        synchronized (_stripe) {
+            if (generation.get() == _gen) {
+                Decisions _cur = _stripe.get(_name);
+                if (_cur == null || _now - _cur.expires_at >= 0) {
+                    _cur = new Decisions(_bit, _res ? _bit : 0, _now + ttl_nanos);
+                } else {
+                    _cur = new Decisions(_cur.checked | _bit, _res ? (_cur.granted | _bit) : (_cur.granted & ~_bit), _cur.expires_at);
+                }
+                _stripe.put(_name, _cur);
+            }
+        }
+        return _res;
+    }
+
+    /**
+     * Removes all decisions of the given principal, e.g. when its roles are
+     * changed, or it's logged out.
+     *
+     * @param arg_principal_name the principal name
+     */
+    public void invalidate(String arg_principal_name) {
+        if (arg_principal_name == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        Stripe _stripe = stripe(arg_principal_name);
+        synchronized (_stripe) {
+            _stripe.remove(arg_principal_name);
+        }
+    }
+
+    /**
+     * Removes decisions of the given role, for all principals, e.g. when
+     * the role is changed in the realm.
+     *
+     * @param arg_role the role name, an unregistered role is ignored
+     */
+    public void invalidateRole(String arg_role) {
+        Integer _idx = arg_role == null ? null : role_bits.get(arg_role);
+        if (_idx == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        long _keep = ~(1L << _idx);
+        for (int a = 0; a < stripes.length; a++) {
+            Stripe _stripe = stripes[a];
+            synchronized (_stripe) {
+                for (Map.Entry<String, Decisions> _me : _stripe.entrySet()) {
+                    Decisions _e = _me.getValue();
+                    _me.setValue(new Decisions(_e.checked & _keep, _e.granted & _keep, _e.expires_at));
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all decisions.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        for (int a = 0; a < stripes.length; a++) {
+            Stripe _stripe = stripes[a];
+            synchronized (_stripe) {
+                _stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * @return unmodifiable list of registered roles
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * @return max number of cached principals
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return TTL of decisions, in milliseconds
+     */
+    public long getTtlMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ttl_nanos);
+    }
+
+    /**
+     * @return number of currently cached principals(including expired ones
+     * not evicted yet)
+     */
+    public int size() {
+        int _res = 0;
+        for (int a = 0; a < stripes.length; a++) {
+            Stripe _stripe = stripes[a];
+            synchronized (_stripe) {
+                _res += _stripe.size();
+            }
+        }
+        return _res;
+    }
+
+    /**
+     * @return number of checks resolved by the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of checks delegated to the request(realm), and cached
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of checks not cachable(no any principal, or an
+     * unregistered role), delegated as-is
+     */
+    public long getBypasses() {
+        return bypasses.sum();
+    }
+
+    /**
+     * @return number of principals evicted because of the capacity
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Resets the counters.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        bypasses.reset();
+        evictions.reset();
+    }
+
+    private Stripe stripe(String arg_name) {
+        int _h = arg_name.hashCode();
+        return stripes[(_h ^ (_h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Immutable decisions of a principal.
+     */
+    private static final class Decisions {
+
+        /**
+         * Bits of checked(decided) roles.
+         */
+        final long checked;
+
+        /**
+         * Bits of granted roles, a subset of {@link #checked}.
+         */
+        final long granted;
+
+        /**
+         * {@link System#nanoTime()} the entry expires at.
+         */
+        final long expires_at;
+
+        Decisions(long arg_checked, long arg_granted, long arg_expires_at) {
+            this.checked = arg_checked;
+            this.granted = arg_granted;
+            this.expires_at = arg_expires_at;
+        }
+    }
+
+    /**
+     * An access-ordered(LRU) map of principal entries, guarded by itself.
+     */
+    private static final class Stripe extends LinkedHashMap<String, Decisions> {
+
+        private static final long serialVersionUID = 20261017L;
+
+        private final int max;
+
+        private final transient Striped_Counter evictions;
+
+        Stripe(int arg_max, Striped_Counter arg_evictions) {
+            super(16, 0.75f, true);
+            this.max = arg_max;
+            this.evictions = arg_evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Decisions> arg_eldest) {
+            if (size() > max) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
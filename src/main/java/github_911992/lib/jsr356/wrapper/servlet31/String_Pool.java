@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: String_Pool.java
+Created on: Oct 17, 2026 07:35:58 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, concurrent, and lock-free string deduplication pool, to be
+ * shared by wrappers.
+ * <p>
+ * Many handshakes carry the very same header names, and values(such as
+ * {@code User-Agent}, {@code Origin}, {@code Accept-Language}), and cookie
+ * names. When a pool is set(see {@link Wrapper_Config#setStringPool(github_911992.lib.jsr356.wrapper.servlet31.String_Pool)}),
+ * wrappers keep the pooled instance of such strings, rather than their own
+ * copy, so long-lived(retained) wrappers share one instance per distinct
+ * value.
+ * </p>
+ * <p>
+ * The pool is a direct-mapped table(each string has exactly one slot, by
+ * its hash). A miss replaces the slot, so the pool never grows beyond its
+ * capacity, and hostile unique values could only evict entries, not grow
+ * the heap. Strings longer than {@link #getMaxLength()} are not pooled at
+ * all(rejected).
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Config#setStringPool(github_911992.lib.jsr356.wrapper.servlet31.String_Pool)
+ */
+public final class String_Pool {
+
+    /**
+     * Default value of {@link #getMaxLength()}.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 256;
+
+    private final AtomicReferenceArray<String> table;
+
+    private final int mask;
+
+    private final int max_length;
+
+    private final Striped_Counter hits = new Striped_Counter();
+    private final Striped_Counter misses = new Striped_Counter();
+    private final Striped_Counter rejects = new Striped_Counter();
+
+    /**
+     * Same as {@link #String_Pool(int, int)}, with
+     * {@link #DEFAULT_MAX_LENGTH}.
+     *
+     * @param arg_capacity max number of pooled strings(rounded up to a power
+     * of two)
+     */
+    public String_Pool(int arg_capacity) {
+        this(arg_capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param arg_capacity max number of pooled strings(rounded up to a power
+     * of two)
+     * @param arg_max_length max length of a poolable string
+     * @throws IllegalArgumentException if the capacity is not positive, or
+     * the max length is negative
+     */
+    public String_Pool(int arg_capacity, int arg_max_length) {
+        if (arg_capacity <= 0 || arg_capacity > (1 << 30)) {
+            throw new IllegalArgumentException(String.format("Invalid capacity(%d)", arg_capacity));
+        }
+        if (arg_max_length < 0) {
+            throw new IllegalArgumentException(String.format("Invalid max length(%d)", arg_max_length));
+        }
+        int _size = Integer.highestOneBit(arg_capacity * 2 - 1);
+        this.table = new AtomicReferenceArray<>(Math.max(_size, 1));
+        this.mask = table.length() - 1;
+        this.max_length = arg_max_length;
+    }
+
+    /**
+     * Returns the pooled instance equal to the given string, or pools the
+     * given one.
+     *
+     * @param arg_str the string, could be {@code null}
+     * @return the pooled equal instance, or the given string
+     */
+    public String dedup(String arg_str) {
+        if (arg_str == null) {
+            return null;
+        }
+        if (arg_str.length() > max_length) {
+            rejects.increment();
+            return arg_str;
+        }
+        int _h = arg_str.hashCode();
+        int _slot = (_h ^ (_h >>> 16)) & mask;
+        String _cur = table.get(_slot);
+        if (_cur != null && (_cur == arg_str || (_cur.hashCode() == _h && _cur.equals(arg_str)))) {
+            hits.increment();
+            return _cur;
+        }
+        misses.increment();
+        table.lazySet(_slot, arg_str);
+        return arg_str;
+    }
+
+    /**
+     * @return number of slots(max number of pooled strings)
+     */
+    public int getCapacity() {
+        return table.length();
+    }
+
+    /**
+     * @return max length of a poolable string
+     */
+    public int getMaxLength() {
+        return max_length;
+    }
+
+    /**
+     * @return number of lookups resolved to an already pooled instance
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups, which pooled the given string
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of strings not pooled, because of their length
+     */
+    public long getRejects() {
+        return rejects.sum();
+    }
+
+    /**
+     * Removes all pooled strings, and resets the counters.
+     */
+    public void clear() {
+        for (int a = 0; a < table.length(); a++) {
+            table.set(a, null);
+        }
+        hits.reset();
+        misses.reset();
+        rejects.reset();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Striped_Counter.java
+Created on: Oct 17, 2026 07:42:26 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A low-contention counter, for counting on hot paths by many threads.
+ * <p>
+ * Same idea as Java 8 {@code LongAdder}(which is not available at the
+ * source level of this lib): each thread adds to one of a few cells(picked
+ * by thread id), and cells are padded apart(one per cache line), so threads
+ * rarely contend on, or false-share a cell. Reading the sum is not atomic
+ * regarding concurrent adds.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+final class Striped_Counter {
+
+    /**
+     * Distance(in {@code long}s) between two cells, 128 bytes.
+     */
+    private static final int PAD = 16;
+
+    /**
+     * Number of cells, a power of two.
+     */
+    private static final int CELLS;
+
+    static {
+        int _cpus = Runtime.getRuntime().availableProcessors();
+        CELLS = Math.min(Integer.highestOneBit(Math.max(_cpus, 1) * 2 - 1) << 1, 64);
+    }
+
+    private final AtomicLongArray cells = new AtomicLongArray(CELLS * PAD);
+
+    Striped_Counter() {
+    }
+
+    private static int cell() {
+        long _id = Thread.currentThread().getId();
+        return (int) ((_id ^ (_id >>> 16)) & (CELLS - 1)) * PAD;
+    }
+
+    void increment() {
+        cells.getAndIncrement(cell());
+    }
+
+    void add(long arg_val) {
+        cells.getAndAdd(cell(), arg_val);
+    }
+
+    long sum() {
+        long _res = 0;
+        for (int a = 0; a < CELLS; a++) {
+            _res += cells.get(a * PAD);
+        }
+        return _res;
+    }
+
+    void reset() {
+        for (int a = 0; a < CELLS; a++) {
+            cells.set(a * PAD, 0);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Subprotocol_Matcher.java
+Created on: Oct 17, 2026 09:04:49 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.websocket.server.ServerEndpointConfig;
+
+/**
+ * Picks the subprotocol of a handshake, among subprotocols supported by an
+ * endpoint, with no any allocation.
+ * <p>
+ * Supported subprotocols are hashed once(when the matcher is created), so
+ * a matcher is supposed to be created once per endpoint, and kept(e.g. as a
+ * field of the endpoint's {@code ServerEndpointConfig.Configurator}).
+ * Matching scans the raw {@code Sec-WebSocket-Protocol} header value(s) in
+ * place, hashing each requested token while scanning, and looks it up in the
+ * hash table: no any split, trim, or substring.
+ * </p>
+ * <p>
+ * As JSR 356 default behavior, the first requested subprotocol(client's
+ * order) that is supported is picked, and names are case-sensitive.
+ * </p>
+ * <p>
+ * Instances are immutable, and could be shared between threads.
+ * </p>
+ * Sample usage:
+ * <pre>{@code
+ * private final Subprotocol_Matcher matcher = new Subprotocol_Matcher("v3.chat", "v2.chat");
+ *
+ * public String getNegotiatedSubprotocol(List<String> arg_supported, List<String> arg_requested) {
+ *     return matcher.match(arg_requested);
+ * }
+ * }</pre>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getWebsocketProtocols()
+ */
+public final class Subprotocol_Matcher {
+
+    /**
+     * Supported subprotocols, in the given order, with no any duplicate.
+     */
+    private final String[] supported;
+
+    /**
+     * {@code String} hash of each {@link #supported} element.
+     */
+    private final int[] hashes;
+
+    /**
+     * Open-addressing table of {@code index + 1} of {@link #supported}
+     * elements, {@code 0} means an empty slot.
+     */
+    private final int[] table;
+
+    /**
+     * @param arg_supported supported subprotocols, {@code null}, and empty
+     * elements are ignored
+     */
+    public Subprotocol_Matcher(String... arg_supported) {
+        ArrayList<String> _sup = new ArrayList<>(arg_supported == null ? 0 : arg_supported.length);
+        if (arg_supported != null) {
+            for (int a = 0; a < arg_supported.length; a++) {
+                String _s = arg_supported[a];
+                if (_s != null && _s.isEmpty() == false && _sup.contains(_s) == false) {
+                    _sup.add(_s);
+                }
+            }
+        }
+        this.supported = _sup.toArray(new String[_sup.size()]);
+        this.hashes = new int[supported.length];
+        int _cap = 4;
+        while (_cap < supported.length * 2) {
+            _cap <<= 1;
+        }
+        this.table = new int[_cap];
+        for (int a = 0; a < supported.length; a++) {
+            int _h = supported[a].hashCode();
+            hashes[a] = _h;
+            int _i = spread(_h) & (_cap - 1);
+            while (table[_i] != 0) {
+                _i = (_i + 1) & (_cap - 1);
+            }
+            table[_i] = a + 1;
+        }
+    }
+
+    /**
+     * @param arg_supported supported subprotocols, {@code null}, and empty
+     * elements are ignored
+     */
+    public Subprotocol_Matcher(List<String> arg_supported) {
+        this(arg_supported == null ? null : arg_supported.toArray(new String[arg_supported.size()]));
+    }
+
+    /**
+     * Creates a matcher of subprotocols supported by the given endpoint.
+     *
+     * @param arg_endpoint_config the endpoint config
+     * @return a new matcher, supposed to be kept, and reused for all
+     * handshakes of the endpoint
+     */
+    public static Subprotocol_Matcher of(ServerEndpointConfig arg_endpoint_config) {
+        return new Subprotocol_Matcher(arg_endpoint_config.getSubprotocols());
+    }
+
+    /**
+     * @return unmodifiable list of supported subprotocols
+     */
+    public List<String> getSupported() {
+        return Collections.unmodifiableList(Arrays.asList(supported));
+    }
+
+    /**
+     * Picks the first requested subprotocol that is supported.
+     * <p>
+     * Each element of the given list could be a single subprotocol(as
+     * containers pass to {@code getNegotiatedSubprotocol()}), or a
+     * comma-separated list(as a raw header value).
+     * </p>
+     *
+     * @param arg_requested requested subprotocols, or raw
+     * {@code Sec-WebSocket-Protocol} header values, could be {@code null}
+     * @return the(supported instance of) picked subprotocol, or {@code ""}
+     * if there is no any, as
+     * {@code ServerEndpointConfig.Configurator#getNegotiatedSubprotocol()}
+     * expects
+     */
+    public String match(List<String> arg_requested) {
+        if (arg_requested == null || supported.length == 0) {
+            return "";
+        }
+        for (int a = 0; a < arg_requested.size(); a++) {
+            String _res = match_value(arg_requested.get(a));
+            if (_res != null) {
+                return _res;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Picks the first subprotocol requested by the given wrapped handshake,
+     * that is supported.
+     *
+     * @param arg_request the wrapped handshake
+     * @return the(supported instance of) picked subprotocol, or {@code ""}
+     * if there is no any
+     * @see #match(java.util.List)
+     */
+    public String match(HandshakeRequest_HttpServletRequest arg_request) {
+        return match(arg_request.header_index().get(Header_Index.SEC_WEBSOCKET_PROTOCOL));
+    }
+
+    /**
+     * @return the first supported subprotocol of the given(raw,
+     * comma-separated) value, or {@code null}
+     */
+    private String match_value(String arg_value) {
+        if (arg_value == null) {
+            return null;
+        }
+        int _len = arg_value.length();
+        int _i = 0;
+        while (_i < _len) {
+            char _c = arg_value.charAt(_i);
+            if (_c == ',' || _c == ' ' || _c == '\t') {
+                _i++;
+                continue;
+            }
+            int _start = _i;
+            int _end = _i;
+            int _h = 0;
+            /*hashing while scanning, trailing white-spaces are excluded by _end*/
+            int _th = 0;
+            while (_i < _len && (_c = arg_value.charAt(_i)) != ',') {
+                _th = 31 * _th + _c;
+                _i++;
+                if (_c != ' ' && _c != '\t') {
+                    _end = _i;
+                    _h = _th;
+                }
+            }
+            String _res = find(arg_value, _start, _end, _h);
+            if (_res != null) {
+                return _res;
+            }
+        }
+        return null;
+    }
+
+    private String find(String arg_str, int arg_start, int arg_end, int arg_hash) {
+        int _len = arg_end - arg_start;
+        int _mask = table.length - 1;
+        int _i = spread(arg_hash) & _mask;
+        int _e;
+        while ((_e = table[_i]) != 0) {
+            String _s = supported[_e - 1];
+            if (hashes[_e - 1] == arg_hash && _s.length() == _len && arg_str.regionMatches(arg_start, _s, 0, _len)) {
+                return _s;
+            }
+            _i = (_i + 1) & _mask;
+        }
+        return null;
+    }
+
+    private static int spread(int arg_hash) {
+        return arg_hash ^ (arg_hash >>> 16);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Url_Pattern.java
+Created on: Oct 17, 2026 09:24:40 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * A servlet URL pattern(Servlet 3.1 Section 12.2), as used by filter
+ * mappings.
+ * <p>
+ * Supported patterns are: exact({@code /a/b}), path-prefix({@code /a/*}),
+ * extension({@code *.ext}), match-all({@code /*}, or the default
+ * {@code /}), and the context root({@code ""}).
+ * </p>
+ * <p>
+ * A pattern could be resolved against a(WebSocket endpoint) path template
+ * once(see {@link #against_template(java.lang.String)}), so only patterns
+ * depending on the template's variable segments need to be checked per
+ * request.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Handshake_Filters
+ */
+final class Url_Pattern {
+
+    static final byte ALL = 0;
+    static final byte EXACT = 1;
+    static final byte PREFIX = 2;
+    static final byte EXTENSION = 3;
+
+    /**
+     * The pattern always matches the template.
+     */
+    static final byte MATCH = 0;
+
+    /**
+     * The pattern never matches the template.
+     */
+    static final byte NO_MATCH = 1;
+
+    /**
+     * The pattern should be checked per request.
+     */
+    static final byte DYNAMIC = 2;
+
+    /**
+     * One of {@link #ALL}, {@link #EXACT}, {@link #PREFIX}, or
+     * {@link #EXTENSION}.
+     */
+    final byte kind;
+
+    /**
+     * The exact path, the prefix(without {@code /*}), or the extension(with
+     * the dot).
+     */
+    final String value;
+
+    private Url_Pattern(byte arg_kind, String arg_value) {
+        this.kind = arg_kind;
+        this.value = arg_value;
+    }
+
+    /**
+     * @param arg_pattern the URL pattern
+     * @return the parsed pattern
+     * @throws IllegalArgumentException if the given pattern is not a valid
+     * servlet URL pattern
+     */
+    static Url_Pattern parse(String arg_pattern) {
+        if (arg_pattern == null) {
+            throw new IllegalArgumentException("URL pattern must not be null");
+        }
+        if (arg_pattern.equals("/*") || arg_pattern.equals("/")) {
+            return new Url_Pattern(ALL, "");
+        }
+        if (arg_pattern.isEmpty()) {
+            return new Url_Pattern(EXACT, "/");
+        }
+        if (arg_pattern.startsWith("*.") && arg_pattern.length() > 2 && arg_pattern.indexOf('/') == -1 && arg_pattern.indexOf('*', 1) == -1) {
+            return new Url_Pattern(EXTENSION, arg_pattern.substring(1));
+        }
+        if (arg_pattern.charAt(0) == '/') {
+            int _star = arg_pattern.indexOf('*');
+            if (_star == -1) {
+                return new Url_Pattern(EXACT, arg_pattern);
+            }
+            if (_star == arg_pattern.length() - 1 && arg_pattern.endsWith("/*")) {
+                return new Url_Pattern(PREFIX, arg_pattern.substring(0, arg_pattern.length() - 2));
+            }
+        }
+        throw new IllegalArgumentException(String.format("Invalid servlet URL pattern(%s)", arg_pattern));
+    }
+
+    /**
+     * @param arg_path the path(within the application), e.g. {@code /chat/a}
+     * @return {@code true} if this pattern matches the given path
+     */
+    boolean matches(String arg_path) {
+        switch (kind) {
+            case ALL:
+                return true;
+            case EXACT:
+                return value.equals(arg_path);
+            case PREFIX:
+                return arg_path.startsWith(value) && (arg_path.length() == value.length() || arg_path.charAt(value.length()) == '/');
+            default:
+                int _slash = arg_path.lastIndexOf('/');
+                return arg_path.endsWith(value) && arg_path.length() - value.length() > _slash;
+        }
+    }
+
+    /**
+     * Resolves this pattern against the given endpoint path template(such
+     * as {@code /chat/{room}}), where variable segments could be any value.
+     *
+     * @param arg_template the path template
+     * @return {@link #MATCH}, {@link #NO_MATCH}, or {@link #DYNAMIC}
+     */
+    byte against_template(String arg_template) {
+        int _var = arg_template.indexOf('{');
+        if (_var == -1) {
+            return matches(arg_template) ? MATCH : NO_MATCH;
+        }
+        /*the literal part, up to the first variable*/
+        String _lit = arg_template.substring(0, _var);
+        switch (kind) {
+            case ALL:
+                return MATCH;
+            case EXACT:
+                return value.startsWith(_lit) ? DYNAMIC : NO_MATCH;
+            case PREFIX: {
+                String _dir = value.concat("/");
+                if (_lit.startsWith(_dir)) {
+                    return MATCH;
+                }
+                return _dir.startsWith(_lit) ? DYNAMIC : NO_MATCH;
+            }
+            default: {
+                int _last = arg_template.lastIndexOf('/');
+                if (_last > _var) {
+                    /*last segment is literal*/
+                    String _seg = arg_template.substring(_last);
+                    return (_seg.indexOf('{') == -1) ? (matches(_seg) ? MATCH : NO_MATCH) : DYNAMIC;
+                }
+                return DYNAMIC;
+            }
+        }
+    }
+}
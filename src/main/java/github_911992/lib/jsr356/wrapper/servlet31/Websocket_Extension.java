@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Websocket_Extension.java
+Created on: Oct 17, 2026 08:47:32 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.websocket.Extension;
+
+/**
+ * An extension(and its params) requested by {@code Sec-WebSocket-Extensions}
+ * header, as a view over the header value.
+ * <p>
+ * Name, and params are {@link Header_Token} views(no any copy). It's also an
+ * {@link Extension}, so it could be passed to
+ * {@code ServerEndpointConfig.Configurator#getNegotiatedExtensions()} as-is,
+ * where {@link #getName()}, and {@link #getParameters()} materialize strings
+ * on each call.
+ * </p>
+ * <p>
+ * Instances are immutable.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getWebsocketExtensions()
+ */
+public final class Websocket_Extension implements Extension {
+
+    private final Header_Token name;
+
+    /**
+     * (name, value) pairs of params, value is {@code null} for a param with
+     * no any value.
+     */
+    private final Header_Token[] params;
+
+    Websocket_Extension(Header_Token arg_name, Header_Token[] arg_params) {
+        this.name = arg_name;
+        this.params = arg_params;
+    }
+
+    /**
+     * @return name of the extension, as a view
+     */
+    public Header_Token getNameToken() {
+        return name;
+    }
+
+    /**
+     * @return number of params
+     */
+    public int getParameterCount() {
+        return params.length / 2;
+    }
+
+    /**
+     * @param arg_index param index, from {@code 0}
+     * @return name of the param
+     * @throws IndexOutOfBoundsException if there is no such param
+     */
+    public Header_Token getParameterName(int arg_index) {
+        return params[checked(arg_index)];
+    }
+
+    /**
+     * @param arg_index param index, from {@code 0}
+     * @return value of the param(unquoted), or {@code null} if the param has
+     * no any value
+     * @throws IndexOutOfBoundsException if there is no such param
+     */
+    public Header_Token getParameterValue(int arg_index) {
+        return params[checked(arg_index) + 1];
+    }
+
+    /**
+     * Finds the first param of the given name(case-insensitive).
+     *
+     * @param arg_name param name
+     * @return {@code true} if there is such param
+     */
+    public boolean hasParameter(String arg_name) {
+        return find(arg_name) != -1;
+    }
+
+    /**
+     * Returns value of the first param of the given name(case-insensitive).
+     *
+     * @param arg_name param name
+     * @return value of the param, or {@code null} if there is no such param,
+     * or it has no any value
+     */
+    public Header_Token getParameter(String arg_name) {
+        int _at = find(arg_name);
+        return _at == -1 ? null : params[_at + 1];
+    }
+
+    private int find(String arg_name) {
+        for (int a = 0; a < params.length; a += 2) {
+            if (params[a].equalsIgnoreCase(arg_name)) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    private int checked(int arg_index) {
+        if (arg_index < 0 || arg_index >= params.length / 2) {
+            throw new IndexOutOfBoundsException(String.valueOf(arg_index));
+        }
+        return arg_index * 2;
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * A new string is created on each call, consider
+     * {@link #getNameToken()}.
+     * </p>
+     */
+    @Override
+    public String getName() {
+        return name.toString();
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * A new unmodifiable list is created on each call.
+     * </p>
+     */
+    @Override
+    public List<Extension.Parameter> getParameters() {
+        if (params.length == 0) {
+            return Collections.emptyList();
+        }
+        ArrayList<Extension.Parameter> _res = new ArrayList<>(params.length / 2);
+        for (int a = 0; a < params.length; a += 2) {
+            _res.add(new Param(params[a].toString(), params[a + 1] == null ? null : params[a + 1].toString()));
+        }
+        return Collections.unmodifiableList(_res);
+    }
+
+    /**
+     * @return the extension as header value form(e.g.
+     * {@code permessage-deflate; client_max_window_bits=10})
+     */
+    @Override
+    public String toString() {
+        StringBuilder _sb = new StringBuilder(name);
+        for (int a = 0; a < params.length; a += 2) {
+            _sb.append("; ").append(params[a]);
+            if (params[a + 1] != null) {
+                _sb.append('=').append(params[a + 1]);
+            }
+        }
+        return _sb.toString();
+    }
+
+    private static final class Param implements Extension.Parameter {
+
+        private final String name;
+        private final String value;
+
+        Param(String arg_name, String arg_value) {
+            this.name = arg_name;
+            this.value = arg_value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
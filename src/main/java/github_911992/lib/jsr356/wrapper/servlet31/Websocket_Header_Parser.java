@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Websocket_Header_Parser.java
+Created on: Oct 17, 2026 08:55:06 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-pass tokenizer of {@code Sec-WebSocket-Protocol}, and
+ * {@code Sec-WebSocket-Extensions} header(s), as RFC 6455 Section 4.3, and
+ * 9.1.
+ * <p>
+ * Tokens are {@link Header_Token} views over the header values, so no any
+ * intermediate string(or split array) is created. Empty list elements(e.g.
+ * {@code a,,b}) are skipped, and quoted param values are unquoted(a value
+ * with escapes is the only case a new string is created for).
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#getWebsocketProtocols()
+ * @see HandshakeRequest_HttpServletRequest#getWebsocketExtensions()
+ */
+final class Websocket_Header_Parser {
+
+    private Websocket_Header_Parser() {
+    }
+
+    /**
+     * Tokenizes {@code Sec-WebSocket-Protocol} header values.
+     *
+     * @param arg_headers values of the header(s), could be {@code null}
+     * @return unmodifiable list of requested subprotocols, in the client's
+     * order
+     */
+    static List<Header_Token> protocols(List<String> arg_headers) {
+        if (arg_headers == null || arg_headers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ArrayList<Header_Token> _res = new ArrayList<>(4);
+        for (int a = 0; a < arg_headers.size(); a++) {
+            String _h = arg_headers.get(a);
+            if (_h == null) {
+                continue;
+            }
+            int _len = _h.length();
+            int _i = 0;
+            while (_i < _len) {
+                char _c = _h.charAt(_i);
+                if (_c == ',' || is_ows(_c)) {
+                    _i++;
+                    continue;
+                }
+                int _start = _i;
+                while (_i < _len && _h.charAt(_i) != ',') {
+                    _i++;
+                }
+                _res.add(new Header_Token(_h, _start, trim_end(_h, _start, _i)));
+            }
+        }
+        return Collections.unmodifiableList(_res);
+    }
+
+    /**
+     * Tokenizes {@code Sec-WebSocket-Extensions} header values.
+     *
+     * @param arg_headers values of the header(s), could be {@code null}
+     * @return unmodifiable list of requested extensions, in the client's
+     * order
+     */
+    static List<Websocket_Extension> extensions(List<String> arg_headers) {
+        if (arg_headers == null || arg_headers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ArrayList<Websocket_Extension> _res = new ArrayList<>(2);
+        Header_Token[] _params = new Header_Token[8];
+        for (int a = 0; a < arg_headers.size(); a++) {
+            String _h = arg_headers.get(a);
+            if (_h == null) {
+                continue;
+            }
+            int _len = _h.length();
+            int _i = 0;
+            while (_i < _len) {
+                char _c = _h.charAt(_i);
+                if (_c == ',' || is_ows(_c)) {
+                    _i++;
+                    continue;
+                }
+                int _start = _i;
+                _i = token_end(_h, _i);
+                Header_Token _name = _start == _i ? null : new Header_Token(_h, _start, _i);
+                int _pc = 0;
+                /*params, up to the next extension*/
+                while (true) {
+                    _i = skip_ows(_h, _i);
+                    if (_i >= _len || _h.charAt(_i) != ';') {
+                        break;
+                    }
+                    _i = skip_ows(_h, _i + 1);
+                    int _pstart = _i;
+                    _i = token_end(_h, _i);
+                    if (_pstart == _i) {
+                        continue;
+                    }
+                    Header_Token _pname = new Header_Token(_h, _pstart, _i);
+                    Header_Token _pval = null;
+                    _i = skip_ows(_h, _i);
+                    if (_i < _len && _h.charAt(_i) == '=') {
+                        _i = skip_ows(_h, _i + 1);
+                        if (_i < _len && _h.charAt(_i) == '"') {
+                            int _close = quoted_end(_h, _i + 1);
+                            _pval = unquote(_h, _i + 1, _close);
+                            _i = _close < _len ? _close + 1 : _len;
+                        } else {
+                            int _vstart = _i;
+                            _i = token_end(_h, _i);
+                            _pval = new Header_Token(_h, _vstart, _i);
+                        }
+                    }
+                    if (_pc + 2 > _params.length) {
+                        _params = Arrays.copyOf(_params, _params.length * 2);
+                    }
+                    _params[_pc++] = _pname;
+                    _params[_pc++] = _pval;
+                }
+                /*skipping whatever is left(malformed) of this extension*/
+                while (_i < _len && _h.charAt(_i) != ',') {
+                    _i++;
+                }
+                if (_name != null) {
+                    _res.add(new Websocket_Extension(_name, Arrays.copyOf(_params, _pc)));
+                }
+            }
+        }
+        return Collections.unmodifiableList(_res);
+    }
+
+    private static boolean is_ows(char arg_c) {
+        return arg_c == ' ' || arg_c == '\t';
+    }
+
+    private static int skip_ows(String arg_str, int arg_at) {
+        while (arg_at < arg_str.length() && is_ows(arg_str.charAt(arg_at))) {
+            arg_at++;
+        }
+        return arg_at;
+    }
+
+    /**
+     * @return index of the first separator({@code ,;=}, or white-space) from
+     * the given index
+     */
+    private static int token_end(String arg_str, int arg_at) {
+        char _c;
+        while (arg_at < arg_str.length() && (_c = arg_str.charAt(arg_at)) != ',' && _c != ';' && _c != '=' && is_ows(_c) == false) {
+            arg_at++;
+        }
+        return arg_at;
+    }
+
+    private static int trim_end(String arg_str, int arg_start, int arg_end) {
+        while (arg_end > arg_start && is_ows(arg_str.charAt(arg_end - 1))) {
+            arg_end--;
+        }
+        return arg_end;
+    }
+
+    /**
+     * @return index of the closing quote, or the string length if not
+     * closed
+     */
+    private static int quoted_end(String arg_str, int arg_at) {
+        while (arg_at < arg_str.length()) {
+            char _c = arg_str.charAt(arg_at);
+            if (_c == '"') {
+                return arg_at;
+            }
+            arg_at += _c == '\\' ? 2 : 1;
+        }
+        return arg_str.length();
+    }
+
+    /**
+     * @return view of the quoted content, or a new(unescaped) string token
+     * if it has any escape
+     */
+    private static Header_Token unquote(String arg_str, int arg_start, int arg_end) {
+        arg_end = Math.min(arg_end, arg_str.length());
+        int _esc = arg_str.indexOf('\\', arg_start);
+        if (_esc == -1 || _esc >= arg_end) {
+            return new Header_Token(arg_str, arg_start, arg_end);
+        }
+        StringBuilder _sb = new StringBuilder(arg_end - arg_start);
+        for (int a = arg_start; a < arg_end; a++) {
+            char _c = arg_str.charAt(a);
+            if (_c == '\\' && a + 1 < arg_end) {
+                _c = arg_str.charAt(++a);
+            }
+            _sb.append(_c);
+        }
+        String _val = _sb.toString();
+        return new Header_Token(_val, 0, _val.length());
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Config.java
+Created on: Oct 17, 2026 01:48:26 PM
+    @author https://github.com/911992
+
+History:
+    0.2.0(20261017)
+        • Added decodeCookieValues
+        • Added parse budgets(maxCookies, maxCookieBytes, maxParameters, maxHeaderValues, and maxRetainedBytes)
+        • Added roleCache
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+/**
+ * Tunable options of {@link HandshakeRequest_HttpServletRequest}.
+ * <p>
+ * A config instance is supposed to be created and set up once(e.g. during
+ * the app/endpoint initialization), and then shared by all wrappers. Changing
+ * a config while it's in use by wrappers is not thread-safe.
+ * </p>
+ * <p>
+ * Wrappers created without any explicit config use the
+ * {@link #getDefault() default} one, which is frozen(its setters throw
+ * {@link IllegalStateException}), as it's shared by all such wrappers.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#HandshakeRequest_HttpServletRequest(javax.websocket.server.HandshakeRequest, github_911992.lib.jsr356.wrapper.servlet31.Wrapper_Config)
+ */
+public class Wrapper_Config {
+
+    /**
+     * Default value of {@link #getSessionCookieName()}, as servlet spec.
+     */
+    public static final String DEFAULT_SESSION_COOKIE_NAME = "JSESSIONID";
+
+    /**
+     * Value of a parse budget(such as {@link #getMaxCookies()}) with no any
+     * limit.
+     */
+    public static final int UNLIMITED = -1;
+
+    /**
+     * The default(global) config.
+     */
+    private static final Wrapper_Config DEFAULT = new Wrapper_Config(true);
+
+    /**
+     * @return the default(frozen) config, used by wrappers with no explicit
+     * config
+     */
+    public static Wrapper_Config getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Specifies if the {@code String[]} values(returned by
+     * {@code getParameterValues()}, and {@code getParameterMap()}) are shared
+     * cached arrays, or defensive copies.
+     */
+    private boolean shareParameterArrays = true;
+
+    /**
+     * Specifies if params are parsed from the raw query string by the
+     * wrapper, or grabbed from the container.
+     */
+    private boolean parseQueryString = false;
+
+    /**
+     * Pool for deduplicating retained header, and cookie strings.
+     */
+    private String_Pool stringPool;
+
+    /**
+     * Specifies if unsupported methods return neutral values, rather than
+     * throwing.
+     */
+    private boolean lenient = false;
+
+    /**
+     * Name of the session tracking cookie.
+     */
+    private String sessionCookieName = DEFAULT_SESSION_COOKIE_NAME;
+
+    /**
+     * Specifies if cookie values are percent-decoded.
+     */
+    private boolean decodeCookieValues = false;
+
+    /**
+     * Max number of cookie pairs.
+     */
+    private int maxCookies = UNLIMITED;
+
+    /**
+     * Max total length of {@code Cookie} header value(s).
+     */
+    private int maxCookieBytes = UNLIMITED;
+
+    /**
+     * Max number of request params.
+     */
+    private int maxParameters = UNLIMITED;
+
+    /**
+     * Max number of values per header name.
+     */
+    private int maxHeaderValues = UNLIMITED;
+
+    /**
+     * Max total length of headers, and the query string.
+     */
+    private long maxRetainedBytes = UNLIMITED;
+
+    /**
+     * Shared cache of role decisions.
+     */
+    private Role_Cache roleCache;
+
+    /**
+     * Specifies if setters are disallowed(for the default config).
+     */
+    private final boolean frozen;
+
+    /**
+     * Creates a mutable config with default values.
+     */
+    public Wrapper_Config() {
+        this(false);
+    }
+
+    private Wrapper_Config(boolean arg_frozen) {
+        this.frozen = arg_frozen;
+    }
+
+    /**
+     * @return {@code true} if this config is frozen(the
+     * {@link #getDefault() default} one), so its setters throw
+     * {@link IllegalStateException}
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Specifies if param value arrays returned by
+     * {@link HandshakeRequest_HttpServletRequest#getParameterValues(java.lang.String)},
+     * and {@link HandshakeRequest_HttpServletRequest#getParameterMap()} are
+     * the shared(cached) instances, or defensive copies.
+     * <p>
+     * Default is {@code true}(as most of servlet containers do), so callers
+     * must not modify the returned arrays.
+     * </p>
+     *
+     * @return {@code true} if the cached arrays are returned as-is,
+     * {@code false} if a copy is returned on each call
+     */
+    public boolean isShareParameterArrays() {
+        return shareParameterArrays;
+    }
+
+    /**
+     * @param arg_shareParameterArrays {@code true} if the cached param value
+     * arrays should be returned as-is, {@code false} if a copy should be
+     * returned on each call
+     * @throws IllegalStateException if this config is frozen
+     * @see #isShareParameterArrays()
+     */
+    public void setShareParameterArrays(boolean arg_shareParameterArrays) {
+        check_mutable();
+        this.shareParameterArrays = arg_shareParameterArrays;
+    }
+
+    /**
+     * Specifies if request params are parsed(lazily, and by the wrapper
+     * itself) from {@link javax.websocket.server.HandshakeRequest#getQueryString()},
+     * instead of using the container-provided
+     * {@link javax.websocket.server.HandshakeRequest#getParameterMap()}.
+     * <p>
+     * When enabled, {@code getParameter()}, and {@code getParameterValues()}
+     * scan the query string, and only decode the asked param, rather than the
+     * container decoding every param eagerly. {@code getParameterMap()}, and
+     * {@code getParameterNames()} parse(and cache) all the params. The query
+     * string is decoded as UTF-8.
+     * </p>
+     * <p>
+     * Default is {@code false}.
+     * </p>
+     *
+     * @return {@code true} if params are parsed from the query string by the
+     * wrapper
+     */
+    public boolean isParseQueryString() {
+        return parseQueryString;
+    }
+
+    /**
+     * @param arg_parseQueryString {@code true} if params should be parsed
+     * from the query string by the wrapper
+     * @throws IllegalStateException if this config is frozen
+     * @see #isParseQueryString()
+     */
+    public void setParseQueryString(boolean arg_parseQueryString) {
+        check_mutable();
+        this.parseQueryString = arg_parseQueryString;
+    }
+
+    /**
+     * Specifies the(shared) pool, wrappers dedup header names, header
+     * values, and cookie names by, when they are materialized.
+     * <p>
+     * A pool reduces the retained heap of wrappers(or their cookies) kept
+     * for long-lived sockets, as identical strings of different handshakes
+     * share one instance. It costs a hash, and a lookup per string on
+     * materialization.<br>
+     * Values unique per handshake({@code Cookie}, {@code Authorization},
+     * and {@code Sec-WebSocket-Key} headers) are not pooled.
+     * </p>
+     * <p>
+     * Default is {@code null}(no pooling).
+     * </p>
+     *
+     * @return the string pool, or {@code null}
+     */
+    public String_Pool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * @param arg_stringPool the string pool, or {@code null} for no pooling
+     * @throws IllegalStateException if this config is frozen
+     * @see #getStringPool()
+     */
+    public void setStringPool(String_Pool arg_stringPool) {
+        check_mutable();
+        this.stringPool = arg_stringPool;
+    }
+
+    /**
+     * Specifies if unimplemented(unsupported) methods of wrappers return
+     * servlet-spec neutral values(such as {@code null}, {@code -1}, empty
+     * enumerations, and an empty input stream), rather than throwing
+     * {@link UnsupportedOperationException} exception.
+     * <p>
+     * Useful when libraries(e.g. servlet filters) probe such methods
+     * defensively. Default is {@code false}(strict).
+     * </p>
+     *
+     * @return {@code true} for lenient mode
+     * @see Null_HttpServletRequest#isLenient()
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * @param arg_lenient {@code true} for lenient mode
+     * @throws IllegalStateException if this config is frozen
+     * @see #isLenient()
+     */
+    public void setLenient(boolean arg_lenient) {
+        check_mutable();
+        this.lenient = arg_lenient;
+    }
+
+    /**
+     * Specifies the name of the session tracking cookie, which
+     * {@link HandshakeRequest_HttpServletRequest#getRequestedSessionId()}
+     * looks for. The lower-case of the name is also used as the path
+     * param(e.g. {@code ;jsessionid=...}) name, for URL rewriting.
+     * <p>
+     * Default is {@value #DEFAULT_SESSION_COOKIE_NAME}.
+     * </p>
+     *
+     * @return the session cookie name
+     */
+    public String getSessionCookieName() {
+        return sessionCookieName;
+    }
+
+    /**
+     * @param arg_sessionCookieName non-{@code null}, and non-empty session
+     * cookie name
+     * @throws IllegalArgumentException if the given name is {@code null}, or
+     * empty
+     * @throws IllegalStateException if this config is frozen
+     * @see #getSessionCookieName()
+     */
+    public void setSessionCookieName(String arg_sessionCookieName) {
+        check_mutable();
+        if (arg_sessionCookieName == null || arg_sessionCookieName.isEmpty()) {
+            throw new IllegalArgumentException("Session cookie name must not be null, or empty");
+        }
+        this.sessionCookieName = arg_sessionCookieName;
+    }
+
+    /**
+     * Specifies if cookie values(of
+     * {@link HandshakeRequest_HttpServletRequest#getCookies()},
+     * {@link HandshakeRequest_HttpServletRequest#getCookie(java.lang.String)},
+     * and {@link HandshakeRequest_HttpServletRequest#getCookieValue(java.lang.String)})
+     * are percent-decoded(as UTF-8), after removing the quotes.
+     * <p>
+     * A {@code +} is kept as-is(it's not a space in cookie values, e.g.
+     * base64 ones). The session cookie is never decoded. Default is
+     * {@code false}(values as sent by the client).
+     * </p>
+     *
+     * @return {@code true} if cookie values are percent-decoded
+     */
+    public boolean isDecodeCookieValues() {
+        return decodeCookieValues;
+    }
+
+    /**
+     * @param arg_decodeCookieValues {@code true} if cookie values should be
+     * percent-decoded
+     * @throws IllegalStateException if this config is frozen
+     * @see #isDecodeCookieValues()
+     */
+    public void setDecodeCookieValues(boolean arg_decodeCookieValues) {
+        check_mutable();
+        this.decodeCookieValues = arg_decodeCookieValues;
+    }
+
+    /**
+     * Specifies the max number of cookie pairs(of all {@code Cookie}
+     * headers) a wrapper indexes.
+     * <p>
+     * Checked while indexing cookies(the first cookie access), a breach
+     * throws {@link Parse_Limit_Exception}({@link Parse_Limit#COOKIES}).
+     * Default is {@link #UNLIMITED}.
+     * </p>
+     *
+     * @return max number of cookies, or {@link #UNLIMITED}
+     */
+    public int getMaxCookies() {
+        return maxCookies;
+    }
+
+    /**
+     * @param arg_maxCookies max number of cookies(non-negative), or
+     * {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the given value is less than
+     * {@link #UNLIMITED}
+     * @throws IllegalStateException if this config is frozen
+     * @see #getMaxCookies()
+     */
+    public void setMaxCookies(int arg_maxCookies) {
+        check_mutable();
+        this.maxCookies = check_limit(arg_maxCookies);
+    }
+
+    /**
+     * Specifies the max total length(chars, which are bytes for an ASCII
+     * header) of {@code Cookie} header value(s).
+     * <p>
+     * Checked before scanning cookies, so an oversized cookie header is
+     * rejected without any scan. A breach throws
+     * {@link Parse_Limit_Exception}({@link Parse_Limit#COOKIE_BYTES}).
+     * Default is {@link #UNLIMITED}.
+     * </p>
+     *
+     * @return max cookie bytes, or {@link #UNLIMITED}
+     */
+    public int getMaxCookieBytes() {
+        return maxCookieBytes;
+    }
+
+    /**
+     * @param arg_maxCookieBytes max cookie bytes(non-negative), or
+     * {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the given value is less than
+     * {@link #UNLIMITED}
+     * @throws IllegalStateException if this config is frozen
+     * @see #getMaxCookieBytes()
+     */
+    public void setMaxCookieBytes(int arg_maxCookieBytes) {
+        check_mutable();
+        this.maxCookieBytes = check_limit(arg_maxCookieBytes);
+    }
+
+    /**
+     * Specifies the max number of request params(pairs, so a repeated name
+     * counts each time).
+     * <p>
+     * Checked while scanning the query string(when
+     * {@link #isParseQueryString()}), or materializing the container-provided
+     * params. A breach throws
+     * {@link Parse_Limit_Exception}({@link Parse_Limit#PARAMETERS}). Default
+     * is {@link #UNLIMITED}.
+     * </p>
+     *
+     * @return max number of params, or {@link #UNLIMITED}
+     */
+    public int getMaxParameters() {
+        return maxParameters;
+    }
+
+    /**
+     * @param arg_maxParameters max number of params(non-negative), or
+     * {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the given value is less than
+     * {@link #UNLIMITED}
+     * @throws IllegalStateException if this config is frozen
+     * @see #getMaxParameters()
+     */
+    public void setMaxParameters(int arg_maxParameters) {
+        check_mutable();
+        this.maxParameters = check_limit(arg_maxParameters);
+    }
+
+    /**
+     * Specifies the max number of values of one header name(names only
+     * different in case are counted as one).
+     * <p>
+     * Checked while indexing headers(the first header access), a breach
+     * throws {@link Parse_Limit_Exception}({@link Parse_Limit#HEADER_VALUES}).
+     * Default is {@link #UNLIMITED}.
+     * </p>
+     *
+     * @return max values per header name, or {@link #UNLIMITED}
+     */
+    public int getMaxHeaderValues() {
+        return maxHeaderValues;
+    }
+
+    /**
+     * @param arg_maxHeaderValues max values per header name(non-negative), or
+     * {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the given value is less than
+     * {@link #UNLIMITED}
+     * @throws IllegalStateException if this config is frozen
+     * @see #getMaxHeaderValues()
+     */
+    public void setMaxHeaderValues(int arg_maxHeaderValues) {
+        check_mutable();
+        this.maxHeaderValues = check_limit(arg_maxHeaderValues);
+    }
+
+    /**
+     * Specifies the max total length(chars) of header names, header values,
+     * and the query string a wrapper retains, and parses.
+     * <p>
+     * Checked while indexing headers(the first header access), a breach
+     * throws {@link Parse_Limit_Exception}({@link Parse_Limit#RETAINED_BYTES}).
+     * Default is {@link #UNLIMITED}.
+     * </p>
+     *
+     * @return max retained bytes, or {@link #UNLIMITED}
+     */
+    public long getMaxRetainedBytes() {
+        return maxRetainedBytes;
+    }
+
+    /**
+     * @param arg_maxRetainedBytes max retained bytes(non-negative), or
+     * {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the given value is less than
+     * {@link #UNLIMITED}
+     * @throws IllegalStateException if this config is frozen
+     * @see #getMaxRetainedBytes()
+     */
+    public void setMaxRetainedBytes(long arg_maxRetainedBytes) {
+        check_mutable();
+        if (arg_maxRetainedBytes < UNLIMITED) {
+            throw new IllegalArgumentException("Invalid limit: " + arg_maxRetainedBytes);
+        }
+        this.maxRetainedBytes = arg_maxRetainedBytes;
+    }
+
+    /**
+     * Specifies the(shared) cache, wrappers keep
+     * {@link HandshakeRequest_HttpServletRequest#isUserInRole(java.lang.String)}
+     * decisions in, per principal name.
+     * <p>
+     * Useful when the realm is expensive(e.g. JAAS/LDAP-backed), and the
+     * same users handshake(or reconnect) frequently. Decisions are as fresh
+     * as the cache TTL, so the app should call invalidation methods of the
+     * cache when roles are changed. Default is {@code null}(every check is
+     * delegated to the handshake request).
+     * </p>
+     *
+     * @return the role cache, or {@code null}
+     */
+    public Role_Cache getRoleCache() {
+        return roleCache;
+    }
+
+    /**
+     * @param arg_roleCache the role cache, or {@code null} for no caching
+     * @throws IllegalStateException if this config is frozen
+     * @see #getRoleCache()
+     */
+    public void setRoleCache(Role_Cache arg_roleCache) {
+        check_mutable();
+        this.roleCache = arg_roleCache;
+    }
+
+    private void check_mutable() {
+        if (frozen) {
+            throw new IllegalStateException("The default config is frozen, create a new Wrapper_Config instead");
+        }
+    }
+
+    private static int check_limit(int arg_limit) {
+        if (arg_limit < UNLIMITED) {
+            throw new IllegalArgumentException("Invalid limit: " + arg_limit);
+        }
+        return arg_limit;
+    }
+
+}
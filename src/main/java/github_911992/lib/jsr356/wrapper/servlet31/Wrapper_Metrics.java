@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Metrics.java
+Created on: Oct 17, 2026 08:11:47 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in usage metrics of wrappers, exposed as a JMX MXBean.
+ * <p>
+ * Metrics are disabled by default, and could be enabled by setting the
+ * {@value #ENABLED_PROPERTY} system property to {@code true}(e.g.
+ * {@code -Dgithub_911992.wrapper.metrics=true}) before this lib is used.
+ * When enabled, the instance is registered to the platform MBean server as
+ * {@value #OBJECT_NAME}.
+ * </p>
+ * <p>
+ * The enabled flag is a {@code static final} constant, and every recording
+ * site is guarded by it, so when disabled, the JIT drops the recording code
+ * entirely(zero overhead). Counters are low-contention(striped, padded
+ * cells), so recording from many threads does not serialize them.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_MetricsMXBean
+ */
+public final class Wrapper_Metrics implements Wrapper_MetricsMXBean {
+
+    /**
+     * System property to enable metrics.
+     */
+    public static final String ENABLED_PROPERTY = "github_911992.wrapper.metrics";
+
+    /**
+     * JMX object name of the metrics MXBean.
+     */
+    public static final String OBJECT_NAME = "github_911992.lib.jsr356.wrapper.servlet31:type=Wrapper_Metrics";
+
+    /**
+     * Specifies if metrics are enabled, guards every recording site.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * The instance, {@code null} when disabled.
+     */
+    static final Wrapper_Metrics INSTANCE;
+
+    static {
+        if (ENABLED) {
+            INSTANCE = new Wrapper_Metrics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                /*already registered(e.g. by another class-loader), metrics are still accessible by getInstance()*/
+            }
+        } else {
+            INSTANCE = null;
+        }
+    }
+
+    /**
+     * @return {@code true} if metrics are enabled
+     * @see #ENABLED_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return the metrics, or {@code null} if metrics are not enabled
+     */
+    public static Wrapper_Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    final Striped_Counter wraps = new Striped_Counter();
+    final Striped_Counter passthroughs = new Striped_Counter();
+    final Striped_Counter header_index_builds = new Striped_Counter();
+    final Striped_Counter cookie_parses = new Striped_Counter();
+    final Striped_Counter cookie_parse_nanos = new Striped_Counter();
+    final Striped_Counter cookie_cache_hits = new Striped_Counter();
+    final Striped_Counter param_parses = new Striped_Counter();
+    final Striped_Counter param_parse_nanos = new Striped_Counter();
+    final Striped_Counter param_cache_hits = new Striped_Counter();
+    final Striped_Counter param_scans = new Striped_Counter();
+    final Striped_Counter date_cache_hits = new Striped_Counter();
+    final Striped_Counter date_cache_misses = new Striped_Counter();
+    final Striped_Counter locale_cache_hits = new Striped_Counter();
+    final Striped_Counter locale_cache_misses = new Striped_Counter();
+
+    /**
+     * Calls to each unsupported method, by method signature.
+     */
+    private final ConcurrentHashMap<String, Striped_Counter> unsupported_calls = new ConcurrentHashMap<>(32);
+
+    private Wrapper_Metrics() {
+    }
+
+    /**
+     * Counts a call to the given unsupported method.
+     *
+     * @param arg_method the method signature
+     */
+    void unsupported(String arg_method) {
+        Striped_Counter _c = unsupported_calls.get(arg_method);
+        if (_c == null) {
+            Striped_Counter _new = new Striped_Counter();
+            _c = unsupported_calls.putIfAbsent(arg_method, _new);
+            if (_c == null) {
+                _c = _new;
+            }
+        }
+        _c.increment();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getWraps() {
+        return wraps.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getPassthroughs() {
+        return passthroughs.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getHeaderIndexBuilds() {
+        return header_index_builds.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getCookieParses() {
+        return cookie_parses.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getCookieParseNanos() {
+        return cookie_parse_nanos.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getCookieCacheHits() {
+        return cookie_cache_hits.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getParameterParses() {
+        return param_parses.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getParameterParseNanos() {
+        return param_parse_nanos.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getParameterCacheHits() {
+        return param_cache_hits.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getParameterScans() {
+        return param_scans.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getDateCacheHits() {
+        return date_cache_hits.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getDateCacheMisses() {
+        return date_cache_misses.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getLocaleCacheHits() {
+        return locale_cache_hits.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getLocaleCacheMisses() {
+        return locale_cache_misses.sum();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Map<String, Long> getUnsupportedCalls() {
+        TreeMap<String, Long> _res = new TreeMap<>();
+        for (Map.Entry<String, Striped_Counter> _e : unsupported_calls.entrySet()) {
+            _res.put(_e.getKey(), _e.getValue().sum());
+        }
+        return _res;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void reset() {
+        Striped_Counter[] _all = {wraps, passthroughs, header_index_builds, cookie_parses, cookie_parse_nanos, cookie_cache_hits, param_parses, param_parse_nanos, param_cache_hits, param_scans, date_cache_hits, date_cache_misses, locale_cache_hits, locale_cache_misses};
+        for (Striped_Counter _c : _all) {
+            _c.reset();
+        }
+        unsupported_calls.clear();
+    }
+}
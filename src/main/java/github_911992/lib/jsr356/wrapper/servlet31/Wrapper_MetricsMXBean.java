@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_MetricsMXBean.java
+Created on: Oct 17, 2026 08:05:14 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.Map;
+
+/**
+ * JMX(MXBean) management interface of {@link Wrapper_Metrics}.
+ * <p>
+ * All values are counted since the start(or the last {@link #reset()}), and
+ * are not atomic snapshots regarding each other.
+ * </p>
+ *
+ * @author https://github.com/911992
+ * @see Wrapper_Metrics
+ */
+public interface Wrapper_MetricsMXBean {
+
+    /**
+     * @return number of created {@link HandshakeRequest_HttpServletRequest}
+     * instances
+     */
+    long getWraps();
+
+    /**
+     * @return number of {@link HandshakeRequest_HttpServletRequest#wrapperForHandshakeRequest(javax.websocket.server.HandshakeRequest)}
+     * calls, which returned the given handshake request itself(as it was a
+     * {@code HttpServletRequest} already)
+     */
+    long getPassthroughs();
+
+    /**
+     * @return number of header index builds(one per wrapped handshake, when
+     * a header is asked)
+     */
+    long getHeaderIndexBuilds();
+
+    /**
+     * @return number of {@code Cookie} header(s) parses
+     */
+    long getCookieParses();
+
+    /**
+     * @return total time spent on parsing cookies, in nanoseconds
+     */
+    long getCookieParseNanos();
+
+    /**
+     * @return number of {@code getCookies()} calls served from the cached
+     * cookies
+     */
+    long getCookieCacheHits();
+
+    /**
+     * @return number of full param parses(param view builds)
+     */
+    long getParameterParses();
+
+    /**
+     * @return total time spent on full param parses, in nanoseconds
+     */
+    long getParameterParseNanos();
+
+    /**
+     * @return number of param accesses served from the cached param view
+     */
+    long getParameterCacheHits();
+
+    /**
+     * @return number of single param lookups done by scanning the query
+     * string
+     */
+    long getParameterScans();
+
+    /**
+     * @return number of HTTP date parses served from the last-parsed cache
+     */
+    long getDateCacheHits();
+
+    /**
+     * @return number of HTTP date parses missed the last-parsed cache
+     */
+    long getDateCacheMisses();
+
+    /**
+     * @return number of {@code Accept-Language} lookups served from the
+     * shared cache
+     */
+    long getLocaleCacheHits();
+
+    /**
+     * @return number of {@code Accept-Language} lookups missed the shared
+     * cache(parsed)
+     */
+    long getLocaleCacheMisses();
+
+    /**
+     * @return number of calls to each unimplemented(unsupported) method, by
+     * method signature
+     */
+    Map<String, Long> getUnsupportedCalls();
+
+    /**
+     * Resets all the counters.
+     */
+    void reset();
+}
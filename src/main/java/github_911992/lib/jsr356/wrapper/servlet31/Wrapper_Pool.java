@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Pool.java
+Created on: Oct 17, 2026 02:40:12 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.websocket.server.HandshakeRequest;
+
+/**
+ * A bounded, lock-free(striped) pool of
+ * {@link HandshakeRequest_HttpServletRequest} instances.
+ * <p>
+ * Each thread starts probing the slots from its own(thread-id based) stripe,
+ * so concurrent borrowers rarely compete over the same slot. When there is
+ * no any pooled instance, a new one is created, and when the pool is full, a
+ * released instance is simply dropped(left for GC).
+ * </p>
+ * <p>
+ * A borrowed wrapper must be released exactly once, and must not be used
+ * after release. Releasing a wrapper twice results an
+ * {@link IllegalStateException}(checked by a CAS, in any mode), and in
+ * {@link #isDebug() debug} mode, any(handshake related) use of a released
+ * wrapper results one too.
+ * </p>
+ * <p>Usage:</p>
+ * <pre>
+ * public class Ws_Handshake_Handler extends ServerEndpointConfig.Configurator{
+ *  private static final Wrapper_Pool POOL = new Wrapper_Pool(64);
+ * ...
+ *  &#64;Override
+ *  public void modifyHandshake(ServerEndpointConfig sec,
+ *                              HandshakeRequest request,
+ *                              HandshakeResponse response) {
+ *      HandshakeRequest_HttpServletRequest _http_servlet_req = POOL.borrow(request);
+ *      try{
+ *          //using _http_servlet_req...
+ *      }finally{
+ *          POOL.release(_http_servlet_req);
+ *      }
+ *  }
+ * ...
+ * }
+ * </pre>
+ *
+ * @author https://github.com/911992
+ * @see HandshakeRequest_HttpServletRequest#recycle()
+ */
+public final class Wrapper_Pool {
+
+    /**
+     * Max number of slots probed on each borrow/release.
+     */
+    private static final int MAX_PROBES = 8;
+
+    private final AtomicReferenceArray<HandshakeRequest_HttpServletRequest> slots;
+    private final int mask;
+    private final Wrapper_Config config;
+    private final boolean debug;
+
+    /**
+     * Creates a pool using the default config, and no debug mode.
+     *
+     * @param arg_capacity max number of pooled(idle) instances
+     */
+    public Wrapper_Pool(int arg_capacity) {
+        this(arg_capacity, Wrapper_Config.getDefault(), false);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param arg_capacity max number of pooled(idle) instances, rounded up to
+     * a power of two
+     * @param arg_config non-{@code null} config of all wrappers of this pool
+     * @param arg_debug if use-after-release should be detected
+     */
+    public Wrapper_Pool(int arg_capacity, Wrapper_Config arg_config, boolean arg_debug) {
+        if (arg_capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be positive");
+        }
+        if (arg_config == null) {
+            throw new NullPointerException("Config must not be null");
+        }
+        int _size = arg_capacity == 1 ? 1 : Integer.highestOneBit(arg_capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(_size);
+        this.mask = _size - 1;
+        this.config = arg_config;
+        this.debug = arg_debug;
+    }
+
+    /**
+     * @return config of all wrappers of this pool
+     */
+    public Wrapper_Config getConfig() {
+        return config;
+    }
+
+    /**
+     * @return {@code true} if use-after-release, and double-release are
+     * detected
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Borrows a(pooled, or new) wrapper, for the given handshake request.
+     *
+     * @param arg_handshake_req the non-{@code null} handshake request should
+     * be wrapped
+     * @return a wrapper of the given request, must be
+     * {@link #release(github_911992.lib.jsr356.wrapper.servlet31.HandshakeRequest_HttpServletRequest) released}
+     * once it's no longer needed
+     */
+    public HandshakeRequest_HttpServletRequest borrow(HandshakeRequest arg_handshake_req) {
+        int _start = stripe();
+        int _probes = Math.min(MAX_PROBES, slots.length());
+        for (int a = 0; a < _probes; a++) {
+            int _i = (_start + a) & mask;
+            HandshakeRequest_HttpServletRequest _w = slots.get(_i);
+            if (_w != null && slots.compareAndSet(_i, _w, null)) {
+                _w.pooled = 0;
+                _w.setWebsocketHandshakeRequest(arg_handshake_req);
+                return _w;
+            }
+        }
+        return new HandshakeRequest_HttpServletRequest(arg_handshake_req, config);
+    }
+
+    /**
+     * Recycles, and returns the given wrapper to this pool.
+     * <p>
+     * Wrappers with a different config(not created by this pool) are
+     * recycled, but not pooled. Frozen wrappers(see
+     * {@link HandshakeRequest_HttpServletRequest#freeze()}) are ignored, as
+     * they may still be read by other threads.
+     * </p>
+     *
+     * @param arg_wrapper the wrapper borrowed from this pool, {@code null} is
+     * ignored
+     * @throws IllegalStateException if the wrapper has been released
+     * already(and not borrowed again)
+     */
+    public void release(HandshakeRequest_HttpServletRequest arg_wrapper) {
+        if (arg_wrapper == null || arg_wrapper.isFrozen()) {
+            return;
+        }
+        if (HandshakeRequest_HttpServletRequest.POOLED.compareAndSet(arg_wrapper, 0, 1) == false) {
+            throw new IllegalStateException("The wrapper has been released to its pool already");
+        }
+        arg_wrapper.recycle();
+        if (debug) {
+            arg_wrapper.setWebsocketHandshakeRequest(Released_HandshakeRequest.INSTANCE);
+        }
+        if (arg_wrapper.getConfig() != config) {
+            /*not pooled, so it's never borrowed(cleared) again*/
+            arg_wrapper.pooled = 0;
+            return;
+        }
+        int _start = stripe();
+        int _probes = Math.min(MAX_PROBES, slots.length());
+        for (int a = 0; a < _probes; a++) {
+            int _i = (_start + a) & mask;
+            if (slots.get(_i) == null && slots.compareAndSet(_i, null, arg_wrapper)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the first slot of the calling thread
+     */
+    private int stripe() {
+        long _id = Thread.currentThread().getId();
+        return (int) ((_id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
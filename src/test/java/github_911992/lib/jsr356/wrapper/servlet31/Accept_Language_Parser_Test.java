@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Accept_Language_Parser_Test.java
+Created on: Oct 17, 2026 11:52:03 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Accept_Language_Parser} orders locales by q-value(stable),
+ * ignores what RFC 7231 says should be ignored, and its shared cache stays
+ * bounded, while still caching new hot values.
+ *
+ * @author https://github.com/911992
+ */
+public class Accept_Language_Parser_Test {
+
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+    private static final Locale EN = Locale.forLanguageTag("en");
+    private static final Locale FA = Locale.forLanguageTag("fa");
+    private static final Locale DE = Locale.forLanguageTag("de");
+
+    @Test
+    public void qOrdering() {
+        Assert.assertEquals(Arrays.asList(EN_US, EN, FA, DE), Accept_Language_Parser.parse("en-US,en;q=0.9,fa;q=0.8,de;q=0.7"));
+        Assert.assertEquals(Arrays.asList(EN_US, EN, FA, DE), Accept_Language_Parser.parse("de;q=0.7, fa;q=0.8, en;q=0.9, en-US"));
+        Assert.assertEquals(Arrays.asList(FA, EN, DE), Accept_Language_Parser.parse("en;q=0.5,fa;Q=1,de;q=0.005"));
+        /*equal q-values keep their order*/
+        Assert.assertEquals(Arrays.asList(DE, FA, EN), Accept_Language_Parser.parse("de;q=0.5,fa;q=0.5,en;q=0.5"));
+        Assert.assertEquals(Arrays.asList(EN, FA), Accept_Language_Parser.parse("en ; q=1.000 , fa;q=0.999"));
+    }
+
+    @Test
+    public void ignoredRanges() {
+        Assert.assertEquals(Collections.singletonList(EN), Accept_Language_Parser.parse("fa;q=0,en"));
+        Assert.assertEquals(Collections.singletonList(EN), Accept_Language_Parser.parse("*,en;q=0.1"));
+        String[] _malformed = {"fa;q=", "fa;q=2", "fa;q=1.5", "fa;q=0.1234", "fa;q=x", "fa;level=1", "fa;q=.5"};
+        for (String _r : _malformed) {
+            Assert.assertEquals(_r, Collections.singletonList(EN), Accept_Language_Parser.parse(_r + ",en"));
+        }
+        Assert.assertTrue(Accept_Language_Parser.parse("").isEmpty());
+        Assert.assertTrue(Accept_Language_Parser.parse(",,").isEmpty());
+        Assert.assertTrue(Accept_Language_Parser.parse(null).isEmpty());
+    }
+
+    @Test
+    public void multipleHeaders() {
+        Assert.assertEquals(Arrays.asList(EN, FA, DE), Accept_Language_Parser.parse_cached(Arrays.asList("fa;q=0.5", "en,de;q=0.1")));
+        Assert.assertTrue(Accept_Language_Parser.parse_cached((List<String>) null).isEmpty());
+    }
+
+    @Test
+    public void cachesHotValues() {
+        List<Locale> _res = Accept_Language_Parser.parse_cached("fa-IR,fa;q=0.9");
+        Assert.assertSame(_res, Accept_Language_Parser.parse_cached("fa-IR,fa;q=0.9"));
+        /*an equal(but not the same) string is a hit too*/
+        Assert.assertSame(_res, Accept_Language_Parser.parse_cached(new String("fa-IR,fa;q=0.9")));
+        try {
+            _res.add(EN);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void boundedCache() {
+        /*hostile unique values, many more than slots*/
+        for (int a = 0; a < Accept_Language_Parser.CACHE_SIZE * 4; a++) {
+            Accept_Language_Parser.parse_cached("x" + a + ",en;q=0.5");
+        }
+        /*a new hot value is still cached, after all slots are taken*/
+        String _hot = "de-AT,de;q=0.9,en;q=0.1";
+        List<Locale> _res = Accept_Language_Parser.parse_cached(_hot);
+        Assert.assertSame(_res, Accept_Language_Parser.parse_cached(_hot));
+    }
+
+    @Test
+    public void longValuesNotCached() {
+        StringBuilder _sb = new StringBuilder("en");
+        while (_sb.length() <= Accept_Language_Parser.CACHEABLE_LENGTH_MAX) {
+            _sb.append(",fa;q=0.1");
+        }
+        String _long = _sb.toString();
+        List<Locale> _res = Accept_Language_Parser.parse_cached(_long);
+        Assert.assertEquals(_res, Accept_Language_Parser.parse_cached(_long));
+        Assert.assertNotSame(_res, Accept_Language_Parser.parse_cached(_long));
+    }
+}
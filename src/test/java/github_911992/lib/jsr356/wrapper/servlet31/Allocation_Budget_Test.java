@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Allocation_Budget_Test.java
+Created on: Oct 17, 2026 09:52:27 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Checks bytes allocated per wrapper operation(construction, and each
+ * implemented accessor) against the budgets recorded in
+ * {@code allocation_budgets.properties}, so an allocation regression fails
+ * the build.
+ * <p>
+ * Allocated bytes are measured per thread by
+ * {@link ThreadMXBean#getThreadAllocatedBytes(long)}, over many calls(after
+ * a warm-up), and the per-call average is compared with the budget. Each
+ * accessor is measured in two modes:
+ * </p>
+ * <ul>
+ * <li>{@code cold}: the first call on a fresh wrapper(including lazy
+ * parsing/indexing)</li>
+ * <li>{@code warm}: a call on a wrapper that has already computed its lazy
+ * state</li>
+ * </ul>
+ * <p>
+ * Budgets are keyed by {@code <fixture>.<operation>.<mode>}, in bytes per
+ * call. Object sizes depend on the JVM, and budgets are recorded on a 64-bit
+ * HotSpot with compressed oops, and compact strings(defaults of JDK 9+), so
+ * the suite is skipped on any other layout.<br>
+ * Running with {@code -Dgithub_911992.allocation.record=true} prints the
+ * measured values(in properties form), rather than checking them, for
+ * recording new budgets.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+@RunWith(Parameterized.class)
+public class Allocation_Budget_Test {
+
+    static final String RECORD_PROPERTY = "github_911992.allocation.record";
+
+    private static final String BUDGETS_FILE = "allocation_budgets.properties";
+
+    /**
+     * Calls measured per round.
+     */
+    private static final int CALLS = 512;
+
+    private static final int WARMUP_ROUNDS = 40;
+
+    /**
+     * Measured rounds, the smallest result is taken(GC, and deoptimization
+     * noise only adds).
+     */
+    private static final int ROUNDS = 5;
+
+    private static ThreadMXBean thread_bean;
+
+    private static Properties budgets;
+
+    /**
+     * Keeps results reachable, so allocations could not be optimized
+     * away(escape analysis).
+     */
+    private static final Object[] SINK = new Object[CALLS];
+
+    @Parameterized.Parameters(name = "{0}.{1}.{2}")
+    public static List<Object[]> parameters() {
+        ArrayList<Object[]> _res = new ArrayList<>();
+        for (Handshake_Fixture _f : Handshake_Fixture.values()) {
+            for (Operation _op : Operation.values()) {
+                if (_op == Operation.construct) {
+                    _res.add(new Object[]{_f, _op, "cold"});
+                } else {
+                    _res.add(new Object[]{_f, _op, "cold"});
+                    _res.add(new Object[]{_f, _op, "warm"});
+                }
+            }
+        }
+        return _res;
+    }
+
+    private final Handshake_Fixture fixture;
+    private final Operation operation;
+    private final boolean cold;
+
+    public Allocation_Budget_Test(Handshake_Fixture arg_fixture, Operation arg_operation, String arg_mode) {
+        this.fixture = arg_fixture;
+        this.operation = arg_operation;
+        this.cold = "cold".equals(arg_mode);
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        thread_bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("thread allocated bytes is not supported", thread_bean.isThreadAllocatedMemorySupported());
+        thread_bean.setThreadAllocatedMemoryEnabled(true);
+        HotSpotDiagnosticMXBean _diag = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        Assume.assumeTrue("budgets are recorded with compressed oops, and compact strings", vm_flag(_diag, "UseCompressedOops") && vm_flag(_diag, "CompactStrings"));
+        budgets = new Properties();
+        try (InputStream _in = Allocation_Budget_Test.class.getResourceAsStream(BUDGETS_FILE)) {
+            Assert.assertNotNull(BUDGETS_FILE + " is missing", _in);
+            budgets.load(_in);
+        }
+    }
+
+    private static boolean vm_flag(HotSpotDiagnosticMXBean arg_diag, String arg_name) {
+        if (arg_diag == null) {
+            return false;
+        }
+        try {
+            return "true".equals(arg_diag.getVMOption(arg_name).getValue());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void withinBudget() {
+        String _key = fixture.name() + "." + operation.name() + (cold ? ".cold" : ".warm");
+        HandshakeRequest _req = fixture.newRequest();
+        for (int a = 0; a < WARMUP_ROUNDS; a++) {
+            round(_req);
+        }
+        long _res = Long.MAX_VALUE;
+        for (int a = 0; a < ROUNDS; a++) {
+            _res = Math.min(_res, round(_req));
+        }
+        if (Boolean.getBoolean(RECORD_PROPERTY)) {
+            System.out.println(_key + "=" + _res);
+            return;
+        }
+        String _budget = budgets.getProperty(_key);
+        Assert.assertNotNull(String.format("No any budget is recorded for %s(measured %d B/op)", _key, _res), _budget);
+        long _max = Long.parseLong(_budget.trim());
+        if (_res > _max) {
+            Assert.fail(String.format("%s allocated %d B/op, over its budget of %d B/op", _key, _res, _max));
+        }
+    }
+
+    /**
+     * Runs the operation {@link #CALLS} times.
+     *
+     * @return allocated bytes per call
+     */
+    private long round(HandshakeRequest arg_req) {
+        HandshakeRequest_HttpServletRequest[] _ws = new HandshakeRequest_HttpServletRequest[CALLS];
+        if (cold) {
+            for (int a = 0; a < CALLS; a++) {
+                _ws[a] = new HandshakeRequest_HttpServletRequest(arg_req);
+            }
+        } else {
+            HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(arg_req);
+            operation.run(arg_req, _w);
+            for (int a = 0; a < CALLS; a++) {
+                _ws[a] = _w;
+            }
+        }
+        long _tid = Thread.currentThread().getId();
+        long _empty = thread_bean.getThreadAllocatedBytes(_tid);
+        long _start = thread_bean.getThreadAllocatedBytes(_tid);
+        /*cost of the measuring call itself*/
+        long _overhead = _start - _empty;
+        for (int a = 0; a < CALLS; a++) {
+            SINK[a] = operation.run(arg_req, _ws[a]);
+        }
+        long _end = thread_bean.getThreadAllocatedBytes(_tid);
+        return Math.max(0, _end - _start - _overhead) / CALLS;
+    }
+
+    /**
+     * Measured operations, names are budget keys.
+     */
+    enum Operation {
+        construct {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return new HandshakeRequest_HttpServletRequest(arg_req);
+            }
+        },
+        getCookies {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getCookies();
+            }
+        },
+        getCookie {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getCookie("XSRF-TOKEN");
+            }
+        },
+        getCookieValue {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getCookieValue("XSRF-TOKEN");
+            }
+        },
+        getHeader {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getHeader("Origin");
+            }
+        },
+        getHeaders {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getHeaders("Host");
+            }
+        },
+        getHeaderNames {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getHeaderNames();
+            }
+        },
+        getDateHeader {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getDateHeader("Date") == 0 ? arg_wrapper : null;
+            }
+        },
+        getIntHeader {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getIntHeader("Sec-WebSocket-Version") == 0 ? arg_wrapper : null;
+            }
+        },
+        getQueryString {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getQueryString();
+            }
+        },
+        getParameter {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getParameter("room");
+            }
+        },
+        getParameterValues {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getParameterValues("room");
+            }
+        },
+        getParameterNames {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getParameterNames();
+            }
+        },
+        getParameterMap {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getParameterMap();
+            }
+        },
+        getRequestURI {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getRequestURI();
+            }
+        },
+        getRequestURL {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getRequestURL();
+            }
+        },
+        getServletPath {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getServletPath();
+            }
+        },
+        getScheme {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getScheme();
+            }
+        },
+        getLocale {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getLocale();
+            }
+        },
+        getLocales {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getLocales();
+            }
+        },
+        getUserPrincipal {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getUserPrincipal();
+            }
+        },
+        isUserInRole {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.isUserInRole("user") ? arg_wrapper : null;
+            }
+        },
+        getSession {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getSession(false);
+            }
+        },
+        getRequestedSessionId {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getRequestedSessionId();
+            }
+        },
+        getAttribute {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getAttribute("user");
+            }
+        },
+        getWebsocketProtocols {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getWebsocketProtocols();
+            }
+        },
+        getWebsocketExtensions {
+            @Override
+            Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper) {
+                return arg_wrapper.getWebsocketExtensions();
+            }
+        };
+
+        /**
+         * @return result of the operation(kept by the sink)
+         */
+        abstract Object run(HandshakeRequest arg_req, HandshakeRequest_HttpServletRequest arg_wrapper);
+    }
+}
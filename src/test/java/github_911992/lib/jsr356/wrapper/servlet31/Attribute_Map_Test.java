@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Attribute_Map_Test.java
+Created on: Oct 18, 2026 01:03:52 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Attribute_Map} keeps the insert order across removals, and
+ * the promotion to a hash map, looking names up by equality(not only
+ * identity).
+ *
+ * @author https://github.com/911992
+ */
+public class Attribute_Map_Test {
+
+    @Test
+    public void putGetReplace() {
+        Attribute_Map _m = new Attribute_Map();
+        Assert.assertNull(_m.put("a", 1));
+        Assert.assertNull(_m.put("b", 2));
+        Assert.assertEquals(1, _m.get(new String("a")));
+        Assert.assertEquals(1, _m.put(new String("a"), 10));
+        Assert.assertEquals(10, _m.get("a"));
+        Assert.assertNull(_m.get("c"));
+        Assert.assertEquals(Arrays.asList("a", "b"), names(_m));
+    }
+
+    @Test
+    public void removalKeepsOrder() {
+        Attribute_Map _m = new Attribute_Map();
+        for (int a = 0; a < 5; a++) {
+            _m.put("n" + a, a);
+        }
+        Assert.assertEquals(1, _m.remove("n1"));
+        Assert.assertNull(_m.remove("n1"));
+        Assert.assertEquals(4, _m.remove("n4"));
+        Assert.assertEquals(Arrays.asList("n0", "n2", "n3"), names(_m));
+        Assert.assertEquals(2, _m.get("n2"));
+        Assert.assertEquals(3, _m.get("n3"));
+        _m.put("n1", 1);
+        Assert.assertEquals(Arrays.asList("n0", "n2", "n3", "n1"), names(_m));
+    }
+
+    @Test
+    public void promotionKeepsOrder() {
+        Attribute_Map _m = new Attribute_Map();
+        List<String> _exp = new ArrayList<>();
+        for (int a = 0; a <= Attribute_Map.ARRAY_MAX; a++) {
+            _m.put("n" + a, a);
+            _exp.add("n" + a);
+        }
+        Assert.assertEquals(_exp, names(_m));
+        for (int a = 0; a <= Attribute_Map.ARRAY_MAX; a++) {
+            Assert.assertEquals(a, _m.get(new String("n" + a)));
+        }
+        Assert.assertEquals(0, _m.remove("n0"));
+        _exp.remove("n0");
+        _m.put("n0", 0);
+        _exp.add("n0");
+        Assert.assertEquals(_exp, names(_m));
+    }
+
+    @Test
+    public void clear() {
+        Attribute_Map _m = new Attribute_Map();
+        for (int a = 0; a < Attribute_Map.ARRAY_MAX * 2; a++) {
+            _m.put("n" + a, a);
+        }
+        _m.clear();
+        Assert.assertFalse(_m.names().hasMoreElements());
+        Assert.assertNull(_m.get("n0"));
+        _m.put("x", 1);
+        _m.clear();
+        Assert.assertFalse(_m.names().hasMoreElements());
+        _m.put("y", 2);
+        Assert.assertEquals(Collections.singletonList("y"), names(_m));
+    }
+
+    @Test
+    public void namesAreCopied() {
+        Attribute_Map _m = new Attribute_Map();
+        _m.put("a", 1);
+        _m.put("b", 2);
+        List<String> _names = new ArrayList<>();
+        for (Enumeration<String> _e = _m.names(); _e.hasMoreElements();) {
+            /*removing while iterating(as servlet code does) is safe*/
+            String _n = _e.nextElement();
+            _names.add(_n);
+            _m.remove(_n);
+        }
+        Assert.assertEquals(Arrays.asList("a", "b"), _names);
+    }
+
+    private static List<String> names(Attribute_Map arg_map) {
+        return Collections.list(arg_map.names());
+    }
+}
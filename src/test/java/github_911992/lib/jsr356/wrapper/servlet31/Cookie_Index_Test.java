@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Cookie_Index_Test.java
+Created on: Oct 17, 2026 11:12:36 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.http.Cookie;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Cookie_Index} against the {@code Cookie} header
+ * grammar(RFC 6265 Section 4.2), and the split-based parsing of version
+ * 0.1.0 it replaces, for well-formed headers.
+ *
+ * @author https://github.com/911992
+ */
+public class Cookie_Index_Test {
+
+    private static final String JAR = "_ga=GA1.2.1043298477.1697532105; JSESSIONID=8D5E3A0B4C6F1E2D7A9B0C3D5E7F9A1B; "
+            + "XSRF-TOKEN=4f1c2a7e-9b3d-4e8f-a6c5-2d1b0e9f8a7c; lang=en-US; theme=dark; tz=Asia%2FTehran; ab=B==";
+
+    @Test
+    public void matchesLegacySplitForWellFormedHeaders() {
+        Cookie[] _exp = legacy(JAR);
+        Cookie[] _res = Cookie_Index.of(Collections.singletonList(JAR)).cookies(null, false);
+        Assert.assertEquals(_exp.length, _res.length);
+        for (int a = 0; a < _exp.length; a++) {
+            Assert.assertEquals(_exp[a].getName(), _res[a].getName());
+            Assert.assertEquals(_exp[a].getValue(), _res[a].getValue());
+        }
+    }
+
+    @Test
+    public void rfc6265Pairs() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("SID=31d4d96e407aad42; lang=en-US"));
+        Assert.assertEquals(2, _idx.size());
+        Assert.assertEquals("31d4d96e407aad42", _idx.value("SID", false));
+        Assert.assertEquals("en-US", _idx.value("lang", false));
+        Assert.assertNull(_idx.value("missing", false));
+        Assert.assertNull(_idx.value(null, false));
+    }
+
+    @Test
+    public void quotedValuesAreUnquoted() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("a=\"x y\"; b=\"\"; c=\"open"));
+        Assert.assertEquals("x y", _idx.value("a", false));
+        Assert.assertEquals("", _idx.value("b", false));
+        Assert.assertEquals("\"open", _idx.value("c", false));
+    }
+
+    @Test
+    public void lenientSeparatorsAndWhiteSpaces() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList(" a=1;b=2 ;  c = 3 ;;\td=4\t"));
+        Assert.assertEquals(4, _idx.size());
+        Assert.assertEquals("1", _idx.value("a", false));
+        Assert.assertEquals("2", _idx.value("b", false));
+        Assert.assertEquals("3", _idx.value("c", false));
+        Assert.assertEquals("4", _idx.value("d", false));
+    }
+
+    @Test
+    public void firstOfRepeatedNamesWins() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("a=1; a=2"));
+        Assert.assertEquals("1", _idx.value("a", false));
+        Cookie[] _all = _idx.cookies(null, false);
+        Assert.assertEquals(2, _all.length);
+        Assert.assertEquals("2", _all[1].getValue());
+    }
+
+    @Test
+    public void namesAreCaseSensitive() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("Token=1"));
+        Assert.assertEquals("1", _idx.value("Token", false));
+        Assert.assertNull(_idx.value("token", false));
+    }
+
+    @Test
+    public void pairsWithNoValue() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("flag; b=2; =3"));
+        Assert.assertEquals(2, _idx.size());
+        Assert.assertNull(_idx.value("flag", false));
+        Assert.assertNull(_idx.cookie("flag", false).getValue());
+        Assert.assertEquals("2", _idx.value("b", false));
+    }
+
+    @Test
+    public void multipleHeaders() {
+        Cookie_Index _idx = Cookie_Index.of(Arrays.asList("a=1; b=2", null, "c=3"));
+        Assert.assertEquals(3, _idx.size());
+        Assert.assertEquals("3", _idx.value("c", false));
+        Assert.assertSame(Cookie_Index.EMPTY, Cookie_Index.of(null));
+        Assert.assertSame(Cookie_Index.EMPTY, Cookie_Index.of(Collections.singletonList(" ; ")));
+    }
+
+    @Test
+    public void manyCookiesAreAllIndexed() {
+        StringBuilder _sb = new StringBuilder();
+        for (int a = 0; a < 300; a++) {
+            _sb.append("c").append(a).append('=').append(a).append("; ");
+        }
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList(_sb.toString()));
+        Assert.assertEquals(300, _idx.size());
+        for (int a = 0; a < 300; a++) {
+            Assert.assertEquals(String.valueOf(a), _idx.value("c" + a, false));
+        }
+    }
+
+    @Test
+    public void decodedValues() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("tz=Asia%2FTehran; b64=a+b/c==; bad=%zz"));
+        Assert.assertEquals("Asia/Tehran", _idx.value("tz", true));
+        Assert.assertEquals("Asia%2FTehran", _idx.value("tz", false));
+        Assert.assertEquals("a+b/c==", _idx.value("b64", true));
+        Assert.assertEquals("%zz", _idx.value("bad", true));
+    }
+
+    @Test
+    public void refusedNamesAreSkipped() {
+        Cookie_Index _idx = Cookie_Index.of(Collections.singletonList("a=1; Max-Age=2; b c=3"));
+        Assert.assertEquals(3, _idx.size());
+        Assert.assertNull(_idx.cookie("Max-Age", false));
+        Assert.assertEquals(1, _idx.cookies(null, false).length);
+    }
+
+    @Test
+    public void limitChecks() {
+        List<String> _h = Collections.singletonList("a=1; b=2; c=3");
+        Assert.assertEquals(3, Cookie_Index.of(_h, 3, 13).size());
+        try {
+            Cookie_Index.of(_h, 2, Wrapper_Config.UNLIMITED);
+            Assert.fail("max cookies is expected to be exceeded");
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.COOKIES, e.getLimit());
+            Assert.assertEquals(2, e.getMax());
+        }
+        try {
+            Cookie_Index.of(_h, Wrapper_Config.UNLIMITED, 12);
+            Assert.fail("max cookie bytes is expected to be exceeded");
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.COOKIE_BYTES, e.getLimit());
+        }
+    }
+
+    /**
+     * Cookies as parsed by version 0.1.0.
+     */
+    private static Cookie[] legacy(String arg_header) {
+        ArrayList<Cookie> _res = new ArrayList<>();
+        for (String _1c : arg_header.split("\\;\\s{1}")) {
+            String[] _cv = _1c.split("\\=", 2);
+            _res.add(new Cookie(_cv[0], _cv.length == 2 ? _cv[1] : null));
+        }
+        return _res.toArray(new Cookie[_res.size()]);
+    }
+}
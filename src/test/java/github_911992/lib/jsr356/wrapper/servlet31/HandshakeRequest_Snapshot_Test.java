@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: HandshakeRequest_Snapshot_Test.java
+Created on: Oct 17, 2026 11:38:20 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Endpoint_Config;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Strings;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks a {@link HandshakeRequest_Snapshot} answers the same as the wrapper
+ * it's taken from, including paths, and the requested session ID.
+ *
+ * @author https://github.com/911992
+ */
+public class HandshakeRequest_Snapshot_Test {
+
+    @Test
+    public void sameAsWrapper() {
+        for (Handshake_Fixture _f : Handshake_Fixture.values()) {
+            HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(_f.newRequest());
+            _w.setServerEndpointConfig(new Fixture_Endpoint_Config("/ws/chat/{room}"));
+            HandshakeRequest_Snapshot _s = _w.snapshot();
+            Assert.assertEquals(_f.name(), _w.getRequestURI(), _s.getRequestURI());
+            Assert.assertEquals(_f.name(), _w.getQueryString(), _s.getQueryString());
+            Assert.assertEquals(_f.name(), _w.getScheme(), _s.getScheme());
+            Assert.assertEquals(_f.name(), _w.getRequestURL().toString(), _s.getRequestURL().toString());
+            Assert.assertEquals(_f.name(), "/app", _s.getContextPath());
+            Assert.assertEquals(_f.name(), "/ws/chat/general", _s.getServletPath());
+            Assert.assertNull(_f.name(), _s.getPathInfo());
+            Assert.assertEquals(_f.name(), Collections.list(_w.getHeaderNames()), Collections.list(_s.getHeaderNames()));
+            Assert.assertEquals(_f.name(), _w.getHeader("Origin"), _s.getHeader("ORIGIN"));
+            Assert.assertEquals(_f.name(), _w.getParameterMap().keySet(), _s.getParameterMap().keySet());
+            Assert.assertEquals(_f.name(), _w.getRequestedSessionId(), _s.getRequestedSessionId());
+            Assert.assertEquals(_f.name(), _w.isRequestedSessionIdFromCookie(), _s.isRequestedSessionIdFromCookie());
+            Assert.assertEquals(_f.name(), _w.isRequestedSessionIdFromURL(), _s.isRequestedSessionIdFromURL());
+        }
+    }
+
+    @Test
+    public void sessionIdFromCookie() {
+        HandshakeRequest_Snapshot _s = HandshakeRequest_Snapshot.of(Handshake_Fixture.BROWSER.newRequest());
+        Assert.assertEquals(Fixture_Strings.SESSION_ID, _s.getRequestedSessionId());
+        Assert.assertTrue(_s.isRequestedSessionIdFromCookie());
+        Assert.assertFalse(_s.isRequestedSessionIdFromURL());
+    }
+
+    @Test
+    public void sessionIdFromUrl() {
+        HandshakeRequest_Snapshot _s = HandshakeRequest_Snapshot.of(new Fixture_Request.Builder("wss://chat.example.com/app/ws/chat/general;jsessionid=ABC").build());
+        Assert.assertEquals("ABC", _s.getRequestedSessionId());
+        Assert.assertFalse(_s.isRequestedSessionIdFromCookie());
+        Assert.assertTrue(_s.isRequestedSessionIdFromURL());
+        Assert.assertEquals("wss://chat.example.com/app/ws/chat/general;jsessionid=ABC", _s.getRequestURL().toString());
+        /*no endpoint config, so all the path*/
+        Assert.assertEquals("", _s.getContextPath());
+        Assert.assertEquals("/app/ws/chat/general", _s.getServletPath());
+    }
+
+    @Test
+    public void noSessionId() {
+        HandshakeRequest_Snapshot _s = HandshakeRequest_Snapshot.of(Handshake_Fixture.MINIMAL.newRequest());
+        Assert.assertNull(_s.getRequestedSessionId());
+        Assert.assertFalse(_s.isRequestedSessionIdFromCookie());
+        Assert.assertFalse(_s.isRequestedSessionIdFromURL());
+    }
+}
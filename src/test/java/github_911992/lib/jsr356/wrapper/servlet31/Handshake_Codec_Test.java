@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Codec_Test.java
+Created on: Oct 17, 2026 11:30:45 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Strings;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks a {@link Handshake_Codec} round-trip gives the same servlet view as
+ * the wrapper it was encoded from, and that corrupted records are rejected
+ * on decode.
+ *
+ * @author https://github.com/911992
+ */
+public class Handshake_Codec_Test {
+
+    @Test
+    public void roundTrip() {
+        for (Handshake_Fixture _f : Handshake_Fixture.values()) {
+            HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(_f.newRequest());
+            byte[] _rec = Handshake_Codec.encode(_w);
+            Encoded_HttpServletRequest _d = Handshake_Codec.decode(ByteBuffer.wrap(_rec));
+            assert_same_view(_w, _d);
+            Assert.assertEquals(_rec.length, _d.getEncodedLength());
+            Assert.assertEquals(_f == Handshake_Fixture.MINIMAL ? null : Fixture_Strings.SESSION_ID, _d.getSessionId());
+            Assert.assertEquals(_d.getSessionId(), _d.getRequestedSessionId());
+            /*a decoded request encodes to the same record*/
+            Assert.assertArrayEquals(_rec, Handshake_Codec.encode(_d));
+        }
+    }
+
+    @Test
+    public void directBufferAndConsecutiveRecords() {
+        byte[] _a = Handshake_Codec.encode(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.BROWSER.newRequest()));
+        byte[] _b = Handshake_Codec.encode(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.MINIMAL.newRequest()));
+        ByteBuffer _buf = ByteBuffer.allocateDirect(_a.length + _b.length);
+        _buf.put(_a).put(_b).flip();
+        List<Encoded_HttpServletRequest> _res = Handshake_Codec.decodeAll(_buf);
+        Assert.assertEquals(2, _res.size());
+        Assert.assertFalse(_buf.hasRemaining());
+        assert_same_view(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.BROWSER.newRequest()), _res.get(0));
+        assert_same_view(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.MINIMAL.newRequest()), _res.get(1));
+    }
+
+    @Test
+    public void invalidRecords() {
+        byte[] _rec = Handshake_Codec.encode(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.BROWSER.newRequest()));
+        assert_rejected(new byte[Handshake_Codec.HEADER_SIZE - 1]);
+        assert_rejected(with_int(_rec, 0, 0x12345678));
+        assert_rejected(with_int(_rec, 4, 0x02000000));
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_LENGTH, _rec.length + 1));
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_HN, -1));
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_PV, Integer.MAX_VALUE / 8));
+        byte[] _cut = new byte[_rec.length - 1];
+        System.arraycopy(_rec, 0, _cut, 0, _cut.length);
+        assert_rejected(_cut);
+    }
+
+    @Test
+    public void corruptedEntries() {
+        byte[] _rec = Handshake_Codec.encode(new HandshakeRequest_HttpServletRequest(Handshake_Fixture.BROWSER.newRequest()));
+        ByteBuffer _b = ByteBuffer.wrap(_rec);
+        int _hn = Handshake_Codec.HEADER_SIZE;
+        int _hv = _hn + _b.getInt(Handshake_Codec.OFF_HN) * Handshake_Codec.HN_WIDTH;
+        int _pn = _hv + _b.getInt(Handshake_Codec.OFF_HV) * Handshake_Codec.HV_WIDTH;
+        int _pv = _pn + _b.getInt(Handshake_Codec.OFF_PN) * Handshake_Codec.PN_WIDTH;
+        /*scalar, and table strings out of the record*/
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_SCALARS, _rec.length));
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_SCALARS + 4, _rec.length));
+        assert_rejected(with_int(_rec, Handshake_Codec.OFF_SCALARS + 4, -2));
+        assert_rejected(with_int(_rec, _hn, -1));
+        assert_rejected(with_int(_rec, _hv + 4, Integer.MAX_VALUE));
+        assert_rejected(with_int(_rec, _pn, _rec.length - 1));
+        assert_rejected(with_int(_rec, _pv + 4, _rec.length));
+        /*value ranges out of the value tables*/
+        assert_rejected(with_int(_rec, _hn + 12, -1));
+        assert_rejected(with_int(_rec, _hn + 16, _b.getInt(Handshake_Codec.OFF_HV) + 1));
+        assert_rejected(with_int(_rec, _pn + 8, _b.getInt(Handshake_Codec.OFF_PV)));
+        assert_rejected(with_int(_rec, _pn + 12, Integer.MAX_VALUE));
+        /*a null string entry is valid*/
+        Assert.assertNull(Handshake_Codec.decode(ByteBuffer.wrap(with_int(_rec, Handshake_Codec.OFF_SCALARS + 4, -1))).getRequestURI());
+    }
+
+    private static void assert_same_view(HttpServletRequest arg_exp, HttpServletRequest arg_res) {
+        List<String> _names = Collections.list(arg_exp.getHeaderNames());
+        Assert.assertEquals(_names, Collections.list(arg_res.getHeaderNames()));
+        for (String _n : _names) {
+            Assert.assertEquals(_n, Collections.list(arg_exp.getHeaders(_n)), Collections.list(arg_res.getHeaders(_n)));
+            Assert.assertEquals(_n, arg_exp.getHeader(_n), arg_res.getHeader(_n.toUpperCase()));
+        }
+        Map<String, String[]> _params = arg_exp.getParameterMap();
+        Assert.assertEquals(_params.keySet(), arg_res.getParameterMap().keySet());
+        for (Map.Entry<String, String[]> _e : _params.entrySet()) {
+            Assert.assertArrayEquals(_e.getKey(), _e.getValue(), arg_res.getParameterValues(_e.getKey()));
+        }
+        Assert.assertEquals(arg_exp.getRequestURI(), arg_res.getRequestURI());
+        Assert.assertEquals(arg_exp.getQueryString(), arg_res.getQueryString());
+        Assert.assertEquals(arg_exp.getScheme(), arg_res.getScheme());
+        Assert.assertEquals(arg_exp.getUserPrincipal() == null ? null : arg_exp.getUserPrincipal().getName(), arg_res.getUserPrincipal() == null ? null : arg_res.getUserPrincipal().getName());
+    }
+
+    private static byte[] with_int(byte[] arg_rec, int arg_at, int arg_value) {
+        byte[] _res = arg_rec.clone();
+        ByteBuffer.wrap(_res).putInt(arg_at, arg_value);
+        return _res;
+    }
+
+    private static void assert_rejected(byte[] arg_rec) {
+        try {
+            Handshake_Codec.decode(ByteBuffer.wrap(arg_rec));
+            Assert.fail("Corrupted record is expected to be rejected");
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Filters_Test.java
+Created on: Oct 17, 2026 10:41:06 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Endpoint_Config;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.server.ServerEndpointConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Handshake_Filters} runs filters of a handshake by the
+ * decoded path of the request(without path params), so an escaped path
+ * could not skip a filter.
+ *
+ * @author https://github.com/911992
+ */
+public class Handshake_Filters_Test {
+
+    private static final ServerEndpointConfig ENDPOINT = new Fixture_Endpoint_Config("/{section}/{room}");
+
+    @Test
+    public void staticChain() throws IOException, ServletException {
+        Blocking_Filter _f = new Blocking_Filter();
+        Handshake_Filters _filters = new Handshake_Filters().add(_f, "/*");
+        Assert.assertFalse(_filters.doFilter(ENDPOINT, wrap("/app/public/x"), new Handshake_HttpServletResponse()));
+        Assert.assertEquals(1, _f.calls);
+        Assert.assertTrue(new Handshake_Filters().doFilter(ENDPOINT, wrap("/app/public/x"), new Handshake_HttpServletResponse()));
+    }
+
+    @Test
+    public void dynamicChain() throws IOException, ServletException {
+        Blocking_Filter _f = new Blocking_Filter();
+        Handshake_Filters _filters = new Handshake_Filters().add(_f, "/admin/*");
+        Assert.assertTrue(_filters.doFilter(ENDPOINT, wrap("/app/public/x"), new Handshake_HttpServletResponse()));
+        Assert.assertEquals(0, _f.calls);
+        Assert.assertFalse(_filters.doFilter(ENDPOINT, wrap("/app/admin/x"), new Handshake_HttpServletResponse()));
+        Assert.assertEquals(1, _f.calls);
+    }
+
+    @Test
+    public void escapedSegment() throws IOException, ServletException {
+        Blocking_Filter _f = new Blocking_Filter();
+        Handshake_Filters _filters = new Handshake_Filters().add(_f, "/admin/*");
+        Assert.assertFalse(_filters.doFilter(ENDPOINT, wrap("/app/%61dmin/x"), new Handshake_HttpServletResponse()));
+        Assert.assertFalse(_filters.doFilter(ENDPOINT, wrap("/app/%61%64%6D%69%6E/x"), new Handshake_HttpServletResponse()));
+        Assert.assertEquals(2, _f.calls);
+    }
+
+    @Test
+    public void pathParams() throws IOException, ServletException {
+        Blocking_Filter _f = new Blocking_Filter();
+        Handshake_Filters _filters = new Handshake_Filters().add(_f, "/admin/*");
+        Assert.assertFalse(_filters.doFilter(ENDPOINT, wrap("/app/admin;v=1/x;jsessionid=ABC"), new Handshake_HttpServletResponse()));
+        Assert.assertEquals(1, _f.calls);
+    }
+
+    private static HttpServletRequest wrap(String arg_path) {
+        return HandshakeRequest_HttpServletRequest.wrapperForHandshakeRequest(new Fixture_Request.Builder("wss://chat.example.com" + arg_path).build());
+    }
+
+    /**
+     * Counts its calls, and never continues the chain(as an auth filter
+     * rejecting the request).
+     */
+    private static final class Blocking_Filter implements Filter {
+
+        private int calls;
+
+        @Override
+        public void init(FilterConfig arg_config) {
+        }
+
+        @Override
+        public void doFilter(ServletRequest arg_request, ServletResponse arg_response, FilterChain arg_chain) throws IOException {
+            calls++;
+            ((HttpServletResponse) arg_response).sendError(HttpServletResponse.SC_FORBIDDEN);
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_HttpServletResponse_Test.java
+Created on: Oct 17, 2026 10:58:27 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.Cookie;
+import javax.websocket.HandshakeResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Handshake_HttpServletResponse} rejects headers which could
+ * split the response, and copies set(replaced), and added(appended) headers
+ * into the handshake response.
+ *
+ * @author https://github.com/911992
+ */
+public class Handshake_HttpServletResponse_Test {
+
+    @Test
+    public void rejectsControlChars() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        String[][] _invalid = {
+            {"X-A", "a\r\nSet-Cookie: x=1"},
+            {"X-A", "a\nb"},
+            {"X-A", "a\u0000b"},
+            {"X-A", "a\u007fb"},
+            {"X-A\r\nX-B", "a"},
+            {"X A", "a"},
+            {"X:A", "a"},
+            {"", "a"}};
+        for (String[] _h : _invalid) {
+            try {
+                _res.setHeader(_h[0], _h[1]);
+                Assert.fail(_h[0] + ": " + _h[1]);
+            } catch (IllegalArgumentException e) {
+                /*expected*/
+            }
+            try {
+                _res.addHeader(_h[0], _h[1]);
+                Assert.fail(_h[0] + ": " + _h[1]);
+            } catch (IllegalArgumentException e) {
+                /*expected*/
+            }
+        }
+        Assert.assertTrue(_res.getHeaderNames().isEmpty());
+        _res.setHeader("X-A", "a\tb");
+        Assert.assertEquals("a\tb", _res.getHeader("x-a"));
+    }
+
+    @Test
+    public void setReplacesExisting() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        _res.setHeader("cache-control", "no-store");
+        Map<String, List<String>> _dst = copy(_res, "Cache-Control", "private", "max-age=0");
+        Assert.assertEquals(1, _dst.size());
+        Assert.assertEquals(Collections.singletonList("no-store"), _dst.get("cache-control"));
+    }
+
+    @Test
+    public void addAppendsExisting() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        _res.addHeader("vary", "Origin");
+        Map<String, List<String>> _dst = copy(_res, "Vary", "Accept-Encoding");
+        Assert.assertEquals(1, _dst.size());
+        Assert.assertEquals(Arrays.asList("Accept-Encoding", "Origin"), _dst.get("Vary"));
+    }
+
+    @Test
+    public void setThenAdd() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        _res.setHeader("X-A", "1");
+        _res.addHeader("X-A", "2");
+        Map<String, List<String>> _dst = copy(_res, "X-A", "0");
+        Assert.assertEquals(Arrays.asList("1", "2"), _dst.get("X-A"));
+    }
+
+    @Test
+    public void setNullRemoves() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        _res.addHeader("X-A", "1");
+        _res.setHeader("x-a", null);
+        Assert.assertNull(_res.getHeader("X-A"));
+        Map<String, List<String>> _dst = copy(_res, "X-A", "0");
+        Assert.assertTrue(_dst.isEmpty());
+    }
+
+    @Test
+    public void cookiesAreAppended() {
+        Handshake_HttpServletResponse _res = new Handshake_HttpServletResponse();
+        _res.addCookie(new Cookie("a", "1"));
+        Map<String, List<String>> _dst = copy(_res, "set-cookie", "b=2");
+        Assert.assertEquals(1, _dst.size());
+        Assert.assertEquals(2, _dst.get("set-cookie").size());
+        Assert.assertEquals("b=2", _dst.get("set-cookie").get(0));
+        Assert.assertTrue(_dst.get("set-cookie").get(1).startsWith("a=1"));
+    }
+
+    /**
+     * Copies the given response into a case-sensitive handshake response,
+     * which already has the given header.
+     */
+    private static Map<String, List<String>> copy(Handshake_HttpServletResponse arg_res, String arg_name, String... arg_values) {
+        final Map<String, List<String>> _heads = new HashMap<>();
+        _heads.put(arg_name, new ArrayList<>(Arrays.asList(arg_values)));
+        arg_res.copyTo(new HandshakeResponse() {
+            @Override
+            public Map<String, List<String>> getHeaders() {
+                return _heads;
+            }
+        });
+        return _heads;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Handshake_Recorder_Test.java
+Created on: Oct 18, 2026 12:06:44 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks {@link Handshake_Recorder} writes whole, redacted records, and
+ * drops handshakes of a full file without touching them.
+ *
+ * @author https://github.com/911992
+ */
+public class Handshake_Recorder_Test {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsRedacted() throws IOException {
+        Path _file = folder.newFile("corpus.bin").toPath();
+        HandshakeRequest _req = Handshake_Fixture.BROWSER.newRequest();
+        try (Handshake_Recorder _rec = new Handshake_Recorder(_file)) {
+            Assert.assertTrue(_rec.record(_req));
+            Assert.assertTrue(_rec.record(Handshake_Fixture.MINIMAL.newRequest()));
+            Assert.assertEquals(2, _rec.getRecorded());
+        }
+        List<Encoded_HttpServletRequest> _recs = Handshake_Codec.decodeAll(ByteBuffer.wrap(Files.readAllBytes(_file)));
+        Assert.assertEquals(2, _recs.size());
+        Encoded_HttpServletRequest _e = _recs.get(0);
+        String _auth = _req.getHeaders().get("Authorization").get(0);
+        Assert.assertEquals(Redacted_HandshakeRequest.mask(_auth), _e.getHeader("Authorization"));
+        Assert.assertEquals(_req.getHeaders().get("Origin").get(0), _e.getHeader("Origin"));
+        Assert.assertEquals(Redacted_HandshakeRequest.mask(Handshake_Fixture.PRINCIPAL), _e.getUserPrincipal().getName());
+    }
+
+    @Test
+    public void fullFileDropsBeforeEncoding() throws IOException {
+        Path _file = folder.newFile("corpus.bin").toPath();
+        /*any access to the request fails, so it's counted as a failure, if touched*/
+        HandshakeRequest _req = (HandshakeRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{HandshakeRequest.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object arg_proxy, Method arg_method, Object[] arg_args) {
+                throw new IllegalStateException(arg_method.getName());
+            }
+        });
+        try (Handshake_Recorder _rec = new Handshake_Recorder(_file)) {
+            _rec.setMaxBytes(0);
+            Assert.assertFalse(_rec.record(_req));
+            Assert.assertEquals(1, _rec.getDropped());
+            Assert.assertEquals(0, _rec.getFailures());
+        }
+        Assert.assertEquals(0, Files.size(_file));
+    }
+
+    @Test
+    public void recordLargerThanRoomIsDropped() throws IOException {
+        Path _file = folder.newFile("corpus.bin").toPath();
+        try (Handshake_Recorder _rec = new Handshake_Recorder(_file)) {
+            Assert.assertTrue(_rec.record(Handshake_Fixture.MINIMAL.newRequest()));
+            long _size = Files.size(_file);
+            _rec.setMaxBytes(_size + 1);
+            Assert.assertFalse(_rec.record(Handshake_Fixture.MINIMAL.newRequest()));
+            Assert.assertEquals(1, _rec.getDropped());
+            Assert.assertEquals(_size, Files.size(_file));
+        }
+    }
+
+    @Test
+    public void sampledOut() throws IOException {
+        Path _file = folder.newFile("corpus.bin").toPath();
+        try (Handshake_Recorder _rec = new Handshake_Recorder(_file)) {
+            _rec.setSampleRate(0);
+            Assert.assertFalse(_rec.record(Handshake_Fixture.BROWSER.newRequest()));
+            Assert.assertEquals(1, _rec.getSampledOut());
+            Assert.assertFalse(_rec.record(null));
+        }
+        Assert.assertEquals(0, Files.size(_file));
+    }
+}
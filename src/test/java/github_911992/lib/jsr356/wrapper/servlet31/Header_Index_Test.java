@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Header_Index_Test.java
+Created on: Oct 18, 2026 12:41:19 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Header_Index} looks names up case-insensitively(over a
+ * case-sensitive container map), and merges names only different in case.
+ *
+ * @author https://github.com/911992
+ */
+public class Header_Index_Test {
+
+    @Test
+    public void caseFolding() {
+        Map<String, List<String>> _heads = new LinkedHashMap<>();
+        _heads.put("Origin", Collections.singletonList("https://chat.example.com"));
+        _heads.put("x-request-id", Collections.singletonList("42"));
+        Header_Index _idx = new Header_Index(_heads);
+        String[] _names = {"Origin", "origin", "ORIGIN", "oRiGiN", Header_Index.ORIGIN, new String("Origin")};
+        for (String _n : _names) {
+            Assert.assertEquals(_n, "https://chat.example.com", _idx.getFirst(_n));
+        }
+        Assert.assertEquals("42", _idx.getFirst("X-Request-ID"));
+        Assert.assertNull(_idx.get("Origin2"));
+        Assert.assertNull(_idx.get("Origi"));
+        Assert.assertNull(_idx.get(Header_Index.COOKIE));
+        Assert.assertNull(_idx.get(null));
+        /*only ASCII letters are folded*/
+        Assert.assertNull(_idx.get("x_request_id"));
+    }
+
+    @Test
+    public void mergesNamesOfDifferentCase() {
+        Map<String, List<String>> _heads = new LinkedHashMap<>();
+        _heads.put("Cookie", Collections.singletonList("a=1"));
+        _heads.put("Host", Collections.singletonList("chat.example.com"));
+        _heads.put("cookie", Arrays.asList("b=2", "c=3"));
+        _heads.put("COOKIE", Collections.singletonList("d=4"));
+        Header_Index _idx = new Header_Index(_heads);
+        Assert.assertEquals(Arrays.asList("a=1", "b=2", "c=3", "d=4"), _idx.get("cookie"));
+        Assert.assertSame(_idx.get("cookie"), _idx.get(Header_Index.COOKIE));
+        Assert.assertEquals("a=1", _idx.getFirst("Cookie"));
+        /*first seen case is kept*/
+        Assert.assertEquals(Arrays.asList("Cookie", "Host"), _idx.names());
+        try {
+            _idx.get("Cookie").add("e=5");
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void nullAndEmptyEntries() {
+        Map<String, List<String>> _heads = new LinkedHashMap<>();
+        _heads.put(null, Collections.singletonList("x"));
+        _heads.put("X-Null", null);
+        _heads.put("X-Empty", Collections.<String>emptyList());
+        Header_Index _idx = new Header_Index(_heads);
+        Assert.assertEquals(Collections.singletonList("X-Empty"), _idx.names());
+        Assert.assertNull(_idx.get("x-null"));
+        Assert.assertNull(_idx.getFirst("x-empty"));
+        Assert.assertTrue(Header_Index.EMPTY.names().isEmpty());
+        Assert.assertNull(Header_Index.EMPTY.get(Header_Index.HOST));
+    }
+
+    @Test
+    public void manyNames() {
+        Map<String, List<String>> _heads = new LinkedHashMap<>();
+        for (int a = 0; a < 100; a++) {
+            _heads.put("X-H" + a, Collections.singletonList(Integer.toString(a)));
+        }
+        Header_Index _idx = new Header_Index(_heads);
+        Assert.assertEquals(100, _idx.names().size());
+        for (int a = 0; a < 100; a++) {
+            Assert.assertEquals(Integer.toString(a), _idx.getFirst("x-h" + a));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Http_Date_Parser_Test.java
+Created on: Oct 17, 2026 11:21:03 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Http_Date_Parser} against the HTTP-date formats of RFC 7231
+ * Section 7.1.1.1, and the {@link SimpleDateFormat}(RFC 5322 pattern) of
+ * version 0.1.0 it replaces.
+ *
+ * @author https://github.com/911992
+ */
+public class Http_Date_Parser_Test {
+
+    /**
+     * {@code Sun, 06 Nov 1994 08:49:37 GMT}, the RFC 7231 example.
+     */
+    private static final long RFC_EXAMPLE = 784111777000L;
+
+    @Test
+    public void imfFixdateMatchesSimpleDateFormat() throws ParseException {
+        SimpleDateFormat _fmt = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+        _fmt.setTimeZone(TimeZone.getTimeZone("GMT"));
+        Random _rnd = new Random(20261017L);
+        for (int a = 0; a < 5000; a++) {
+            /*1900 to 2100, second precision*/
+            long _millis = (-2208988800L + (long) (_rnd.nextDouble() * 6311433600L)) * 1000L;
+            String _s = _fmt.format(new Date(_millis));
+            Assert.assertEquals(_s, _fmt.parse(_s).getTime(), Http_Date_Parser.parse(_s));
+        }
+    }
+
+    @Test
+    public void rfc7231Formats() {
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun, 06 Nov 1994 08:49:37 GMT"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sunday, 06-Nov-94 08:49:37 GMT"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun Nov  6 08:49:37 1994"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun Nov 06 08:49:37 1994"));
+    }
+
+    @Test
+    public void lenientParts() {
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("sun, 6 nov 1994 08:49:37 gmt"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("  Sun, 06 Nov 1994 08:49:37 UTC  "));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun, 06 Nov 1994 08:49:37 UT"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun, 06 Nov 1994 08:49:37 Z"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun, 06 Nov 1994 12:19:37 +0330"));
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Sun, 06 Nov 1994 03:49:37 -0500"));
+        /*day-name is not validated*/
+        Assert.assertEquals(RFC_EXAMPLE, Http_Date_Parser.parse("Mon, 06 Nov 1994 08:49:37 GMT"));
+    }
+
+    @Test
+    public void twoDigitYears() {
+        Assert.assertEquals(Http_Date_Parser.parse("Thu, 01 Jan 1970 00:00:00 GMT"), Http_Date_Parser.parse("Thursday, 01-Jan-70 00:00:00 GMT"));
+        Assert.assertEquals(0L, Http_Date_Parser.parse("Thursday, 01-Jan-70 00:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.parse("Tue, 31 Dec 2069 23:59:59 GMT"), Http_Date_Parser.parse("Tuesday, 31-Dec-69 23:59:59 GMT"));
+    }
+
+    @Test
+    public void calendarChecks() {
+        Assert.assertNotEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Thu, 29 Feb 2024 00:00:00 GMT"));
+        Assert.assertNotEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Tue, 29 Feb 2000 00:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Mon, 29 Feb 2100 00:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Tue, 31 Apr 2026 00:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Tue, 00 Apr 2026 00:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Sun, 06 Nov 1994 24:00:00 GMT"));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse("Sun, 06 Nov 1994 08:60:00 GMT"));
+    }
+
+    @Test
+    public void invalidDates() {
+        String[] _invalid = {null, "", "garbage", "Sun, 06 Nov 1994", "Sun, 06 Nov 1994 08:49:37", "Sun, 06 Nov 1994 08:49:37 GMT x",
+            "Sun, 06 Xyz 1994 08:49:37 GMT", "Sun, 06 Nov 994 08:49:37 GMT", "Sun, 06-Nov 1994 08:49:37 GMT", "Sun, 06 Nov 1994 08-49-37 GMT",
+            "Sun, 06 Nov 1994 08:49:37 PST", "Sun, 06 Nov 1994 08:49:37 +2400", "Sun Nov  6 08:49:37 94", "1994-11-06T08:49:37Z"};
+        for (String _s : _invalid) {
+            Assert.assertEquals(String.valueOf(_s), Http_Date_Parser.INVALID, Http_Date_Parser.parse(_s));
+        }
+    }
+
+    @Test
+    public void cachedParse() {
+        String _s = "Tue, 17 Oct 2026 07:25:12 GMT";
+        long _exp = Http_Date_Parser.parse(_s);
+        Assert.assertEquals(_exp, Http_Date_Parser.parse_cached(_s));
+        Assert.assertEquals(_exp, Http_Date_Parser.parse_cached(new String(_s)));
+        Assert.assertEquals(Http_Date_Parser.INVALID, Http_Date_Parser.parse_cached("garbage"));
+        Assert.assertEquals(_exp, Http_Date_Parser.parse_cached(_s));
+    }
+}
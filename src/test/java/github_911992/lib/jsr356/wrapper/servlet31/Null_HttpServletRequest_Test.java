@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Null_HttpServletRequest_Test.java
+Created on: Oct 18, 2026 01:41:23 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Null_HttpServletRequest} throws stackless exceptions naming
+ * the method when strict, and returns servlet-spec neutral values when
+ * lenient, except methods whose spec defines a failure.
+ *
+ * @author https://github.com/911992
+ */
+public class Null_HttpServletRequest_Test {
+
+    @Test
+    public void strictThrowsStackless() {
+        Null_HttpServletRequest _req = new Null_HttpServletRequest();
+        Assert.assertFalse(_req.isLenient());
+        try {
+            _req.getContentLength();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().endsWith("getContentLength()"));
+            Assert.assertEquals(0, e.getStackTrace().length);
+        }
+        try {
+            _req.getHeader("Origin");
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().endsWith("getHeader(String)"));
+        }
+    }
+
+    @Test
+    public void lenientDefaults() throws IOException {
+        Null_HttpServletRequest _req = new Lenient_Request();
+        Assert.assertNull(_req.getAuthType());
+        Assert.assertNull(_req.getCookies());
+        Assert.assertEquals(-1, _req.getDateHeader("Date"));
+        Assert.assertEquals(-1, _req.getIntHeader("X-A"));
+        Assert.assertNull(_req.getHeader("Origin"));
+        Assert.assertFalse(_req.getHeaders("Origin").hasMoreElements());
+        Assert.assertFalse(_req.getHeaderNames().hasMoreElements());
+        Assert.assertEquals("", _req.getContextPath());
+        Assert.assertEquals("", _req.getServletPath());
+        Assert.assertNull(_req.getPathInfo());
+        Assert.assertNull(_req.getSession());
+        Assert.assertFalse(_req.isRequestedSessionIdValid());
+        Assert.assertFalse(_req.isUserInRole("user"));
+        Assert.assertEquals(-1, _req.getContentLength());
+        Assert.assertEquals(-1L, _req.getContentLengthLong());
+        Assert.assertEquals(-1, _req.getServerPort());
+        Assert.assertTrue(_req.getParameterMap().isEmpty());
+        Assert.assertFalse(_req.getParameterNames().hasMoreElements());
+        Assert.assertEquals(Locale.getDefault(), _req.getLocale());
+        Assert.assertEquals(Collections.singletonList(Locale.getDefault()), Collections.list(_req.getLocales()));
+        Assert.assertFalse(_req.isAsyncStarted());
+        Assert.assertFalse(_req.isAsyncSupported());
+        Assert.assertEquals(DispatcherType.REQUEST, _req.getDispatcherType());
+        ServletInputStream _in = _req.getInputStream();
+        Assert.assertTrue(_in.isFinished());
+        Assert.assertEquals(-1, _in.read());
+        Assert.assertNull(_req.getReader().readLine());
+        /*setters are ignored*/
+        _req.setAttribute("a", 1);
+        Assert.assertNull(_req.getAttribute("a"));
+    }
+
+    @Test
+    public void lenientSpecFailures() throws IOException {
+        Null_HttpServletRequest _req = new Lenient_Request();
+        try {
+            _req.startAsync();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+        try {
+            _req.getAsyncContext();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+        try {
+            _req.changeSessionId();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+        try {
+            _req.login("u", "p");
+            Assert.fail();
+        } catch (ServletException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void wrapperFollowsConfig() throws IOException {
+        Fixture_Request _hs = new Fixture_Request.Builder("wss://chat.example.com/ws").build();
+        HandshakeRequest_HttpServletRequest _strict = new HandshakeRequest_HttpServletRequest(_hs);
+        Assert.assertFalse(_strict.isLenient());
+        try {
+            _strict.getInputStream();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            /*expected*/
+        }
+        Wrapper_Config _cfg = new Wrapper_Config();
+        Assert.assertFalse(_cfg.isLenient());
+        _cfg.setLenient(true);
+        HandshakeRequest_HttpServletRequest _lenient = new HandshakeRequest_HttpServletRequest(_hs, _cfg);
+        Assert.assertTrue(_lenient.isLenient());
+        Assert.assertEquals(-1, _lenient.getInputStream().read());
+        Assert.assertNull(_lenient.getAuthType());
+    }
+
+    /**
+     * A lenient null request.
+     */
+    private static final class Lenient_Request extends Null_HttpServletRequest {
+
+        @Override
+        protected boolean isLenient() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Parse_Limit_Exception_Test.java
+Created on: Oct 18, 2026 02:34:58 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks each parse budget of {@link Wrapper_Config} is allowed up to its
+ * max, and a breach throws(a stackless) {@link Parse_Limit_Exception} of
+ * the limit, by {@code checkParseLimits()}, and accessors alike.
+ *
+ * @author https://github.com/911992
+ */
+public class Parse_Limit_Exception_Test {
+
+    private static final Fixture_Request REQUEST = new Fixture_Request.Builder("wss://chat.example.com/ws?a=1&b=2&c=3")
+            .header("Cookie", "a=1; b=2", "c=3")
+            .header("X-Forwarded-For", "10.0.0.1", "10.0.0.2")
+            .header("Host", "chat.example.com")
+            .build();
+
+    @Test
+    public void unlimitedByDefault() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        Assert.assertEquals(Wrapper_Config.UNLIMITED, _cfg.getMaxCookies());
+        Assert.assertEquals(Wrapper_Config.UNLIMITED, _cfg.getMaxCookieBytes());
+        Assert.assertEquals(Wrapper_Config.UNLIMITED, _cfg.getMaxParameters());
+        Assert.assertEquals(Wrapper_Config.UNLIMITED, _cfg.getMaxHeaderValues());
+        Assert.assertEquals(Wrapper_Config.UNLIMITED, _cfg.getMaxRetainedBytes());
+        new HandshakeRequest_HttpServletRequest(REQUEST, _cfg).checkParseLimits();
+        try {
+            _cfg.setMaxCookies(-2);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+        try {
+            _cfg.setMaxRetainedBytes(-2);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void cookies() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setMaxCookies(3);
+        Assert.assertEquals(3, wrap(_cfg).getCookies().length);
+        _cfg.setMaxCookies(2);
+        HandshakeRequest_HttpServletRequest _w = wrap(_cfg);
+        expect(Parse_Limit.COOKIES, 2, _w, false);
+        /*nothing partial is cached, so accessors fail the same way*/
+        try {
+            _w.getCookies();
+            Assert.fail();
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.COOKIES, e.getLimit());
+        }
+    }
+
+    @Test
+    public void cookieBytes() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setMaxCookieBytes(11);
+        wrap(_cfg).checkParseLimits();
+        _cfg.setMaxCookieBytes(10);
+        expect(Parse_Limit.COOKIE_BYTES, 10, wrap(_cfg), false);
+    }
+
+    @Test
+    public void parameters() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setMaxParameters(3);
+        Assert.assertEquals(3, wrap(_cfg).getParameterMap().size());
+        _cfg.setMaxParameters(2);
+        expect(Parse_Limit.PARAMETERS, 2, wrap(_cfg), false);
+        expect(Parse_Limit.PARAMETERS, 2, wrap(_cfg), true);
+        /*query string scans*/
+        _cfg.setParseQueryString(true);
+        expect(Parse_Limit.PARAMETERS, 2, wrap(_cfg), false);
+        /*a lookup scans(and counts) up to the asked param*/
+        Assert.assertEquals("1", wrap(_cfg).getParameter("a"));
+        try {
+            wrap(_cfg).getParameter("c");
+            Assert.fail();
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.PARAMETERS, e.getLimit());
+        }
+    }
+
+    @Test
+    public void headerValues() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setMaxHeaderValues(2);
+        wrap(_cfg).checkParseLimits();
+        _cfg.setMaxHeaderValues(1);
+        expect(Parse_Limit.HEADER_VALUES, 1, wrap(_cfg), false);
+        expect(Parse_Limit.HEADER_VALUES, 1, wrap(_cfg), true);
+        /*names only different in case are counted as one*/
+        Fixture_Request _merged = new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header("X-A", "1").header("x-a", "2").caseSensitive().build();
+        try {
+            new HandshakeRequest_HttpServletRequest(_merged, _cfg).getHeaderNames();
+            Assert.fail();
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.HEADER_VALUES, e.getLimit());
+        }
+    }
+
+    @Test
+    public void retainedBytes() {
+        long _total = "a=1&b=2&c=3".length();
+        for (String _n : REQUEST.getHeaders().keySet()) {
+            _total += _n.length();
+            for (String _v : REQUEST.getHeaders().get(_n)) {
+                _total += _v.length();
+            }
+        }
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setMaxRetainedBytes(_total);
+        wrap(_cfg).checkParseLimits();
+        _cfg.setMaxRetainedBytes(_total - 1);
+        expect(Parse_Limit.RETAINED_BYTES, _total - 1, wrap(_cfg), false);
+        /*the query string alone*/
+        _cfg.setMaxRetainedBytes(4);
+        expect(Parse_Limit.RETAINED_BYTES, 4, wrap(_cfg), true);
+    }
+
+    @Test
+    public void stackless() {
+        Parse_Limit_Exception _e = new Parse_Limit_Exception(Parse_Limit.COOKIES, 8);
+        Assert.assertEquals(0, _e.getStackTrace().length);
+        Assert.assertEquals(Parse_Limit.COOKIES, _e.getLimit());
+        Assert.assertEquals(8, _e.getMax());
+        Assert.assertTrue(_e.getMessage().contains("COOKIES"));
+    }
+
+    private static HandshakeRequest_HttpServletRequest wrap(Wrapper_Config arg_config) {
+        return new HandshakeRequest_HttpServletRequest(REQUEST, arg_config);
+    }
+
+    /**
+     * Expects the given limit be breached, by checking all limits, or by
+     * accessing headers.
+     */
+    private static void expect(Parse_Limit arg_limit, long arg_max, HandshakeRequest_HttpServletRequest arg_wrapper, boolean arg_by_accessor) {
+        try {
+            if (arg_by_accessor) {
+                arg_wrapper.getHeaderNames();
+                arg_wrapper.getParameterMap();
+            } else {
+                arg_wrapper.checkParseLimits();
+            }
+            Assert.fail(arg_limit.toString());
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(arg_limit, e.getLimit());
+            Assert.assertEquals(arg_max, e.getMax());
+        }
+    }
+}
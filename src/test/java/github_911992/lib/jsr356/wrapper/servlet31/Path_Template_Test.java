@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Path_Template_Test.java
+Created on: Oct 17, 2026 11:38:19 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Path_Template} against JSR 356 level-1 URI templates
+ * matching(RFC 6570 simple variables as whole segments), and path
+ * decoding(RFC 3986, {@code +} is not a space).
+ *
+ * @author https://github.com/911992
+ */
+public class Path_Template_Test {
+
+    @Test
+    public void matchesTrailingSegments() {
+        Path_Template _t = Path_Template.of("/ws/chat/{room}");
+        String _path = "/app/ws/chat/general";
+        int _at = _t.match(_path);
+        Assert.assertEquals("/app".length(), _at);
+        Map<String, String> _params = _t.params(_path, _at);
+        Assert.assertEquals(1, _params.size());
+        Assert.assertEquals("general", _params.get("room"));
+        Assert.assertEquals(0, _t.match("/ws/chat/general"));
+    }
+
+    @Test
+    public void multipleVariables() {
+        Path_Template _t = Path_Template.of("/t/{tenant}/r/{room}");
+        String _path = "/ctx/t/acme/r/caf%C3%A9%20one";
+        int _at = _t.match(_path);
+        Assert.assertEquals(4, _at);
+        Map<String, String> _params = _t.params(_path, _at);
+        Assert.assertArrayEquals(new String[]{"tenant", "room"}, _params.keySet().toArray());
+        Assert.assertEquals("acme", _params.get("tenant"));
+        Assert.assertEquals("café one", _params.get("room"));
+    }
+
+    @Test
+    public void mismatches() {
+        Path_Template _t = Path_Template.of("/ws/chat/{room}");
+        Assert.assertEquals(-1, _t.match("/app/ws/chat/"));
+        Assert.assertEquals(-1, _t.match("/app/ws/chats/general"));
+        Assert.assertEquals(-1, _t.match("/app/ws/chat/general/x"));
+        Assert.assertEquals(-1, _t.match("chat/general"));
+        Assert.assertEquals(-1, Path_Template.of("/ws/chat").match("/app/ws/CHAT"));
+    }
+
+    @Test
+    public void rootTemplate() {
+        Path_Template _t = Path_Template.of("/");
+        Assert.assertEquals(4, _t.match("/app/"));
+        Assert.assertEquals(0, _t.match("/"));
+        Assert.assertEquals(-1, _t.match("/app"));
+        Assert.assertTrue(_t.params("/app/", 4).isEmpty());
+    }
+
+    @Test
+    public void decodeMatchesUrlDecoderWithoutPlus() throws UnsupportedEncodingException {
+        String[] _raw = {"plain", "a%20b", "caf%C3%A9", "%F0%9F%98%80", "%2F%3B%25", "Asia%2fTehran"};
+        for (String _r : _raw) {
+            Assert.assertEquals(_r, URLDecoder.decode(_r, "UTF-8"), Path_Template.decode(_r));
+        }
+        Assert.assertEquals("a+b!", Path_Template.decode("a+b%21"));
+        Assert.assertEquals("100%", Path_Template.decode("100%"));
+        Assert.assertEquals("%zz!", Path_Template.decode("%zz%21"));
+    }
+
+    @Test
+    public void stripPathParams() {
+        Assert.assertEquals("/a/b", Path_Template.strip_path_params("/a;jsessionid=1/b;x=y"));
+        Assert.assertEquals("/a/b", Path_Template.strip_path_params("/a/b"));
+        Assert.assertEquals("/a/", Path_Template.strip_path_params("/a/;p"));
+    }
+
+    @Test
+    public void compiledOnce() {
+        Assert.assertSame(Path_Template.of("/ws/cache/{x}"), Path_Template.of("/ws/cache/{x}"));
+        Assert.assertEquals("/ws/cache/{x}", Path_Template.of("/ws/cache/{x}").template);
+    }
+}
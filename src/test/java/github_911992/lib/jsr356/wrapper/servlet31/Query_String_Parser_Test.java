@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Query_String_Parser_Test.java
+Created on: Oct 17, 2026 11:04:51 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Query_String_Parser} against what it replaces: the
+ * container decoding params eagerly, by {@link URLDecoder}(UTF-8) for
+ * well-formed query strings, and the JDK UTF-8 decoder for malformed byte
+ * sequences.
+ *
+ * @author https://github.com/911992
+ */
+public class Query_String_Parser_Test {
+
+    private static final String[] WELL_FORMED = {
+        "",
+        "a=1",
+        "a=1&b=2&a=3",
+        "room=general&room=random&debug=",
+        "scope=read+write+presence&tz=Asia%2FTehran",
+        "status_text=Working%20from%20home&q=%26%3D%25",
+        "name=%D8%B3%D9%84%D8%A7%D9%85&emoji=%F0%9F%98%80%F0%9F%8E%89",
+        "caf%C3%A9=cr%C3%A8me&x%2By=1%2B1",
+        "flag&empty=&=ignored&&trailing=1&"
+    };
+
+    @Test
+    public void wellFormedMatchesUrlDecoder() throws UnsupportedEncodingException {
+        for (String _q : WELL_FORMED) {
+            Map<String, List<String>> _exp = reference(_q);
+            Query_String_Parser _p = new Query_String_Parser(_q);
+            Assert.assertEquals(_q, _exp, _p.parse_all());
+            Assert.assertEquals(_q, count(_exp), _p.count());
+            for (Map.Entry<String, List<String>> _e : _exp.entrySet()) {
+                Assert.assertEquals(_q, _e.getValue().get(0), _p.first(_e.getKey()));
+                Assert.assertArrayEquals(_q, _e.getValue().toArray(new String[0]), _p.values(_e.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void supplementaryCharactersAsSurrogatePairs() {
+        Query_String_Parser _p = new Query_String_Parser("e=%F0%9F%98%80&m=%F4%8F%BF%BF");
+        Assert.assertEquals("😀", _p.first("e"));
+        Assert.assertEquals("􏿿", _p.first("m"));
+        Assert.assertEquals("1", new Query_String_Parser("%F0%9F%98%80=1").first("😀"));
+    }
+
+    @Test
+    public void malformedUtf8MatchesJdkDecoder() {
+        /*lead, continuation, and boundary bytes of each sequence length*/
+        int[] _pool = {0x41, 0x7f, 0x80, 0x8f, 0x90, 0x9f, 0xa0, 0xbf, 0xc0, 0xc1, 0xc2, 0xdf, 0xe0, 0xed, 0xee, 0xef, 0xf0, 0xf4, 0xf5, 0xff};
+        Random _rnd = new Random(20261017L);
+        for (int a = 0; a < 20000; a++) {
+            byte[] _b = new byte[1 + _rnd.nextInt(7)];
+            StringBuilder _q = new StringBuilder("k=");
+            for (int b = 0; b < _b.length; b++) {
+                _b[b] = (byte) (_rnd.nextBoolean() ? _pool[_rnd.nextInt(_pool.length)] : _rnd.nextInt(256));
+                _q.append(String.format("%%%02X", _b[b] & 0xff));
+            }
+            Assert.assertEquals(_q.toString(), new String(_b, StandardCharsets.UTF_8), new Query_String_Parser(_q.toString()).first("k"));
+        }
+    }
+
+    @Test
+    public void malformedUtf8Sequences() {
+        /*overlong, surrogate, over U+10FFFF, and truncated*/
+        Assert.assertEquals("��", new Query_String_Parser("k=%C0%AF").first("k"));
+        Assert.assertEquals("�", new Query_String_Parser("k=%ED%A0%80").first("k"));
+        Assert.assertEquals("����", new Query_String_Parser("k=%F4%90%80%80").first("k"));
+        Assert.assertEquals("�a", new Query_String_Parser("k=%E2%82a").first("k"));
+    }
+
+    @Test
+    public void malformedEscapesKeptAsIs() {
+        Query_String_Parser _p = new Query_String_Parser("a=%zz&b=100%&c=%4&d=%%41");
+        Assert.assertEquals("%zz", _p.first("a"));
+        Assert.assertEquals("100%", _p.first("b"));
+        Assert.assertEquals("%4", _p.first("c"));
+        Assert.assertEquals("%A", _p.first("d"));
+    }
+
+    @Test
+    public void escapedKeysMatchDecodedNames() {
+        Query_String_Parser _p = new Query_String_Parser("access%5Ftoken=1&a+b=2&access_token=3");
+        Assert.assertEquals("1", _p.first("access_token"));
+        Assert.assertArrayEquals(new String[]{"1", "3"}, _p.values("access_token"));
+        Assert.assertEquals("2", _p.first("a b"));
+        Assert.assertNull(_p.first("access%5Ftoken"));
+    }
+
+    @Test
+    public void firstAndValues() {
+        Query_String_Parser _p = new Query_String_Parser("room=a&flag&room=b&=c&room");
+        Assert.assertEquals("a", _p.first("room"));
+        Assert.assertArrayEquals(new String[]{"a", "b", ""}, _p.values("room"));
+        Assert.assertEquals("", _p.first("flag"));
+        Assert.assertNull(_p.first(""));
+        Assert.assertNull(_p.first("missing"));
+        Assert.assertNull(_p.values("missing"));
+        Assert.assertNull(_p.first(null));
+        Assert.assertEquals(4, _p.count());
+        Assert.assertNull(new Query_String_Parser(null).first("a"));
+    }
+
+    @Test
+    public void limitChecks() {
+        String _q = "a=1&b=2&&c=3";
+        Query_String_Parser _p = new Query_String_Parser(_q, 2);
+        Assert.assertEquals("1", _p.first("a"));
+        Assert.assertEquals("2", _p.first("b"));
+        assert_over_limit(_p, "c");
+        Assert.assertEquals(3, new Query_String_Parser(_q, 3).count());
+        assert_over_limit(new Query_String_Parser(_q, 0), "a");
+    }
+
+    private static void assert_over_limit(Query_String_Parser arg_parser, String arg_name) {
+        try {
+            arg_parser.first(arg_name);
+            Assert.fail("first() is expected to fail");
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.PARAMETERS, e.getLimit());
+        }
+        try {
+            arg_parser.count();
+            Assert.fail("count() is expected to fail");
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.PARAMETERS, e.getLimit());
+        }
+        try {
+            arg_parser.parse_all();
+            Assert.fail("parse_all() is expected to fail");
+        } catch (Parse_Limit_Exception e) {
+            Assert.assertEquals(Parse_Limit.PARAMETERS, e.getLimit());
+        }
+    }
+
+    /**
+     * Params as a container decodes them.
+     */
+    private static Map<String, List<String>> reference(String arg_query) throws UnsupportedEncodingException {
+        LinkedHashMap<String, List<String>> _res = new LinkedHashMap<>();
+        for (String _pair : arg_query.split("&")) {
+            int _eq = _pair.indexOf('=');
+            String _k = URLDecoder.decode(_eq == -1 ? _pair : _pair.substring(0, _eq), "UTF-8");
+            if (_k.isEmpty()) {
+                continue;
+            }
+            String _v = _eq == -1 ? "" : URLDecoder.decode(_pair.substring(_eq + 1), "UTF-8");
+            List<String> _vals = _res.get(_k);
+            if (_vals == null) {
+                _vals = new ArrayList<>(1);
+                _res.put(_k, _vals);
+            }
+            _vals.add(_v);
+        }
+        return _res;
+    }
+
+    private static int count(Map<String, List<String>> arg_params) {
+        int _res = 0;
+        for (List<String> _v : arg_params.values()) {
+            _res += _v.size();
+        }
+        return _res;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Requested_Session_Id_Test.java
+Created on: Oct 18, 2026 01:55:10 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks the requested session ID of {@link HandshakeRequest_HttpServletRequest}
+ * is resolved from the session cookie first, then the URI path param, and
+ * only {@code isRequestedSessionIdValid()} accesses the handshake session.
+ *
+ * @author https://github.com/911992
+ */
+public class Requested_Session_Id_Test {
+
+    @Test
+    public void cookieFirst() {
+        HandshakeRequest_HttpServletRequest _w = wrap(new Fixture_Request.Builder("wss://chat.example.com/ws;jsessionid=U1")
+                .header("Cookie", "a=1; JSESSIONID=C1; b=2").build(), Wrapper_Config.getDefault());
+        Assert.assertEquals("C1", _w.getRequestedSessionId());
+        Assert.assertTrue(_w.isRequestedSessionIdFromCookie());
+        Assert.assertFalse(_w.isRequestedSessionIdFromURL());
+    }
+
+    @Test
+    public void urlFallback() {
+        /*an empty, or differently cased cookie is not the session cookie*/
+        HandshakeRequest_HttpServletRequest _w = wrap(new Fixture_Request.Builder("wss://chat.example.com/ws;JSessionId=U0/chat;v=1;jsessionid=U1?room=a")
+                .header("Cookie", "JSESSIONID=; jsessionid=C1").build(), Wrapper_Config.getDefault());
+        Assert.assertEquals("U1", _w.getRequestedSessionId());
+        Assert.assertFalse(_w.isRequestedSessionIdFromCookie());
+        Assert.assertTrue(_w.isRequestedSessionIdFromURL());
+        Assert.assertTrue(_w.isRequestedSessionIdFromUrl());
+    }
+
+    @Test
+    public void pathParam() {
+        Assert.assertEquals("U1", HandshakeRequest_HttpServletRequest.path_param("/ws;jsessionid=U1", "jsessionid"));
+        Assert.assertEquals("U1", HandshakeRequest_HttpServletRequest.path_param("/ws;jsessionid=U1;v=2/x", "jsessionid"));
+        Assert.assertEquals("U1", HandshakeRequest_HttpServletRequest.path_param("/a;jsessionid=U0/b;jsessionid=U1", "jsessionid"));
+        Assert.assertEquals("U0", HandshakeRequest_HttpServletRequest.path_param("/a;jsessionid=U0/b;jsessionid=", "jsessionid"));
+        Assert.assertNull(HandshakeRequest_HttpServletRequest.path_param("/ws;jsessionid=", "jsessionid"));
+        Assert.assertNull(HandshakeRequest_HttpServletRequest.path_param("/ws;jsessionid", "jsessionid"));
+        Assert.assertNull(HandshakeRequest_HttpServletRequest.path_param("/ws;xjsessionid=U1", "jsessionid"));
+        Assert.assertNull(HandshakeRequest_HttpServletRequest.path_param("/ws/jsessionid=U1", "jsessionid"));
+        Assert.assertNull(HandshakeRequest_HttpServletRequest.path_param(null, "jsessionid"));
+    }
+
+    @Test
+    public void customCookieName() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        Assert.assertEquals(Wrapper_Config.DEFAULT_SESSION_COOKIE_NAME, _cfg.getSessionCookieName());
+        _cfg.setSessionCookieName("SID");
+        HandshakeRequest_HttpServletRequest _w = wrap(new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header("Cookie", "JSESSIONID=C0; SID=C1").build(), _cfg);
+        Assert.assertEquals("C1", _w.getRequestedSessionId());
+        _w = wrap(new Fixture_Request.Builder("wss://chat.example.com/ws;jsessionid=U0;sid=U1").build(), _cfg);
+        Assert.assertEquals("U1", _w.getRequestedSessionId());
+        try {
+            _cfg.setSessionCookieName("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void noSessionId() {
+        HandshakeRequest_HttpServletRequest _w = wrap(new Fixture_Request.Builder("wss://chat.example.com/ws?jsessionid=Q1")
+                .header("Cookie", "a=1").build(), Wrapper_Config.getDefault());
+        Assert.assertNull(_w.getRequestedSessionId());
+        Assert.assertFalse(_w.isRequestedSessionIdFromCookie());
+        Assert.assertFalse(_w.isRequestedSessionIdFromURL());
+        Assert.assertFalse(_w.isRequestedSessionIdValid());
+    }
+
+    @Test
+    public void validity() {
+        Assert.assertTrue(wrap(new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header("Cookie", "JSESSIONID=S1").session("S1").build(), Wrapper_Config.getDefault()).isRequestedSessionIdValid());
+        Assert.assertFalse(wrap(new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header("Cookie", "JSESSIONID=S0").session("S1").build(), Wrapper_Config.getDefault()).isRequestedSessionIdValid());
+        Assert.assertFalse(wrap(new Fixture_Request.Builder("wss://chat.example.com/ws;jsessionid=S1")
+                .build(), Wrapper_Config.getDefault()).isRequestedSessionIdValid());
+    }
+
+    @Test
+    public void sessionNotAccessed() {
+        final Fixture_Request _src = new Fixture_Request.Builder("wss://chat.example.com/ws;jsessionid=U1")
+                .header("Cookie", "JSESSIONID=C1").session("C1").build();
+        HandshakeRequest _no_session = (HandshakeRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{HandshakeRequest.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object arg_proxy, Method arg_method, Object[] arg_args) throws Throwable {
+                if ("getHttpSession".equals(arg_method.getName())) {
+                    throw new AssertionError("session accessed");
+                }
+                try {
+                    return arg_method.invoke(_src, arg_args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        });
+        HandshakeRequest_HttpServletRequest _w = wrap(_no_session, Wrapper_Config.getDefault());
+        Assert.assertEquals("C1", _w.getRequestedSessionId());
+        Assert.assertTrue(_w.isRequestedSessionIdFromCookie());
+        Assert.assertFalse(_w.isRequestedSessionIdFromURL());
+    }
+
+    private static HandshakeRequest_HttpServletRequest wrap(HandshakeRequest arg_req, Wrapper_Config arg_config) {
+        return new HandshakeRequest_HttpServletRequest(arg_req, arg_config);
+    }
+}
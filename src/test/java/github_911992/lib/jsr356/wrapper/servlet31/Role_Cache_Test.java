@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Role_Cache_Test.java
+Created on: Oct 18, 2026 02:58:17 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Role_Cache} caches decisions per principal, and role until
+ * their TTL, drops them on invalidation, bypasses what is not cachable, and
+ * its stripes hold exactly its capacity.
+ *
+ * @author https://github.com/911992
+ */
+public class Role_Cache_Test {
+
+    private static final List<String> ROLES = Arrays.asList("user", "admin", "mod");
+
+    @Test
+    public void invalidArgs() {
+        Object[][] _invalid = {
+            {Collections.<String>emptyList(), 8, 1L},
+            {Arrays.asList("user", null), 8, 1L},
+            {ROLES, 0, 1L},
+            {ROLES, 8, 0L}};
+        for (Object[] _a : _invalid) {
+            try {
+                @SuppressWarnings("unchecked")
+                List<String> _roles = (List<String>) _a[0];
+                new Role_Cache(_roles, (Integer) _a[1], (Long) _a[2], TimeUnit.MINUTES);
+                Assert.fail(Arrays.toString(_a));
+            } catch (IllegalArgumentException e) {
+                /*expected*/
+            }
+        }
+        String[] _many = new String[Role_Cache.MAX_ROLES + 1];
+        for (int a = 0; a < _many.length; a++) {
+            _many[a] = "r" + a;
+        }
+        try {
+            new Role_Cache(Arrays.asList(_many), 8, 1, TimeUnit.MINUTES);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+        Role_Cache _c = new Role_Cache(Arrays.asList("user", "user", "admin"), 8, 2, TimeUnit.SECONDS);
+        Assert.assertEquals(Arrays.asList("user", "admin"), _c.getRoles());
+        Assert.assertEquals(2000, _c.getTtlMillis());
+    }
+
+    @Test
+    public void cachesPerRole() {
+        Role_Cache _c = new Role_Cache(ROLES, 16, 1, TimeUnit.MINUTES);
+        Realm_Request _alice = new Realm_Request("alice", "user");
+        Assert.assertTrue(_c.isUserInRole(_alice.request, "user"));
+        Assert.assertFalse(_c.isUserInRole(_alice.request, "admin"));
+        Assert.assertTrue(_c.isUserInRole(_alice.request, "user"));
+        Assert.assertFalse(_c.isUserInRole(_alice.request, "admin"));
+        Assert.assertEquals(2, _alice.calls.get());
+        Assert.assertEquals(2, _c.getHits());
+        Assert.assertEquals(2, _c.getMisses());
+        /*another request of the same principal hits too*/
+        Realm_Request _alice2 = new Realm_Request("alice", "user");
+        Assert.assertTrue(_c.isUserInRole(_alice2.request, "user"));
+        Assert.assertEquals(0, _alice2.calls.get());
+        Assert.assertEquals(1, _c.size());
+    }
+
+    @Test
+    public void bypasses() {
+        Role_Cache _c = new Role_Cache(ROLES, 16, 1, TimeUnit.MINUTES);
+        Realm_Request _anon = new Realm_Request(null, "user");
+        Realm_Request _bob = new Realm_Request("bob", "user", "ops");
+        for (int a = 0; a < 2; a++) {
+            Assert.assertFalse(_c.isUserInRole(_anon.request, "user"));
+            Assert.assertTrue(_c.isUserInRole(_bob.request, "ops"));
+            Assert.assertFalse(_c.isUserInRole(_bob.request, null));
+        }
+        Assert.assertEquals(2, _anon.calls.get());
+        Assert.assertEquals(4, _bob.calls.get());
+        Assert.assertEquals(6, _c.getBypasses());
+        Assert.assertEquals(0, _c.size());
+    }
+
+    @Test
+    public void ttl() throws InterruptedException {
+        Role_Cache _c = new Role_Cache(ROLES, 16, 50, TimeUnit.MILLISECONDS);
+        Realm_Request _alice = new Realm_Request("alice", "user");
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_alice.request, "user");
+        Assert.assertEquals(1, _alice.calls.get());
+        Thread.sleep(120);
+        Assert.assertTrue(_c.isUserInRole(_alice.request, "user"));
+        Assert.assertEquals(2, _alice.calls.get());
+        /*a new role of an expired entry starts a new entry*/
+        Thread.sleep(120);
+        _c.isUserInRole(_alice.request, "admin");
+        _c.isUserInRole(_alice.request, "user");
+        Assert.assertEquals(4, _alice.calls.get());
+    }
+
+    @Test
+    public void invalidation() {
+        Role_Cache _c = new Role_Cache(ROLES, 16, 1, TimeUnit.MINUTES);
+        Realm_Request _alice = new Realm_Request("alice", "user", "admin");
+        Realm_Request _bob = new Realm_Request("bob", "user");
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_alice.request, "admin");
+        _c.isUserInRole(_bob.request, "user");
+
+        _c.invalidate("alice");
+        _c.invalidate(null);
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_bob.request, "user");
+        Assert.assertEquals(3, _alice.calls.get());
+        Assert.assertEquals(1, _bob.calls.get());
+
+        _c.isUserInRole(_alice.request, "admin");
+        Assert.assertEquals(4, _alice.calls.get());
+        _c.invalidateRole("user");
+        _c.invalidateRole("unknown");
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_alice.request, "admin");
+        _c.isUserInRole(_bob.request, "user");
+        Assert.assertEquals(5, _alice.calls.get());
+        Assert.assertEquals(2, _bob.calls.get());
+
+        _c.invalidateAll();
+        Assert.assertEquals(0, _c.size());
+        _c.isUserInRole(_bob.request, "user");
+        Assert.assertEquals(3, _bob.calls.get());
+    }
+
+    @Test
+    public void decisionDuringInvalidationNotCached() {
+        final Role_Cache _c = new Role_Cache(ROLES, 16, 1, TimeUnit.MINUTES);
+        /*the realm invalidates the principal while deciding*/
+        Realm_Request _alice = new Realm_Request("alice", "user") {
+            @Override
+            boolean decide(String arg_role) {
+                _c.invalidate("alice");
+                return super.decide(arg_role);
+            }
+        };
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_alice.request, "user");
+        Assert.assertEquals(2, _alice.calls.get());
+        Assert.assertEquals(0, _c.size());
+    }
+
+    @Test
+    public void stripesHoldCapacity() {
+        int[] _caps = {1, 2, 3, 15, 17, 100, 1000};
+        for (int _cap : _caps) {
+            Role_Cache _c = new Role_Cache(ROLES, _cap, 1, TimeUnit.MINUTES);
+            Assert.assertEquals(_cap, _c.getCapacity());
+            int _count = _cap * 64;
+            for (int a = 0; a < _count; a++) {
+                _c.isUserInRole(new Realm_Request("u" + a, "user").request, "user");
+            }
+            /*every stripe is full*/
+            Assert.assertEquals(_cap, _c.size());
+            Assert.assertEquals(_count - _cap, _c.getEvictions());
+        }
+    }
+
+    @Test
+    public void lru() {
+        Role_Cache _c = new Role_Cache(ROLES, 1, 1, TimeUnit.MINUTES);
+        Realm_Request _alice = new Realm_Request("alice", "user");
+        Realm_Request _bob = new Realm_Request("bob", "user");
+        _c.isUserInRole(_alice.request, "user");
+        _c.isUserInRole(_bob.request, "user");
+        _c.isUserInRole(_alice.request, "user");
+        Assert.assertEquals(2, _alice.calls.get());
+        Assert.assertEquals(2, _c.getEvictions());
+        _c.resetCounters();
+        Assert.assertEquals(0, _c.getEvictions());
+        Assert.assertEquals(0, _c.getMisses());
+    }
+
+    @Test
+    public void usedByWrappers() {
+        Role_Cache _rc = new Role_Cache(ROLES, 16, 1, TimeUnit.MINUTES);
+        Wrapper_Config _cfg = new Wrapper_Config();
+        Assert.assertNull(_cfg.getRoleCache());
+        _cfg.setRoleCache(_rc);
+        Fixture_Request _req = new Fixture_Request.Builder("wss://chat.example.com/ws").principal("alice").build();
+        Assert.assertTrue(new HandshakeRequest_HttpServletRequest(_req, _cfg).isUserInRole("user"));
+        Assert.assertTrue(new HandshakeRequest_HttpServletRequest(_req, _cfg).isUserInRole("user"));
+        Assert.assertEquals(1, _rc.getMisses());
+        Assert.assertEquals(1, _rc.getHits());
+    }
+
+    /**
+     * A handshake of a principal, whose realm grants the given roles, and
+     * counts its decisions.
+     */
+    private static class Realm_Request {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final HandshakeRequest request;
+
+        Realm_Request(final String arg_name, String... arg_granted) {
+            final List<String> _granted = Arrays.asList(arg_granted);
+            final Principal _principal = arg_name == null ? null : Fixture_Request.principal(arg_name);
+            this.request = (HandshakeRequest) Proxy.newProxyInstance(Role_Cache_Test.class.getClassLoader(), new Class<?>[]{HandshakeRequest.class}, new InvocationHandler() {
+                @Override
+                public Object invoke(Object arg_proxy, Method arg_method, Object[] arg_args) {
+                    switch (arg_method.getName()) {
+                        case "getUserPrincipal":
+                            return _principal;
+                        case "isUserInRole":
+                            calls.incrementAndGet();
+                            return decide((String) arg_args[0]) && _principal != null && _granted.contains((String) arg_args[0]);
+                        default:
+                            return null;
+                    }
+                }
+            });
+        }
+
+        boolean decide(String arg_role) {
+            return true;
+        }
+    }
+}
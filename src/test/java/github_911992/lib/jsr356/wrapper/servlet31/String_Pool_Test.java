@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: String_Pool_Test.java
+Created on: Oct 18, 2026 01:14:08 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link String_Pool} dedups equal strings, stays within its
+ * capacity(and max length) under unique values, and is used by wrappers for
+ * header names, and values.
+ *
+ * @author https://github.com/911992
+ */
+public class String_Pool_Test {
+
+    @Test
+    public void invalidArgs() {
+        int[][] _invalid = {{0, 8}, {-1, 8}, {(1 << 30) + 1, 8}, {8, -1}};
+        for (int[] _a : _invalid) {
+            try {
+                new String_Pool(_a[0], _a[1]);
+                Assert.fail(_a[0] + ", " + _a[1]);
+            } catch (IllegalArgumentException e) {
+                /*expected*/
+            }
+        }
+    }
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        Assert.assertEquals(1, new String_Pool(1).getCapacity());
+        Assert.assertEquals(8, new String_Pool(8).getCapacity());
+        Assert.assertEquals(16, new String_Pool(9).getCapacity());
+        Assert.assertEquals(String_Pool.DEFAULT_MAX_LENGTH, new String_Pool(8).getMaxLength());
+    }
+
+    @Test
+    public void dedup() {
+        String_Pool _p = new String_Pool(64);
+        String _a = new String("chat.example.com");
+        Assert.assertSame(_a, _p.dedup(_a));
+        Assert.assertSame(_a, _p.dedup(new String("chat.example.com")));
+        Assert.assertNull(_p.dedup(null));
+        Assert.assertEquals(1, _p.getHits());
+        Assert.assertEquals(1, _p.getMisses());
+        _p.clear();
+        Assert.assertEquals(0, _p.getHits());
+        Assert.assertEquals(0, _p.getMisses());
+        String _b = new String("chat.example.com");
+        Assert.assertSame(_b, _p.dedup(_b));
+    }
+
+    @Test
+    public void maxLength() {
+        String_Pool _p = new String_Pool(64, 4);
+        String _fit = new String("abcd");
+        Assert.assertSame(_fit, _p.dedup(_fit));
+        Assert.assertSame(_fit, _p.dedup(new String("abcd")));
+        String _long = new String("abcde");
+        Assert.assertSame(_long, _p.dedup(_long));
+        String _long2 = new String("abcde");
+        Assert.assertSame(_long2, _p.dedup(_long2));
+        Assert.assertEquals(2, _p.getRejects());
+        Assert.assertEquals(0, new String_Pool(8, 0).dedup("").length());
+    }
+
+    @Test
+    public void boundedUnderUniqueValues() {
+        String_Pool _p = new String_Pool(16);
+        int _count = _p.getCapacity() * 64;
+        String[] _vals = new String[_count];
+        for (int a = 0; a < _count; a++) {
+            _vals[a] = "v" + a;
+            _p.dedup(_vals[a]);
+        }
+        Assert.assertEquals(_count, _p.getMisses());
+        /*at most one retained string per slot*/
+        int _retained = 0;
+        for (int a = 0; a < _count; a++) {
+            if (_p.dedup(new String(_vals[a])) == _vals[a]) {
+                _retained++;
+            }
+        }
+        Assert.assertTrue(_retained + " > " + _p.getCapacity(), _retained <= _p.getCapacity());
+        /*a hot value is still pooled*/
+        String _hot = new String("Mozilla/5.0");
+        _p.dedup(_hot);
+        Assert.assertSame(_hot, _p.dedup(new String("Mozilla/5.0")));
+    }
+
+    @Test
+    public void sharedByWrappers() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        _cfg.setStringPool(new String_Pool(256));
+        HandshakeRequest_HttpServletRequest _w0 = new HandshakeRequest_HttpServletRequest(request(), _cfg);
+        HandshakeRequest_HttpServletRequest _w1 = new HandshakeRequest_HttpServletRequest(request(), _cfg);
+        Assert.assertSame(_w0.getHeader("user-agent"), _w1.getHeader("user-agent"));
+        Assert.assertSame(_w0.getHeaderNames().nextElement(), _w1.getHeaderNames().nextElement());
+        /*secrets are never pooled*/
+        Assert.assertNotSame(_w0.getHeader("authorization"), _w1.getHeader("authorization"));
+        Assert.assertEquals(_w0.getHeader("authorization"), _w1.getHeader("authorization"));
+    }
+
+    /**
+     * @return a request, strings of which are new(not shared) instances
+     */
+    private static Fixture_Request request() {
+        return new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header(new String("User-Agent"), new String("Mozilla/5.0"))
+                .header(new String("Authorization"), new String("Bearer abc"))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Subprotocol_Matcher_Test.java
+Created on: Oct 18, 2026 02:08:31 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Subprotocol_Matcher} picks the first requested subprotocol
+ * that is supported(client's order, case-sensitive), over single tokens, and
+ * raw comma-separated header values.
+ *
+ * @author https://github.com/911992
+ */
+public class Subprotocol_Matcher_Test {
+
+    private static final Subprotocol_Matcher MATCHER = new Subprotocol_Matcher("v3.chat", "v2.chat", "mqtt");
+
+    @Test
+    public void clientOrder() {
+        Assert.assertEquals("v2.chat", MATCHER.match(Arrays.asList("v1.chat", "v2.chat", "v3.chat")));
+        Assert.assertEquals("mqtt", MATCHER.match(Arrays.asList("wamp", "mqtt")));
+        Assert.assertEquals("", MATCHER.match(Arrays.asList("v1.chat", "wamp")));
+        Assert.assertEquals("", MATCHER.match(Collections.<String>emptyList()));
+        Assert.assertEquals("", MATCHER.match((List<String>) null));
+        /*case-sensitive*/
+        Assert.assertEquals("", MATCHER.match(Collections.singletonList("MQTT")));
+    }
+
+    @Test
+    public void rawValues() {
+        Assert.assertEquals("v2.chat", MATCHER.match(Collections.singletonList("v1.chat, v2.chat ,v3.chat")));
+        Assert.assertEquals("v3.chat", MATCHER.match(Collections.singletonList(" ,,\tv3.chat\t ,mqtt")));
+        Assert.assertEquals("mqtt", MATCHER.match(Arrays.asList(null, "wamp,  ", "mqtt")));
+        /*a part of a token is not a match*/
+        Assert.assertEquals("", MATCHER.match(Collections.singletonList("v3.chatx, xmqtt, mqt, v3 .chat")));
+    }
+
+    @Test
+    public void returnsSupportedInstance() {
+        String _sup = new String("mqtt");
+        Subprotocol_Matcher _m = new Subprotocol_Matcher(_sup);
+        Assert.assertSame(_sup, _m.match(Collections.singletonList("wamp, mqtt")));
+    }
+
+    @Test
+    public void supported() {
+        Subprotocol_Matcher _m = new Subprotocol_Matcher("b", null, "", "a", "b");
+        Assert.assertEquals(Arrays.asList("b", "a"), _m.getSupported());
+        Assert.assertEquals("a", _m.match(Collections.singletonList("a,b")));
+        Assert.assertTrue(new Subprotocol_Matcher((String[]) null).getSupported().isEmpty());
+        Assert.assertEquals("", new Subprotocol_Matcher((List<String>) null).match(Collections.singletonList("a")));
+        /*many supported subprotocols(table growth)*/
+        String[] _many = new String[100];
+        for (int a = 0; a < _many.length; a++) {
+            _many[a] = "p" + a;
+        }
+        _m = new Subprotocol_Matcher(_many);
+        for (int a = 0; a < _many.length; a++) {
+            Assert.assertEquals(_many[a], _m.match(Collections.singletonList("x, " + _many[a])));
+        }
+    }
+
+    @Test
+    public void wrappedHandshake() {
+        HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(new Fixture_Request.Builder("wss://chat.example.com/ws")
+                .header("sec-websocket-protocol", "wamp, v1.chat", "v2.chat, mqtt").caseSensitive().build());
+        Assert.assertEquals("v2.chat", MATCHER.match(_w));
+        _w = new HandshakeRequest_HttpServletRequest(new Fixture_Request.Builder("wss://chat.example.com/ws").build());
+        Assert.assertEquals("", MATCHER.match(_w));
+    }
+}
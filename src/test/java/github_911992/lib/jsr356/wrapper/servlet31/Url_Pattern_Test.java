@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Url_Pattern_Test.java
+Created on: Oct 17, 2026 11:45:07 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Url_Pattern} against servlet URL pattern
+ * mapping(Servlet 3.1 Section 12.2), and its resolution against endpoint
+ * path templates.
+ *
+ * @author https://github.com/911992
+ */
+public class Url_Pattern_Test {
+
+    @Test
+    public void parseKinds() {
+        Assert.assertEquals(Url_Pattern.ALL, Url_Pattern.parse("/*").kind);
+        Assert.assertEquals(Url_Pattern.ALL, Url_Pattern.parse("/").kind);
+        Assert.assertEquals(Url_Pattern.EXACT, Url_Pattern.parse("").kind);
+        Assert.assertEquals("/", Url_Pattern.parse("").value);
+        Assert.assertEquals(Url_Pattern.EXACT, Url_Pattern.parse("/chat/general").kind);
+        Assert.assertEquals(Url_Pattern.PREFIX, Url_Pattern.parse("/chat/*").kind);
+        Assert.assertEquals("/chat", Url_Pattern.parse("/chat/*").value);
+        Assert.assertEquals(Url_Pattern.EXTENSION, Url_Pattern.parse("*.ws").kind);
+        Assert.assertEquals(".ws", Url_Pattern.parse("*.ws").value);
+    }
+
+    @Test
+    public void invalidPatterns() {
+        String[] _invalid = {null, "chat", "*.", "*.a/b", "*.a*", "/chat*", "/chat/*/x", "/*.ws", "**"};
+        for (String _p : _invalid) {
+            try {
+                Url_Pattern.parse(_p);
+                Assert.fail(String.valueOf(_p));
+            } catch (IllegalArgumentException e) {
+                /*expected*/
+            }
+        }
+    }
+
+    @Test
+    public void exactMatches() {
+        Url_Pattern _p = Url_Pattern.parse("/chat/general");
+        Assert.assertTrue(_p.matches("/chat/general"));
+        Assert.assertFalse(_p.matches("/chat/general/"));
+        Assert.assertFalse(_p.matches("/chat/General"));
+        Assert.assertTrue(Url_Pattern.parse("").matches("/"));
+        Assert.assertFalse(Url_Pattern.parse("").matches("/chat"));
+    }
+
+    @Test
+    public void prefixMatches() {
+        Url_Pattern _p = Url_Pattern.parse("/chat/*");
+        Assert.assertTrue(_p.matches("/chat"));
+        Assert.assertTrue(_p.matches("/chat/"));
+        Assert.assertTrue(_p.matches("/chat/general/x"));
+        Assert.assertFalse(_p.matches("/chatroom"));
+        Assert.assertFalse(_p.matches("/other/chat"));
+        Assert.assertTrue(Url_Pattern.parse("/*").matches("/anything"));
+    }
+
+    @Test
+    public void extensionMatches() {
+        Url_Pattern _p = Url_Pattern.parse("*.ws");
+        Assert.assertTrue(_p.matches("/a/b.ws"));
+        Assert.assertTrue(_p.matches("/.ws"));
+        Assert.assertFalse(_p.matches("/a.ws/b"));
+        Assert.assertFalse(_p.matches("/a/b.wss"));
+        Assert.assertFalse(_p.matches("/a/bws"));
+    }
+
+    @Test
+    public void againstTemplate() {
+        String _t = "/chat/{room}";
+        Assert.assertEquals(Url_Pattern.MATCH, Url_Pattern.parse("/*").against_template(_t));
+        Assert.assertEquals(Url_Pattern.MATCH, Url_Pattern.parse("/chat/*").against_template(_t));
+        Assert.assertEquals(Url_Pattern.DYNAMIC, Url_Pattern.parse("/chat/general").against_template(_t));
+        Assert.assertEquals(Url_Pattern.DYNAMIC, Url_Pattern.parse("/chat/general/*").against_template(_t));
+        Assert.assertEquals(Url_Pattern.NO_MATCH, Url_Pattern.parse("/other/*").against_template(_t));
+        Assert.assertEquals(Url_Pattern.NO_MATCH, Url_Pattern.parse("/other").against_template(_t));
+        Assert.assertEquals(Url_Pattern.DYNAMIC, Url_Pattern.parse("*.ws").against_template(_t));
+        Assert.assertEquals(Url_Pattern.MATCH, Url_Pattern.parse("*.ws").against_template("/chat/{room}/x.ws"));
+        Assert.assertEquals(Url_Pattern.NO_MATCH, Url_Pattern.parse("*.ws").against_template("/chat/{room}/x"));
+        /*no any variable, matched as a plain path*/
+        Assert.assertEquals(Url_Pattern.MATCH, Url_Pattern.parse("/lobby").against_template("/lobby"));
+        Assert.assertEquals(Url_Pattern.NO_MATCH, Url_Pattern.parse("/lobby/*").against_template("/lobbyx"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Websocket_Header_Parser_Test.java
+Created on: Oct 18, 2026 02:19:46 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.websocket.Extension;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Websocket_Header_Parser} tokenizes subprotocols, and
+ * extensions(with params) as RFC 6455, skipping empty elements, and
+ * malformed leftovers.
+ *
+ * @author https://github.com/911992
+ */
+public class Websocket_Header_Parser_Test {
+
+    @Test
+    public void protocols() {
+        Assert.assertEquals(Arrays.asList("v1.chat", "v2.chat", "mqtt"), strings(Websocket_Header_Parser.protocols(Arrays.asList(" v1.chat ,, v2.chat\t", null, ",mqtt,"))));
+        Assert.assertTrue(Websocket_Header_Parser.protocols(null).isEmpty());
+        Assert.assertTrue(Websocket_Header_Parser.protocols(Collections.singletonList(" , ,")).isEmpty());
+        /*views over the raw value*/
+        String _raw = "wamp, mqtt";
+        Header_Token _t = Websocket_Header_Parser.protocols(Collections.singletonList(_raw)).get(1);
+        Assert.assertTrue(_t.contentEquals("mqtt"));
+        Assert.assertEquals(4, _t.length());
+        Assert.assertEquals('q', _t.charAt(1));
+        Assert.assertEquals("mqtt".hashCode(), _t.hashCode());
+    }
+
+    @Test
+    public void extensions() {
+        List<Websocket_Extension> _exts = Websocket_Header_Parser.extensions(Arrays.asList(
+                "permessage-deflate; client_max_window_bits; server_max_window_bits=10",
+                "x-webkit-deflate-frame, , x-custom ; a = 1 ;b=\"q\\\"v\""));
+        Assert.assertEquals(3, _exts.size());
+        Websocket_Extension _pmd = _exts.get(0);
+        Assert.assertEquals("permessage-deflate", _pmd.getName());
+        Assert.assertEquals(2, _pmd.getParameterCount());
+        Assert.assertTrue(_pmd.hasParameter("client_max_window_bits"));
+        Assert.assertNull(_pmd.getParameter("client_max_window_bits"));
+        Assert.assertEquals("10", _pmd.getParameter("server_max_window_bits").toString());
+        Assert.assertFalse(_pmd.hasParameter("server_no_context_takeover"));
+        Assert.assertEquals("x-webkit-deflate-frame", _exts.get(1).getName());
+        Assert.assertEquals(0, _exts.get(1).getParameterCount());
+        Websocket_Extension _custom = _exts.get(2);
+        Assert.assertEquals("x-custom", _custom.getName());
+        Assert.assertEquals("1", _custom.getParameter("a").toString());
+        Assert.assertEquals("q\"v", _custom.getParameter("b").toString());
+        List<Extension.Parameter> _params = _custom.getParameters();
+        Assert.assertEquals(2, _params.size());
+        Assert.assertEquals("a", _params.get(0).getName());
+        Assert.assertEquals("1", _params.get(0).getValue());
+    }
+
+    @Test
+    public void malformedExtensions() {
+        List<Websocket_Extension> _exts = Websocket_Header_Parser.extensions(Arrays.asList(
+                ";a=1, =x, e1; ; p=\"unclosed",
+                "e2 junk; p=1, e3;=1;q"));
+        List<String> _names = new ArrayList<>();
+        for (Websocket_Extension _e : _exts) {
+            _names.add(_e.getName());
+        }
+        Assert.assertEquals(Arrays.asList("e1", "e2", "e3"), _names);
+        Assert.assertEquals("unclosed", _exts.get(0).getParameter("p").toString());
+        /*leftovers after a malformed part are skipped*/
+        Assert.assertEquals(0, _exts.get(1).getParameterCount());
+        Assert.assertEquals(0, _exts.get(2).getParameterCount());
+        Assert.assertTrue(Websocket_Header_Parser.extensions(null).isEmpty());
+    }
+
+    private static List<String> strings(List<Header_Token> arg_tokens) {
+        List<String> _res = new ArrayList<>(arg_tokens.size());
+        for (Header_Token _t : arg_tokens) {
+            _res.add(_t.toString());
+        }
+        return _res;
+    }
+}
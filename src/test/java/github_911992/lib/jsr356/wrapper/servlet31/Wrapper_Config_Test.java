@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Config_Test.java
+Created on: Oct 18, 2026 12:52:36 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks the shared default {@link Wrapper_Config} is frozen, and used by
+ * wrappers with no explicit config, while a new config is mutable.
+ *
+ * @author https://github.com/911992
+ */
+public class Wrapper_Config_Test {
+
+    private static final Fixture_Request REQUEST = new Fixture_Request.Builder("wss://chat.example.com/ws?room=a&room=b").build();
+
+    @Test
+    public void defaultIsFrozen() {
+        Wrapper_Config _def = Wrapper_Config.getDefault();
+        Assert.assertSame(_def, Wrapper_Config.getDefault());
+        Assert.assertTrue(_def.isFrozen());
+        try {
+            _def.setShareParameterArrays(false);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+        Assert.assertTrue(_def.isShareParameterArrays());
+    }
+
+    @Test
+    public void defaultIsUsedByWrappers() {
+        Assert.assertSame(Wrapper_Config.getDefault(), new HandshakeRequest_HttpServletRequest(REQUEST).getConfig());
+        HandshakeRequest_HttpServletRequest _w = (HandshakeRequest_HttpServletRequest) HandshakeRequest_HttpServletRequest.wrapperForHandshakeRequest(REQUEST);
+        Assert.assertSame(Wrapper_Config.getDefault(), _w.getConfig());
+        Assert.assertSame(_w.getParameterValues("room"), _w.getParameterValues("room"));
+    }
+
+    @Test
+    public void newConfigIsMutable() {
+        Wrapper_Config _cfg = new Wrapper_Config();
+        Assert.assertFalse(_cfg.isFrozen());
+        Assert.assertTrue(_cfg.isShareParameterArrays());
+        _cfg.setShareParameterArrays(false);
+        Assert.assertFalse(_cfg.isShareParameterArrays());
+        HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(REQUEST, _cfg);
+        Assert.assertSame(_cfg, _w.getConfig());
+        String[] _vals = _w.getParameterValues("room");
+        Assert.assertArrayEquals(new String[]{"a", "b"}, _vals);
+        Assert.assertNotSame(_vals, _w.getParameterValues("room"));
+        _vals[0] = "x";
+        Assert.assertEquals("a", _w.getParameter("room"));
+    }
+}
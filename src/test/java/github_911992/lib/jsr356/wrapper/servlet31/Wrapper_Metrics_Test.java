@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Metrics_Test.java
+Created on: Oct 18, 2026 01:27:45 AM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Request;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Wrapper_Metrics} is disabled(no instance, no MBean) unless
+ * its system property is set before the lib is loaded, and when enabled,
+ * wraps, index builds, and unsupported calls are counted.
+ * <p>
+ * As the flag is a {@code static final} constant, the enabled case loads
+ * the lib classes again by an isolated(child-first) class-loader.
+ * </p>
+ *
+ * @author https://github.com/911992
+ */
+public class Wrapper_Metrics_Test {
+
+    private static final HandshakeRequest REQUEST = new Fixture_Request.Builder("wss://chat.example.com/ws?room=a")
+            .header("Origin", "https://chat.example.com")
+            .build();
+
+    @Test
+    public void disabledByDefault() throws Exception {
+        Assert.assertFalse(Wrapper_Metrics.isEnabled());
+        Assert.assertNull(Wrapper_Metrics.getInstance());
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(Wrapper_Metrics.OBJECT_NAME)));
+        HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(REQUEST);
+        Assert.assertEquals("https://chat.example.com", _w.getHeader("Origin"));
+        try {
+            _w.getInputStream();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void countsWhenEnabled() throws Exception {
+        MBeanServer _mbs = ManagementFactory.getPlatformMBeanServer();
+        ObjectName _name = new ObjectName(Wrapper_Metrics.OBJECT_NAME);
+        System.setProperty(Wrapper_Metrics.ENABLED_PROPERTY, "true");
+        try (URLClassLoader _cl = new Child_First_Loader(Wrapper_Metrics.class.getProtectionDomain().getCodeSource().getLocation())) {
+            Class<?> _metrics_type = _cl.loadClass(Wrapper_Metrics.class.getName());
+            Assert.assertNotSame(Wrapper_Metrics.class, _metrics_type);
+            Object _metrics = _metrics_type.getMethod("getInstance").invoke(null);
+            Assert.assertNotNull(_metrics);
+            Assert.assertTrue(_mbs.isRegistered(_name));
+
+            Class<?> _wrapper_type = _cl.loadClass(HandshakeRequest_HttpServletRequest.class.getName());
+            Method _wrap = _wrapper_type.getMethod("wrapperForHandshakeRequest", HandshakeRequest.class);
+            Object _w = _wrap.invoke(null, REQUEST);
+            _wrapper_type.getMethod("getHeader", String.class).invoke(_w, "Origin");
+            _wrapper_type.getMethod("getHeader", String.class).invoke(_w, "Host");
+            try {
+                _wrapper_type.getMethod("getInputStream").invoke(_w);
+                Assert.fail();
+            } catch (InvocationTargetException e) {
+                Assert.assertTrue(e.getCause() instanceof UnsupportedOperationException);
+            }
+
+            Assert.assertEquals(1L, _metrics_type.getMethod("getWraps").invoke(_metrics));
+            Assert.assertEquals(0L, _metrics_type.getMethod("getPassthroughs").invoke(_metrics));
+            Assert.assertEquals(1L, _metrics_type.getMethod("getHeaderIndexBuilds").invoke(_metrics));
+            Assert.assertEquals(Collections.singletonMap("getInputStream()", 1L), (Map<?, ?>) _metrics_type.getMethod("getUnsupportedCalls").invoke(_metrics));
+            /*the MXBean exposes the same counters*/
+            Assert.assertEquals(1L, _mbs.getAttribute(_name, "Wraps"));
+
+            _metrics_type.getMethod("reset").invoke(_metrics);
+            Assert.assertEquals(0L, _metrics_type.getMethod("getWraps").invoke(_metrics));
+            Assert.assertTrue(((Map<?, ?>) _metrics_type.getMethod("getUnsupportedCalls").invoke(_metrics)).isEmpty());
+        } finally {
+            System.clearProperty(Wrapper_Metrics.ENABLED_PROPERTY);
+            if (_mbs.isRegistered(_name)) {
+                _mbs.unregisterMBean(_name);
+            }
+        }
+    }
+
+    /**
+     * Loads classes of the given location by itself first, and the rest(API,
+     * JDK, and test classes) by the parent.
+     */
+    private static final class Child_First_Loader extends URLClassLoader {
+
+        private Child_First_Loader(URL arg_classes) {
+            super(new URL[]{arg_classes}, Wrapper_Metrics_Test.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String arg_name, boolean arg_resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(arg_name)) {
+                Class<?> _res = findLoadedClass(arg_name);
+                if (_res == null) {
+                    try {
+                        _res = findClass(arg_name);
+                    } catch (ClassNotFoundException e) {
+                        _res = super.loadClass(arg_name, false);
+                    }
+                }
+                if (arg_resolve) {
+                    resolveClass(_res);
+                }
+                return _res;
+            }
+        }
+    }
+}
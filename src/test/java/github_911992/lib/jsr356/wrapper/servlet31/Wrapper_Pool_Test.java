@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020, https://github.com/911992 All rights reserved.
+ * License BSD 3-Clause (https://opensource.org/licenses/BSD-3-Clause)
+ */
+
+ /*
+WebSocket_HandshakeRequest_to_Servlet31_HttpServletRequest_Wrapper
+File: Wrapper_Pool_Test.java
+Created on: Oct 17, 2026 11:16:52 PM
+    @author https://github.com/911992
+
+History:
+    initial version: 0.2.0(20261017)
+ */
+package github_911992.lib.jsr356.wrapper.servlet31;
+
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Fixture_Endpoint_Config;
+import github_911992.lib.jsr356.wrapper.servlet31.fixture.Handshake_Fixture;
+import javax.websocket.server.HandshakeRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Wrapper_Pool} reuses released wrappers(cleared), detects
+ * double release in any mode, and use-after-release in debug mode.
+ *
+ * @author https://github.com/911992
+ */
+public class Wrapper_Pool_Test {
+
+    private static final HandshakeRequest BROWSER = Handshake_Fixture.BROWSER.newRequest();
+    private static final HandshakeRequest MINIMAL = Handshake_Fixture.MINIMAL.newRequest();
+
+    @Test
+    public void reusesReleased() {
+        for (boolean _debug : new boolean[]{false, true}) {
+            Wrapper_Pool _pool = new Wrapper_Pool(4, new Wrapper_Config(), _debug);
+            HandshakeRequest_HttpServletRequest _w = _pool.borrow(BROWSER);
+            Assert.assertNotNull(_w.getCookies());
+            _pool.release(_w);
+            HandshakeRequest_HttpServletRequest _w2 = _pool.borrow(MINIMAL);
+            Assert.assertSame(_w, _w2);
+            Assert.assertSame(MINIMAL, _w2.getWebsocketHandshakeRequest());
+            Assert.assertNull(_w2.getCookies());
+            Assert.assertNull(_w2.getHeader("Origin"));
+        }
+    }
+
+    @Test
+    public void doubleRelease() {
+        for (boolean _debug : new boolean[]{false, true}) {
+            Wrapper_Pool _pool = new Wrapper_Pool(4, new Wrapper_Config(), _debug);
+            HandshakeRequest_HttpServletRequest _w = _pool.borrow(BROWSER);
+            _pool.release(_w);
+            try {
+                _pool.release(_w);
+                Assert.fail("debug: " + _debug);
+            } catch (IllegalStateException e) {
+                /*expected*/
+            }
+            /*borrowed again, so could be released again*/
+            Assert.assertSame(_w, _pool.borrow(BROWSER));
+            _pool.release(_w);
+        }
+    }
+
+    @Test
+    public void foreignConfig() {
+        Wrapper_Pool _pool = new Wrapper_Pool(4, new Wrapper_Config(), false);
+        HandshakeRequest_HttpServletRequest _w = new HandshakeRequest_HttpServletRequest(BROWSER, new Wrapper_Config());
+        _pool.release(_w);
+        Assert.assertNull(_w.getWebsocketHandshakeRequest());
+        Assert.assertNotSame(_w, _pool.borrow(BROWSER));
+        /*recycled, but not pooled, so it's never released twice*/
+        _pool.release(_w);
+    }
+
+    @Test
+    public void useAfterReleaseInDebug() {
+        Wrapper_Pool _pool = new Wrapper_Pool(4, new Wrapper_Config(), true);
+        HandshakeRequest_HttpServletRequest _w = _pool.borrow(BROWSER);
+        _w.getCookies();
+        _pool.release(_w);
+        try {
+            _w.getCookies();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+        try {
+            _w.getHeader("Origin");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            /*expected*/
+        }
+    }
+
+    @Test
+    public void clearsEndpointConfig() {
+        for (boolean _debug : new boolean[]{false, true}) {
+            Wrapper_Pool _pool = new Wrapper_Pool(4, new Wrapper_Config(), _debug);
+            HandshakeRequest_HttpServletRequest _w = _pool.borrow(BROWSER);
+            _w.setServerEndpointConfig(new Fixture_Endpoint_Config("/ws/chat/{room}"));
+            Assert.assertEquals("general", _w.getPathParameter("room"));
+            _pool.release(_w);
+            Assert.assertNull(_w.getServerEndpointConfig());
+            HandshakeRequest_HttpServletRequest _w2 = _pool.borrow(MINIMAL);
+            Assert.assertSame(_w, _w2);
+            Assert.assertNull(_w2.getServerEndpointConfig());
+            Assert.assertNull(_w2.getPathParameter("room"));
+            Assert.assertEquals("/app/ws/chat/general", _w2.getServletPath());
+        }
+    }
+
+    @Test
+    public void capacity() {
+        Wrapper_Pool _pool = new Wrapper_Pool(1, new Wrapper_Config(), false);
+        HandshakeRequest_HttpServletRequest _a = _pool.borrow(BROWSER);
+        HandshakeRequest_HttpServletRequest _b = _pool.borrow(BROWSER);
+        Assert.assertNotSame(_a, _b);
+        _pool.release(_a);
+        /*pool is full, so dropped*/
+        _pool.release(_b);
+        Assert.assertSame(_a, _pool.borrow(BROWSER));
+        Assert.assertNotSame(_b, _pool.borrow(BROWSER));
+        try {
+            new Wrapper_Pool(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            /*expected*/
+        }
+    }
+}